@@ -8,9 +8,17 @@
 package org.duracloud.audit.provider;
 
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.duracloud.audit.logger.ReadLogger;
 import org.duracloud.audit.logger.WriteLogger;
@@ -21,8 +29,12 @@ import org.duracloud.common.queue.TaskQueue;
 import org.duracloud.common.queue.task.Task;
 import org.duracloud.common.util.UserUtil;
 import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.domain.SpaceStats;
 import org.duracloud.storage.domain.StorageProviderType;
+import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.provider.StorageProvider;
+import org.duracloud.storage.util.SpaceStatsIndex;
 
 /**
  * A StorageProvider decorator class which passes through calls from a target
@@ -34,6 +46,10 @@ import org.duracloud.storage.provider.StorageProvider;
  */
 public class AuditStorageProvider implements StorageProvider {
 
+    // Number of lookups a single bulk delete may have in progress, so that
+    // one request cannot occupy the lookup executor shared by all requests
+    protected static final int LOOKUPS_PER_REQUEST = 4;
+
     private StorageProvider target;
     private String account;
     private String storeId;
@@ -42,6 +58,8 @@ public class AuditStorageProvider implements StorageProvider {
     private TaskQueue taskQueue;
     private ReadLogger readLogger;
     private WriteLogger writeLogger;
+    private SpaceStatsIndex spaceStatsIndex;
+    private ExecutorService lookupExecutor;
 
     public AuditStorageProvider(StorageProvider target,
                                 String account,
@@ -49,6 +67,30 @@ public class AuditStorageProvider implements StorageProvider {
                                 String storeType,
                                 UserUtil userUtil,
                                 TaskQueue taskQueue) {
+        this(target,
+             account,
+             storeId,
+             storeType,
+             userUtil,
+             taskQueue,
+             null);
+    }
+
+    /**
+     * @param lookupExecutor used to look up the properties of content items
+     *                       being deleted in bulk. The executor is expected
+     *                       to be bounded, and to run tasks with the security
+     *                       context of the caller where that is required.
+     *                       When null, the lookups run one at a time on the
+     *                       calling thread.
+     */
+    public AuditStorageProvider(StorageProvider target,
+                                String account,
+                                String storeId,
+                                String storeType,
+                                UserUtil userUtil,
+                                TaskQueue taskQueue,
+                                ExecutorService lookupExecutor) {
         this.target = target;
         this.account = account;
         this.storeId = storeId;
@@ -58,6 +100,8 @@ public class AuditStorageProvider implements StorageProvider {
 
         this.readLogger = new ReadLogger();
         this.writeLogger = new WriteLogger();
+        this.spaceStatsIndex = new SpaceStatsIndex(target);
+        this.lookupExecutor = lookupExecutor;
     }
 
     /*
@@ -68,6 +112,21 @@ public class AuditStorageProvider implements StorageProvider {
         this.writeLogger = writeLogger;
     }
 
+    /**
+     * @return the index of space item counts and sizes, which is kept up to
+     * date as changes are made through this provider
+     */
+    public SpaceStatsIndex getSpaceStatsIndex() {
+        return spaceStatsIndex;
+    }
+
+    /*
+     * Intended to be used for testing
+     */
+    protected void setSpaceStatsIndex(SpaceStatsIndex spaceStatsIndex) {
+        this.spaceStatsIndex = spaceStatsIndex;
+    }
+
     /*
      * Handles write tasks. Write tasks are passed to the task queue and logged.
      */
@@ -174,6 +233,19 @@ public class AuditStorageProvider implements StorageProvider {
     public Map<String, String> getSpaceProperties(String spaceId) {
         Map<String, String> spaceProps = target.getSpaceProperties(spaceId);
 
+        // Replace the (possibly partial) count with indexed values if
+        // available. As with a partial count, an approximate count is
+        // marked with a trailing '+' until the space is recounted.
+        SpaceStats stats = spaceStatsIndex.getSpaceStats(spaceId);
+        if (null != stats) {
+            spaceProps.put(StorageProvider.PROPERTIES_SPACE_COUNT,
+                           stats.getCount() + (stats.isApproximate() ? "+" : ""));
+            if (stats.isSizeKnown()) {
+                spaceProps.put(StorageProvider.PROPERTIES_SPACE_SIZE,
+                               String.valueOf(stats.getSize()));
+            }
+        }
+
         String action = AuditTask.ActionType.GET_SPACE_PROPERTIES.name();
         submitReadTask(action, spaceId, AuditTask.NA, AuditTask.NA);
         return spaceProps;
@@ -225,6 +297,7 @@ public class AuditStorageProvider implements StorageProvider {
     @Override
     public void createSpace(String spaceId) {
         target.createSpace(spaceId);
+        spaceStatsIndex.spaceCreated(spaceId);
 
         String action = AuditTask.ActionType.CREATE_SPACE.name();
         submitWriteTask(action, spaceId, AuditTask.NA, AuditTask.NA,
@@ -235,6 +308,7 @@ public class AuditStorageProvider implements StorageProvider {
     @Override
     public void deleteSpace(String spaceId) {
         target.deleteSpace(spaceId);
+        spaceStatsIndex.spaceDeleted(spaceId);
 
         String action = AuditTask.ActionType.DELETE_SPACE.name();
         submitWriteTask(action, spaceId, AuditTask.NA, AuditTask.NA,
@@ -270,6 +344,7 @@ public class AuditStorageProvider implements StorageProvider {
         contentChecksum = target.addContent(spaceId, contentId, contentMimeType,
                                             userProperties, contentSize,
                                             contentChecksum, content);
+        spaceStatsIndex.contentAdded(spaceId, contentSize);
 
         String action = AuditTask.ActionType.ADD_CONTENT.name();
         submitWriteTask(action, spaceId, contentId, contentChecksum,
@@ -288,6 +363,8 @@ public class AuditStorageProvider implements StorageProvider {
         Map<String, String> props = target.getContentProperties(sourceSpaceId, sourceContentId);
         String contentMimetype = props.get(StorageProvider.PROPERTIES_CONTENT_MIMETYPE);
         String contentSize = props.get(StorageProvider.PROPERTIES_CONTENT_SIZE);
+        spaceStatsIndex.contentAdded(destSpaceId,
+                                     null == contentSize ? -1 : parseSize(contentSize));
         String action = AuditTask.ActionType.COPY_CONTENT.name();
         submitWriteTask(action, destSpaceId, destContentId, contentChecksum,
                         contentMimetype, contentSize, props, null, sourceSpaceId,
@@ -303,11 +380,108 @@ public class AuditStorageProvider implements StorageProvider {
         String contentSize = props.get(StorageProvider.PROPERTIES_CONTENT_SIZE);
         String contentChecksum = props.get(StorageProvider.PROPERTIES_CONTENT_CHECKSUM);
         target.deleteContent(spaceId, contentId);
+        spaceStatsIndex.contentDeleted(spaceId, parseSize(contentSize));
         String action = AuditTask.ActionType.DELETE_CONTENT.name();
         submitWriteTask(action, spaceId, contentId, contentChecksum, contentMimetype,
                         contentSize, null, null, AuditTask.NA, AuditTask.NA);
     }
 
+    /**
+     * Deletes content items in a single call to the target provider. The
+     * properties of each item are retrieved first, in parallel on the lookup
+     * executor, as they are included in the audit record of the deletion.
+     */
+    @Override
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds) {
+        Map<String, Map<String, String>> existing =
+            getExistingContentProperties(spaceId, contentIds);
+
+        Map<String, String> failures =
+            target.deleteContents(spaceId, new ArrayList<>(existing.keySet()));
+
+        String action = AuditTask.ActionType.DELETE_CONTENT.name();
+        for (Map.Entry<String, Map<String, String>> item : existing.entrySet()) {
+            String contentId = item.getKey();
+            if (failures.containsKey(contentId)) {
+                continue;
+            }
+            Map<String, String> props = item.getValue();
+            String contentMimetype = props.get(StorageProvider.PROPERTIES_CONTENT_MIMETYPE);
+            String contentSize = props.get(StorageProvider.PROPERTIES_CONTENT_SIZE);
+            String contentChecksum = props.get(StorageProvider.PROPERTIES_CONTENT_CHECKSUM);
+            spaceStatsIndex.contentDeleted(spaceId, parseSize(contentSize));
+            submitWriteTask(action, spaceId, contentId, contentChecksum, contentMimetype,
+                            contentSize, null, null, AuditTask.NA, AuditTask.NA);
+        }
+        return failures;
+    }
+
+    /*
+     * Retrieves the properties of each content item, content items which
+     * do not exist are not included. This makes one HEAD request per item,
+     * as a listing of the space does not provide the mimetype, nor reliably
+     * the checksum, which are recorded in the audit log.
+     */
+    private Map<String, Map<String, String>> getExistingContentProperties(String spaceId,
+                                                                          List<String> contentIds) {
+        Deque<Future<Map<String, String>>> lookups = new ArrayDeque<>();
+        try {
+            Iterator<String> toLookUp = contentIds.iterator();
+            Iterator<String> lookedUp = contentIds.iterator();
+            submitLookups(spaceId, toLookUp, lookups);
+
+            Map<String, Map<String, String>> existing = new LinkedHashMap<>();
+            while (!lookups.isEmpty()) {
+                Future<Map<String, String>> lookup = lookups.removeFirst();
+                String contentId = lookedUp.next();
+                try {
+                    existing.put(contentId, lookup.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof NotFoundException) {
+                        // Content item does not exist, nothing to delete
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else {
+                        throw new StorageException("Unable to retrieve properties of " +
+                                                   contentId, cause);
+                    }
+                }
+                submitLookups(spaceId, toLookUp, lookups);
+            }
+            return existing;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted retrieving content properties " +
+                                       "in space " + spaceId, e);
+        } finally {
+            for (Future<Map<String, String>> lookup : lookups) {
+                lookup.cancel(true);
+            }
+        }
+    }
+
+    /*
+     * Starts lookups of the next content items until LOOKUPS_PER_REQUEST
+     * lookups are in progress
+     */
+    private void submitLookups(String spaceId,
+                               Iterator<String> contentIds,
+                               Deque<Future<Map<String, String>>> lookups) {
+        while (lookups.size() < LOOKUPS_PER_REQUEST && contentIds.hasNext()) {
+            final String contentId = contentIds.next();
+            FutureTask<Map<String, String>> lookup =
+                new FutureTask<>(() -> target.getContentProperties(spaceId, contentId));
+            lookups.addLast(lookup);
+            if (null == lookupExecutor) {
+                lookup.run();
+            } else {
+                lookupExecutor.execute(lookup);
+            }
+        }
+    }
+
     @Override
     public void setContentProperties(String spaceId, String contentId,
                                      Map<String, String> contentProperties) {
@@ -319,4 +493,12 @@ public class AuditStorageProvider implements StorageProvider {
                         AuditTask.NA);
     }
 
+    private long parseSize(String size) {
+        try {
+            return null == size ? 0 : Long.parseLong(size);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
 }
@@ -8,6 +8,7 @@
 package org.duracloud.audit.reader;
 
 import java.io.InputStream;
+import java.util.Date;
 
 import org.duracloud.storage.domain.AuditConfig;
 
@@ -27,6 +28,24 @@ public interface AuditLogReader {
     InputStream getAuditLog(String account, String storeId, String spaceId)
         throws AuditLogReaderException;
 
+    /**
+     * Returns the audit log as a tsv stream of audit events from first to last,
+     * limited to the audit log files which may include events in the given
+     * date range. Files are selected by the date in their name, so events
+     * from just outside the range may be included.
+     *
+     * @param account   The account identifier - ie usually the subdomain of the original request.
+     * @param storeId
+     * @param spaceId
+     * @param startDate earliest date of events to include, or null for no lower bound
+     * @param endDate   latest date of events to include, or null for no upper bound
+     * @return
+     * @throws AuditLogNotFoundException
+     */
+    InputStream getAuditLog(String account, String storeId, String spaceId,
+                            Date startDate, Date endDate)
+        throws AuditLogReaderException;
+
     void initialize(AuditConfig auditConfig);
 
 }
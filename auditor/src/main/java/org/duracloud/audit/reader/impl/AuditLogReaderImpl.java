@@ -7,25 +7,40 @@
  */
 package org.duracloud.audit.reader.impl;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.text.MessageFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import org.apache.commons.io.IOUtils;
 import org.duracloud.audit.AuditLogUtil;
 import org.duracloud.audit.reader.AuditLogReader;
 import org.duracloud.audit.reader.AuditLogReaderException;
 import org.duracloud.audit.reader.AuditLogReaderNotEnabledException;
-import org.duracloud.error.ContentStoreException;
 import org.duracloud.s3storage.S3StorageProvider;
 import org.duracloud.storage.domain.AuditConfig;
 import org.duracloud.storage.error.StorageException;
@@ -34,6 +49,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Assembles the audit log of a space from the audit log files stored under
+ * the space prefix. Files are downloaded by a shared, bounded pool, which
+ * fetches up to prefetchCount files ahead of the file being written, so the
+ * time to assemble a log depends on bandwidth rather than on the latency of
+ * each file request. Each log is written by a second shared, bounded pool;
+ * requests beyond its capacity are rejected rather than given a thread.
+ *
  * @author Daniel Bernstein
  * Date: Sept. 17, 2014
  */
@@ -41,11 +63,57 @@ public class AuditLogReaderImpl implements AuditLogReader {
     private static Logger log =
         LoggerFactory.getLogger(AuditLogReaderImpl.class);
 
+    public static final int DEFAULT_PREFETCH_THREADS = 8;
+    public static final int DEFAULT_PREFETCH_COUNT = 4;
+    public static final int DEFAULT_WRITER_THREADS = 8;
+    public static final int DEFAULT_WRITER_QUEUE_SIZE = 32;
+
+    private static final int PIPE_BUFFER_SIZE = 256 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // Audit log file names include the date and time of their first event
+    private static final Pattern LOG_DATE_PATTERN =
+        Pattern.compile("\\d{4}-\\d{2}-\\d{2}-\\d{2}-\\d{2}-\\d{2}");
+    private static final String LOG_DATE_FORMAT = "yyyy-MM-dd-HH-mm-ss";
+
     private AuditConfig auditConfig;
 
     private StorageProvider storageProvider;
 
+    private ExecutorService prefetchExecutor;
+    private ExecutorService writerExecutor;
+    private int prefetchCount;
+
     public AuditLogReaderImpl() {
+        this(DEFAULT_PREFETCH_THREADS, DEFAULT_PREFETCH_COUNT, DEFAULT_WRITER_THREADS);
+    }
+
+    /**
+     * @param prefetchThreads the number of threads shared by all requests
+     *                        to download audit log files
+     * @param prefetchCount   the number of files each request downloads
+     *                        ahead of the file being written
+     * @param writerThreads   the number of audit logs which may be written
+     *                        at the same time
+     */
+    public AuditLogReaderImpl(int prefetchThreads, int prefetchCount, int writerThreads) {
+        this.prefetchCount = prefetchCount;
+        this.prefetchExecutor = Executors.newFixedThreadPool(prefetchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "audit-log-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadPoolExecutor writers =
+            new ThreadPoolExecutor(writerThreads, writerThreads,
+                                   60, TimeUnit.SECONDS,
+                                   new LinkedBlockingQueue<>(DEFAULT_WRITER_QUEUE_SIZE),
+                                   runnable -> {
+                                       Thread thread = new Thread(runnable, "audit-log-writer");
+                                       thread.setDaemon(true);
+                                       return thread;
+                                   });
+        writers.allowCoreThreadTimeOut(true);
+        this.writerExecutor = writers;
     }
 
     @Override
@@ -56,6 +124,16 @@ public class AuditLogReaderImpl implements AuditLogReader {
     @Override
     public InputStream getAuditLog(final String account, final String storeId, final String spaceId)
         throws AuditLogReaderException {
+        return getAuditLog(account, storeId, spaceId, null, null);
+    }
+
+    @Override
+    public InputStream getAuditLog(final String account,
+                                   final String storeId,
+                                   final String spaceId,
+                                   final Date startDate,
+                                   final Date endDate)
+        throws AuditLogReaderException {
 
         checkEnabled();
 
@@ -63,7 +141,7 @@ public class AuditLogReaderImpl implements AuditLogReader {
         final String auditBucket = auditConfig.getAuditLogSpaceId();
 
         String prefix = MessageFormat.format("{0}/{1}/{2}/", account, storeId, spaceId);
-        final PipedInputStream is = new PipedInputStream(10 * 1024);
+        final AuditLogInputStream is = new AuditLogInputStream(PIPE_BUFFER_SIZE);
         final PipedOutputStream os;
         try {
             os = new PipedOutputStream(is);
@@ -73,47 +151,91 @@ public class AuditLogReaderImpl implements AuditLogReader {
 
         try {
             final Iterator<String> it =
-                this.storageProvider.getSpaceContents(auditBucket, prefix);
+                new DateRangeIterator(this.storageProvider.getSpaceContents(auditBucket, prefix),
+                                      startDate,
+                                      endDate);
             if (!it.hasNext()) {
                 os.write((AuditLogUtil.getHeader() + "\n").getBytes());
                 os.close();
+                return is;
             }
 
-            new Thread(new Runnable() {
+            final StorageProvider provider = this.storageProvider;
+            writerExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
                     try {
-                        int count = 0;
-
-                        while (it.hasNext()) {
-                            String contentId = it.next();
-                            writeToOutputStream(auditBucket,
-                                                storageProvider,
-                                                os,
-                                                count,
-                                                contentId);
-
-                            count++;
-                        }
-
-                        os.close();
-
-                    } catch (ContentStoreException | IOException ex) {
+                        writeAuditLog(auditBucket, provider, it, os);
+                    } catch (ExecutionException | IOException | RuntimeException ex) {
+                        is.fail(ex);
                         log.error(MessageFormat.format("failed to complete audit log read routine " +
                                                        "for space: storeId={0}, spaceId={1}",
                                                        storeId,
                                                        spaceId),
                                   ex);
+                    } catch (InterruptedException ex) {
+                        is.fail(ex);
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        closeQuietly(os);
                     }
                 }
-            }).start();
+            });
+        } catch (RejectedExecutionException e) {
+            closeQuietly(os);
+            throw new AuditLogReaderException(
+                "Too many audit log requests in progress, try again later");
         } catch (StorageException | IOException e) {
+            closeQuietly(os);
             throw new AuditLogReaderException(e);
         }
 
         return is;
     }
 
+    /*
+     * Pipe which reports a failure of the writer to the reader once the
+     * data written before the failure has been read, so that a partial
+     * audit log is not mistaken for a complete one
+     */
+    private static class AuditLogInputStream extends PipedInputStream {
+        private volatile Exception failure;
+
+        AuditLogInputStream(int pipeSize) {
+            super(pipeSize);
+        }
+
+        void fail(Exception e) {
+            this.failure = e;
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            return checkFailure(super.read());
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            return checkFailure(super.read(b, off, len));
+        }
+
+        private int checkFailure(int result) throws IOException {
+            if (result == -1 && null != failure) {
+                throw new IOException("Audit log could not be completed: " +
+                                      failure.getMessage(), failure);
+            }
+            return result;
+        }
+    }
+
+    private void closeQuietly(OutputStream os) {
+        try {
+            os.close();
+        } catch (IOException e) {
+            log.warn("Unable to close audit log stream: " + e.getMessage());
+        }
+    }
+
     private void checkEnabled() throws AuditLogReaderNotEnabledException {
         if (auditConfig.getAuditLogSpaceId() == null ||
             auditConfig.getAuditQueueName() == null) {
@@ -127,30 +249,171 @@ public class AuditLogReaderImpl implements AuditLogReader {
         return new S3StorageProvider(s3client, creds.getAWSAccessKeyId(), null);
     }
 
-    protected void writeToOutputStream(String auditSpaceId,
-                                       StorageProvider storageProvider,
-                                       final PipedOutputStream os,
-                                       int count,
-                                       String contentId)
-        throws ContentStoreException,
-        IOException {
-
-        try (BufferedReader reader =
-                 new BufferedReader(new InputStreamReader(
-                     storageProvider.getContent(auditSpaceId, contentId).getContentStream()))) {
-            if (count > 0) {
-                // skip header if not hte first file
-                reader.readLine();
+    /*
+     * Writes each audit log file to the output stream in order, while the
+     * files which follow are downloaded in the background
+     */
+    protected void writeAuditLog(String auditSpaceId,
+                                 StorageProvider storageProvider,
+                                 Iterator<String> contentIds,
+                                 OutputStream os)
+        throws ExecutionException, InterruptedException, IOException {
+        Deque<Future<byte[]>> prefetched = new ArrayDeque<>();
+        try {
+            int count = 0;
+            fillPrefetchQueue(auditSpaceId, storageProvider, contentIds, prefetched);
+            while (!prefetched.isEmpty()) {
+                byte[] logFile = prefetched.removeFirst().get();
+                fillPrefetchQueue(auditSpaceId, storageProvider, contentIds, prefetched);
+                writeLogFile(logFile, count > 0, os);
+                count++;
+            }
+        } finally {
+            for (Future<byte[]> future : prefetched) {
+                future.cancel(true);
             }
+        }
+    }
 
+    private void fillPrefetchQueue(final String auditSpaceId,
+                                   final StorageProvider storageProvider,
+                                   Iterator<String> contentIds,
+                                   Deque<Future<byte[]>> prefetched) {
+        while (prefetched.size() < prefetchCount && contentIds.hasNext()) {
+            final String contentId = contentIds.next();
+            prefetched.addLast(prefetchExecutor.submit(
+                () -> readLogFile(auditSpaceId, storageProvider, contentId)));
+        }
+    }
+
+    protected byte[] readLogFile(String auditSpaceId,
+                                 StorageProvider storageProvider,
+                                 String contentId) throws IOException {
+        try (InputStream content =
+                 storageProvider.getContent(auditSpaceId, contentId).getContentStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer, 0, buffer.length)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    /*
+     * Writes the lines of a log file, skipping the header line of all
+     * but the first file
+     */
+    protected void writeLogFile(byte[] logFile, boolean skipHeader, OutputStream os)
+        throws IOException {
+        int offset = 0;
+        if (skipHeader) {
+            while (offset < logFile.length && logFile[offset] != '\n') {
+                offset++;
+            }
+            offset++;
+        }
+        if (offset < logFile.length) {
+            os.write(logFile, offset, logFile.length - offset);
+            if (logFile[logFile.length - 1] != '\n') {
+                os.write('\n');
+            }
+        }
+    }
+
+    /*
+     * Provides the date included in the name of an audit log file, or null
+     * if the name does not include a date
+     */
+    protected static Date getLogFileDate(String contentId) {
+        Matcher matcher = LOG_DATE_PATTERN.matcher(contentId);
+        Date date = null;
+        while (matcher.find()) {
+            SimpleDateFormat format = new SimpleDateFormat(LOG_DATE_FORMAT);
+            format.setTimeZone(TimeZone.getTimeZone("UTC"));
+            try {
+                date = format.parse(matcher.group());
+            } catch (ParseException e) {
+                date = null;
+            }
+        }
+        return date;
+    }
+
+    /**
+     * Selects the audit log files which may include events in a date range.
+     * Each file holds the events from the date in its name up to the date of
+     * the next file, so a file is skipped when the next file starts at or
+     * before the start date, and listing stops at the first file which
+     * starts after the end date. Files without a date in their name are
+     * always included.
+     */
+    private static class DateRangeIterator implements Iterator<String> {
+
+        private Iterator<String> contentIds;
+        private Date startDate;
+        private Date endDate;
+
+        private String next = null;
+        private String lookahead = null;
+        private boolean done = false;
+
+        public DateRangeIterator(Iterator<String> contentIds, Date startDate, Date endDate) {
+            this.contentIds = contentIds;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next && !done) {
+                next = findNext();
+                done = (null == next);
+            }
+            return null != next;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String current = next;
+            next = null;
+            return current;
+        }
+
+        private String findNext() {
             while (true) {
-                String line = reader.readLine();
-                if (line != null) {
-                    IOUtils.write(line + "\n", os);
-                } else {
-                    break;
+                String current = takeNext();
+                if (null == current) {
+                    return null;
+                }
+
+                Date currentDate = getLogFileDate(current);
+                if (null != endDate && null != currentDate && currentDate.after(endDate)) {
+                    return null;
                 }
+
+                if (null != startDate && contentIds.hasNext()) {
+                    lookahead = contentIds.next();
+                    Date nextDate = getLogFileDate(lookahead);
+                    if (null != nextDate && !nextDate.after(startDate)) {
+                        continue;
+                    }
+                }
+                return current;
+            }
+        }
+
+        private String takeNext() {
+            if (null != lookahead) {
+                String value = lookahead;
+                lookahead = null;
+                return value;
             }
+            return contentIds.hasNext() ? contentIds.next() : null;
         }
     }
 
@@ -8,10 +8,13 @@
 package org.duracloud.audit.provider;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,8 +25,12 @@ import org.duracloud.common.model.AclType;
 import org.duracloud.common.queue.TaskQueue;
 import org.duracloud.common.queue.task.Task;
 import org.duracloud.common.util.UserUtil;
+import org.duracloud.storage.domain.SpaceStats;
 import org.duracloud.storage.domain.StorageProviderType;
+import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.provider.StorageProvider;
+import org.duracloud.storage.util.SpaceStatsIndex;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.easymock.EasyMockRunner;
@@ -52,6 +59,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
     private ReadLogger readLogger;
     @Mock
     private WriteLogger writeLogger;
+    @Mock
+    private SpaceStatsIndex spaceStatsIndex;
 
     private String storeId = "store-id";
     private String storeType = "store-type";
@@ -77,6 +86,7 @@ public class AuditStorageProviderTest extends EasyMockSupport {
     @Before
     public void setup() {
         provider.setLoggers(readLogger, writeLogger);
+        provider.setSpaceStatsIndex(spaceStatsIndex);
     }
 
     @After
@@ -141,8 +151,45 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
         EasyMock.expect(targetProvider.getSpaceProperties(spaceId))
                 .andReturn(new HashMap<String, String>());
+        EasyMock.expect(spaceStatsIndex.getSpaceStats(spaceId)).andReturn(null);
         replayAll();
-        provider.getSpaceProperties(spaceId);
+        Map<String, String> spaceProps = provider.getSpaceProperties(spaceId);
+        assertFalse(spaceProps.containsKey(StorageProvider.PROPERTIES_SPACE_COUNT));
+
+        verifyTask(logCapture.getValue(),
+                   AuditTask.ActionType.GET_SPACE_PROPERTIES.name());
+    }
+
+    @Test
+    public void testGetSpacePropertiesIndexed() throws Exception {
+        Capture<Task> logCapture = mockReadLogCall();
+
+        Map<String, String> targetProps = new HashMap<>();
+        targetProps.put(StorageProvider.PROPERTIES_SPACE_COUNT, "1000+");
+        EasyMock.expect(targetProvider.getSpaceProperties(spaceId))
+                .andReturn(targetProps);
+        EasyMock.expect(spaceStatsIndex.getSpaceStats(spaceId))
+                .andReturn(new SpaceStats(2500, 1024));
+        replayAll();
+        Map<String, String> spaceProps = provider.getSpaceProperties(spaceId);
+        assertEquals("2500", spaceProps.get(StorageProvider.PROPERTIES_SPACE_COUNT));
+        assertEquals("1024", spaceProps.get(StorageProvider.PROPERTIES_SPACE_SIZE));
+
+        verifyTask(logCapture.getValue(),
+                   AuditTask.ActionType.GET_SPACE_PROPERTIES.name());
+    }
+
+    @Test
+    public void testGetSpacePropertiesApproximate() throws Exception {
+        Capture<Task> logCapture = mockReadLogCall();
+
+        EasyMock.expect(targetProvider.getSpaceProperties(spaceId))
+                .andReturn(new HashMap<String, String>());
+        EasyMock.expect(spaceStatsIndex.getSpaceStats(spaceId))
+                .andReturn(new SpaceStats(2500, 1024, true));
+        replayAll();
+        Map<String, String> spaceProps = provider.getSpaceProperties(spaceId);
+        assertEquals("2500+", spaceProps.get(StorageProvider.PROPERTIES_SPACE_COUNT));
 
         verifyTask(logCapture.getValue(),
                    AuditTask.ActionType.GET_SPACE_PROPERTIES.name());
@@ -256,6 +303,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
         targetProvider.createSpace(spaceId);
         EasyMock.expectLastCall().once();
+        spaceStatsIndex.spaceCreated(spaceId);
+        EasyMock.expectLastCall().once();
         replayAll();
         provider.createSpace(spaceId);
 
@@ -271,6 +320,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
         targetProvider.deleteSpace(spaceId);
         EasyMock.expectLastCall().once();
+        spaceStatsIndex.spaceDeleted(spaceId);
+        EasyMock.expectLastCall().once();
         replayAll();
         provider.deleteSpace(spaceId);
 
@@ -316,6 +367,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
                                       contentProps, contentSize,
                                       contentChecksum, null))
                 .andReturn(contentChecksum);
+        spaceStatsIndex.contentAdded(spaceId, contentSize);
+        EasyMock.expectLastCall().once();
         replayAll();
         provider.addContent(spaceId, contentId, contentMimeType, contentProps,
                             contentSize, contentChecksum, null);
@@ -338,6 +391,24 @@ public class AuditStorageProviderTest extends EasyMockSupport {
         assertTrue(contentPropsProp.contains(propValue));
     }
 
+    @Test
+    public void testAddContentIndexed() throws Exception {
+        mockAuditCall();
+        mockWriteLogCall();
+
+        long newSize = 100;
+        // No lookup of the existing content item is made before the write
+        EasyMock.expect(
+            targetProvider.addContent(spaceId, contentId, contentMimeType,
+                                      null, newSize, contentChecksum, null))
+                .andReturn(contentChecksum);
+        spaceStatsIndex.contentAdded(spaceId, newSize);
+        EasyMock.expectLastCall().once();
+        replayAll();
+        provider.addContent(spaceId, contentId, contentMimeType, null,
+                            newSize, contentChecksum, null);
+    }
+
     @Test
     public void testCopyContent() throws Exception {
         Capture<Task> auditTaskCapture = mockAuditCall();
@@ -355,6 +426,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
         EasyMock.expect(targetProvider.getContentProperties(sourceSpaceId, sourceContentId))
                 .andReturn(props);
+        spaceStatsIndex.contentAdded(spaceId, contentSize);
+        EasyMock.expectLastCall().once();
 
         replayAll();
         provider.copyContent(sourceSpaceId, sourceContentId, spaceId, contentId);
@@ -389,6 +462,8 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
         targetProvider.deleteContent(spaceId, contentId);
         EasyMock.expectLastCall().once();
+        spaceStatsIndex.contentDeleted(spaceId, contentSize);
+        EasyMock.expectLastCall().once();
         replayAll();
         provider.deleteContent(spaceId, contentId);
 
@@ -403,6 +478,62 @@ public class AuditStorageProviderTest extends EasyMockSupport {
 
     }
 
+    @Test
+    public void testDeleteContents() throws Exception {
+        Capture<Task> auditTaskCapture = mockAuditCall();
+        Capture<Task> logCapture = mockWriteLogCall();
+        Map<String, String> props = new HashMap<>();
+        props.put(StorageProvider.PROPERTIES_CONTENT_MIMETYPE, contentMimeType);
+        props.put(StorageProvider.PROPERTIES_CONTENT_SIZE, contentSize + "");
+        props.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, contentChecksum);
+
+        String missingContentId = "missing-content-id";
+        String failedContentId = "failed-content-id";
+        EasyMock.expect(targetProvider.getContentProperties(spaceId, contentId))
+                .andReturn(props);
+        EasyMock.expect(targetProvider.getContentProperties(spaceId, missingContentId))
+                .andThrow(new NotFoundException(missingContentId));
+        EasyMock.expect(targetProvider.getContentProperties(spaceId, failedContentId))
+                .andReturn(props);
+
+        Map<String, String> failures = new HashMap<>();
+        failures.put(failedContentId, "AccessDenied");
+        EasyMock.expect(targetProvider.deleteContents(
+            spaceId, Arrays.asList(contentId, failedContentId))).andReturn(failures);
+        spaceStatsIndex.contentDeleted(spaceId, contentSize);
+        EasyMock.expectLastCall().once();
+        replayAll();
+
+        assertEquals(failures,
+                     provider.deleteContents(spaceId, Arrays.asList(
+                         contentId, missingContentId, failedContentId)));
+
+        Task auditTask = auditTaskCapture.getValue();
+        assertEquals(auditTask, logCapture.getValue());
+        Map<String, String> taskProps =
+            verifyTask(auditTask, AuditTask.ActionType.DELETE_CONTENT.name());
+        assertEquals(contentId, taskProps.get(AuditTask.CONTENT_ID_PROP));
+        assertEquals(contentChecksum, taskProps.get(AuditTask.CONTENT_CHECKSUM_PROP));
+    }
+
+    @Test
+    public void testDeleteContentsLookupFailure() throws Exception {
+        String failedContentId = "failed-content-id";
+        EasyMock.expect(targetProvider.getContentProperties(spaceId, contentId))
+                .andReturn(new HashMap<>());
+        EasyMock.expect(targetProvider.getContentProperties(spaceId, failedContentId))
+                .andThrow(new StorageException("lookup failed"));
+        replayAll();
+
+        // Nothing is deleted if the items to be deleted cannot be looked up
+        try {
+            provider.deleteContents(spaceId, Arrays.asList(contentId, failedContentId));
+            fail("Exception expected when a content lookup fails");
+        } catch (StorageException e) {
+            assertEquals("lookup failed", e.getMessage());
+        }
+    }
+
     @Test
     public void testSetContentProperties() throws Exception {
         Capture<Task> auditTaskCapture = mockAuditCall();
@@ -24,8 +24,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 
 import org.duracloud.audit.AuditLogUtil;
 import org.duracloud.audit.reader.AuditLogReaderException;
@@ -209,6 +212,70 @@ public class AuditLogReaderImplTest extends AbstractTestBase {
 
     }
 
+    @Test
+    public void testGetAuditLogManyFiles() throws IOException, ContentStoreException {
+        String prefix = getPrefix();
+        int fileCount = 20;
+        List<String> contentIds = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            String contentId = "log" + i;
+            contentIds.add(prefix + "/" + contentId);
+            setupGetContentCall(prefix, storageProvider, contentId,
+                                new String[] {"header", "line" + i});
+        }
+        expect(storageProvider.getSpaceContents(eq(globalAuditSpaceId), eq(prefix)))
+            .andReturn(contentIds.iterator());
+        expect(config.getAuditLogSpaceId()).andReturn(globalAuditSpaceId);
+        mockCheckEnabled(config);
+
+        replayAll();
+
+        AuditLogReaderImpl auditReader = createAuditLogReader(storageProvider, config);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+            auditReader.getAuditLog(account, storeId, spaceId)));
+
+        // Files are written in listing order, with a single header
+        assertEquals("header", reader.readLine());
+        for (int i = 0; i < fileCount; i++) {
+            assertEquals("line" + i, reader.readLine());
+        }
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void testGetAuditLogDateRange() throws IOException, ContentStoreException {
+        String prefix = getPrefix();
+        String contentId1 = "2018-01-01-00-00-00.tsv";
+        String contentId2 = "2018-02-01-00-00-00.tsv";
+        String contentId3 = "2018-03-01-00-00-00.tsv";
+        String contentId4 = "2018-04-01-00-00-00.tsv";
+
+        Iterator<String> it =
+            Arrays.asList(prefix + "/" + contentId1, prefix + "/" + contentId2,
+                          prefix + "/" + contentId3, prefix + "/" + contentId4).iterator();
+        expect(storageProvider.getSpaceContents(eq(globalAuditSpaceId), eq(prefix))).andReturn(it);
+        expect(config.getAuditLogSpaceId()).andReturn(globalAuditSpaceId);
+        mockCheckEnabled(config);
+
+        // Only the files which may include events in mid February are read
+        setupGetContentCall(prefix, storageProvider, contentId2, new String[] {"header", "feb"});
+        setupGetContentCall(prefix, storageProvider, contentId3, new String[] {"header", "mar"});
+
+        replayAll();
+
+        Date startDate = AuditLogReaderImpl.getLogFileDate("2018-02-15-00-00-00");
+        Date endDate = AuditLogReaderImpl.getLogFileDate("2018-03-15-00-00-00");
+
+        AuditLogReaderImpl auditReader = createAuditLogReader(storageProvider, config);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+            auditReader.getAuditLog(account, storeId, spaceId, startDate, endDate)));
+
+        assertEquals("header", reader.readLine());
+        assertEquals("feb", reader.readLine());
+        assertEquals("mar", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
     protected String getPrefix() {
         String prefix = account + "/" + storeId + "/" + spaceId + "/";
         return prefix;
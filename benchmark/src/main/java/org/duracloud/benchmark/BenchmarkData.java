@@ -0,0 +1,59 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Generates the local data used as benchmark input. Data is generated from a
+ * fixed seed so that each run works over the same bytes.
+ *
+ * @author agent
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 20100202L;
+
+    private BenchmarkData() {
+        // Ensures no instances are made of this class, as there are only static members.
+    }
+
+    public static byte[] createBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(SEED).nextBytes(data);
+        return data;
+    }
+
+    public static File createFile(int size) throws IOException {
+        File file = File.createTempFile("duracloud-benchmark-", ".dat");
+        file.deleteOnExit();
+        FileUtils.writeByteArrayToFile(file, createBytes(size));
+        return file;
+    }
+
+    /**
+     * Reads the stream to its end using the given buffer.
+     *
+     * @return the number of bytes read
+     */
+    public static long drain(InputStream stream, byte[] buffer)
+        throws IOException {
+        long total = 0;
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+}
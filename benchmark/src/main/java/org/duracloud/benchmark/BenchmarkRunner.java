@@ -0,0 +1,89 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * Runs the benchmarks and prints a summary of throughput in MB/s.
+ *
+ * Accepts the standard JMH command line options, for example a regex
+ * selecting the benchmarks to run, or "-p size=1048576" to limit the
+ * parameter values used.
+ *
+ * @author agent
+ */
+public class BenchmarkRunner {
+
+    private static final double MB = 1024 * 1024;
+
+    private BenchmarkRunner() {
+        // Ensures no instances are made of this class, as there are only static members.
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp()) {
+            options.showHelp();
+            return;
+        }
+        if (options.shouldListProfilers()) {
+            options.listProfilers();
+            return;
+        }
+        if (options.shouldListResultFormats()) {
+            options.listResultFormats();
+            return;
+        }
+
+        Runner runner = new Runner(options);
+        if (options.shouldList()) {
+            runner.list();
+        } else if (options.shouldListWithParams()) {
+            runner.listWithParams(options);
+        } else {
+            Collection<RunResult> results = runner.run();
+            printSummary(results);
+        }
+    }
+
+    private static void printSummary(Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("Throughput summary (MB/s):");
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            Result bytes =
+                result.getAggregatedResult().getSecondaryResults()
+                      .get(ByteCounter.NAME);
+            if (null == bytes) {
+                continue;
+            }
+
+            StringBuilder name = new StringBuilder(shortName(params.getBenchmark()));
+            for (String key : params.getParamsKeys()) {
+                name.append(" ").append(key).append("=")
+                    .append(params.getParam(key));
+            }
+            System.out.println(String.format("%-90s %10.2f",
+                                             name, bytes.getScore() / MB));
+        }
+    }
+
+    private static String shortName(String benchmark) {
+        String packageName = BenchmarkRunner.class.getPackage().getName() + ".";
+        return benchmark.startsWith(packageName) ?
+               benchmark.substring(packageName.length()) : benchmark;
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the bytes processed by a benchmark. JMH reports this counter as a
+ * rate, which BenchmarkRunner converts to MB/s.
+ *
+ * @author agent
+ */
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@State(Scope.Thread)
+public class ByteCounter {
+
+    static final String NAME = "bytes";
+
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        bytes = 0;
+    }
+
+    public void add(long count) {
+        bytes += count;
+    }
+
+}
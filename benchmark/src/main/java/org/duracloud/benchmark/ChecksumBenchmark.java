@@ -0,0 +1,94 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.security.DigestInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.common.util.ChecksumUtil;
+import org.duracloud.common.util.ChecksumUtil.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures checksum generation, both through ChecksumUtil (which reads with
+ * a fixed internal buffer) and through a wrapped DigestInputStream read with
+ * a caller-provided buffer.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ChecksumBenchmark {
+
+    @Param({"1048576", "16777216", "67108864"})
+    public int size;
+
+    @Param({"MD5", "SHA-256"})
+    public String algorithm;
+
+    private byte[] data;
+    private File file;
+    private ChecksumUtil checksumUtil;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = BenchmarkData.createBytes(size);
+        file = BenchmarkData.createFile(size);
+        checksumUtil = new ChecksumUtil(Algorithm.fromString(algorithm));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public String checksumUtilStream(ByteCounter counter) {
+        String checksum =
+            checksumUtil.generateChecksum(new ByteArrayInputStream(data));
+        counter.add(size);
+        return checksum;
+    }
+
+    @Benchmark
+    public String checksumUtilFile(ByteCounter counter) throws IOException {
+        String checksum = checksumUtil.generateChecksum(file);
+        counter.add(size);
+        return checksum;
+    }
+
+    @Benchmark
+    public String wrappedStream(ReadBuffer buffer, ByteCounter counter)
+        throws IOException {
+        DigestInputStream stream =
+            ChecksumUtil.wrapStream(new ByteArrayInputStream(data),
+                                    Algorithm.fromString(algorithm));
+        counter.add(BenchmarkData.drain(stream, buffer.getBuffer()));
+        return ChecksumUtil.getChecksum(stream);
+    }
+
+}
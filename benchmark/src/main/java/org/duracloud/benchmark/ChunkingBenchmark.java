@@ -0,0 +1,160 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.chunk.ChunkableContent;
+import org.duracloud.chunk.FileChunker;
+import org.duracloud.chunk.FileChunkerOptions;
+import org.duracloud.chunk.manifest.ChunksManifest;
+import org.duracloud.chunk.stream.ChunkInputStream;
+import org.duracloud.chunk.writer.AddContentResult;
+import org.duracloud.chunk.writer.ContentWriter;
+import org.duracloud.common.error.DuraCloudRuntimeException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting content into chunks, both directly through
+ * ChunkableContent and through FileChunker reading from a local file. Chunks
+ * are read and discarded, so the results cover chunking and checksum costs
+ * rather than the cost of writing chunks out.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkingBenchmark {
+
+    @Param({"16777216", "67108864"})
+    public int size;
+
+    @Param({"1000000", "8000000"})
+    public long maxChunkSize;
+
+    private byte[] data;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = BenchmarkData.createBytes(size);
+        file = BenchmarkData.createFile(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ChunksManifest chunkableContent(ReadBuffer buffer,
+                                           ByteCounter counter)
+        throws IOException {
+        ChunkableContent chunkable =
+            new ChunkableContent("content-id",
+                                 new ByteArrayInputStream(data),
+                                 size,
+                                 maxChunkSize);
+        chunkable.setPreserveChunkMD5s(true);
+        for (ChunkInputStream chunk : chunkable) {
+            counter.add(BenchmarkData.drain(chunk, buffer.getBuffer()));
+        }
+        return chunkable.finalizeManifest();
+    }
+
+    @Benchmark
+    public void fileChunker(ReadBuffer buffer, ByteCounter counter) {
+        DiscardingContentWriter writer =
+            new DiscardingContentWriter(buffer.getBuffer());
+        FileChunker chunker =
+            new FileChunker(writer, new FileChunkerOptions(maxChunkSize));
+        chunker.addContent("space-id", "content-id", null, file);
+        counter.add(writer.bytesWritten);
+    }
+
+    /**
+     * Reads each chunk to its end without storing it
+     */
+    private static class DiscardingContentWriter implements ContentWriter {
+        private byte[] buffer;
+        private long bytesWritten = 0;
+
+        public DiscardingContentWriter(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public ChunksManifest write(String spaceId,
+                                    ChunkableContent chunkable) {
+            return write(spaceId, chunkable, null);
+        }
+
+        @Override
+        public ChunksManifest write(String spaceId,
+                                    ChunkableContent chunkable,
+                                    Map<String, String> contentProperties) {
+            for (ChunkInputStream chunk : chunkable) {
+                writeSingle(spaceId, null, chunk, null);
+            }
+            return chunkable.finalizeManifest();
+        }
+
+        @Override
+        public String writeSingle(String spaceId,
+                                  String chunkChecksum,
+                                  ChunkInputStream chunk,
+                                  Map<String, String> properties) {
+            try {
+                bytesWritten += BenchmarkData.drain(chunk, buffer);
+            } catch (IOException e) {
+                throw new DuraCloudRuntimeException(e);
+            }
+            return chunk.getMD5();
+        }
+
+        @Override
+        public String writeSingle(String spaceId,
+                                  String chunkChecksum,
+                                  ChunkInputStream chunk) {
+            return writeSingle(spaceId, chunkChecksum, chunk, null);
+        }
+
+        @Override
+        public void ignore(String spaceId, String contentId, long contentSize) {
+            // Nothing is ignored in this benchmark
+        }
+
+        @Override
+        public List<AddContentResult> getResults() {
+            return Collections.emptyList();
+        }
+    }
+
+}
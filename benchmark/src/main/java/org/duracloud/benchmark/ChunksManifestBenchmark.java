@@ -0,0 +1,86 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.chunk.manifest.ChunksManifest;
+import org.duracloud.chunk.manifest.xml.ManifestDocumentBinding;
+import org.duracloud.common.util.ChecksumUtil;
+import org.duracloud.common.util.ChecksumUtil.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing a ChunksManifest to its XML document and parsing it
+ * back. Throughput is given in terms of the size of the XML document.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunksManifestBenchmark {
+
+    private static final long CHUNK_SIZE = 1000000000L;
+
+    @Param({"100", "1000", "9999"})
+    public int entryCount;
+
+    private ChunksManifest manifest;
+    private byte[] xml;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ChecksumUtil checksumUtil = new ChecksumUtil(Algorithm.MD5);
+        manifest = new ChunksManifest("dir/content-id.dat",
+                                      "application/octet-stream",
+                                      CHUNK_SIZE * entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            String chunkId = manifest.nextChunkId();
+            manifest.addEntry(chunkId,
+                              checksumUtil.generateChecksum(chunkId),
+                              CHUNK_SIZE);
+        }
+        manifest.setMD5OfSourceContent(checksumUtil.generateChecksum("source"));
+
+        xml = ManifestDocumentBinding.createDocumentFrom(manifest)
+                                     .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String serialize(ByteCounter counter) {
+        String doc = ManifestDocumentBinding.createDocumentFrom(manifest);
+        counter.add(xml.length);
+        return doc;
+    }
+
+    @Benchmark
+    public ChunksManifest parse(ByteCounter counter) {
+        ChunksManifest parsed =
+            ManifestDocumentBinding.createManifestFrom(new ByteArrayInputStream(xml));
+        counter.add(xml.length);
+        return parsed;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.common.constant.ManifestFormat;
+import org.duracloud.common.util.ChecksumUtil;
+import org.duracloud.common.util.ChecksumUtil.Algorithm;
+import org.duracloud.manifest.ManifestFormatter;
+import org.duracloud.manifest.impl.ManifestFormatterFactory;
+import org.duracloud.mill.db.model.ManifestItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing manifest items through each ManifestFormatter.
+ * Throughput is given in terms of the size of the written manifest.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ManifestFormatterBenchmark {
+
+    @Param({"TSV", "BAGIT"})
+    public ManifestFormat format;
+
+    @Param({"10000", "100000"})
+    public int itemCount;
+
+    private ManifestFormatterFactory formatterFactory;
+    private List<ManifestItem> items;
+    private int outputSize;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        formatterFactory = new ManifestFormatterFactory();
+        ChecksumUtil checksumUtil = new ChecksumUtil(Algorithm.MD5);
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            ManifestItem item = new ManifestItem();
+            item.setSpaceId("space-id");
+            item.setContentId("dir/sub-dir/content-item-" + i + ".dat");
+            item.setContentChecksum(checksumUtil.generateChecksum("item-" + i));
+            items.add(item);
+        }
+        outputSize = writeManifest().size();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeItems(ByteCounter counter) {
+        ByteArrayOutputStream output = writeManifest();
+        counter.add(outputSize);
+        return output;
+    }
+
+    private ByteArrayOutputStream writeManifest() {
+        ManifestFormatter formatter = formatterFactory.create(format);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(outputSize);
+        for (ManifestItem item : items) {
+            formatter.writeManifestItemToOutput(item, output);
+        }
+        return output;
+    }
+
+}
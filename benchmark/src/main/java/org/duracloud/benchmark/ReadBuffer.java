@@ -0,0 +1,39 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The buffer used by a benchmark to read streams. Only benchmarks which
+ * take this state as a parameter are run across the buffer sizes.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+public class ReadBuffer {
+
+    @Param({"4096", "65536"})
+    public int bufferSize;
+
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        buffer = new byte[bufferSize];
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.common.model.ContentItem;
+import org.duracloud.domain.Content;
+import org.duracloud.stitch.datasource.DataSource;
+import org.duracloud.stitch.stream.MultiContentInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading a stitched stream through MultiContentInputStream, with
+ * chunks served from memory.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class StitchingBenchmark {
+
+    private static final String SPACE_ID = "space-id";
+
+    @Param({"16777216", "67108864"})
+    public int size;
+
+    @Param({"4", "64"})
+    public int chunkCount;
+
+    private DataSource dataSource;
+    private List<ContentItem> contentItems;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final byte[] data = BenchmarkData.createBytes(size);
+        final Map<String, int[]> chunks = new HashMap<>();
+        contentItems = new ArrayList<>();
+
+        int chunkSize = size / chunkCount;
+        for (int i = 0; i < chunkCount; i++) {
+            String chunkId = "content-id.dura-chunk-" + i;
+            int offset = i * chunkSize;
+            int length = (i == chunkCount - 1) ? size - offset : chunkSize;
+            chunks.put(chunkId, new int[] {offset, length});
+            contentItems.add(new ContentItem(SPACE_ID, chunkId));
+        }
+
+        dataSource = (spaceId, contentId) -> {
+            int[] range = chunks.get(contentId);
+            Content content = new Content();
+            content.setId(contentId);
+            content.setStream(new ByteArrayInputStream(data, range[0], range[1]));
+            return content;
+        };
+    }
+
+    @Benchmark
+    public long multiContentStream(ReadBuffer buffer, ByteCounter counter)
+        throws IOException {
+        try (InputStream stream =
+                 new MultiContentInputStream(dataSource, contentItems)) {
+            long read = BenchmarkData.drain(stream, buffer.getBuffer());
+            counter.add(read);
+            return read;
+        }
+    }
+
+}
@@ -7,16 +7,25 @@
  */
 package org.duracloud.chunk.util;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.amazonaws.util.CollectionUtils;
 import org.duracloud.chunk.manifest.ChunksManifest;
 import org.duracloud.chunk.manifest.ChunksManifestBean.ManifestEntry;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.Constants;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.error.ContentStoreException;
+import org.duracloud.error.NotFoundException;
+import org.duracloud.error.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,11 +37,42 @@ import org.slf4j.LoggerFactory;
  */
 public class ChunksManifestVerifier {
     private static final Logger log = LoggerFactory.getLogger(ChunksManifestVerifier.class);
+
+    protected static final int DEFAULT_THREADS = 10;
+
     private ContentStore contentStore;
+    private int threads;
+    private int batchSize;
 
     public ChunksManifestVerifier(ContentStore contentStore) {
+        this(contentStore, DEFAULT_THREADS);
+    }
+
+    /**
+     * @param contentStore
+     * @param threads      maximum number of chunks checked concurrently when
+     *                     chunk properties cannot be retrieved in bulk
+     */
+    public ChunksManifestVerifier(ContentStore contentStore, int threads) {
+        this(contentStore, threads, Constants.MAX_BULK_ITEMS);
+    }
+
+    /**
+     * @param contentStore
+     * @param threads      maximum number of chunks checked concurrently when
+     *                     chunk properties cannot be retrieved in bulk
+     * @param batchSize    number of chunks for which properties are retrieved
+     *                     in each bulk call
+     */
+    protected ChunksManifestVerifier(ContentStore contentStore,
+                                     int threads,
+                                     int batchSize) {
         assert contentStore != null;
+        assert threads > 0;
+        assert batchSize > 0;
         this.contentStore = contentStore;
+        this.threads = threads;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -42,46 +82,49 @@ public class ChunksManifestVerifier {
      * was not. You can use the result.isSuccess() method as a shortcut for determining
      * whether all the items in the manifest matched on another.
      *
+     * The properties of the chunks are retrieved in bulk, in batches. If
+     * DuraStore does not support bulk retrieval, or a batch cannot be
+     * retrieved, the properties of each chunk in the affected batches are
+     * retrieved individually, with up to the configured number of chunks
+     * checked concurrently.
+     *
      * @param spaceId
      * @param manifest
      * @return a list of results - one for each chunk.
      * @throws ContentStoreException
      */
     public Results verifyAllChunks(String spaceId, ChunksManifest manifest) {
-
+        List<ManifestEntry> entries = manifest.getEntries();
         Results results = new Results();
-        for (ManifestEntry entry : manifest.getEntries()) {
-            String chunkId = entry.getChunkId();
-            String checksum = entry.getChunkMD5();
-            long byteSize = entry.getByteSize();
 
-            try {
-                Map<String, String> props =
-                    this.contentStore.getContentProperties(spaceId,
-                                                           entry.getChunkId());
-                String remoteChecksum = props.get(ContentStore.CONTENT_CHECKSUM);
-                long remoteByteSize = Long.valueOf(props.get(ContentStore.CONTENT_SIZE));
-
-                if (!checksum.equals(remoteChecksum)) {
-                    results.add(chunkId,
-                                "manifest checksum (" + checksum
-                                + ") does not match DuraCloud checksum ("
-                                + remoteChecksum
-                                + ")",
-                                false);
-                } else if (byteSize != remoteByteSize) {
-                    results.add(chunkId,
-                                "manifest byte size (" + byteSize
-                                + ") does not match DuraCloud byte size ("
-                                + remoteByteSize
-                                + ")",
-                                false);
-                } else {
-                    results.add(chunkId, null, true);
+        boolean bulkSupported = true;
+        for (int i = 0; i < entries.size(); i += batchSize) {
+            List<ManifestEntry> batch =
+                entries.subList(i, Math.min(i + batchSize, entries.size()));
+
+            Map<String, Map<String, String>> chunkProps = null;
+            if (bulkSupported) {
+                try {
+                    chunkProps = getBulkChunkProperties(spaceId, batch);
+                } catch (NotFoundException | NotImplementedException ex) {
+                    // The bulk endpoint is not available (or the space does
+                    // not exist, which the individual checks will report)
+                    log.info("Chunk properties cannot be retrieved in bulk for " +
+                             "{}/{}, checking each chunk individually: {}",
+                             spaceId, manifest.getManifestId(), ex.getMessage());
+                    bulkSupported = false;
+                } catch (ContentStoreException ex) {
+                    log.warn("Unable to retrieve properties of {} chunks in bulk " +
+                             "for {}/{}, checking each chunk individually: {}",
+                             batch.size(), spaceId, manifest.getManifestId(),
+                             ex.getMessage());
                 }
+            }
 
-            } catch (Exception ex) {
-                results.add(chunkId, ex.getMessage(), false);
+            if (null != chunkProps) {
+                verifyChunks(batch, chunkProps, results);
+            } else {
+                verifyChunksIndividually(spaceId, batch, results);
             }
         }
 
@@ -95,6 +138,99 @@ public class ChunksManifestVerifier {
         }
     }
 
+    private Map<String, Map<String, String>> getBulkChunkProperties(String spaceId,
+                                                                    List<ManifestEntry> entries)
+        throws ContentStoreException {
+        List<String> chunkIds = new ArrayList<>(entries.size());
+        for (ManifestEntry entry : entries) {
+            chunkIds.add(entry.getChunkId());
+        }
+        return this.contentStore.getBulkContentProperties(spaceId, chunkIds);
+    }
+
+    private void verifyChunks(List<ManifestEntry> entries,
+                              Map<String, Map<String, String>> chunkProps,
+                              Results results) {
+        for (ManifestEntry entry : entries) {
+            String chunkId = entry.getChunkId();
+            Map<String, String> props = chunkProps.get(chunkId);
+            if (null == props) {
+                results.add(chunkId, "chunk does not exist in DuraCloud", false);
+                continue;
+            }
+
+            try {
+                String error = verifyChunk(entry, props);
+                results.add(chunkId, error, null == error);
+            } catch (Exception ex) {
+                results.add(chunkId, ex.getMessage(), false);
+            }
+        }
+    }
+
+    private void verifyChunksIndividually(final String spaceId,
+                                          List<ManifestEntry> entries,
+                                          Results results) {
+        ExecutorService executor =
+            Executors.newFixedThreadPool(Math.max(1, Math.min(threads,
+                                                              entries.size())));
+        try {
+            List<Future<String>> futures = new ArrayList<>(entries.size());
+            for (final ManifestEntry entry : entries) {
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        Map<String, String> props =
+                            contentStore.getContentProperties(spaceId,
+                                                              entry.getChunkId());
+                        return verifyChunk(entry, props);
+                    }
+                }));
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                String chunkId = entries.get(i).getChunkId();
+                try {
+                    String error = futures.get(i).get();
+                    results.add(chunkId, error, null == error);
+                } catch (ExecutionException ex) {
+                    results.add(chunkId, ex.getCause().getMessage(), false);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DuraCloudRuntimeException("interrupted while verifying chunks in " +
+                                                spaceId, ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return a description of the mismatch between the manifest entry and
+     * the properties of the chunk in DuraCloud, or null if they match
+     */
+    private String verifyChunk(ManifestEntry entry, Map<String, String> props) {
+        String checksum = entry.getChunkMD5();
+        long byteSize = entry.getByteSize();
+
+        String remoteChecksum = props.get(ContentStore.CONTENT_CHECKSUM);
+        long remoteByteSize = Long.valueOf(props.get(ContentStore.CONTENT_SIZE));
+
+        if (!checksum.equals(remoteChecksum)) {
+            return "manifest checksum (" + checksum
+                   + ") does not match DuraCloud checksum ("
+                   + remoteChecksum
+                   + ")";
+        } else if (byteSize != remoteByteSize) {
+            return "manifest byte size (" + byteSize
+                   + ") does not match DuraCloud byte size ("
+                   + remoteByteSize
+                   + ")";
+        }
+        return null;
+    }
+
     public static final class Results {
         private List<Result> resultList = null;
 
@@ -28,6 +28,7 @@ import org.duracloud.chunk.stream.ChunkInputStream;
 import org.duracloud.chunk.stream.KnownLengthInputStream;
 import org.duracloud.chunk.util.ChunkUtil;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.common.retry.Retriable;
 import org.duracloud.common.retry.Retrier;
@@ -62,6 +63,8 @@ public class DuracloudContentWriter implements ContentWriter {
     // if true, skip checks for chunks in storage
     private boolean jumpStart = false;
 
+    private ContentWriteMode writeMode = ContentWriteMode.MERGE_PROPERTIES;
+
     private static int DEFAULT_MAX_RETRIES = 4;  //actual attempts will always equal MAX_RETRIES+1
     private static int DEFAULT_WAIT_IN_MS_BETWEEN_RETRIES = 1000;
 
@@ -116,6 +119,17 @@ public class DuracloudContentWriter implements ContentWriter {
         return results;
     }
 
+    /**
+     * Sets how writes treat an existing version of each content item. When
+     * the caller knows the content is new, REPLACE_PROPERTIES avoids a lookup
+     * of existing properties on each write. Defaults to MERGE_PROPERTIES.
+     *
+     * @param writeMode the write mode used for all writes
+     */
+    public void setWriteMode(ContentWriteMode writeMode) {
+        this.writeMode = writeMode;
+    }
+
     public void ignore(String spaceId, String contentId, long contentSize) {
         AddContentResult result = new AddContentResult(spaceId,
                                                        contentId,
@@ -456,7 +470,8 @@ public class DuracloudContentWriter implements ContentWriter {
                                            contentSize,
                                            contentMimetype,
                                            contentChecksum,
-                                           properties);
+                                           properties,
+                                           writeMode);
         } catch (ContentStoreException e) {
             log.error(e.getFormattedMessage(), e);
             throw new ContentNotAddedException(spaceId, contentId, e);
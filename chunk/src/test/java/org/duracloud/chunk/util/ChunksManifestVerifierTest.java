@@ -13,9 +13,12 @@ import org.duracloud.chunk.manifest.ChunksManifest;
 import org.duracloud.chunk.manifest.ChunksManifestBean;
 import org.duracloud.chunk.manifest.ChunksManifestBean.ManifestEntry;
 import org.duracloud.chunk.manifest.ChunksManifestBean.ManifestHeader;
+import org.duracloud.chunk.util.ChunksManifestVerifier.Result;
 import org.duracloud.chunk.util.ChunksManifestVerifier.Results;
 import org.duracloud.client.ContentStore;
 import org.duracloud.error.ContentStoreException;
+import org.duracloud.error.NotFoundException;
+import org.duracloud.error.NotImplementedException;
 import org.easymock.EasyMockRunner;
 import org.easymock.EasyMockSupport;
 import org.easymock.Mock;
@@ -57,15 +60,144 @@ public class ChunksManifestVerifierTest extends EasyMockSupport {
     public void testSuccess() throws ContentStoreException {
         ChunksManifestVerifier verifier =
             new ChunksManifestVerifier(contentStore);
+        Map<String, Map<String, String>> chunkProps = new HashMap<>();
         for (ManifestEntry entry : manifest.getEntries()) {
+            chunkProps.put(entry.getChunkId(),
+                           createProperties(entry.getByteSize(), entry.getChunkMD5()));
+        }
+        expectGetBulkContentProps(chunkProps);
+
+        replayAll();
+        Results results = verifier.verifyAllChunks(spaceId, manifest);
+
+        assertTrue(results.isSuccess());
+        assertResultSizeIsEqual(results);
+    }
+
+    @Test
+    public void testSuccessIndividually() throws ContentStoreException {
+        ChunksManifestVerifier verifier =
+            new ChunksManifestVerifier(contentStore, 3);
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds()))
+            .andThrow(new NotImplementedException("bulk lookup not supported"));
+        for (ManifestEntry entry : manifest.getEntries()) {
+            expectGetContentProps(spaceId, entry, entry.getByteSize(), entry.getChunkMD5());
+        }
+
+        replayAll();
+        Results results = verifier.verifyAllChunks(spaceId, manifest);
+
+        assertTrue(results.isSuccess());
+        assertResultSizeIsEqual(results);
+        assertResultOrderMatchesManifest(results);
+    }
+
+    @Test
+    public void testFailureIndividually() throws ContentStoreException {
+        ChunksManifestVerifier verifier =
+            new ChunksManifestVerifier(contentStore, 3);
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds()))
+            .andThrow(new ContentStoreException("bulk lookup not supported"));
+        List<ManifestEntry> entries = manifest.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            ManifestEntry entry = entries.get(i);
+            if (i == 5) {
+                expect(contentStore.getContentProperties(spaceId, entry.getChunkId()))
+                    .andThrow(new ContentStoreException("chunk not found!"));
+            } else {
+                expectGetContentProps(spaceId, entry, entry.getByteSize(), entry.getChunkMD5());
+            }
+        }
+
+        replayAll();
+        Results results = verifier.verifyAllChunks(spaceId, manifest);
+
+        assertTrue(!results.isSuccess());
+        assertResultSizeIsEqual(results);
+        assertResultOrderMatchesManifest(results);
+        Result result = results.get().get(5);
+        assertTrue(!result.isSuccess());
+        assertEquals("chunk not found!", result.getError());
+    }
+
+    @Test
+    public void testBulkNotSupportedInBatches() throws ContentStoreException {
+        ChunksManifestVerifier verifier =
+            new ChunksManifestVerifier(contentStore, 3, 4);
+
+        // Once the bulk call is found to be unsupported it is not tried again
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds(0, 4)))
+            .andThrow(new NotFoundException("no bulk endpoint"));
+        for (ManifestEntry entry : manifest.getEntries()) {
+            expectGetContentProps(spaceId, entry, entry.getByteSize(), entry.getChunkMD5());
+        }
+
+        replayAll();
+        Results results = verifier.verifyAllChunks(spaceId, manifest);
+
+        assertTrue(results.isSuccess());
+        assertResultSizeIsEqual(results);
+        assertResultOrderMatchesManifest(results);
+    }
+
+    @Test
+    public void testBatchFailure() throws ContentStoreException {
+        ChunksManifestVerifier verifier =
+            new ChunksManifestVerifier(contentStore, 3, 4);
+        List<ManifestEntry> entries = manifest.getEntries();
+
+        // Only the chunks of the failed batch are checked individually
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds(0, 4)))
+            .andReturn(getChunkProps(0, 4));
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds(4, 8)))
+            .andThrow(new ContentStoreException("batch failed"));
+        for (ManifestEntry entry : entries.subList(4, 8)) {
             expectGetContentProps(spaceId, entry, entry.getByteSize(), entry.getChunkMD5());
         }
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds(8, 10)))
+            .andReturn(getChunkProps(8, 10));
 
         replayAll();
         Results results = verifier.verifyAllChunks(spaceId, manifest);
 
         assertTrue(results.isSuccess());
         assertResultSizeIsEqual(results);
+        assertResultOrderMatchesManifest(results);
+    }
+
+    private List<String> getChunkIds(int from, int to) {
+        return getChunkIds().subList(from, to);
+    }
+
+    private Map<String, Map<String, String>> getChunkProps(int from, int to) {
+        Map<String, Map<String, String>> chunkProps = new HashMap<>();
+        for (ManifestEntry entry : manifest.getEntries().subList(from, to)) {
+            chunkProps.put(entry.getChunkId(),
+                           createProperties(entry.getByteSize(), entry.getChunkMD5()));
+        }
+        return chunkProps;
+    }
+
+    protected void expectGetBulkContentProps(Map<String, Map<String, String>> chunkProps)
+        throws ContentStoreException {
+        expect(contentStore.getBulkContentProperties(spaceId, getChunkIds()))
+            .andReturn(chunkProps);
+    }
+
+    protected List<String> getChunkIds() {
+        List<String> chunkIds = new LinkedList<>();
+        for (ManifestEntry entry : manifest.getEntries()) {
+            chunkIds.add(entry.getChunkId());
+        }
+        return chunkIds;
+    }
+
+    protected void assertResultOrderMatchesManifest(Results results) {
+        List<ManifestEntry> entries = manifest.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).getChunkId(),
+                         results.get().get(i).getChunkId());
+        }
     }
 
     protected void expectGetContentProps(String spaceId,
@@ -86,9 +218,12 @@ public class ChunksManifestVerifierTest extends EasyMockSupport {
         throws ContentStoreException {
         ChunksManifestVerifier verifier = new ChunksManifestVerifier(contentStore);
 
+        Map<String, Map<String, String>> chunkProps = new HashMap<>();
         for (ManifestEntry entry : manifest.getEntries()) {
-            expectGetContentProps(spaceId, entry, entry.getByteSize(), "badChecksum");
+            chunkProps.put(entry.getChunkId(),
+                           createProperties(entry.getByteSize(), "badChecksum"));
         }
+        expectGetBulkContentProps(chunkProps);
 
         replayAll();
         Results results = verifier.verifyAllChunks(spaceId, manifest);
@@ -102,10 +237,13 @@ public class ChunksManifestVerifierTest extends EasyMockSupport {
         throws ContentStoreException {
         ChunksManifestVerifier verifier = new ChunksManifestVerifier(contentStore);
 
+        Map<String, Map<String, String>> chunkProps = new HashMap<>();
         for (ManifestEntry entry : manifest.getEntries()) {
             long byteSize = entry.getByteSize();
-            expectGetContentProps(spaceId, entry, byteSize + 1, entry.getChunkMD5());
+            chunkProps.put(entry.getChunkId(),
+                           createProperties(byteSize + 1, entry.getChunkMD5()));
         }
+        expectGetBulkContentProps(chunkProps);
 
         replayAll();
         Results results = verifier.verifyAllChunks(spaceId, manifest);
@@ -119,16 +257,24 @@ public class ChunksManifestVerifierTest extends EasyMockSupport {
         throws ContentStoreException {
         ChunksManifestVerifier verifier = new ChunksManifestVerifier(contentStore);
 
-        for (ManifestEntry entry : manifest.getEntries()) {
-            expect(contentStore.getContentProperties(spaceId, entry.getChunkId()))
-                .andThrow(new ContentStoreException("chunk not found!"));
+        Map<String, Map<String, String>> chunkProps = new HashMap<>();
+        List<ManifestEntry> entries = manifest.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            ManifestEntry entry = entries.get(i);
+            if (i != 5) {
+                chunkProps.put(entry.getChunkId(),
+                               createProperties(entry.getByteSize(), entry.getChunkMD5()));
+            }
         }
+        expectGetBulkContentProps(chunkProps);
 
         replayAll();
         Results results = verifier.verifyAllChunks(spaceId, manifest);
 
         assertTrue(!results.isSuccess());
         assertResultSizeIsEqual(results);
+        assertTrue(results.get().get(4).isSuccess());
+        assertTrue(!results.get().get(5).isSuccess());
     }
 
     private Map<String, String> createProperties(long byteSize, String chunkMD5) {
@@ -20,6 +20,7 @@ import org.duracloud.chunk.ChunkableContent;
 import org.duracloud.chunk.error.NotFoundException;
 import org.duracloud.chunk.stream.ChunkInputStream;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.common.model.AclType;
 import org.duracloud.common.util.ChecksumUtil;
@@ -67,7 +68,8 @@ public class DuracloudContentWriterTest {
                                                     EasyMock.anyLong(),
                                                     EasyMock.isA(String.class),
                                                     EasyMock.isA(String.class),
-                                                    (Map) EasyMock.anyObject()))
+                                                    (Map) EasyMock.anyObject(),
+                                                    EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                     .andReturn("")
                     .anyTimes();
         } else { // Expect only the manifest to be added
@@ -77,7 +79,8 @@ public class DuracloudContentWriterTest {
                                                     EasyMock.anyLong(),
                                                     EasyMock.eq("application/xml"),
                                                     EasyMock.isA(String.class),
-                                                    (Map) EasyMock.anyObject()))
+                                                    (Map) EasyMock.anyObject(),
+                                                    EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                     .andReturn("")
                     .once();
         }
@@ -159,7 +162,8 @@ public class DuracloudContentWriterTest {
                                                          EasyMock.anyLong(),
                                                          EasyMock.isA(String.class),
                                                          EasyMock.isA(String.class),
-                                                         (Map) EasyMock.anyObject()))
+                                                         (Map) EasyMock.anyObject(),
+                                                         EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                     .andReturn(checksum)
                     .times(times);
         }
@@ -174,7 +178,8 @@ public class DuracloudContentWriterTest {
                                                          EasyMock.anyLong(),
                                                          EasyMock.isA(String.class),
                                                          EasyMock.isA(String.class),
-                                                         (Map) EasyMock.anyObject()))
+                                                         (Map) EasyMock.anyObject(),
+                                                         EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                     .andThrow(new ContentStoreException("Expected addContent Error "))
                     .times(times);
         }
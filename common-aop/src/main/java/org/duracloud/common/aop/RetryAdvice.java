@@ -7,13 +7,35 @@
  */
 package org.duracloud.common.aop;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.duracloud.common.error.RetryFlaggableException;
+import org.duracloud.common.retry.DecorrelatedJitterBackoff;
+import org.duracloud.common.retry.RetryBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 
+/**
+ * Retries calls which fail with a RetryFlaggableException marked for retry.
+ *
+ * Waits between retries use decorrelated jitter, starting at waitTime and
+ * growing up to maxWaitTime, so that callers which fail together do not
+ * retry together. The waits of a single call add up to no more than
+ * maxTotalWaitTime. Retries are limited by a shared RetryBudget, so that
+ * retrying stops while most calls to the target fail. A budget is kept for
+ * each target class or, when budgetKeyArgument is set, for each object
+ * passed as that argument (such as the storage provider of one account).
+ *
+ * @author Bill Branan
+ */
 public class RetryAdvice implements MethodInterceptor, Ordered {
 
     private final Logger log = LoggerFactory.getLogger(RetryAdvice.class);
@@ -22,22 +44,70 @@ public class RetryAdvice implements MethodInterceptor, Ordered {
 
     private int waitTime;
 
+    /**
+     * The longest wait between attempts, defaults to ten times the waitTime
+     */
+    private int maxWaitTime = 0;
+
+    /**
+     * The longest total wait across all retries of a call, defaults to
+     * waitTime multiplied by maxRetries
+     */
+    private int maxTotalWaitTime = 0;
+
+    /**
+     * The index of the argument which identifies a retry budget, or -1 to
+     * keep a budget per target class
+     */
+    private int budgetKeyArgument = -1;
+
+    private int retryBudgetCapacity = RetryBudget.DEFAULT_CAPACITY;
+
+    private double retryBudgetSuccessCredit = RetryBudget.DEFAULT_SUCCESS_CREDIT;
+
     private int order;
 
+    private Random random = new Random();
+
+    private final Map<String, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+
+    // Budgets keyed by argument are dropped once the argument is discarded
+    private final Map<Object, RetryBudget> argumentRetryBudgets =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     public Object invoke(MethodInvocation invocation) throws Throwable {
+        RetryBudget retryBudget = getRetryBudget(invocation);
+        DecorrelatedJitterBackoff backoff = null;
+        long wait = 0;
+        long totalWait = 0;
         int numAttempts = 0;
         do {
             numAttempts++;
             try {
-                return invocation.proceed();
+                Object result = invocation.proceed();
+                retryBudget.recordSuccess();
+                return result;
             } catch (RetryFlaggableException se) {
                 if (se.isRetry()) {
-                    if (numAttempts <= maxRetries) {
-                        logRetry(invocation, se.getMessage());
-                        Thread.sleep(waitTime);
-                    } else {
+                    if (numAttempts > maxRetries ||
+                        (totalWait > 0 && totalWait >= getMaxTotalWaitTime())) {
                         logRetriesExceeded(invocation, se.getMessage());
                         throw se;
+                    } else if (!retryBudget.tryAcquireRetry()) {
+                        log.warn("Retry budget exhausted for {}, not retrying " +
+                                 "failed call to {}: {}", getTargetName(invocation),
+                                 invocation.getMethod().getName(), se.getMessage());
+                        throw se;
+                    } else {
+                        logRetry(invocation, se.getMessage());
+                        if (null == backoff) {
+                            backoff = new DecorrelatedJitterBackoff(
+                                waitTime, Math.max(waitTime, getMaxWaitTime()), random);
+                        }
+                        wait = Math.min(backoff.nextWait(wait),
+                                        getMaxTotalWaitTime() - totalWait);
+                        totalWait += wait;
+                        sleep(wait);
                     }
                 } else {
                     throw se;
@@ -46,6 +116,69 @@ public class RetryAdvice implements MethodInterceptor, Ordered {
         } while (true);
     }
 
+    protected void sleep(long waitMs) throws InterruptedException {
+        Thread.sleep(waitMs);
+    }
+
+    /*
+     * Retry budgets are shared by all calls to the same target class, or by
+     * all calls given the same budget key argument
+     */
+    private RetryBudget getRetryBudget(MethodInvocation invocation) {
+        Object[] arguments = invocation.getArguments();
+        if (budgetKeyArgument >= 0 && null != arguments &&
+            budgetKeyArgument < arguments.length &&
+            null != arguments[budgetKeyArgument]) {
+            return argumentRetryBudgets.computeIfAbsent(
+                arguments[budgetKeyArgument], key -> newRetryBudget());
+        }
+        return retryBudgets.computeIfAbsent(getTargetName(invocation),
+                                            name -> newRetryBudget());
+    }
+
+    private RetryBudget newRetryBudget() {
+        return new RetryBudget(retryBudgetCapacity, retryBudgetSuccessCredit);
+    }
+
+    private String getTargetName(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        if (null != target) {
+            return target.getClass().getName();
+        }
+        return invocation.getMethod().getDeclaringClass().getName();
+    }
+
+    /**
+     * @return the retry budget of each target class, which provide counts of
+     * the retries which were made and which were denied. Budgets kept per
+     * budget key argument are not included.
+     */
+    public Map<String, RetryBudget> getRetryBudgets() {
+        return Collections.unmodifiableMap(retryBudgets);
+    }
+
+    /**
+     * @return the total number of retries made
+     */
+    public long getRetryCount() {
+        return sumBudgets(RetryBudget::getRetriesPermitted);
+    }
+
+    /**
+     * @return the total number of retries not made due to an exhausted budget
+     */
+    public long getRetryBudgetExhaustedCount() {
+        return sumBudgets(RetryBudget::getRetriesDenied);
+    }
+
+    private long sumBudgets(ToLongFunction<RetryBudget> count) {
+        long sum = retryBudgets.values().stream().mapToLong(count).sum();
+        synchronized (argumentRetryBudgets) {
+            sum += argumentRetryBudgets.values().stream().mapToLong(count).sum();
+        }
+        return sum;
+    }
+
     private void logRetry(MethodInvocation invocation, String errorMsg) {
         if (log.isDebugEnabled()) {
             StringBuilder logMsg = new StringBuilder();
@@ -108,6 +241,50 @@ public class RetryAdvice implements MethodInterceptor, Ordered {
         this.waitTime = waitTime;
     }
 
+    public int getMaxWaitTime() {
+        return maxWaitTime > 0 ? maxWaitTime : waitTime * 10;
+    }
+
+    public void setMaxWaitTime(int maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public int getMaxTotalWaitTime() {
+        return maxTotalWaitTime > 0 ? maxTotalWaitTime : waitTime * maxRetries;
+    }
+
+    public void setMaxTotalWaitTime(int maxTotalWaitTime) {
+        this.maxTotalWaitTime = maxTotalWaitTime;
+    }
+
+    public int getBudgetKeyArgument() {
+        return budgetKeyArgument;
+    }
+
+    public void setBudgetKeyArgument(int budgetKeyArgument) {
+        this.budgetKeyArgument = budgetKeyArgument;
+    }
+
+    public int getRetryBudgetCapacity() {
+        return retryBudgetCapacity;
+    }
+
+    public void setRetryBudgetCapacity(int retryBudgetCapacity) {
+        this.retryBudgetCapacity = retryBudgetCapacity;
+    }
+
+    public double getRetryBudgetSuccessCredit() {
+        return retryBudgetSuccessCredit;
+    }
+
+    public void setRetryBudgetSuccessCredit(double retryBudgetSuccessCredit) {
+        this.retryBudgetSuccessCredit = retryBudgetSuccessCredit;
+    }
+
+    protected void setRandom(Random random) {
+        this.random = random;
+    }
+
     public int getOrder() {
         return order;
     }
@@ -0,0 +1,251 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.aop;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.duracloud.common.error.RetryFlaggableException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RetryAdviceTest {
+
+    private static final int WAIT_TIME = 3000;
+    private static final int MAX_WAIT_TIME = 30000;
+
+    private TestRetryAdvice advice;
+
+    @Before
+    public void setup() {
+        advice = new TestRetryAdvice();
+        advice.setMaxRetries(3);
+        advice.setWaitTime(WAIT_TIME);
+        advice.setMaxWaitTime(MAX_WAIT_TIME);
+        advice.setMaxTotalWaitTime(100000);
+        advice.setRandom(new FixedRandom(0.5));
+    }
+
+    @Test
+    public void testSuccess() throws Throwable {
+        TestInvocation invocation = new TestInvocation(0, "target");
+        assertEquals("result", advice.invoke(invocation));
+        assertEquals(1, invocation.attempts);
+        assertTrue(advice.waits.isEmpty());
+        assertEquals(0, advice.getRetryCount());
+    }
+
+    @Test
+    public void testRetryWaits() throws Throwable {
+        TestInvocation invocation = new TestInvocation(3, "target");
+        assertEquals("result", advice.invoke(invocation));
+        assertEquals(4, invocation.attempts);
+        assertEquals(3, advice.getRetryCount());
+
+        // Each wait is halfway between the base wait and three times the
+        // previous wait, limited by the max wait
+        assertEquals(Arrays.asList(6000L, 10500L, 17250L), advice.waits);
+    }
+
+    @Test
+    public void testRetryWaitBounds() throws Throwable {
+        advice.setRandom(new FixedRandom(0));
+        advice.invoke(new TestInvocation(3, "target"));
+        assertEquals(Arrays.asList(3000L, 3000L, 3000L), advice.waits);
+
+        advice.waits.clear();
+        advice.setRandom(new FixedRandom(0.9999));
+        advice.invoke(new TestInvocation(3, "target"));
+        assertEquals(3, advice.waits.size());
+        for (long wait : advice.waits) {
+            assertTrue(wait >= WAIT_TIME && wait <= MAX_WAIT_TIME);
+        }
+        assertEquals(MAX_WAIT_TIME, advice.waits.get(2).longValue());
+    }
+
+    @Test
+    public void testMaxRetries() throws Throwable {
+        TestInvocation invocation = new TestInvocation(10, "target");
+        try {
+            advice.invoke(invocation);
+            fail("Exception expected");
+        } catch (RetryFlaggableException e) {
+            assertEquals(4, invocation.attempts);
+        }
+    }
+
+    @Test
+    public void testNoRetry() throws Throwable {
+        TestInvocation invocation = new TestInvocation(1, "target");
+        invocation.retry = RetryFlaggableException.NO_RETRY;
+        try {
+            advice.invoke(invocation);
+            fail("Exception expected");
+        } catch (RetryFlaggableException e) {
+            assertEquals(1, invocation.attempts);
+            assertTrue(advice.waits.isEmpty());
+        }
+    }
+
+    @Test
+    public void testMaxTotalWaitTime() throws Throwable {
+        advice.setMaxTotalWaitTime(10000);
+        TestInvocation invocation = new TestInvocation(10, "target");
+        try {
+            advice.invoke(invocation);
+            fail("Exception expected");
+        } catch (RetryFlaggableException e) {
+            // The second wait is cut short at the total wait limit, after
+            // which no further retries are made
+            assertEquals(3, invocation.attempts);
+            assertEquals(Arrays.asList(6000L, 4000L), advice.waits);
+        }
+    }
+
+    @Test
+    public void testDefaultMaxTotalWaitTime() {
+        advice.setMaxTotalWaitTime(0);
+        assertEquals(WAIT_TIME * 3, advice.getMaxTotalWaitTime());
+    }
+
+    @Test
+    public void testRetryBudgetPerTarget() throws Throwable {
+        advice.setRetryBudgetCapacity(2);
+        advice.setMaxRetries(1);
+
+        invokeFailing(new TestInvocation(10, "account1"));
+        invokeFailing(new TestInvocation(10, "account1"));
+        assertEquals(2, advice.getRetryCount());
+
+        // Budget is shared by all calls to the same target class
+        TestInvocation invocation = new TestInvocation(10, "account2");
+        invokeFailing(invocation);
+        assertEquals(1, invocation.attempts);
+        assertEquals(1, advice.getRetryBudgetExhaustedCount());
+    }
+
+    @Test
+    public void testRetryBudgetPerArgument() throws Throwable {
+        advice.setRetryBudgetCapacity(2);
+        advice.setMaxRetries(1);
+        advice.setBudgetKeyArgument(0);
+
+        Object account1 = new Object();
+        Object account2 = new Object();
+
+        invokeFailing(new TestInvocation(10, account1));
+        invokeFailing(new TestInvocation(10, account1));
+        TestInvocation invocation = new TestInvocation(10, account1);
+        invokeFailing(invocation);
+        assertEquals(1, invocation.attempts);
+
+        // Exhausting the budget of one argument leaves others unaffected
+        invocation = new TestInvocation(10, account2);
+        invokeFailing(invocation);
+        assertEquals(2, invocation.attempts);
+
+        assertEquals(3, advice.getRetryCount());
+        assertEquals(1, advice.getRetryBudgetExhaustedCount());
+        assertTrue(advice.getRetryBudgets().isEmpty());
+    }
+
+    private void invokeFailing(MethodInvocation invocation) throws Throwable {
+        try {
+            advice.invoke(invocation);
+            fail("Exception expected");
+        } catch (RetryFlaggableException e) {
+            // Expected
+        }
+    }
+
+    /*
+     * Records waits rather than sleeping
+     */
+    private static class TestRetryAdvice extends RetryAdvice {
+        private List<Long> waits = new ArrayList<>();
+
+        @Override
+        protected void sleep(long waitMs) {
+            waits.add(waitMs);
+        }
+    }
+
+    private static class FixedRandom extends Random {
+        private double value;
+
+        public FixedRandom(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double nextDouble() {
+            return value;
+        }
+    }
+
+    /*
+     * Fails the given number of times before succeeding
+     */
+    private static class TestInvocation implements MethodInvocation {
+        private int failures;
+        private Object[] arguments;
+        private int attempts = 0;
+        private boolean retry = RetryFlaggableException.RETRY;
+
+        public TestInvocation(int failures, Object... arguments) {
+            this.failures = failures;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object proceed() {
+            attempts++;
+            if (attempts <= failures) {
+                throw new RetryFlaggableException("failure", null, retry);
+            }
+            return "result";
+        }
+
+        @Override
+        public Method getMethod() {
+            try {
+                return Object.class.getMethod("toString");
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object getThis() {
+            return this;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return getMethod();
+        }
+    }
+
+}
@@ -46,8 +46,10 @@ import org.duracloud.common.queue.TaskNotFoundException;
 import org.duracloud.common.queue.TaskQueue;
 import org.duracloud.common.queue.TimeoutException;
 import org.duracloud.common.queue.task.Task;
+import org.duracloud.common.retry.DecorrelatedJitterBackoff;
 import org.duracloud.common.retry.Retriable;
 import org.duracloud.common.retry.Retrier;
+import org.duracloud.common.retry.RetryBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +70,13 @@ public class SQSTaskQueue implements TaskQueue {
     private String queueUrl;
     private Integer visibilityTimeout;  // in seconds
 
+    private static final int SEND_MAX_RETRIES = 4;
+    private static final long SEND_RETRY_BASE_WAIT_MS = 1000;
+    private static final long SEND_RETRY_MAX_WAIT_MS = 60000;
+
+    // Shared by all senders to this queue, so that retries stop while SQS is throttling
+    private RetryBudget sendRetryBudget = new RetryBudget();
+
     public enum MsgProp {
         MSG_ID, RECEIPT_HANDLE;
     }
@@ -152,7 +161,7 @@ public class SQSTaskQueue implements TaskQueue {
         try {
             final String msgBody = unmarshallTask(task);
 
-            new Retrier(4, 10000, 2).execute(new Retriable() {
+            createSendRetrier().execute(new Retriable() {
                 @Override
                 public Object retry() throws Exception {
                     sqsClient.sendMessage(new SendMessageRequest(queueUrl, msgBody));
@@ -221,7 +230,7 @@ public class SQSTaskQueue implements TaskQueue {
                 .withQueueUrl(queueUrl)
                 .withEntries(msgEntries);
 
-            new Retrier(4, 5000, 2).execute(new Retriable() {
+            createSendRetrier().execute(new Retriable() {
                 @Override
                 public Object retry() throws Exception {
                     sqsClient.sendMessageBatch(sendMessageBatchRequest);
@@ -238,6 +247,21 @@ public class SQSTaskQueue implements TaskQueue {
         }
     }
 
+    private Retrier createSendRetrier() {
+        return new Retrier(SEND_MAX_RETRIES,
+                           new DecorrelatedJitterBackoff(SEND_RETRY_BASE_WAIT_MS,
+                                                         SEND_RETRY_MAX_WAIT_MS),
+                           sendRetryBudget);
+    }
+
+    /**
+     * @return the budget limiting retries of sends to this queue, which also
+     * provides counts of the retries made and denied
+     */
+    public RetryBudget getSendRetryBudget() {
+        return sendRetryBudget;
+    }
+
     @Override
     public Set<Task> take(int maxTasks) throws TimeoutException {
         ReceiveMessageResult result = sqsClient.receiveMessage(
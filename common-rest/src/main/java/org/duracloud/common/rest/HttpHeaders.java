@@ -21,6 +21,7 @@ public interface HttpHeaders extends javax.ws.rs.core.HttpHeaders {
     public static final String CONTENT_MD5 = "Content-MD5";
     public static final String CONTENT_RANGE = "Content-Range";
     public static final String PRAGMA = "Pragma";
+    public static final String PREFER = "Prefer";
     public static final String RETRY_AFTER = "Retry-After";
     public static final String SERVER = "Server";
     public static final String TRANSFER_ENCODING = "Transfer-Encoding";
@@ -12,16 +12,23 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.amazonaws.services.sns.AmazonSNS;
 import com.amazonaws.services.sns.model.SubscribeResult;
 import com.amazonaws.services.sqs.AmazonSQS;
 import com.amazonaws.services.sqs.model.CreateQueueRequest;
 import com.amazonaws.services.sqs.model.CreateQueueResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
 import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
 import com.amazonaws.services.sqs.model.GetQueueUrlResult;
 import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.QueueNameExistsException;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.amazonaws.services.sqs.model.ReceiveMessageResult;
 import com.amazonaws.services.sqs.model.SetQueueAttributesRequest;
 import org.duracloud.common.error.DuraCloudRuntimeException;
@@ -30,11 +37,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Subscribes an SQS queue to an SNS topic and passes each message received
+ * on the queue to the registered listeners.
+ *
+ * Messages are received in batches of up to 10. The messages of a batch are
+ * dispatched to listeners in parallel on a small pool of threads, so the
+ * order in which listeners see messages within a batch is not fixed. Once
+ * all messages of a batch are dispatched, they are deleted from the queue
+ * with a single batch request.
+ *
  * @author Daniel Bernstein
  */
 public class SnsSubscriptionManager {
     private Logger log = LoggerFactory.getLogger(SnsSubscriptionManager.class);
 
+    // SQS limits for a single receive or delete batch request
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final int RECEIVE_WAIT_TIME_SECONDS = 20;
+
+    private static final int DEFAULT_DISPATCH_THREADS = 4;
+
     private AmazonSQS sqsClient;
     private AmazonSNS snsClient;
     private String topicArn;
@@ -43,15 +65,26 @@ public class SnsSubscriptionManager {
     private String subscriptionArn;
     private boolean initialized = false;
     private List<MessageListener> messageListeners = new ArrayList<>();
+    private int dispatchThreads;
+    private ExecutorService dispatchExecutor;
 
     public SnsSubscriptionManager(AmazonSQS sqsClient,
                                   AmazonSNS snsClient,
                                   String topicArn,
                                   String queueName) {
+        this(sqsClient, snsClient, topicArn, queueName, DEFAULT_DISPATCH_THREADS);
+    }
+
+    public SnsSubscriptionManager(AmazonSQS sqsClient,
+                                  AmazonSNS snsClient,
+                                  String topicArn,
+                                  String queueName,
+                                  int dispatchThreads) {
         this.topicArn = topicArn;
         this.queueName = queueName;
         this.sqsClient = sqsClient;
         this.snsClient = snsClient;
+        this.dispatchThreads = dispatchThreads;
     }
 
     public void addListener(MessageListener listener) {
@@ -101,6 +134,12 @@ public class SnsSubscriptionManager {
 
         log.info("subscription complete: {}", this.subscriptionArn);
 
+        this.dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads, r -> {
+            Thread thread = new Thread(r, "sqs-message-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
         //subscribe queue to topic
         this.initialized = true;
 
@@ -130,21 +169,13 @@ public class SnsSubscriptionManager {
         return policy;
     }
 
-    private void startPolling() {
+    protected void startPolling() {
         new Thread(new Runnable() {
             @Override
             public void run() {
                 while (initialized) {
                     try {
-                        ReceiveMessageResult result = sqsClient.receiveMessage(queueUrl);
-                        List<Message> messages = result.getMessages();
-                        for (Message message : messages) {
-                            dispatch(message);
-                            log.debug("{} dispatched", message);
-                            sqsClient.deleteMessage(queueUrl, message.getReceiptHandle());
-                            log.debug("{} deleted", message);
-                        }
-
+                        poll();
                     } catch (Exception ex) {
                         log.warn("failed to poll queue: " + ex.getMessage(), ex);
                     }
@@ -154,6 +185,53 @@ public class SnsSubscriptionManager {
         }, "sqs-long-poller").start();
     }
 
+    /**
+     * Receives a batch of messages, dispatches them to listeners, then
+     * deletes them from the queue.
+     *
+     * @return the number of messages received
+     */
+    protected int poll() throws InterruptedException {
+        ReceiveMessageResult result = sqsClient.receiveMessage(
+            new ReceiveMessageRequest(queueUrl)
+                .withMaxNumberOfMessages(MAX_MESSAGES_PER_RECEIVE)
+                .withWaitTimeSeconds(RECEIVE_WAIT_TIME_SECONDS));
+        List<Message> messages = result.getMessages();
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<?>> dispatched = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            dispatched.add(dispatchExecutor.submit(() -> dispatch(message)));
+        }
+
+        // Wait for all dispatches to complete before acknowledging
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                dispatched.get(i).get();
+            } catch (ExecutionException ex) {
+                // dispatch() handles listener errors, this is not expected
+                log.error("failed to dispatch message " + messages.get(i) +
+                          " due to " + ex.getMessage(), ex);
+            }
+            log.debug("{} dispatched", messages.get(i));
+            entries.add(new DeleteMessageBatchRequestEntry(String.valueOf(i),
+                                                           messages.get(i).getReceiptHandle()));
+        }
+
+        DeleteMessageBatchResult deleteResult =
+            sqsClient.deleteMessageBatch(queueUrl, entries);
+        if (!deleteResult.getFailed().isEmpty()) {
+            log.warn("failed to delete {} of {} messages from queue {}: {}",
+                     deleteResult.getFailed().size(), entries.size(), queueUrl,
+                     deleteResult.getFailed());
+        }
+        log.debug("{} messages deleted", deleteResult.getSuccessful().size());
+        return messages.size();
+    }
+
     private void dispatch(Message message) {
         log.debug("dispatching message {}", message);
         for (MessageListener listener : messageListeners) {
@@ -183,6 +261,9 @@ public class SnsSubscriptionManager {
         this.sqsClient.deleteQueue(this.queueUrl);
         log.info("deleted queue {}", this.subscriptionArn);
         this.initialized = false;
+        if (null != this.dispatchExecutor) {
+            this.dispatchExecutor.shutdown();
+        }
         //Redeploys will fail due to amazon sqs requirement to wait
         //60 seconds before recreating a queue exit without waiting.
         WaitUtil.wait(60);
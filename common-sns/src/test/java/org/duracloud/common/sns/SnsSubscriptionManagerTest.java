@@ -0,0 +1,143 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.sns;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.SubscribeResult;
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.CreateQueueRequest;
+import com.amazonaws.services.sqs.model.CreateQueueResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.SetQueueAttributesRequest;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SnsSubscriptionManagerTest {
+
+    private AmazonSQS sqsClient;
+    private AmazonSNS snsClient;
+    private SnsSubscriptionManager manager;
+
+    private String topicArn = "topic-arn";
+    private String queueName = "queue-name";
+    private String queueUrl = "queue-url";
+    private String queueArn = "queue-arn";
+
+    @Before
+    public void setup() {
+        sqsClient = EasyMock.createMock("AmazonSQS", AmazonSQS.class);
+        snsClient = EasyMock.createMock("AmazonSNS", AmazonSNS.class);
+        manager = new SnsSubscriptionManager(sqsClient, snsClient, topicArn, queueName, 3) {
+            @Override
+            protected void startPolling() {
+                // Polling is driven by the test
+            }
+        };
+    }
+
+    @After
+    public void teardown() {
+        EasyMock.verify(sqsClient, snsClient);
+    }
+
+    private void setupConnect() {
+        EasyMock.expect(sqsClient.createQueue(EasyMock.isA(CreateQueueRequest.class)))
+                .andReturn(new CreateQueueResult().withQueueUrl(queueUrl));
+        EasyMock.expect(sqsClient.getQueueAttributes(queueUrl, Arrays.asList("QueueArn")))
+                .andReturn(new GetQueueAttributesResult()
+                               .addAttributesEntry("QueueArn", queueArn));
+        EasyMock.expect(snsClient.subscribe(topicArn, "sqs", queueArn))
+                .andReturn(new SubscribeResult().withSubscriptionArn("sub-arn"));
+        EasyMock.expect(sqsClient.setQueueAttributes(
+            EasyMock.isA(SetQueueAttributesRequest.class))).andReturn(null);
+    }
+
+    @Test
+    public void testPoll() throws Exception {
+        setupConnect();
+
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            messages.add(new Message().withMessageId("msg-" + i)
+                                      .withReceiptHandle("handle-" + i));
+        }
+        Capture<ReceiveMessageRequest> receiveCapture = Capture.newInstance();
+        EasyMock.expect(sqsClient.receiveMessage(EasyMock.capture(receiveCapture)))
+                .andReturn(new ReceiveMessageResult().withMessages(messages));
+
+        Capture<List<DeleteMessageBatchRequestEntry>> deleteCapture = Capture.newInstance();
+        EasyMock.expect(sqsClient.deleteMessageBatch(EasyMock.eq(queueUrl),
+                                                     EasyMock.capture(deleteCapture)))
+                .andReturn(new DeleteMessageBatchResult());
+
+        EasyMock.replay(sqsClient, snsClient);
+
+        Set<String> dispatchThreads = Collections.synchronizedSet(new HashSet<>());
+        List<Message> received = Collections.synchronizedList(new ArrayList<>());
+        manager.addListener(message -> {
+            dispatchThreads.add(Thread.currentThread().getName());
+            received.add(message);
+        });
+        // A failing listener does not prevent acknowledgement
+        manager.addListener(message -> {
+            throw new RuntimeException("listener failure");
+        });
+
+        manager.connect();
+        assertEquals(10, manager.poll());
+
+        ReceiveMessageRequest receiveRequest = receiveCapture.getValue();
+        assertEquals(queueUrl, receiveRequest.getQueueUrl());
+        assertEquals(Integer.valueOf(10), receiveRequest.getMaxNumberOfMessages());
+
+        // All messages are dispatched off the polling thread before being deleted
+        assertEquals(10, received.size());
+        assertTrue(received.containsAll(messages));
+        assertTrue(dispatchThreads.stream()
+                                  .allMatch(name -> name.equals("sqs-message-dispatcher")));
+
+        List<DeleteMessageBatchRequestEntry> entries = deleteCapture.getValue();
+        assertEquals(10, entries.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("handle-" + i, entries.get(i).getReceiptHandle());
+        }
+    }
+
+    @Test
+    public void testPollEmpty() throws Exception {
+        setupConnect();
+        EasyMock.expect(sqsClient.receiveMessage(EasyMock.isA(ReceiveMessageRequest.class)))
+                .andReturn(new ReceiveMessageResult());
+        EasyMock.replay(sqsClient, snsClient);
+
+        manager.connect();
+        assertEquals(0, manager.poll());
+    }
+
+}
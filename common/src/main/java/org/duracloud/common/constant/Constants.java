@@ -27,6 +27,19 @@ public class Constants {
      */
     public static final String CLIENT_VERSION_HEADER = "x-dura-client-version";
 
+    /**
+     * An http header sent by the client on a content write to indicate that
+     * the properties of any existing version should be replaced rather than
+     * merged with the properties provided. See ContentWriteMode.
+     */
+    public static final String REPLACE_PROPERTIES_HEADER = "x-dura-replace-properties";
+
+    /**
+     * The maximum number of content items which can be included in a single
+     * bulk request
+     */
+    public static final int MAX_BULK_ITEMS = 1000;
+
     /**
      * Content ID used to define a space snapshot
      */
@@ -0,0 +1,35 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.constant;
+
+/**
+ * This enum defines how a content write treats an existing version of the
+ * content item.
+ *
+ * @author agent
+ */
+public enum ContentWriteMode {
+
+    /**
+     * The properties of an existing version are carried over to the new
+     * version, with the new properties added on top. This requires a lookup
+     * of the existing properties before each write.
+     */
+    MERGE_PROPERTIES,
+
+    /**
+     * The new version has only the properties provided with the write. No
+     * lookup is made before the write.
+     */
+    REPLACE_PROPERTIES,
+
+    /**
+     * The write fails if a version of the content item already exists.
+     */
+    CREATE_ONLY
+}
@@ -0,0 +1,62 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.retry;
+
+import java.util.Random;
+
+/**
+ * Computes wait times between retries using decorrelated jitter: each wait
+ * is chosen at random between the base wait and three times the previous
+ * wait, limited by a maximum. Waits grow roughly exponentially, but callers
+ * which fail at the same moment do not retry at the same moment.
+ *
+ * @author agent
+ */
+public class DecorrelatedJitterBackoff {
+
+    private long baseWaitMs;
+    private long maxWaitMs;
+    private Random random;
+
+    /**
+     * @param baseWaitMs the shortest wait between retries
+     * @param maxWaitMs  the longest wait between retries
+     */
+    public DecorrelatedJitterBackoff(long baseWaitMs, long maxWaitMs) {
+        this(baseWaitMs, maxWaitMs, new Random());
+    }
+
+    public DecorrelatedJitterBackoff(long baseWaitMs, long maxWaitMs, Random random) {
+        if (baseWaitMs < 0 || maxWaitMs < baseWaitMs) {
+            throw new IllegalArgumentException(
+                "Wait times must satisfy 0 <= baseWaitMs <= maxWaitMs");
+        }
+        this.baseWaitMs = baseWaitMs;
+        this.maxWaitMs = maxWaitMs;
+        this.random = random;
+    }
+
+    /**
+     * @param previousWaitMs the previous wait, or 0 before the first retry
+     * @return the time to wait before the next retry
+     */
+    public long nextWait(long previousWaitMs) {
+        long upper = Math.max(baseWaitMs, previousWaitMs) * 3;
+        long wait = baseWaitMs + (long) (random.nextDouble() * (upper - baseWaitMs));
+        return Math.min(maxWaitMs, wait);
+    }
+
+    public long getBaseWaitMs() {
+        return baseWaitMs;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+}
@@ -18,4 +18,15 @@ public interface Retriable {
 
     Object retry() throws Exception;
 
+    /**
+     * Indicates whether a failure of the action is worth retrying. Failures
+     * which are not are thrown by the Retrier without further attempts.
+     *
+     * @param e the exception thrown by retry()
+     * @return true if the action should be attempted again, the default
+     */
+    default boolean isRetriable(Exception e) {
+        return true;
+    }
+
 }
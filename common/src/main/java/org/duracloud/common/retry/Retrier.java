@@ -33,6 +33,16 @@ import org.slf4j.LoggerFactory;
  *     }
  * });
  *
+ * To spread out retries from many callers and to stop retrying when a
+ * target is failing for most callers, use a DecorrelatedJitterBackoff and a
+ * shared RetryBudget:
+ *
+ * Retrier retrier = new Retrier(4, new DecorrelatedJitterBackoff(1000, 30000),
+ *                               retryBudget);
+ *
+ * Failures which will not succeed on another attempt are thrown right away
+ * when the Retriable overrides isRetriable(Exception) to return false.
+ *
  * @author Bill Branan
  * Date: 10/23/13
  */
@@ -57,6 +67,17 @@ public class Retrier {
      */
     private int waitBetweenRetriesMultiplier;
 
+    /**
+     * Computes jittered waits between retries, used in place of the fixed
+     * wait and multiplier when set
+     */
+    private DecorrelatedJitterBackoff backoff;
+
+    /**
+     * Limits retries across all callers of a target, may be null
+     */
+    private RetryBudget retryBudget;
+
     private static final Logger log = LoggerFactory.getLogger(Retrier.class);
 
     public Retrier() {
@@ -83,6 +104,19 @@ public class Retrier {
         this.waitBetweenRetriesMultiplier = waitBetweenRetriesMultiplier;
     }
 
+    /**
+     * @param maxRetries  the max number of retries
+     * @param backoff     computes the wait before each retry
+     * @param retryBudget limits retries across callers, may be null
+     */
+    public Retrier(int maxRetries,
+                   DecorrelatedJitterBackoff backoff,
+                   RetryBudget retryBudget) {
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+        this.retryBudget = retryBudget;
+    }
+
     private static final ExceptionHandler DEFAULT_EXCEPTION_HANDLER =
         new ExceptionHandler() {
             @Override
@@ -130,17 +164,39 @@ public class Retrier {
         }
 
         Exception lastException = null;
+        long waitMs = 0;
         for (int i = 0; i <= maxRetries; i++) {
             try {
-                return (T) retriable.retry();
+                T result = (T) retriable.retry();
+                if (null != retryBudget) {
+                    retryBudget.recordSuccess();
+                }
+                return result;
             } catch (Exception e) {
                 lastException = e;
                 exceptionHandler.handle(e);
-                if (i <= maxRetries) {
-                    WaitUtil.waitMs((long) Math.pow(i, waitBetweenRetriesMultiplier) * waitBetweenRetries);
+                if (!retriable.isRetriable(e)) {
+                    break;
+                }
+                if (null == backoff) {
+                    if (i <= maxRetries) {
+                        sleep((long) Math.pow(i, waitBetweenRetriesMultiplier) * waitBetweenRetries);
+                    }
+                } else if (i < maxRetries) {
+                    if (null != retryBudget && !retryBudget.tryAcquireRetry()) {
+                        log.warn("Retry budget exhausted, not retrying after error: {}",
+                                 e.getMessage());
+                        break;
+                    }
+                    waitMs = backoff.nextWait(waitMs);
+                    sleep(waitMs);
                 }
             }
         }
         throw lastException;
     }
+
+    protected void sleep(long waitMs) {
+        WaitUtil.waitMs(waitMs);
+    }
 }
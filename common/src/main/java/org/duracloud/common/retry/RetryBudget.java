@@ -0,0 +1,112 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of retries made against a single target, so that
+ * retries stop once a large share of recent calls are failing. This keeps
+ * callers from adding load to a service which is already throttling.
+ *
+ * The budget is a token bucket: each retry withdraws one token and each
+ * successful call deposits a fraction of a token, up to the capacity. When
+ * calls fail faster than the success credit refills the bucket, the budget
+ * runs out and further failures are not retried until calls succeed again.
+ * A budget is meant to be shared by all callers of the same target.
+ *
+ * @author agent
+ */
+public class RetryBudget {
+
+    public static final int DEFAULT_CAPACITY = 100;
+    public static final double DEFAULT_SUCCESS_CREDIT = 0.1;
+
+    // Tokens are held in thousandths so that they can be updated atomically
+    private static final long UNITS_PER_TOKEN = 1000;
+
+    private final long capacityUnits;
+    private final long successCreditUnits;
+    private final AtomicLong tokenUnits;
+
+    private final AtomicLong retriesPermitted = new AtomicLong(0);
+    private final AtomicLong retriesDenied = new AtomicLong(0);
+
+    public RetryBudget() {
+        this(DEFAULT_CAPACITY, DEFAULT_SUCCESS_CREDIT);
+    }
+
+    /**
+     * @param capacity      the most retries which can be made in a burst
+     * @param successCredit the portion of a retry earned by each successful
+     *                      call; 0.1 allows roughly one retry per ten
+     *                      successful calls once the initial capacity is used
+     */
+    public RetryBudget(int capacity, double successCredit) {
+        this.capacityUnits = capacity * UNITS_PER_TOKEN;
+        this.successCreditUnits = Math.round(successCredit * UNITS_PER_TOKEN);
+        this.tokenUnits = new AtomicLong(capacityUnits);
+    }
+
+    /**
+     * Withdraws a retry from the budget.
+     *
+     * @return true if the retry may be made, false if the budget is exhausted
+     */
+    public boolean tryAcquireRetry() {
+        long current = tokenUnits.get();
+        while (current >= UNITS_PER_TOKEN) {
+            if (tokenUnits.compareAndSet(current, current - UNITS_PER_TOKEN)) {
+                retriesPermitted.incrementAndGet();
+                return true;
+            }
+            current = tokenUnits.get();
+        }
+        retriesDenied.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Records a successful call, which adds to the budget. When the budget is
+     * full this only reads the current value, so it is cheap to call on every
+     * successful call.
+     */
+    public void recordSuccess() {
+        long current = tokenUnits.get();
+        while (current < capacityUnits) {
+            long updated = Math.min(capacityUnits, current + successCreditUnits);
+            if (tokenUnits.compareAndSet(current, updated)) {
+                return;
+            }
+            current = tokenUnits.get();
+        }
+    }
+
+    /**
+     * @return the number of retries currently available
+     */
+    public int getAvailableRetries() {
+        return (int) (tokenUnits.get() / UNITS_PER_TOKEN);
+    }
+
+    /**
+     * @return the number of retries which have been permitted
+     */
+    public long getRetriesPermitted() {
+        return retriesPermitted.get();
+    }
+
+    /**
+     * @return the number of retries which were not made because the budget
+     * was exhausted
+     */
+    public long getRetriesDenied() {
+        return retriesDenied.get();
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.util.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of calls to a single operation. Recording does not
+ * lock, so concurrent callers do not contend with one another beyond the
+ * striped counters of LongAdder.
+ *
+ * Latencies are counted in a fixed set of buckets with exponentially
+ * increasing upper bounds: bucket 0 holds calls under 1 microsecond, and
+ * bucket i holds calls under 2^i microseconds. The final bucket holds all
+ * calls which exceed the largest bound.
+ *
+ * @author agent
+ */
+public class LatencyRecorder {
+
+    public static final int BUCKET_COUNT = 28;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a single call.
+     *
+     * @param elapsedNanos time taken by the call, as measured by System.nanoTime()
+     * @param success      false if the call ended in an error
+     */
+    public void record(long elapsedNanos, boolean success) {
+        if (elapsedNanos < 0) {
+            elapsedNanos = 0;
+        }
+        count.increment();
+        if (!success) {
+            errors.increment();
+        }
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        buckets[getBucket(elapsedNanos)].increment();
+    }
+
+    /**
+     * @return the current values of this recorder. Values are read without
+     * locking, so a snapshot taken during concurrent recording may be off by
+     * the calls in flight.
+     */
+    public LatencySnapshot getSnapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = buckets[i].sum();
+        }
+        return new LatencySnapshot(name,
+                                   count.sum(),
+                                   errors.sum(),
+                                   totalNanos.sum(),
+                                   maxNanos.get(),
+                                   bucketCounts);
+    }
+
+    /**
+     * Clears all recorded values
+     */
+    public void reset() {
+        count.reset();
+        errors.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    protected static int getBucket(long elapsedNanos) {
+        long micros = elapsedNanos / 1000;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * @return the upper bound (exclusive) in nanoseconds of the given bucket,
+     * or Long.MAX_VALUE for the final bucket
+     */
+    public static long getBucketUpperBoundNanos(int bucket) {
+        if (bucket >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) * 1000;
+    }
+
+}
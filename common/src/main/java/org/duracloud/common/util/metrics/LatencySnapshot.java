@@ -0,0 +1,108 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.util.metrics;
+
+/**
+ * A point-in-time copy of the values captured by a LatencyRecorder
+ *
+ * @author agent
+ */
+public class LatencySnapshot {
+
+    private String name;
+    private long count;
+    private long errors;
+    private long totalNanos;
+    private long maxNanos;
+    private long[] buckets;
+
+    public LatencySnapshot(String name,
+                           long count,
+                           long errors,
+                           long totalNanos,
+                           long maxNanos,
+                           long[] buckets) {
+        this.name = name;
+        this.count = count;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    public long getP95Nanos() {
+        return getPercentileNanos(95);
+    }
+
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    /**
+     * @return count of calls per histogram bucket, see LatencyRecorder
+     */
+    public long[] getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Estimates a percentile latency as the upper bound of the histogram
+     * bucket in which it falls, capped at the maximum recorded latency.
+     *
+     * @param percentile value between 0 and 100
+     * @return estimated latency in nanoseconds, 0 if nothing has been recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * (percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && buckets[i] > 0) {
+                return Math.min(LatencyRecorder.getBucketUpperBoundNanos(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.util.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds a LatencyRecorder for each of a set of named operations.
+ *
+ * @author agent
+ */
+public class OperationMetrics {
+
+    private final ConcurrentMap<String, LatencyRecorder> recorders =
+        new ConcurrentHashMap<>();
+
+    /**
+     * @param operation name of the operation
+     * @return the recorder for the operation, created on first use
+     */
+    public LatencyRecorder getRecorder(String operation) {
+        LatencyRecorder recorder = recorders.get(operation);
+        if (null == recorder) {
+            recorder = recorders.computeIfAbsent(operation, LatencyRecorder::new);
+        }
+        return recorder;
+    }
+
+    /**
+     * Records a call to the named operation which began at startNanos
+     *
+     * @param operation  name of the operation
+     * @param startNanos value of System.nanoTime() when the call began
+     * @param success    false if the call ended in an error
+     */
+    public void record(String operation, long startNanos, boolean success) {
+        getRecorder(operation).record(System.nanoTime() - startNanos, success);
+    }
+
+    /**
+     * @return snapshots of all operations which have been recorded, by name
+     */
+    public Map<String, LatencySnapshot> getSnapshot() {
+        Map<String, LatencySnapshot> snapshot = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders.values()) {
+            snapshot.put(recorder.getName(), recorder.getSnapshot());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clears the values of all operations
+     */
+    public void reset() {
+        for (LatencyRecorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+    }
+
+}
@@ -333,6 +333,11 @@ public class RestHttpHelper {
         return httpResponse;
     }
 
+    /**
+     * Content compression is left enabled for all requests with a response
+     * body, so requests include an Accept-Encoding header allowing gzip and
+     * compressed responses are decompressed transparently as they are read.
+     */
     private CloseableHttpClient buildClient(HttpClientBuilder builder,
                                             Method method) {
         if (method.equals(Method.HEAD)) {
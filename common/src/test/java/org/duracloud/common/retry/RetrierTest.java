@@ -9,6 +9,11 @@ package org.duracloud.common.retry;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -96,6 +101,104 @@ public class RetrierTest {
         }
     }
 
+    @Test
+    public void testRetrierJitteredWaits() throws Exception {
+        final RetryTester retryTester = new RetryTester(4);
+        final List<Long> waits = new ArrayList<>();
+
+        DecorrelatedJitterBackoff backoff =
+            new DecorrelatedJitterBackoff(100, 1000, new Random(42));
+        Retrier retrier = new Retrier(4, backoff, null) {
+            @Override
+            protected void sleep(long waitMs) {
+                waits.add(waitMs);
+            }
+        };
+
+        int attempts = retrier.execute(() -> retryTester.doWork());
+        assertEquals(5, attempts);
+
+        // One wait per retry, each between the base and three times the prior wait
+        assertEquals(4, waits.size());
+        long previous = 100;
+        for (long wait : waits) {
+            assertTrue(wait >= 100);
+            assertTrue(wait <= Math.min(1000, previous * 3));
+            previous = wait;
+        }
+
+        // The same random source produces the same spacing
+        Random random = new Random(42);
+        long expected = 0;
+        for (long wait : waits) {
+            long upper = Math.max(100, expected) * 3;
+            expected = Math.min(1000, 100 + (long) (random.nextDouble() * (upper - 100)));
+            assertEquals(expected, wait);
+        }
+    }
+
+    @Test
+    public void testRetrierBudgetExhausted() throws Exception {
+        final RetryTester retryTester = new RetryTester(10);
+        final List<Long> waits = new ArrayList<>();
+
+        RetryBudget budget = new RetryBudget(2, 0.5);
+        Retrier retrier = new Retrier(5, new DecorrelatedJitterBackoff(10, 10), budget) {
+            @Override
+            protected void sleep(long waitMs) {
+                waits.add(waitMs);
+            }
+        };
+
+        try {
+            retrier.execute(() -> retryTester.doWork());
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // Two retries allowed by the budget, then the third failure is thrown
+            assertEquals("3", e.getMessage());
+        }
+        assertEquals(2, waits.size());
+        assertEquals(2, budget.getRetriesPermitted());
+        assertEquals(1, budget.getRetriesDenied());
+
+        // Successful calls refill the budget
+        retrier.execute(() -> "success");
+        retrier.execute(() -> "success");
+        assertEquals(1, budget.getAvailableRetries());
+    }
+
+    @Test
+    public void testRetrierNotRetriable() throws Exception {
+        final RetryTester retryTester = new RetryTester(10);
+        final List<Long> waits = new ArrayList<>();
+
+        Retrier retrier = new Retrier() {
+            @Override
+            protected void sleep(long waitMs) {
+                waits.add(waitMs);
+            }
+        };
+
+        try {
+            retrier.execute(new Retriable() {
+                @Override
+                public Integer retry() throws Exception {
+                    return retryTester.doWork();
+                }
+
+                @Override
+                public boolean isRetriable(Exception e) {
+                    return false;
+                }
+            });
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            assertEquals("1", e.getMessage());
+        }
+        assertEquals(1, retryTester.getAttempts());
+        assertEquals(0, waits.size());
+    }
+
     private class RetryTester {
         private int failuresBeforeSuccess;
         private int attempts;
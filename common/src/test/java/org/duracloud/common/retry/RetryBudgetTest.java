@@ -0,0 +1,53 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class RetryBudgetTest {
+
+    @Test
+    public void testBudget() {
+        RetryBudget budget = new RetryBudget(3, 0.25);
+        assertEquals(3, budget.getAvailableRetries());
+
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+        assertEquals(3, budget.getRetriesPermitted());
+        assertEquals(1, budget.getRetriesDenied());
+
+        // Four successes earn one retry
+        for (int i = 0; i < 3; i++) {
+            budget.recordSuccess();
+        }
+        assertFalse(budget.tryAcquireRetry());
+        budget.recordSuccess();
+        assertTrue(budget.tryAcquireRetry());
+        assertEquals(4, budget.getRetriesPermitted());
+        assertEquals(2, budget.getRetriesDenied());
+    }
+
+    @Test
+    public void testCapacity() {
+        RetryBudget budget = new RetryBudget(2, 1);
+        for (int i = 0; i < 10; i++) {
+            budget.recordSuccess();
+        }
+        assertEquals(2, budget.getAvailableRetries());
+    }
+
+}
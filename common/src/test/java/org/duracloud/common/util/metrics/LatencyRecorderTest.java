@@ -0,0 +1,113 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.common.util.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LatencyRecorderTest {
+
+    @Test
+    public void testGetBucket() {
+        assertEquals(0, LatencyRecorder.getBucket(0));
+        assertEquals(0, LatencyRecorder.getBucket(999));
+        assertEquals(1, LatencyRecorder.getBucket(1000));
+        assertEquals(1, LatencyRecorder.getBucket(1999));
+        assertEquals(2, LatencyRecorder.getBucket(2000));
+        assertEquals(11, LatencyRecorder.getBucket(1024 * 1000));
+        assertEquals(LatencyRecorder.BUCKET_COUNT - 1,
+                     LatencyRecorder.getBucket(Long.MAX_VALUE));
+
+        for (int i = 0; i < LatencyRecorder.BUCKET_COUNT - 1; i++) {
+            long bound = LatencyRecorder.getBucketUpperBoundNanos(i);
+            assertEquals(i, LatencyRecorder.getBucket(bound - 1));
+            assertEquals(i + 1, LatencyRecorder.getBucket(bound));
+        }
+    }
+
+    @Test
+    public void testRecord() {
+        LatencyRecorder recorder = new LatencyRecorder("op");
+        for (int i = 1; i <= 100; i++) {
+            // 1ms to 100ms
+            recorder.record(i * 1000000L, i % 10 != 0);
+        }
+
+        LatencySnapshot snapshot = recorder.getSnapshot();
+        assertEquals("op", snapshot.getName());
+        assertEquals(100, snapshot.getCount());
+        assertEquals(10, snapshot.getErrors());
+        assertEquals(100000000L, snapshot.getMaxNanos());
+        assertEquals(50500000L, snapshot.getMeanNanos());
+
+        // Percentiles are estimated to within a factor of two
+        assertPercentile(50000000L, snapshot.getP50Nanos());
+        assertPercentile(95000000L, snapshot.getP95Nanos());
+        assertPercentile(99000000L, snapshot.getP99Nanos());
+        assertEquals(100000000L, snapshot.getPercentileNanos(100));
+
+        recorder.reset();
+        snapshot = recorder.getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getP50Nanos());
+        assertEquals(0, snapshot.getMeanNanos());
+    }
+
+    private void assertPercentile(long expected, long actual) {
+        assertTrue("Expected about " + expected + " but was " + actual,
+                   actual >= expected && actual < expected * 2);
+    }
+
+    @Test
+    public void testConcurrentRecord() throws Exception {
+        final OperationMetrics metrics = new OperationMetrics();
+        final int threadCount = 8;
+        final int callsPerThread = 10000;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < callsPerThread; i++) {
+                    metrics.getRecorder("a").record(i, true);
+                    metrics.getRecorder("b").record(i, false);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<String, LatencySnapshot> snapshot = metrics.getSnapshot();
+        assertEquals(2, snapshot.size());
+        long expected = threadCount * callsPerThread;
+        assertEquals(expected, snapshot.get("a").getCount());
+        assertEquals(0, snapshot.get("a").getErrors());
+        assertEquals(expected, snapshot.get("b").getCount());
+        assertEquals(expected, snapshot.get("b").getErrors());
+        assertEquals(callsPerThread - 1, snapshot.get("a").getMaxNanos());
+
+        long bucketTotal = 0;
+        for (long bucket : snapshot.get("a").getBuckets()) {
+            bucketTotal += bucket;
+        }
+        assertEquals(expected, bucketTotal);
+    }
+
+}
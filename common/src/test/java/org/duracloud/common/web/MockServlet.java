@@ -8,6 +8,9 @@
 package org.duracloud.common.web;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -16,6 +19,9 @@ import javax.servlet.http.HttpServletResponse;
 public class MockServlet
     extends HttpServlet {
 
+    public static final String COMPRESSED_PATH = "/compressed";
+    public static final String COMPRESSED_BODY = "<space><item>content-id</item></space>";
+
     private static final long serialVersionUID = 4931183133771322376L;
 
     public MockServlet() {
@@ -25,7 +31,11 @@ public class MockServlet
     protected void doGet(HttpServletRequest request,
                          HttpServletResponse response) throws ServletException,
         IOException {
-        processRequest(request, response);
+        if (request.getPathInfo().endsWith(COMPRESSED_PATH)) {
+            processCompressedRequest(request, response);
+        } else {
+            processRequest(request, response);
+        }
     }
 
     @Override
@@ -52,4 +62,21 @@ public class MockServlet
         response.setStatus(HttpServletResponse.SC_OK);
     }
 
+    private void processCompressedRequest(HttpServletRequest request,
+                                          HttpServletResponse response)
+        throws IOException {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (null == acceptEncoding || !acceptEncoding.contains("gzip")) {
+            response.setStatus(HttpServletResponse.SC_NOT_ACCEPTABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader("Content-Encoding", "gzip");
+        try (OutputStream gzipStream =
+                 new GZIPOutputStream(response.getOutputStream())) {
+            gzipStream.write(COMPRESSED_BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
 }
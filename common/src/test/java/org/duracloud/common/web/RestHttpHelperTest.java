@@ -91,6 +91,14 @@ public class RestHttpHelperTest {
         verifyResponse(response);
     }
 
+    @Test
+    public void testGetCompressed() throws Exception {
+        HttpResponse response =
+            helper.get(getUrl() + MockServlet.COMPRESSED_PATH);
+        verifyResponse(response);
+        assertEquals(MockServlet.COMPRESSED_BODY, response.getResponseBody());
+    }
+
     @Test
     public void testGetBasicAuth() throws Exception {
         Credential credential = new Credential("joeUser", "joesPassword");
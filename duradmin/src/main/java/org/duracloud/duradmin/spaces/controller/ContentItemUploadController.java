@@ -18,6 +18,7 @@ import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
 import org.duracloud.client.ContentStore;
 import org.duracloud.client.ContentStoreManager;
 import org.duracloud.duradmin.domain.ContentItem;
@@ -55,76 +56,74 @@ public class ContentItemUploadController {
     public ModelAndView handleRequest(HttpServletRequest request,
                                       HttpServletResponse response)
         throws Exception {
-        try {
-            log.debug("handling request...");
-
-            ServletFileUpload upload = new ServletFileUpload();
-            FileItemIterator iter = upload.getItemIterator(request);
-            String spaceId = null;
-            String storeId = null;
-            String contentId = null;
-            List<ContentItem> results = new ArrayList<ContentItem>();
-
-            while (iter.hasNext()) {
-                FileItemStream item = iter.next();
-                if (item.isFormField()) {
-                    String value = Streams.asString(item.openStream(), "UTF-8");
-                    if (item.getFieldName().equals("spaceId")) {
-                        log.debug("setting spaceId: {}", value);
-                        spaceId = value;
-                    } else if (item.getFieldName().equals("storeId")) {
-                        storeId = value;
-                    } else if (item.getFieldName().equals("contentId")) {
-                        contentId = value;
-                    }
-                } else {
-                    log.debug("setting fileStream: {}", item);
-
-                    if (StringUtils.isBlank(spaceId)) {
-                        throw new IllegalArgumentException("space id required.");
-                    }
-
-                    ContentItem ci = new ContentItem();
-                    if (StringUtils.isBlank(contentId)) {
-                        contentId = item.getName();
-                    }
-
-                    ci.setContentId(contentId);
-                    ci.setSpaceId(spaceId);
-                    ci.setStoreId(storeId);
-                    ci.setContentMimetype(item.getContentType());
-                    ContentStore contentStore =
-                        contentStoreManager.getContentStore(ci.getStoreId());
-                    ContentItemUploadTask task =
-                        new ContentItemUploadTask(ci,
-                                                  contentStore,
-                                                  item.openStream(),
-                                                  request.getUserPrincipal()
-                                                         .getName());
-
-                    task.execute();
-                    ContentItem result = new ContentItem();
-                    Authentication auth =
-                        (Authentication) SecurityContextHolder.getContext()
-                                                              .getAuthentication();
-                    SpaceUtil.populateContentItem(ContentItemController.getBaseURL(request),
-                                                  result,
-                                                  ci.getSpaceId(),
-                                                  ci.getContentId(),
-                                                  contentStore,
-                                                  auth);
-                    results.add(result);
-                    contentId = null;
+        log.debug("handling request...");
+
+        ServletFileUpload upload = new ServletFileUpload();
+        FileItemIterator iter = upload.getItemIterator(request);
+        String spaceId = null;
+        String storeId = null;
+        String contentId = null;
+        long contentSize = -1;
+        List<ContentItem> results = new ArrayList<ContentItem>();
+
+        while (iter.hasNext()) {
+            FileItemStream item = iter.next();
+            if (item.isFormField()) {
+                String value = Streams.asString(item.openStream(), "UTF-8");
+                if (item.getFieldName().equals("spaceId")) {
+                    log.debug("setting spaceId: {}", value);
+                    spaceId = value;
+                } else if (item.getFieldName().equals("storeId")) {
+                    storeId = value;
+                } else if (item.getFieldName().equals("contentId")) {
+                    contentId = value;
+                } else if (item.getFieldName().equals("contentSize")) {
+                    contentSize = NumberUtils.toLong(value, -1);
                 }
-            }
+            } else {
+                log.debug("setting fileStream: {}", item);
 
-            return new ModelAndView("javascriptJsonView", "results", results);
+                if (StringUtils.isBlank(spaceId)) {
+                    throw new IllegalArgumentException("space id required.");
+                }
 
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            throw ex;
+                ContentItem ci = new ContentItem();
+                if (StringUtils.isBlank(contentId)) {
+                    contentId = item.getName();
+                }
+
+                ci.setContentId(contentId);
+                ci.setSpaceId(spaceId);
+                ci.setStoreId(storeId);
+                ci.setContentMimetype(item.getContentType());
+                ContentStore contentStore =
+                    contentStoreManager.getContentStore(ci.getStoreId());
+                ContentItemUploadTask task =
+                    new ContentItemUploadTask(ci,
+                                              contentStore,
+                                              item.openStream(),
+                                              contentSize,
+                                              request.getUserPrincipal()
+                                                     .getName());
+
+                task.execute();
+                ContentItem result = new ContentItem();
+                Authentication auth =
+                    (Authentication) SecurityContextHolder.getContext()
+                                                          .getAuthentication();
+                SpaceUtil.populateContentItem(ContentItemController.getBaseURL(request),
+                                              result,
+                                              ci.getSpaceId(),
+                                              ci.getContentId(),
+                                              contentStore,
+                                              auth);
+                results.add(result);
+                contentId = null;
+                contentSize = -1;
+            }
         }
 
+        return new ModelAndView("javascriptJsonView", "results", results);
     }
 
 }
@@ -17,9 +17,12 @@ import java.util.Map;
 import org.apache.commons.fileupload.ProgressListener;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.ProxyInputStream;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.stream.ChecksumInputStream;
 import org.duracloud.common.util.IOUtil;
 import org.duracloud.duradmin.domain.ContentItem;
+import org.duracloud.storage.error.ChecksumMismatchException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,11 +45,27 @@ public class ContentItemUploadTask implements Comparable, ProgressListener {
                                  ContentStore contentStore,
                                  InputStream stream,
                                  String username) throws Exception {
+        this(contentItem, contentStore, stream, -1, username);
+    }
+
+    /**
+     * @param contentSize size of the uploaded file in bytes, or -1 if not known.
+     *                    When the size is known the upload is streamed directly
+     *                    to DuraStore, otherwise it is first written to a
+     *                    temporary file in order to determine its size. As the
+     *                    size is given by the client, a streamed upload fails
+     *                    if the file does not end after exactly that many bytes.
+     */
+    public ContentItemUploadTask(ContentItem contentItem,
+                                 ContentStore contentStore,
+                                 InputStream stream,
+                                 long contentSize,
+                                 String username) throws Exception {
         this.stream = stream;
         this.contentItem = contentItem;
         this.contentStore = contentStore;
         this.username = username;
-        this.totalBytes = -1;
+        this.totalBytes = contentSize;
         log.info("new task created for {} by {}", contentItem, username);
     }
 
@@ -57,23 +76,52 @@ public class ContentItemUploadTask implements Comparable, ProgressListener {
             log.info("executing file upload: {}", contentItem);
             startDate = new Date();
 
-            tmpFile = IOUtil.writeStreamToFile(this.stream);
-            tmpStream = IOUtil.getFileStream(tmpFile);
-
-            contentStore.addContent(contentItem.getSpaceId(),
-                                    contentItem.getContentId(),
-                                    tmpStream,
-                                    tmpFile.length(),
-                                    contentItem.getContentMimetype(),
-                                    null,
-                                    null);
+            long contentSize = this.totalBytes;
+            InputStream content = this.stream;
+            if (contentSize < 0) {
+                tmpFile = IOUtil.writeStreamToFile(this.stream);
+                tmpStream = IOUtil.getFileStream(tmpFile);
+                contentSize = tmpFile.length();
+                content = tmpStream;
+            }
+
+            // Compute the checksum and track progress as the content is read
+            ProgressInputStream progressStream =
+                new ProgressInputStream(content, contentSize);
+            ChecksumInputStream checksumStream =
+                new ChecksumInputStream(progressStream, null);
+
+            String checksum =
+                contentStore.addContent(contentItem.getSpaceId(),
+                                        contentItem.getContentId(),
+                                        checksumStream,
+                                        contentSize,
+                                        contentItem.getContentMimetype(),
+                                        null,
+                                        null);
+
+            // DuraStore reads only contentSize bytes, so a wrong size would
+            // otherwise store a truncated copy without error
+            if (progressStream.getCount() != contentSize || content.read() != -1) {
+                removeContent();
+                throw new IllegalArgumentException(
+                    "Size of uploaded content " + contentItem.getContentId() +
+                    " does not match the given size of " + contentSize +
+                    " bytes");
+            }
+
+            String computedChecksum = checksumStream.getMD5();
+            if (null != checksum && !checksum.equals(computedChecksum)) {
+                throw new ChecksumMismatchException(
+                    "Checksum of uploaded content " + contentItem.getContentId() +
+                    " (" + computedChecksum + ") does not match the checksum" +
+                    " computed by DuraStore (" + checksum + ")", false);
+            }
             log.info("file upload completed successfully: {}", contentItem);
 
         } catch (Exception ex) {
             log.error("failed to upload content item: {}, bytesRead={}, totalBytes={},  message: {}",
-                      new Object[] {contentItem, this.bytesRead, this.totalBytes, ex.getMessage()});
-
-            ex.printStackTrace();
+                      contentItem, this.bytesRead, this.totalBytes, ex.getMessage(), ex);
             throw ex;
 
         } finally {
@@ -82,6 +130,19 @@ public class ContentItemUploadTask implements Comparable, ProgressListener {
         }
     }
 
+    /*
+     * Removes content which was stored incompletely
+     */
+    private void removeContent() {
+        try {
+            contentStore.deleteContent(contentItem.getSpaceId(),
+                                       contentItem.getContentId());
+        } catch (Exception e) {
+            log.warn("Unable to remove incomplete upload of {} due to: {}",
+                     contentItem, e.getMessage());
+        }
+    }
+
     public void update(long pBytesRead, long pContentLength, int pItems) {
         bytesRead = pBytesRead;
         totalBytes = pContentLength;
@@ -90,6 +151,31 @@ public class ContentItemUploadTask implements Comparable, ProgressListener {
                   totalBytes);
     }
 
+    /*
+     * Reports the number of bytes read from the upload stream as progress
+     */
+    private class ProgressInputStream extends ProxyInputStream {
+        private long count = 0;
+        private long length;
+
+        public ProgressInputStream(InputStream stream, long length) {
+            super(stream);
+            this.length = length;
+        }
+
+        @Override
+        protected void afterRead(int n) {
+            if (n > 0) {
+                count += n;
+                update(count, length, 1);
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+
     public String getId() {
         return this.contentItem.getStoreId() + "/" +
                this.contentItem.getSpaceId() + "/" +
@@ -9,9 +9,7 @@
 package org.duracloud.duradmin.spaces.controller;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
@@ -19,11 +17,8 @@ import javax.validation.Valid;
 import org.apache.http.HttpStatus;
 import org.duracloud.client.ContentStore;
 import org.duracloud.client.ContentStoreManager;
-import org.duracloud.client.StoreCaller;
 import org.duracloud.common.model.AclType;
-import org.duracloud.common.util.ExtendedIteratorCounterThread;
 import org.duracloud.duradmin.domain.Space;
-import org.duracloud.duradmin.domain.SpaceProperties;
 import org.duracloud.duradmin.util.SpaceUtil;
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.mill.db.repo.JpaBitIntegrityReportRepo;
@@ -81,7 +76,7 @@ public class SpaceController {
             ContentStore contentStoreWithoutRetries =
                 contentStoreManager.getContentStore(space.getStoreId(), 0);
             populateSpace(space, cloudSpace, contentStoreWithoutRetries);
-            populateSpaceCount(space, request);
+            populateSpaceCount(space);
             if (space.isMillDbEnabled()) {
                 populateBitIntegrityResults(space, contentStore);
             }
@@ -122,71 +117,22 @@ public class SpaceController {
         space.setPrimaryStorageProvider(primary);
     }
 
-    private void populateSpaceCount(Space space, HttpServletRequest request) throws Exception {
-        //flush space count cache
-        if (request.getParameterMap().containsKey("recount")) {
-            expireItemCount(request, space);
-        }
-
+    /*
+     * DuraStore keeps a running count of the items in each space, which is
+     * provided as the space count property and is brought up to date when
+     * the space is retrieved. Until the initial count of a space is complete,
+     * or while the count is approximate, the property ends in '+', in which
+     * case the item count is left unset so the client will poll.
+     */
+    private void populateSpaceCount(Space space) {
         String countStr = space.getProperties().getCount();
-        if (countStr.endsWith("+")) {
-            setItemCount(space, request);
-        } else {
-            space.setItemCount(Long.valueOf(space.getProperties().getCount()));
-        }
-    }
-
-    private void setItemCount(final Space space, HttpServletRequest request) throws ContentStoreException {
-        String key = formatItemCountCacheKey(space);
-        final ServletContext appContext = request.getSession().getServletContext();
-        ItemCounter listener = (ItemCounter) appContext.getAttribute(key);
-        space.setItemCount(new Long(-1));
-        if (listener != null) {
-            if (listener.isCountComplete()) {
-                space.setItemCount(listener.getCount());
-            } else {
-                SpaceProperties properties = space.getProperties();
-                Long interCount = listener.getIntermediaryCount();
-                if (interCount == null) {
-                    interCount = 0l;
-                }
-                properties.setCount(String.valueOf(interCount) + "+");
-                space.setProperties(properties);
-            }
+        if (countStr == null || countStr.endsWith("+")) {
+            space.setItemCount(Long.valueOf(-1));
         } else {
-            final ItemCounter itemCounterListener = new ItemCounter();
-            appContext.setAttribute(key, itemCounterListener);
-            final ContentStore contentStore = contentStoreManager.getContentStore(space.getStoreId());
-            final StoreCaller<Iterator<String>> caller = new StoreCaller<Iterator<String>>() {
-                protected Iterator<String> doCall() throws ContentStoreException {
-                    return contentStore.getSpaceContents(space.getSpaceId());
-                }
-
-                public String getLogMessage() {
-                    return "Error calling contentStore.getSpaceContents() for: " +
-                           space.getSpaceId();
-                }
-            };
-
-            new Thread(new Runnable() {
-                public void run() {
-                    ExtendedIteratorCounterThread runnable =
-                        new ExtendedIteratorCounterThread(caller.call(), itemCounterListener);
-                    runnable.run();
-                }
-            }).start();
+            space.setItemCount(Long.valueOf(countStr));
         }
     }
 
-    private String formatItemCountCacheKey(Space space) {
-        return space.getStoreId() + "/" + space.getSpaceId() + "/itemCountListener";
-    }
-
-    private void expireItemCount(HttpServletRequest request, Space space) {
-        String key = formatItemCountCacheKey(space);
-        request.getSession().getServletContext().removeAttribute(key);
-    }
-
     private Authentication getAuthentication() {
         return (Authentication) SecurityContextHolder.getContext().getAuthentication();
     }
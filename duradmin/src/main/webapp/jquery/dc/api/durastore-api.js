@@ -40,15 +40,9 @@ var dc;
 			prefix = options.prefix;
 		}
 
-		var recount='';
-        if(options.recount){
-            recount = '&recount=true';
-            
-        }
-		
 		return dc.ajax({
 			url: "/duradmin/spaces/space", 
-			data: "storeId="+storeProviderId+"&spaceId="+encodeURIComponent(spaceId)+"&prefix="+encodeURIComponent(prefix)+"&marker="+encodeURIComponent(marker)+recount,
+			data: "storeId="+storeProviderId+"&spaceId="+encodeURIComponent(spaceId)+"&prefix="+encodeURIComponent(prefix)+"&marker="+encodeURIComponent(marker),
 			cache: false,
 			async: options.async != undefined ? options.async : true,
 			context: document.body,
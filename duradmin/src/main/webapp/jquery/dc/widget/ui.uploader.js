@@ -188,6 +188,8 @@ $.widget("ui.uploader", {
 
                    $.each(files, function(j, file){
                        if(file.name == initialVal){
+                           //size allows the upload to be streamed straight to storage
+                           formData.append('contentSize', file.size);
                            formData.append('file', file);
                        }
                    });
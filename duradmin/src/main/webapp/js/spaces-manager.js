@@ -3070,16 +3070,7 @@ $(function() {
   $.widget("ui.spacedetail", $.extend({}, $.ui.basedetailpane.prototype, {
     _spaceId : null,
     _init : function() {
-      var that = this;
       $.ui.basedetailpane.prototype._init.call(this);
-      $("#recount").die().live("click", function() {
-        $(this).parent().empty().append("Recounting " + that._createThrobberHtml());
-        that._pollItemCount({
-          storeId : that._storeId,
-          spaceId : that._spaceId,
-        }, true);
-
-      });
     },
 
     _createThrobberHtml : function() {
@@ -3091,7 +3082,7 @@ $(function() {
       if (space.itemCount == null || space.itemCount == undefined || parseInt(space.itemCount) < 0) {
         itemCount = space.properties.count + ": performing exact count " + this._createThrobberHtml();
       } else {
-        itemCount = space.itemCount + " <button id='recount'><i class='pre refresh'></i>Recount</button>";
+        itemCount = space.itemCount;
       }
       ;
 
@@ -3140,7 +3131,7 @@ $(function() {
       return mimetypePanel;
     },
 
-    _pollItemCount : function(space, recount) {
+    _pollItemCount : function(space) {
       var that = this;
 
       dc.store.GetSpace(space.storeId, space.spaceId, {
@@ -3150,15 +3141,12 @@ $(function() {
               that._extractSpaceProperties(s);
               if (s.itemCount == null || parseInt(s.itemCount) < 0) {
                 setTimeout(function() {
-                  recount = false;
                   that._pollItemCount(s);
                 }, 5000);
               }
             }
           }
         },
-      }, {
-        recount : recount
       });
     },
 
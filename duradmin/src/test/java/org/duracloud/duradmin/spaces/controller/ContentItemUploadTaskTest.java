@@ -7,14 +7,20 @@
  */
 package org.duracloud.duradmin.spaces.controller;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
 import java.io.InputStream;
 import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.util.ChecksumUtil;
 import org.duracloud.duradmin.domain.ContentItem;
 import org.duracloud.error.ContentStoreException;
+import org.duracloud.storage.error.ChecksumMismatchException;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,24 +47,32 @@ public class ContentItemUploadTaskTest {
         contentItem.setContentId("content-id");
         contentItem.setContentMimetype("text/plain");
 
-        contentStore = createMockContentStore();
+        contentStore = EasyMock.createMock("Store", ContentStore.class);
         stream = IOUtils.toInputStream(text);
         username = "user-name";
     }
 
-    private ContentStore createMockContentStore() throws ContentStoreException {
-        ContentStore store = EasyMock.createMock("Store", ContentStore.class);
-        EasyMock.expect(store.addContent(EasyMock.eq(contentItem.getSpaceId()),
-                                         EasyMock.eq(contentItem.getContentId()),
-                                         EasyMock.<InputStream>anyObject(),
-                                         EasyMock.leq((long) text.length()),
-                                         EasyMock.eq(contentItem.getContentMimetype()),
-                                         EasyMock.<String>isNull(),
-                                         EasyMock.<Map<String, String>>isNull()))
-                .andReturn(null);
-
-        EasyMock.replay(store);
-        return store;
+    private void setUpAddContent(long expectedSize, final String checksum)
+        throws ContentStoreException {
+        EasyMock.expect(contentStore.addContent(EasyMock.eq(contentItem.getSpaceId()),
+                                                EasyMock.eq(contentItem.getContentId()),
+                                                EasyMock.<InputStream>anyObject(),
+                                                EasyMock.eq(expectedSize),
+                                                EasyMock.eq(contentItem.getContentMimetype()),
+                                                EasyMock.<String>isNull(),
+                                                EasyMock.<Map<String, String>>isNull()))
+                .andAnswer(new IAnswer<String>() {
+                    @Override
+                    public String answer() throws Throwable {
+                        // Read the stream as DuraStore would
+                        InputStream content =
+                            (InputStream) EasyMock.getCurrentArguments()[2];
+                        IOUtils.toByteArray(content);
+                        return checksum;
+                    }
+                });
+
+        EasyMock.replay(contentStore);
     }
 
     @After
@@ -68,12 +82,86 @@ public class ContentItemUploadTaskTest {
 
     @Test
     public void testExecute() throws Exception {
+        setUpAddContent(text.length(), null);
+        task = new ContentItemUploadTask(contentItem,
+                                         contentStore,
+                                         stream,
+                                         username);
+
+        task.execute();
+    }
+
+    @Test
+    public void testExecuteStreamed() throws Exception {
+        String checksum = new ChecksumUtil(ChecksumUtil.Algorithm.MD5)
+            .generateChecksum(text);
+        setUpAddContent(text.length(), checksum);
         task = new ContentItemUploadTask(contentItem,
                                          contentStore,
                                          stream,
+                                         text.length(),
                                          username);
 
         task.execute();
 
+        Map<String, String> props = task.getProperties();
+        assertEquals(String.valueOf(text.length()), props.get("bytesRead"));
+        assertEquals(String.valueOf(text.length()), props.get("totalBytes"));
+    }
+
+    @Test
+    public void testExecuteChecksumMismatch() throws Exception {
+        setUpAddContent(text.length(), "invalid-checksum");
+        task = new ContentItemUploadTask(contentItem,
+                                         contentStore,
+                                         stream,
+                                         text.length(),
+                                         username);
+
+        try {
+            task.execute();
+            fail("Exception expected");
+        } catch (ChecksumMismatchException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testExecuteSizeMismatch() throws Exception {
+        // The client gives a size smaller than the uploaded file
+        long givenSize = text.length() - 2;
+        EasyMock.expect(contentStore.addContent(EasyMock.eq(contentItem.getSpaceId()),
+                                                EasyMock.eq(contentItem.getContentId()),
+                                                EasyMock.<InputStream>anyObject(),
+                                                EasyMock.eq(givenSize),
+                                                EasyMock.eq(contentItem.getContentMimetype()),
+                                                EasyMock.<String>isNull(),
+                                                EasyMock.<Map<String, String>>isNull()))
+                .andAnswer(new IAnswer<String>() {
+                    @Override
+                    public String answer() throws Throwable {
+                        // Read only the given size, as DuraStore would
+                        InputStream content =
+                            (InputStream) EasyMock.getCurrentArguments()[2];
+                        IOUtils.readFully(content, new byte[(int) givenSize]);
+                        return null;
+                    }
+                });
+        contentStore.deleteContent(contentItem.getSpaceId(),
+                                   contentItem.getContentId());
+        EasyMock.expectLastCall();
+        EasyMock.replay(contentStore);
+
+        task = new ContentItemUploadTask(contentItem,
+                                         contentStore,
+                                         stream,
+                                         givenSize,
+                                         username);
+        try {
+            task.execute();
+            fail("Exception expected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
     }
 }
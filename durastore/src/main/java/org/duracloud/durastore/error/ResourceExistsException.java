@@ -0,0 +1,24 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.error;
+
+/**
+ * Thrown when a content item cannot be created because it already exists.
+ *
+ * @author agent
+ */
+public class ResourceExistsException extends ResourceException {
+
+    public ResourceExistsException(String task,
+                                   String spaceId,
+                                   String contentId) {
+        super("Error attempting to " + task + " '" + contentId + "' in '" +
+              spaceId + "' due to: the content item already exists");
+    }
+
+}
@@ -25,6 +25,7 @@ public class Application extends ResourceConfig {
     public Application() {
         super(
             RequestContextFilter.class,
+            CompressionFilter.class,
             StoreRest.class,
             SpaceRest.class,
             ManifestRest.class,
@@ -32,6 +33,7 @@ public class Application extends ResourceConfig {
             AuditLogRest.class,
             TaskRest.class,
             ContentRest.class,
+            BulkContentRest.class,
             AuxRest.class,
             StorageStatsRest.class);
 
@@ -7,8 +7,11 @@
  */
 package org.duracloud.durastore.rest;
 
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.Date;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -51,8 +54,21 @@ public class AuditLogRest extends BaseRest {
 
     @Path("/{spaceId}")
     @GET
+    @Compressed
     public Response getAuditLog(@PathParam("spaceId") String spaceId,
-                                @QueryParam("storeID") String storeId) {
+                                @QueryParam("storeID") String storeId,
+                                @QueryParam("start") String startMs,
+                                @QueryParam("end") String endMs) {
+
+        Date startDate;
+        Date endDate;
+        try {
+            startDate = toDate(startMs);
+            endDate = toDate(endMs);
+        } catch (NumberFormatException e) {
+            return responseBad("The start and end parameters must be given " +
+                               "in milliseconds since the epoch", BAD_REQUEST);
+        }
 
         String account = getSubdomain();
 
@@ -80,7 +96,8 @@ public class AuditLogRest extends BaseRest {
             StorageProvider store = storageProviderFactory.getStorageProvider(storeId);
             store.getSpaceProperties(spaceId);
 
-            InputStream auditLog = auditLogReader.getAuditLog(account, storeId, spaceId);
+            InputStream auditLog =
+                auditLogReader.getAuditLog(account, storeId, spaceId, startDate, endDate);
             return responseOkStream(auditLog);
         } catch (NotFoundException e) {
 
@@ -103,4 +120,8 @@ public class AuditLogRest extends BaseRest {
         }
     }
 
+    private Date toDate(String timeMs) {
+        return null == timeMs ? null : new Date(Long.parseLong(timeMs));
+    }
+
 }
@@ -13,6 +13,8 @@ import java.util.Map;
 import javax.inject.Inject;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.NewCookie;
@@ -40,11 +42,43 @@ public class AuxRest extends BaseRest {
     @Inject
     private StringDataStoreFactory stringDataStoreFactory;
 
+    @Inject
+    private ContentResource contentResource;
+
     @VisibleForTesting
     protected void setStringDataStoreFactory(StringDataStoreFactory stringDataStoreFactory) {
         this.stringDataStoreFactory = stringDataStoreFactory;
     }
 
+    @VisibleForTesting
+    protected void setContentResource(ContentResource contentResource) {
+        this.contentResource = contentResource;
+    }
+
+    /**
+     * Provides the status of a content copy which was requested to run
+     * asynchronously (see ContentRest). The status is only available to the
+     * user who requested the copy, from the node on which the copy runs.
+     *
+     * @return 200 response with JSON copy status
+     */
+    @Path("/copy/{copyID}")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getCopyStatus(@PathParam("copyID") String copyID) {
+        try {
+            ContentCopyStatus status =
+                contentResource.getCopyStatus(getAccountId(), getUsername(), copyID);
+            if (null == status) {
+                return responseNotFound("Copy " + copyID + " not found");
+            }
+            return responseOk(status);
+        } catch (Exception e) {
+            log.error("Error getting copy status " + copyID, e);
+            return responseBad(e);
+        }
+    }
+
     /**
      * Adds new cookies to the response headers based on the provided token.  The response body
      * contains an HTML based redirect pointing to the redirect URL passed to the /durastore/task/get-signed-cookies
@@ -8,6 +8,7 @@
 package org.duracloud.durastore.rest;
 
 import java.io.InputStream;
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
@@ -164,4 +165,9 @@ public abstract class BaseRest {
         return getSubdomain();
     }
 
+    protected String getUsername() {
+        Principal principal = request.getUserPrincipal();
+        return null == principal ? null : principal.getName();
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.duracloud.common.constant.Constants;
+import org.duracloud.durastore.error.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides interaction with sets of content items in a space via REST.
+ * The IDs of the content items are provided as a JSON list in the request
+ * body, which allows a single request to act on up to
+ * Constants.MAX_BULK_ITEMS content items.
+ *
+ * @author agent
+ */
+@Path("/bulk")
+@Component
+public class BulkContentRest extends BaseRest {
+    private final Logger log = LoggerFactory.getLogger(BulkContentRest.class);
+
+    private ContentResource contentResource;
+
+    @Autowired
+    public BulkContentRest(ContentResource contentResource) {
+        this.contentResource = contentResource;
+    }
+
+    /**
+     * see ContentResource.getBulkContentProperties()
+     *
+     * @return 200 response with a JSON map of content ID to content
+     * properties. Content items which do not exist are not included.
+     */
+    @Path("/properties/{spaceID}")
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getContentProperties(@PathParam("spaceID") String spaceID,
+                                         @QueryParam("storeID") String storeID,
+                                         List<String> contentIDs) {
+        String msg = "getting properties of content in " + spaceID +
+                     " (" + storeID + ")";
+
+        Response invalid = validateContentIds(contentIDs);
+        if (null != invalid) {
+            return invalid;
+        }
+
+        try {
+            log.debug("{} for {} items", msg, contentIDs.size());
+            Map<String, Map<String, String>> properties =
+                contentResource.getBulkContentProperties(spaceID, contentIDs, storeID);
+            return responseOk(properties);
+        } catch (ResourceNotFoundException e) {
+            log.debug("Error " + msg + ": " + e.getMessage());
+            return responseNotFound(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error " + msg, e);
+            return responseBad(e, INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * see ContentResource.deleteBulkContent()
+     *
+     * Each content item is looked up (a HEAD request against the storage
+     * provider) before the set is deleted, so a request for
+     * Constants.MAX_BULK_ITEMS items makes that many lookups in addition
+     * to the deletion.
+     *
+     * @return 200 response with a JSON map of content ID to the reason the
+     * content item could not be deleted. The map is empty if all content
+     * items were deleted.
+     */
+    @Path("/delete/{spaceID}")
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response deleteContent(@PathParam("spaceID") String spaceID,
+                                  @QueryParam("storeID") String storeID,
+                                  List<String> contentIDs) {
+        String msg = "deleting content in " + spaceID + " (" + storeID + ")";
+
+        Response invalid = validateContentIds(contentIDs);
+        if (null != invalid) {
+            return invalid;
+        }
+
+        try {
+            log.debug("{} for {} items", msg, contentIDs.size());
+            Map<String, String> failures =
+                contentResource.deleteBulkContent(spaceID, contentIDs, storeID);
+            return responseOk(failures);
+        } catch (ResourceNotFoundException e) {
+            log.debug("Error " + msg + ": " + e.getMessage());
+            return responseNotFound(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error " + msg, e);
+            return responseBad(e, INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Response validateContentIds(List<String> contentIDs) {
+        if (null == contentIDs || contentIDs.isEmpty()) {
+            return responseBad("A list of content IDs is required", BAD_REQUEST);
+        } else if (contentIDs.size() > Constants.MAX_BULK_ITEMS) {
+            return responseBad("A maximum of " + Constants.MAX_BULK_ITEMS +
+                               " content IDs may be included in a request",
+                               BAD_REQUEST);
+        }
+        return null;
+    }
+
+}
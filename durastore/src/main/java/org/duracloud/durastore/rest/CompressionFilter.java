@@ -0,0 +1,113 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Gzip compresses the responses of resource methods marked as
+ * {@link Compressed} when the request includes an Accept-Encoding header
+ * which allows gzip. The response entity is compressed as it is written,
+ * so streamed entities are never held in memory.
+ *
+ * @author agent
+ */
+@Compressed
+public class CompressionFilter implements ContainerResponseFilter,
+                                          WriterInterceptor {
+
+    protected static final String GZIP = "gzip";
+    protected static final String VARY = "Vary";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext,
+                       ContainerResponseContext responseContext)
+        throws IOException {
+        if (!responseContext.hasEntity()) {
+            return;
+        }
+
+        responseContext.getHeaders().add(VARY, ACCEPT_ENCODING);
+        if (null == responseContext.getHeaderString(CONTENT_ENCODING) &&
+            acceptsGzip(requestContext.getHeaders().get(ACCEPT_ENCODING))) {
+            responseContext.getHeaders().putSingle(CONTENT_ENCODING, GZIP);
+            // The compressed length is not known until the entity is written
+            responseContext.getHeaders().remove(CONTENT_LENGTH);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context)
+        throws IOException {
+        if (GZIP.equals(context.getHeaders().getFirst(CONTENT_ENCODING))) {
+            GZIPOutputStream gzipStream =
+                new GZIPOutputStream(context.getOutputStream(), BUFFER_SIZE);
+            context.setOutputStream(gzipStream);
+            context.proceed();
+            gzipStream.finish();
+        } else {
+            context.proceed();
+        }
+    }
+
+    /**
+     * Determines if the values of an Accept-Encoding header allow gzip.
+     * An encoding with a quality value of 0 is not acceptable. An explicit
+     * gzip entry takes precedence over the "*" wildcard, regardless of the
+     * order in which they appear.
+     */
+    protected boolean acceptsGzip(List<String> acceptEncodings) {
+        if (null == acceptEncodings) {
+            return false;
+        }
+
+        Boolean gzipAccepted = null;
+        boolean wildcardAccepted = false;
+        for (String acceptEncoding : acceptEncodings) {
+            for (String encoding : acceptEncoding.split(",")) {
+                String[] parts = encoding.split(";");
+                String name = parts[0].trim().toLowerCase();
+                if (GZIP.equals(name) || "x-gzip".equals(name)) {
+                    gzipAccepted = Boolean.TRUE.equals(gzipAccepted) ||
+                                   !isZeroQuality(parts);
+                } else if ("*".equals(name)) {
+                    wildcardAccepted = !isZeroQuality(parts);
+                }
+            }
+        }
+        return null != gzipAccepted ? gzipAccepted : wildcardAccepted;
+    }
+
+    private boolean isZeroQuality(String[] encodingParts) {
+        for (int i = 1; i < encodingParts.length; i++) {
+            String[] param = encodingParts[i].split("=", 2);
+            if (param.length == 2 && "q".equalsIgnoreCase(param[0].trim())) {
+                try {
+                    return Double.parseDouble(param[1].trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+/**
+ * The status of a content copy which is run asynchronously.
+ *
+ * @author agent
+ */
+public class ContentCopyStatus {
+
+    public enum State {
+        IN_PROGRESS, COMPLETE, FAILED
+    }
+
+    private String copyId;
+    private String srcStoreId;
+    private String srcSpaceId;
+    private String srcContentId;
+    private String destStoreId;
+    private String destSpaceId;
+    private String destContentId;
+    private volatile State state = State.IN_PROGRESS;
+    private volatile String checksum;
+    private volatile String error;
+    private volatile long completed;
+
+    public ContentCopyStatus(String copyId,
+                             String srcStoreId,
+                             String srcSpaceId,
+                             String srcContentId,
+                             String destStoreId,
+                             String destSpaceId,
+                             String destContentId) {
+        this.copyId = copyId;
+        this.srcStoreId = srcStoreId;
+        this.srcSpaceId = srcSpaceId;
+        this.srcContentId = srcContentId;
+        this.destStoreId = destStoreId;
+        this.destSpaceId = destSpaceId;
+        this.destContentId = destContentId;
+    }
+
+    public String getCopyId() {
+        return copyId;
+    }
+
+    public String getSrcStoreId() {
+        return srcStoreId;
+    }
+
+    public String getSrcSpaceId() {
+        return srcSpaceId;
+    }
+
+    public String getSrcContentId() {
+        return srcContentId;
+    }
+
+    public String getDestStoreId() {
+        return destStoreId;
+    }
+
+    public String getDestSpaceId() {
+        return destSpaceId;
+    }
+
+    public String getDestContentId() {
+        return destContentId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return the MD5 checksum of the copied content, once the copy is complete
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @return the reason the copy failed, if it has failed
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return the time (in millis) at which the copy completed or failed,
+     * 0 while the copy is in progress
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    protected void complete(String checksum, long completed) {
+        this.checksum = checksum;
+        this.completed = completed;
+        this.state = State.COMPLETE;
+    }
+
+    protected void fail(String error, long completed) {
+        this.error = error;
+        this.completed = completed;
+        this.state = State.FAILED;
+    }
+
+}
@@ -8,8 +8,10 @@
 package org.duracloud.durastore.rest;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.durastore.error.ResourceException;
 import org.duracloud.storage.domain.RetrievedContent;
 import org.duracloud.storage.error.InvalidIdException;
@@ -32,6 +34,17 @@ public interface ContentResource {
                                              String storeID)
         throws ResourceException;
 
+    /**
+     * Retrieves the properties of a set of content items in a space.
+     *
+     * @return map of content ID to properties, content items which do not
+     * exist are not included
+     */
+    Map<String, Map<String, String>> getBulkContentProperties(String spaceID,
+                                                              List<String> contentIDs,
+                                                              String storeID)
+        throws ResourceException;
+
     void updateContentProperties(String spaceID,
                                  String contentID,
                                  String contentMimeType,
@@ -45,7 +58,8 @@ public interface ContentResource {
                       Map<String, String> userProperties,
                       long contentSize,
                       String checksum,
-                      String storeID)
+                      String storeID,
+                      ContentWriteMode writeMode)
         throws ResourceException, InvalidIdException;
 
     String copyContent(String srcStoreID,
@@ -55,6 +69,47 @@ public interface ContentResource {
                        String destSpaceID,
                        String destContentID) throws ResourceException;
 
+    /**
+     * Starts a copy of content which runs in the background. Copy statuses
+     * are held in memory by the node on which the copy runs, so they are not
+     * available from other nodes or after a restart.
+     *
+     * @param accountID the account of the user requesting the copy
+     * @param username  the user requesting the copy
+     * @return status of the copy, which can be retrieved by the same user
+     * with getCopyStatus() until some time after the copy has completed
+     */
+    ContentCopyStatus copyContentAsync(String accountID,
+                                       String username,
+                                       String srcStoreID,
+                                       String srcSpaceID,
+                                       String srcContentID,
+                                       String destStoreID,
+                                       String destSpaceID,
+                                       String destContentID);
+
+    /**
+     * @param accountID the account of the user requesting the status
+     * @param username  the user requesting the status
+     * @return status of a copy started with copyContentAsync() by the given
+     * user, or null if no such copy is known on this node
+     */
+    ContentCopyStatus getCopyStatus(String accountID, String username, String copyID);
+
     void deleteContent(String spaceID, String contentID, String storeID)
         throws ResourceException;
+
+    /**
+     * Removes a set of content items from a space. Content items which do
+     * not exist are considered to be deleted. The properties of each content
+     * item are retrieved before it is deleted, so that the deletion can be
+     * audited, which costs one request to the storage provider per item.
+     *
+     * @return map of content ID to the reason the content item could not be
+     * deleted, empty if all content items were deleted
+     */
+    Map<String, String> deleteBulkContent(String spaceID,
+                                          List<String> contentIDs,
+                                          String storeID)
+        throws ResourceException;
 }
@@ -10,14 +10,34 @@ package org.duracloud.durastore.rest;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.security.DigestInputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.duracloud.common.constant.ContentWriteMode;
+import org.duracloud.common.util.ChecksumUtil;
 import org.duracloud.durastore.error.ResourceChecksumException;
 import org.duracloud.durastore.error.ResourceException;
+import org.duracloud.durastore.error.ResourceExistsException;
 import org.duracloud.durastore.error.ResourceNotFoundException;
 import org.duracloud.durastore.error.ResourcePropertiesInvalidException;
 import org.duracloud.durastore.error.ResourceStateException;
+import org.duracloud.durastore.util.RangedContentInputStream;
 import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.error.ChecksumMismatchException;
 import org.duracloud.storage.error.InvalidIdException;
 import org.duracloud.storage.error.InvalidRequestException;
@@ -30,6 +50,9 @@ import org.duracloud.storage.util.StorageProviderFactory;
 import org.duracloud.storage.util.StorageProviderUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 
 /**
  * Provides interaction with content
@@ -40,10 +63,96 @@ public class ContentResourceImpl implements ContentResource {
 
     private static final Logger log = LoggerFactory.getLogger(ContentResource.class);
 
+    public static final int DEFAULT_RANGE_THREADS = 8;
+    public static final int DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+    public static final long DEFAULT_RANGED_COPY_THRESHOLD = 64L * 1024 * 1024;
+    public static final int DEFAULT_ASYNC_COPY_THREADS = 4;
+    public static final int DEFAULT_BULK_THREADS = 16;
+
+    // Number of lookups a single bulk request may have in progress, so that
+    // one request cannot occupy the bulk executor shared by all requests
+    protected static final int BULK_LOOKUPS_PER_REQUEST = 4;
+
+    // Number of ranges each copy reads ahead of the range being written
+    private static final int RANGE_PREFETCH_COUNT = 4;
+
+    // Time for which the status of a finished asynchronous copy is retained
+    private static final long COPY_STATUS_RETENTION = 60 * 60 * 1000;
+
     private StorageProviderFactory storageProviderFactory;
+    private ExecutorService rangeExecutor;
+    private ExecutorService asyncCopyExecutor;
+    private ExecutorService bulkExecutor;
+    private int rangeSize;
+    private long rangedCopyThreshold;
+
+    // Status of asynchronous copies by copy ID. These are held in memory, so
+    // a copy status is only available from the node on which the copy runs.
+    private Map<String, CopyRecord> copyStatuses = new ConcurrentHashMap<>();
 
     public ContentResourceImpl(StorageProviderFactory storageProviderFactory) {
+        this(storageProviderFactory,
+             Executors.newFixedThreadPool(DEFAULT_BULK_THREADS,
+                                          daemonThreads("content-bulk")));
+    }
+
+    /**
+     * @param storageProviderFactory
+     * @param bulkExecutor           used to look up the properties of content
+     *                               items in bulk, shared with the storage
+     *                               providers of all accounts
+     */
+    public ContentResourceImpl(StorageProviderFactory storageProviderFactory,
+                               ExecutorService bulkExecutor) {
+        this(storageProviderFactory,
+             DEFAULT_RANGE_THREADS,
+             DEFAULT_RANGE_SIZE,
+             DEFAULT_RANGED_COPY_THRESHOLD,
+             bulkExecutor);
+    }
+
+    /**
+     * @param storageProviderFactory
+     * @param rangeThreads           the number of threads shared by all copies
+     *                               between stores to read ranges of content
+     * @param rangeSize              the size in bytes of each range read
+     * @param rangedCopyThreshold    the size in bytes at which content copied
+     *                               between stores is read in ranges
+     */
+    public ContentResourceImpl(StorageProviderFactory storageProviderFactory,
+                               int rangeThreads,
+                               int rangeSize,
+                               long rangedCopyThreshold) {
+        this(storageProviderFactory,
+             rangeThreads,
+             rangeSize,
+             rangedCopyThreshold,
+             Executors.newFixedThreadPool(DEFAULT_BULK_THREADS,
+                                          daemonThreads("content-bulk")));
+    }
+
+    private ContentResourceImpl(StorageProviderFactory storageProviderFactory,
+                                int rangeThreads,
+                                int rangeSize,
+                                long rangedCopyThreshold,
+                                ExecutorService bulkExecutor) {
         this.storageProviderFactory = storageProviderFactory;
+        this.rangeSize = rangeSize;
+        this.rangedCopyThreshold = rangedCopyThreshold;
+        this.rangeExecutor =
+            Executors.newFixedThreadPool(rangeThreads, daemonThreads("content-copy-range"));
+        this.asyncCopyExecutor =
+            Executors.newFixedThreadPool(DEFAULT_ASYNC_COPY_THREADS,
+                                         daemonThreads("content-copy-async"));
+        this.bulkExecutor = bulkExecutor;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     /**
@@ -77,7 +186,7 @@ public class ContentResourceImpl implements ContentResource {
             throw new InvalidRequestException(e.getMessage());
 
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("get content", spaceID, contentID, e);
         }
     }
@@ -104,7 +213,7 @@ public class ContentResourceImpl implements ContentResource {
                                                 contentID,
                                                 e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("get properties for content",
                                         spaceID,
                                         contentID,
@@ -112,6 +221,87 @@ public class ContentResourceImpl implements ContentResource {
         }
     }
 
+    /**
+     * Retrieves the properties of a set of content items. The properties of
+     * the content items are retrieved in parallel, with at most
+     * BULK_LOOKUPS_PER_REQUEST lookups in progress at a time.
+     *
+     * @param spaceID
+     * @param contentIDs
+     * @return Map of content ID to content properties, content items which
+     * do not exist are not included
+     */
+    @Override
+    public Map<String, Map<String, String>> getBulkContentProperties(String spaceID,
+                                                                     List<String> contentIDs,
+                                                                     String storeID)
+        throws ResourceException {
+        String task = "get properties for content in space";
+        Deque<Future<Map<String, String>>> lookups = new ArrayDeque<>();
+        try {
+            StorageProvider storage =
+                storageProviderFactory.getStorageProvider(storeID);
+            Iterator<String> toLookUp = contentIDs.iterator();
+            Iterator<String> lookedUp = contentIDs.iterator();
+            submitLookups(storage, spaceID, toLookUp, lookups);
+
+            Map<String, Map<String, String>> properties = new LinkedHashMap<>();
+            while (!lookups.isEmpty()) {
+                Future<Map<String, String>> lookup = lookups.removeFirst();
+                String contentID = lookedUp.next();
+                try {
+                    properties.put(contentID, lookup.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!(cause instanceof NotFoundException)) {
+                        throw cause instanceof Exception ? (Exception) cause : e;
+                    }
+                }
+                submitLookups(storage, spaceID, toLookUp, lookups);
+            }
+
+            // Distinguish a missing space from a set of missing content items
+            if (properties.isEmpty() && !contentIDs.isEmpty()) {
+                storage.getSpaceProperties(spaceID);
+            }
+            return properties;
+        } catch (NotFoundException e) {
+            throw new ResourceNotFoundException(task, spaceID, e);
+        } catch (InterruptedException e) {
+            cancel(lookups);
+            Thread.currentThread().interrupt();
+            throw new ResourceException(task, spaceID, e);
+        } catch (Exception e) {
+            cancel(lookups);
+            storageProviderFactory.expireStorageProvider(storeID, e);
+            throw new ResourceException(task, spaceID, e);
+        }
+    }
+
+    /*
+     * Submits lookups of the next content items until the request has
+     * BULK_LOOKUPS_PER_REQUEST lookups in progress. Lookups run with the
+     * caller's security context so that they are audited as reads by
+     * the caller.
+     */
+    private void submitLookups(final StorageProvider storage,
+                               final String spaceID,
+                               Iterator<String> contentIDs,
+                               Deque<Future<Map<String, String>>> lookups) {
+        while (lookups.size() < BULK_LOOKUPS_PER_REQUEST && contentIDs.hasNext()) {
+            final String contentID = contentIDs.next();
+            lookups.addLast(bulkExecutor.submit(
+                new DelegatingSecurityContextCallable<>(
+                    () -> storage.getContentProperties(spaceID, contentID))));
+        }
+    }
+
+    private void cancel(Collection<? extends Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
     /**
      * Updates the properties of a piece of content.
      *
@@ -147,7 +337,7 @@ public class ContentResourceImpl implements ContentResource {
                                              contentID,
                                              e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("update properties for content",
                                         spaceID,
                                         contentID,
@@ -187,7 +377,14 @@ public class ContentResourceImpl implements ContentResource {
     /**
      * Adds content to a space.
      *
+     * With the MERGE_PROPERTIES write mode, the properties of an existing
+     * version of the content are carried over to the new version. The other
+     * write modes skip that lookup. CREATE_ONLY still checks that the content
+     * does not exist, as the storage providers have no conditional write.
+     *
      * @return the checksum of the content as computed by the storage provider
+     * @throws ResourceExistsException if the write mode is CREATE_ONLY and the
+     *                                 content already exists
      */
     @Override
     public String addContent(String spaceID,
@@ -197,7 +394,8 @@ public class ContentResourceImpl implements ContentResource {
                              Map<String, String> userProperties,
                              long contentSize,
                              String checksum,
-                             String storeID)
+                             String storeID,
+                             ContentWriteMode writeMode)
         throws ResourceException, InvalidIdException, ResourcePropertiesInvalidException {
 
         IdUtil.validateContentId(contentID);
@@ -207,29 +405,35 @@ public class ContentResourceImpl implements ContentResource {
             StorageProvider storage =
                 storageProviderFactory.getStorageProvider(storeID);
 
-            try {
-                // overlay new properties on top of older extended properties
-                // so that old tags and custom properties are preserved.
-                // c.f. https://jira.duraspace.org/browse/DURACLOUD-757
-                Map<String, String> oldUserProperties =
-                    storage.getContentProperties(spaceID, contentID);
-                //remove all non extended properties
-                if (userProperties != null) {
-                    oldUserProperties.putAll(userProperties);
-                    //use old mimetype if none specified.
-                    String oldMimetype =
-                        oldUserProperties.remove(StorageProvider.PROPERTIES_CONTENT_MIMETYPE);
-                    if (contentMimeType == null || contentMimeType.trim() == "") {
-                        contentMimeType = oldMimetype;
+            if (ContentWriteMode.CREATE_ONLY == writeMode) {
+                if (contentExists(storage, spaceID, contentID)) {
+                    throw new ResourceExistsException("add content", spaceID, contentID);
+                }
+            } else if (ContentWriteMode.REPLACE_PROPERTIES != writeMode) {
+                try {
+                    // overlay new properties on top of older extended properties
+                    // so that old tags and custom properties are preserved.
+                    // c.f. https://jira.duraspace.org/browse/DURACLOUD-757
+                    Map<String, String> oldUserProperties =
+                        storage.getContentProperties(spaceID, contentID);
+                    //remove all non extended properties
+                    if (userProperties != null) {
+                        oldUserProperties.putAll(userProperties);
+                        //use old mimetype if none specified.
+                        String oldMimetype =
+                            oldUserProperties.remove(StorageProvider.PROPERTIES_CONTENT_MIMETYPE);
+                        if (contentMimeType == null || contentMimeType.trim() == "") {
+                            contentMimeType = oldMimetype;
+                        }
+
+                        oldUserProperties = StorageProviderUtil.removeCalculatedProperties(oldUserProperties);
                     }
 
-                    oldUserProperties = StorageProviderUtil.removeCalculatedProperties(oldUserProperties);
+                    userProperties = oldUserProperties;
+                } catch (NotFoundException ex) {
+                    // do nothing - no properties to update
+                    // since file did not previous exist.
                 }
-
-                userProperties = oldUserProperties;
-            } catch (NotFoundException ex) {
-                // do nothing - no properties to update
-                // since file did not previous exist.
             }
 
             return storage.addContent(spaceID,
@@ -249,12 +453,25 @@ public class ContentResourceImpl implements ContentResource {
                                                 spaceID,
                                                 contentID,
                                                 e);
+        } catch (ResourceExistsException e) {
+            throw e;
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("add content", spaceID, contentID, e);
         }
     }
 
+    private boolean contentExists(StorageProvider storage,
+                                  String spaceID,
+                                  String contentID) {
+        try {
+            storage.getContentProperties(spaceID, contentID);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      * This method copies the content found in space srcSpaceID with id
      * srcContentID to the space destSpaceID within the same content store
@@ -278,16 +495,40 @@ public class ContentResourceImpl implements ContentResource {
                               String destContentID) throws ResourceException {
         BrokeredStorageProvider srcProvider = getStorageProvider(srcStoreID);
         BrokeredStorageProvider destProvider = getStorageProvider(destStoreID);
+        return copyContent(storageProviderFactory,
+                           srcProvider,
+                           getRangeStorageProvider(srcStoreID, srcProvider, destProvider),
+                           srcStoreID,
+                           srcSpaceID,
+                           srcContentID,
+                           destProvider,
+                           destStoreID,
+                           destSpaceID,
+                           destContentID);
+    }
 
+    private String copyContent(StorageProviderFactory factory,
+                               BrokeredStorageProvider srcProvider,
+                               StorageProvider srcRangeProvider,
+                               String srcStoreID,
+                               String srcSpaceID,
+                               String srcContentID,
+                               BrokeredStorageProvider destProvider,
+                               String destStoreID,
+                               String destSpaceID,
+                               String destContentID) throws ResourceException {
         if (srcProvider.equals(destProvider)) {
-            return copyContent(srcProvider,
+            return copyContent(factory,
+                               srcProvider,
                                srcSpaceID,
                                srcContentID,
                                destSpaceID,
                                destContentID,
                                srcStoreID);
         } else {
-            return copyContentBetweenStorageProviders(srcProvider,
+            return copyContentBetweenStorageProviders(factory,
+                                                      srcProvider,
+                                                      srcRangeProvider,
                                                       srcSpaceID,
                                                       srcContentID,
                                                       srcStoreID,
@@ -303,7 +544,143 @@ public class ContentResourceImpl implements ContentResource {
             storeID);
     }
 
-    private String copyContentBetweenStorageProviders(BrokeredStorageProvider srcStorage,
+    /*
+     * Provides the provider from which ranges of content are read when
+     * copying between stores. Ranges are read below the audit layer so that
+     * a copy is recorded as a single read rather than one read per range.
+     */
+    private StorageProvider getRangeStorageProvider(String srcStoreID,
+                                                    BrokeredStorageProvider srcProvider,
+                                                    BrokeredStorageProvider destProvider) {
+        if (!srcProvider.equals(destProvider) && isRangeSupported(srcProvider)) {
+            return storageProviderFactory.getUnauditedStorageProvider(srcStoreID);
+        }
+        return null;
+    }
+
+    /**
+     * Starts a copy of content which runs in the background. The storage
+     * providers are resolved on the calling (request) thread, as the storage
+     * provider factory is request scoped, and the copy runs with the security
+     * context of the caller. The status of the copy is retained in memory on
+     * this node for an hour after the copy has finished.
+     *
+     * @return status of the copy
+     */
+    @Override
+    public ContentCopyStatus copyContentAsync(final String accountID,
+                                              final String username,
+                                              final String srcStoreID,
+                                              final String srcSpaceID,
+                                              final String srcContentID,
+                                              final String destStoreID,
+                                              final String destSpaceID,
+                                              final String destContentID) {
+        removeExpiredCopyStatuses();
+
+        final StorageProviderFactory factory = getTargetStorageProviderFactory();
+        final BrokeredStorageProvider srcProvider = getStorageProvider(srcStoreID);
+        final BrokeredStorageProvider destProvider = getStorageProvider(destStoreID);
+        final StorageProvider srcRangeProvider =
+            getRangeStorageProvider(srcStoreID, srcProvider, destProvider);
+
+        final ContentCopyStatus status =
+            new ContentCopyStatus(UUID.randomUUID().toString(),
+                                  srcStoreID,
+                                  srcSpaceID,
+                                  srcContentID,
+                                  destStoreID,
+                                  destSpaceID,
+                                  destContentID);
+        copyStatuses.put(status.getCopyId(), new CopyRecord(accountID, username, status));
+
+        asyncCopyExecutor.execute(new DelegatingSecurityContextRunnable(() -> {
+            try {
+                String checksum = copyContent(factory,
+                                              srcProvider,
+                                              srcRangeProvider,
+                                              srcStoreID,
+                                              srcSpaceID,
+                                              srcContentID,
+                                              destProvider,
+                                              destStoreID,
+                                              destSpaceID,
+                                              destContentID);
+                status.complete(checksum, currentTimeMillis());
+            } catch (Exception e) {
+                log.error("Asynchronous copy " + status.getCopyId() +
+                          " failed: " + e.getMessage(), e);
+                status.fail(e.getMessage(), currentTimeMillis());
+            }
+        }));
+        return status;
+    }
+
+    /*
+     * Provides the storage provider factory for the account of the current
+     * request, which can be used after the request has completed
+     */
+    private StorageProviderFactory getTargetStorageProviderFactory() {
+        if (storageProviderFactory instanceof ScopedObject) {
+            return (StorageProviderFactory)
+                ((ScopedObject) storageProviderFactory).getTargetObject();
+        }
+        return storageProviderFactory;
+    }
+
+    /**
+     * Provides the status of a copy started on this node by the given user
+     * of the given account.
+     *
+     * @return status of the copy, or null if no such copy is known
+     */
+    @Override
+    public ContentCopyStatus getCopyStatus(String accountID,
+                                           String username,
+                                           String copyID) {
+        CopyRecord record = copyStatuses.get(copyID);
+        if (null == record || !record.isOwner(accountID, username)) {
+            return null;
+        }
+        return record.status;
+    }
+
+    private void removeExpiredCopyStatuses() {
+        long expired = currentTimeMillis() - COPY_STATUS_RETENTION;
+        copyStatuses.values().removeIf(record -> {
+            long completed = record.status.getCompleted();
+            return completed > 0 && completed < expired;
+        });
+    }
+
+    /*
+     * The status of an asynchronous copy along with the account and user
+     * which started it
+     */
+    private static class CopyRecord {
+        private final String accountID;
+        private final String username;
+        private final ContentCopyStatus status;
+
+        CopyRecord(String accountID, String username, ContentCopyStatus status) {
+            this.accountID = accountID;
+            this.username = username;
+            this.status = status;
+        }
+
+        boolean isOwner(String accountID, String username) {
+            return Objects.equals(this.accountID, accountID) &&
+                   Objects.equals(this.username, username);
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private String copyContentBetweenStorageProviders(StorageProviderFactory factory,
+                                                      BrokeredStorageProvider srcStorage,
+                                                      StorageProvider srcRangeStorage,
                                                       String srcSpaceID,
                                                       String srcContentID,
                                                       String srcStoreID,
@@ -311,34 +688,41 @@ public class ContentResourceImpl implements ContentResource {
                                                       String destSpaceID,
                                                       String destContentID,
                                                       String destStoreID) throws ResourceException {
-        RetrievedContent retrievedContent = srcStorage.getContent(srcSpaceID, srcContentID);
-
-        try (InputStream inputStream = retrievedContent.getContentStream()) {
-
-            Map<String, String> properties = retrievedContent.getContentProperties();
-
-            Long contentSize = null;
-
-            try {
-                String contentSizeString = properties.get(StorageProvider.PROPERTIES_CONTENT_SIZE);
-                if (contentSizeString != null) {
-                    contentSize = Long.parseLong(contentSizeString);
+        try {
+            // Large content is read in parallel ranges when the source supports it
+            if (null != srcRangeStorage) {
+                Map<String, String> properties =
+                    srcStorage.getContentProperties(srcSpaceID, srcContentID);
+                Long contentSize = getContentSize(properties);
+                if (null != contentSize && contentSize >= rangedCopyThreshold) {
+                    return copyContentInRanges(srcStorage,
+                                               srcRangeStorage,
+                                               srcSpaceID,
+                                               srcContentID,
+                                               properties,
+                                               contentSize,
+                                               destStorage,
+                                               destSpaceID,
+                                               destContentID);
                 }
-            } catch (NumberFormatException ex) {
-                String msg = "content size could not be parsed: " + ex.getMessage();
-                log.warn(msg, ex);
             }
 
-            String md5 =
-                destStorage.addContent(destSpaceID,
-                                       destContentID,
-                                       properties.get(StorageProvider.PROPERTIES_CONTENT_MIMETYPE),
-                                       properties,
-                                       contentSize,
-                                       properties.get(StorageProvider.PROPERTIES_CONTENT_CHECKSUM),
-                                       inputStream);
-
-            return md5;
+            RetrievedContent retrievedContent = srcStorage.getContent(srcSpaceID, srcContentID);
+            try (InputStream inputStream = retrievedContent.getContentStream()) {
+                Map<String, String> properties = retrievedContent.getContentProperties();
+                Long contentSize = getContentSize(properties);
+
+                String md5 =
+                    destStorage.addContent(destSpaceID,
+                                           destContentID,
+                                           properties.get(StorageProvider.PROPERTIES_CONTENT_MIMETYPE),
+                                           properties,
+                                           contentSize,
+                                           properties.get(StorageProvider.PROPERTIES_CONTENT_CHECKSUM),
+                                           inputStream);
+
+                return md5;
+            }
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("copy content",
                                                 srcStorage.getTargetType().name(),
@@ -357,9 +741,14 @@ public class ContentResourceImpl implements ContentResource {
                                              destSpaceID,
                                              destContentID,
                                              e);
+        } catch (ChecksumMismatchException e) {
+            throw new ResourceChecksumException("copy content",
+                                                destSpaceID,
+                                                destContentID,
+                                                e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(srcStoreID);
-            storageProviderFactory.expireStorageProvider(destStoreID);
+            factory.expireStorageProvider(srcStoreID, e);
+            factory.expireStorageProvider(destStoreID, e);
             throw new ResourceException("copy content",
                                         srcStorage.getTargetType().name(),
                                         srcSpaceID,
@@ -371,7 +760,81 @@ public class ContentResourceImpl implements ContentResource {
         }
     }
 
-    private String copyContent(StorageProvider storage,
+    /*
+     * Copies content by reading ranges of the source content in parallel and
+     * streaming them in order to the destination. The first range is read
+     * through the audited source provider so that the copy is recorded once,
+     * the remaining ranges are read from srcRangeStorage. The MD5 of the
+     * assembled content is compared with the checksum of the source and the
+     * checksum computed by the destination.
+     */
+    private String copyContentInRanges(StorageProvider srcStorage,
+                                       StorageProvider srcRangeStorage,
+                                       String srcSpaceID,
+                                       String srcContentID,
+                                       Map<String, String> properties,
+                                       long contentSize,
+                                       StorageProvider destStorage,
+                                       String destSpaceID,
+                                       String destContentID) throws Exception {
+        log.info("Copying {} bytes of {}/{} in ranges of {} bytes",
+                 contentSize, srcSpaceID, srcContentID, rangeSize);
+
+        String srcChecksum = properties.get(StorageProvider.PROPERTIES_CONTENT_CHECKSUM);
+        InputStream ranges = new RangedContentInputStream(srcStorage,
+                                                          srcRangeStorage,
+                                                          srcSpaceID,
+                                                          srcContentID,
+                                                          contentSize,
+                                                          rangeSize,
+                                                          RANGE_PREFETCH_COUNT,
+                                                          rangeExecutor);
+        try (DigestInputStream content =
+                 ChecksumUtil.wrapStream(ranges, ChecksumUtil.Algorithm.MD5)) {
+            String md5 =
+                destStorage.addContent(destSpaceID,
+                                       destContentID,
+                                       properties.get(StorageProvider.PROPERTIES_CONTENT_MIMETYPE),
+                                       properties,
+                                       contentSize,
+                                       srcChecksum,
+                                       content);
+
+            String copiedChecksum = ChecksumUtil.getChecksum(content);
+            if (null != srcChecksum) {
+                StorageProviderUtil.compareChecksum(srcChecksum,
+                                                    destSpaceID,
+                                                    destContentID,
+                                                    copiedChecksum);
+            }
+            return StorageProviderUtil.compareChecksum(md5,
+                                                       destSpaceID,
+                                                       destContentID,
+                                                       copiedChecksum);
+        }
+    }
+
+    private boolean isRangeSupported(BrokeredStorageProvider storage) {
+        StorageProviderType type = storage.getTargetType();
+        return StorageProviderType.AMAZON_S3.equals(type) ||
+               StorageProviderType.AMAZON_GLACIER.equals(type);
+    }
+
+    private Long getContentSize(Map<String, String> properties) {
+        try {
+            String contentSizeString = properties.get(StorageProvider.PROPERTIES_CONTENT_SIZE);
+            if (contentSizeString != null) {
+                return Long.parseLong(contentSizeString);
+            }
+        } catch (NumberFormatException ex) {
+            String msg = "content size could not be parsed: " + ex.getMessage();
+            log.warn(msg, ex);
+        }
+        return null;
+    }
+
+    private String copyContent(StorageProviderFactory factory,
+                               StorageProvider storage,
                                String srcSpaceID,
                                String srcContentID,
                                String destSpaceID,
@@ -399,7 +862,7 @@ public class ContentResourceImpl implements ContentResource {
                                              destContentID,
                                              e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            factory.expireStorageProvider(storeID, e);
             throw new ResourceException("copy content",
                                         srcSpaceID,
                                         srcContentID,
@@ -430,8 +893,34 @@ public class ContentResourceImpl implements ContentResource {
                                                 contentID,
                                                 e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("delete content", spaceID, contentID, e);
         }
     }
+
+    /**
+     * Removes a set of content items.
+     *
+     * @param spaceID
+     * @param contentIDs
+     * @return Map of content ID to the reason the content item could not be
+     * deleted, empty if all content items were deleted
+     */
+    @Override
+    public Map<String, String> deleteBulkContent(String spaceID,
+                                                 List<String> contentIDs,
+                                                 String storeID)
+        throws ResourceException {
+        String task = "delete content in space";
+        try {
+            StorageProvider storage =
+                storageProviderFactory.getStorageProvider(storeID);
+            return storage.deleteContents(spaceID, contentIDs);
+        } catch (NotFoundException e) {
+            throw new ResourceNotFoundException(task, spaceID, e);
+        } catch (Exception e) {
+            storageProviderFactory.expireStorageProvider(storeID, e);
+            throw new ResourceException(task, spaceID, e);
+        }
+    }
 }
@@ -11,10 +11,13 @@ import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.CONFLICT;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.PRECONDITION_FAILED;
 import static org.apache.http.HttpHeaders.CONTENT_ENCODING;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.text.ParseException;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -37,11 +40,14 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
 import org.duracloud.audit.logger.ClientInfoLogger;
 import org.duracloud.common.constant.Constants;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.rest.HttpHeaders;
 import org.duracloud.common.rest.RestUtil;
+import org.duracloud.common.util.DateUtil;
 import org.duracloud.common.web.EncodeUtil;
 import org.duracloud.durastore.error.ResourceChecksumException;
 import org.duracloud.durastore.error.ResourceException;
+import org.duracloud.durastore.error.ResourceExistsException;
 import org.duracloud.durastore.error.ResourceNotFoundException;
 import org.duracloud.durastore.error.ResourcePropertiesInvalidException;
 import org.duracloud.durastore.error.ResourceStateException;
@@ -64,6 +70,9 @@ import org.springframework.stereotype.Component;
 public class ContentRest extends BaseRest {
     private final Logger log = LoggerFactory.getLogger(ContentRest.class);
 
+    // Preference (RFC 7240) with which a client requests an asynchronous copy
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private ContentResource contentResource;
     private RestUtil restUtil;
     private final ClientInfoLogger clientInfoLog = new ClientInfoLogger();
@@ -78,14 +87,18 @@ public class ContentRest extends BaseRest {
      * see ContentResource.getContent()
      * see ContentResource.getContentProperties()
      *
-     * @return 200 response with content stream as body and content properties as headers
+     * @return 200 response with content stream as body and content properties as headers,
+     * or 304 response if the If-None-Match or If-Modified-Since header indicates that
+     * the caller has the current version of the content
      */
     @GET
     public Response getContent(@PathParam("spaceID") String spaceID,
                                @PathParam("contentID") String contentID,
                                @QueryParam("storeID") String storeID,
                                @QueryParam("attachment") boolean attachment,
-                               @HeaderParam(RANGE_HEADER) String range) {
+                               @HeaderParam(RANGE_HEADER) String range,
+                               @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                               @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince) {
         StringBuilder msg = new StringBuilder("getting content(");
         msg.append(spaceID);
         msg.append(", ");
@@ -100,7 +113,8 @@ public class ContentRest extends BaseRest {
 
         try {
             log.debug(msg.toString());
-            return doGetContent(spaceID, contentID, storeID, attachment, range);
+            return doGetContent(spaceID, contentID, storeID, attachment, range,
+                                ifNoneMatch, ifModifiedSince);
 
         } catch (InvalidRequestException e) {
             return responseBad(msg.toString(), e, BAD_REQUEST);
@@ -123,7 +137,19 @@ public class ContentRest extends BaseRest {
                                   String contentID,
                                   String storeID,
                                   boolean attachment,
-                                  String range) throws InvalidRequestException, ResourceException {
+                                  String range,
+                                  String ifNoneMatch,
+                                  String ifModifiedSince) throws InvalidRequestException, ResourceException {
+        if (null != ifNoneMatch || null != ifModifiedSince) {
+            // Check properties first, so that the content stream is not
+            // opened if the caller has the current version
+            Map<String, String> properties =
+                contentResource.getContentProperties(spaceID, contentID, storeID);
+            if (isNotModified(properties, ifNoneMatch, ifModifiedSince)) {
+                return notModifiedResponse(properties);
+            }
+        }
+
         RetrievedContent retrievedContent = contentResource.getContent(spaceID, contentID, storeID, range);
         InputStream content = new AutoCloseInputStream(retrievedContent.getContentStream());
 
@@ -155,12 +181,16 @@ public class ContentRest extends BaseRest {
     /**
      * see ContentResource.getContentProperties()
      *
-     * @return 200 response with content properties as headers
+     * @return 200 response with content properties as headers, or 304 response
+     * if the If-None-Match or If-Modified-Since header indicates that the caller
+     * has the current version of the content
      */
     @HEAD
     public Response getContentProperties(@PathParam("spaceID") String spaceID,
                                          @PathParam("contentID") String contentID,
-                                         @QueryParam("storeID") String storeID) {
+                                         @QueryParam("storeID") String storeID,
+                                         @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                                         @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince) {
         StringBuilder msg = new StringBuilder("getting content properties(");
         msg.append(spaceID);
         msg.append(", ");
@@ -174,6 +204,9 @@ public class ContentRest extends BaseRest {
                 contentResource.getContentProperties(spaceID, contentID, storeID);
 
             log.debug(msg.toString());
+            if (isNotModified(properties, ifNoneMatch, ifModifiedSince)) {
+                return notModifiedResponse(properties);
+            }
             return addContentPropertiesToResponse(Response.ok(), properties);
 
         } catch (ResourceNotFoundException e) {
@@ -187,6 +220,100 @@ public class ContentRest extends BaseRest {
         }
     }
 
+    /**
+     * Determines if the caller already has the current version of a content
+     * item, based on the If-None-Match and If-Modified-Since request headers.
+     * If-Modified-Since is only considered when If-None-Match is not provided.
+     * See https://tools.ietf.org/html/rfc7232#section-6
+     */
+    protected boolean isNotModified(Map<String, String> properties,
+                                    String ifNoneMatch,
+                                    String ifModifiedSince) {
+        if (null == properties) {
+            return false;
+        }
+
+        if (StringUtils.isNotBlank(ifNoneMatch)) {
+            String etag = getETag(properties);
+            if (null == etag) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || StringUtils.strip(tag, "\"").equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (StringUtils.isNotBlank(ifModifiedSince)) {
+            Date modified = parseHttpDate(getLastModified(properties));
+            Date since = parseHttpDate(ifModifiedSince);
+            // HTTP dates are only precise to the second
+            return null != modified && null != since &&
+                   modified.getTime() / 1000 <= since.getTime() / 1000;
+        }
+        return false;
+    }
+
+    private Response notModifiedResponse(Map<String, String> properties) {
+        ResponseBuilder response = Response.notModified();
+        String etag = getETag(properties);
+        if (null != etag) {
+            response.header(HttpHeaders.ETAG, etag);
+        }
+        String lastModified = getLastModified(properties);
+        if (null != lastModified) {
+            response.header(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        return response.build();
+    }
+
+    /*
+     * Provides the ETag of a content item, chosen in the same order as in
+     * addContentPropertiesToResponse()
+     */
+    private String getETag(Map<String, String> properties) {
+        String[] etagProps = {StorageProvider.PROPERTIES_CONTENT_CHECKSUM,
+                              StorageProvider.PROPERTIES_CONTENT_MD5,
+                              HttpHeaders.CONTENT_MD5,
+                              HttpHeaders.ETAG};
+        for (String etagProp : etagProps) {
+            if (null != properties.get(etagProp)) {
+                return properties.get(etagProp);
+            }
+        }
+        return null;
+    }
+
+    private String getLastModified(Map<String, String> properties) {
+        String contentModified =
+            properties.get(StorageProvider.PROPERTIES_CONTENT_MODIFIED);
+        return null != contentModified ?
+               contentModified : properties.get(HttpHeaders.LAST_MODIFIED);
+    }
+
+    /*
+     * Parses either the DuraCloud date format used in the Last-Modified
+     * header or the standard HTTP date format
+     */
+    private Date parseHttpDate(String date) {
+        if (null == date) {
+            return null;
+        }
+        for (DateUtil.DateFormat format : new DateUtil.DateFormat[] {
+            DateUtil.DateFormat.DEFAULT_FORMAT, DateUtil.DateFormat.VERBOSE_FORMAT}) {
+            try {
+                return DateUtil.convertToDate(date, format);
+            } catch (ParseException e) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
     /**
      * Adds the properties of a content item as header values to the response.
      * See http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.1
@@ -410,7 +537,12 @@ public class ContentRest extends BaseRest {
     /**
      * see ContentResource.addContent()
      *
-     * @return 201 response indicating content added successfully
+     * An If-None-Match header with a value of * makes the write create-only.
+     * The replace properties header makes the write replace the properties
+     * of any existing version rather than merge with them.
+     *
+     * @return 201 response indicating content added successfully, or 412
+     * response if the write is create-only and the content already exists
      */
     private Response addContent(String spaceID, String contentID, String storeID) {
 
@@ -438,6 +570,9 @@ public class ContentRest extends BaseRest {
         } catch (ResourceChecksumException e) {
             return responseBad(msg.toString(), e, CONFLICT);
 
+        } catch (ResourceExistsException e) {
+            return responseBad(msg.toString(), e, PRECONDITION_FAILED);
+
         } catch (ResourceException e) {
             return responseBad(msg.toString(), e, INTERNAL_SERVER_ERROR);
 
@@ -465,7 +600,8 @@ public class ContentRest extends BaseRest {
                                                   getProperties(content.getMimeType(), contentEncoding),
                                                   content.getSize(),
                                                   checksum,
-                                                  storeID);
+                                                  storeID,
+                                                  getWriteMode(rHeaders));
             URI location = uriInfo.getRequestUri();
             Map<String, String> properties = new HashMap<>();
             properties.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, checksum);
@@ -479,6 +615,15 @@ public class ContentRest extends BaseRest {
         }
     }
 
+    protected ContentWriteMode getWriteMode(MultivaluedMap<String, String> rHeaders) {
+        if ("*".equals(StringUtils.trim(rHeaders.getFirst(HttpHeaders.IF_NONE_MATCH)))) {
+            return ContentWriteMode.CREATE_ONLY;
+        } else if (Boolean.parseBoolean(rHeaders.getFirst(Constants.REPLACE_PROPERTIES_HEADER))) {
+            return ContentWriteMode.REPLACE_PROPERTIES;
+        }
+        return ContentWriteMode.MERGE_PROPERTIES;
+    }
+
     private String getContentEncoding(MultivaluedMap<String, String> rHeaders) {
         return rHeaders.getFirst(CONTENT_ENCODING);
     }
@@ -495,8 +640,11 @@ public class ContentRest extends BaseRest {
 
     /**
      * see ContentResource.copyContent()
+     * see ContentResource.copyContentAsync()
      *
-     * @return 201 response indicating content copied successfully
+     * @return 201 response indicating content copied successfully, or 202
+     * response with the location of the copy status if the Prefer header
+     * requests that the copy be done asynchronously
      */
     private Response copyContent(String spaceID,
                                  String contentID,
@@ -529,6 +677,9 @@ public class ContentRest extends BaseRest {
         } catch (ResourceStateException e) {
             return responseBad(msg.toString(), e, CONFLICT);
 
+        } catch (ResourceChecksumException e) {
+            return responseBad(msg.toString(), e, CONFLICT);
+
         } catch (ResourceException e) {
             return responseBad(msg.toString(), e, INTERNAL_SERVER_ERROR);
 
@@ -584,6 +735,23 @@ public class ContentRest extends BaseRest {
         msg.append(srcContentID);
         msg.append(")");
         log.info(msg.toString());
+
+        if (isRespondAsync(headers.getRequestHeaders())) {
+            ContentCopyStatus status = contentResource.copyContentAsync(getAccountId(),
+                                                                        getUsername(),
+                                                                        sourceStoreID,
+                                                                        srcSpaceID,
+                                                                        srcContentID,
+                                                                        storeID,
+                                                                        destSpaceID,
+                                                                        destContentID);
+            URI statusLocation = uriInfo.getBaseUriBuilder()
+                                        .path("aux/copy")
+                                        .path(status.getCopyId())
+                                        .build();
+            return Response.accepted(status).location(statusLocation).build();
+        }
+
         String checksum = contentResource.copyContent(sourceStoreID,
                                                       srcSpaceID,
                                                       srcContentID,
@@ -599,6 +767,18 @@ public class ContentRest extends BaseRest {
                                               properties);
     }
 
+    protected boolean isRespondAsync(MultivaluedMap<String, String> rHeaders) {
+        String prefer = rHeaders.getFirst(HttpHeaders.PREFER);
+        if (null != prefer) {
+            for (String preference : prefer.split(",")) {
+                if (RESPOND_ASYNC.equalsIgnoreCase(preference.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private String getSpaceId(String copySource) {
         String[] spaceAndContent = splitSpaceAndContentIds(copySource);
         return null == spaceAndContent ? null : spaceAndContent[0];
@@ -77,6 +77,7 @@ public class ManifestRest extends BaseRest {
 
     @Path("/{spaceId}")
     @GET
+    @Compressed
     public Response getManifest(@PathParam("spaceId") String spaceId,
                                 @QueryParam("format") String format,
                                 @QueryParam("storeID") String storeId) {
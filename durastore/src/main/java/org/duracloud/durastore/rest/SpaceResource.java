@@ -65,7 +65,7 @@ public class SpaceResource {
                 spacesElem.addContent(spaceElem);
             }
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("Error attempting to build spaces XML",
                                         e);
         }
@@ -89,7 +89,7 @@ public class SpaceResource {
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("retrieve space properties for", spaceID, e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("retrieve space properties for", spaceID, e);
         }
     }
@@ -108,13 +108,16 @@ public class SpaceResource {
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("retrieve space ACLs for", spaceID, e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("retrieve space ACLs for", spaceID, e);
         }
     }
 
     /**
-     * Gets a listing of the contents of a space.
+     * Gets a listing of the contents of a space. As the listing is retrieved
+     * along with the space properties when a space is displayed, a listing
+     * from the start of the space also brings the item count and size of the
+     * space up to date in the background.
      *
      * @param spaceID
      * @param storeID
@@ -145,10 +148,14 @@ public class SpaceResource {
                     spaceElem.addContent(contentElem);
                 }
             }
+
+            if (null == marker || marker.isEmpty()) {
+                storageProviderFactory.getSpaceStatsIndex(storeID).refresh(spaceID);
+            }
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("build space XML for", spaceID, e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("build space XML for", spaceID, e);
         }
 
@@ -176,7 +183,7 @@ public class SpaceResource {
         } catch (NotFoundException e) {
             throw new InvalidIdException(e.getMessage());
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("add space", spaceID, e);
         }
     }
@@ -231,7 +238,7 @@ public class SpaceResource {
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("update space ACLs for", spaceID, e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("update space ACLs for", spaceID, e);
         }
     }
@@ -249,7 +256,7 @@ public class SpaceResource {
         } catch (NotFoundException e) {
             throw new ResourceNotFoundException("delete space", spaceID, e);
         } catch (Exception e) {
-            storageProviderFactory.expireStorageProvider(storeID);
+            storageProviderFactory.expireStorageProvider(storeID, e);
             throw new ResourceException("delete space", spaceID, e);
         }
     }
@@ -92,6 +92,7 @@ public class SpaceRest extends BaseRest {
     @Path("/{spaceID}")
     @GET
     @Produces(XML)
+    @Compressed
     public Response getSpace(@PathParam("spaceID") String spaceID,
                              @QueryParam("storeID") String storeID,
                              @QueryParam("prefix") String prefix,
@@ -39,6 +39,7 @@ import org.springframework.stereotype.Component;
  * @author Daniel Bernstein Date: 2/25/2016
  */
 @Path("/report")
+@Compressed
 @Component
 public class StorageStatsRest extends BaseRest {
 
@@ -8,11 +8,17 @@
 package org.duracloud.durastore.rest;
 
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import org.duracloud.common.util.metrics.LatencySnapshot;
 import org.duracloud.storage.domain.StorageAccount;
+import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.util.StorageProviderFactory;
 import org.duracloud.storage.xml.StorageAccountsDocumentBinding;
@@ -70,6 +76,34 @@ public class StoreRest extends BaseRest {
         return responseOkXml(msg, xml);
     }
 
+    /**
+     * Provides the call latency metrics collected for a storage provider
+     *
+     * @param storeID ID of the storage provider, defaults to the primary
+     * @return 200 response with JSON listing metrics by operation, or 404
+     * response if no storage provider exists with the given ID
+     */
+    @Path("/metrics")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getStoreMetrics(@QueryParam("storeID") String storeID) {
+        String msg = "getting store metrics(" + storeID + ")";
+        try {
+            Map<String, LatencySnapshot> metrics =
+                storageProviderFactory.getStorageProviderMetrics(storeID)
+                                      .getSnapshot();
+            log.debug(msg);
+            return responseOk(metrics);
+
+        } catch (NotFoundException e) {
+            log.debug("Not found: " + msg, e);
+            return responseNotFound(e.getMessage());
+
+        } catch (Exception e) {
+            return responseBad(msg, e);
+        }
+    }
+
     private Response responseOkXml(String msg, String xml) {
         log.debug(msg);
         return Response.ok(xml, APPLICATION_XML).build();
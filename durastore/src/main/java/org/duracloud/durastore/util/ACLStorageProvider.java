@@ -368,6 +368,12 @@ public class ACLStorageProvider implements StorageProvider {
         targetProvider.deleteContent(spaceId, contentId);
     }
 
+    @Override
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds) {
+        return targetProvider.deleteContents(spaceId, contentIds);
+    }
+
     @Override
     public void setContentProperties(String spaceId,
                                      String contentId,
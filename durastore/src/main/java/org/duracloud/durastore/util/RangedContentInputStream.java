@@ -0,0 +1,196 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+import org.duracloud.storage.provider.StorageProvider;
+
+/**
+ * Reads a content item as a series of byte ranges which are retrieved in
+ * parallel. Up to prefetchCount ranges are retrieved ahead of the range
+ * being read, and the ranges are returned in order, so the stream reads the
+ * content item from start to end at a rate that depends on bandwidth rather
+ * than on the throughput of a single connection.
+ *
+ * @author agent
+ */
+public class RangedContentInputStream extends InputStream {
+
+    private StorageProvider storageProvider;
+    private StorageProvider rangeStorageProvider;
+    private String spaceId;
+    private String contentId;
+    private long contentSize;
+    private int rangeSize;
+    private int prefetchCount;
+    private ExecutorService executor;
+
+    private long nextRangeStart = 0;
+    private Deque<Future<byte[]>> prefetched = new ArrayDeque<>();
+    private byte[] currentRange;
+    private int position;
+
+    /**
+     * @param storageProvider the provider from which to read content
+     * @param spaceId         the space of the content item
+     * @param contentId       the ID of the content item
+     * @param contentSize     the size in bytes of the content item
+     * @param rangeSize       the size in bytes of each range to be read
+     * @param prefetchCount   the number of ranges to read ahead
+     * @param executor        the executor used to read ranges
+     */
+    public RangedContentInputStream(StorageProvider storageProvider,
+                                    String spaceId,
+                                    String contentId,
+                                    long contentSize,
+                                    int rangeSize,
+                                    int prefetchCount,
+                                    ExecutorService executor) {
+        this(storageProvider,
+             storageProvider,
+             spaceId,
+             contentId,
+             contentSize,
+             rangeSize,
+             prefetchCount,
+             executor);
+    }
+
+    /**
+     * @param storageProvider      the provider from which to read the first
+     *                             range of content, through which the read of
+     *                             the content item is recorded
+     * @param rangeStorageProvider the provider from which to read the
+     *                             remaining ranges of content
+     * @param spaceId              the space of the content item
+     * @param contentId            the ID of the content item
+     * @param contentSize          the size in bytes of the content item
+     * @param rangeSize            the size in bytes of each range to be read
+     * @param prefetchCount        the number of ranges to read ahead
+     * @param executor             the executor used to read ranges
+     */
+    public RangedContentInputStream(StorageProvider storageProvider,
+                                    StorageProvider rangeStorageProvider,
+                                    String spaceId,
+                                    String contentId,
+                                    long contentSize,
+                                    int rangeSize,
+                                    int prefetchCount,
+                                    ExecutorService executor) {
+        this.storageProvider = storageProvider;
+        this.rangeStorageProvider = rangeStorageProvider;
+        this.spaceId = spaceId;
+        this.contentId = contentId;
+        this.contentSize = contentSize;
+        this.rangeSize = rangeSize;
+        this.prefetchCount = prefetchCount;
+        this.executor = executor;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fillCurrentRange()) {
+            return -1;
+        }
+        return currentRange[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fillCurrentRange()) {
+            return -1;
+        }
+        int count = Math.min(length, currentRange.length - position);
+        System.arraycopy(currentRange, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return null == currentRange ? 0 : currentRange.length - position;
+    }
+
+    @Override
+    public void close() {
+        for (Future<byte[]> range : prefetched) {
+            range.cancel(true);
+        }
+        prefetched.clear();
+        currentRange = null;
+        nextRangeStart = contentSize;
+    }
+
+    /*
+     * Moves to the next range once the current range has been read.
+     * Returns false when all ranges have been read.
+     */
+    private boolean fillCurrentRange() throws IOException {
+        while (null == currentRange || position >= currentRange.length) {
+            fillPrefetchQueue();
+            if (prefetched.isEmpty()) {
+                return false;
+            }
+            currentRange = getRange(prefetched.removeFirst());
+            position = 0;
+        }
+        return true;
+    }
+
+    private void fillPrefetchQueue() {
+        while (prefetched.size() < prefetchCount && nextRangeStart < contentSize) {
+            final long start = nextRangeStart;
+            final long end = Math.min(start + rangeSize, contentSize) - 1;
+            prefetched.addLast(executor.submit(() -> readRange(start, end)));
+            nextRangeStart = end + 1;
+        }
+    }
+
+    private byte[] getRange(Future<byte[]> range) throws IOException {
+        try {
+            return range.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("Interrupted reading " + contentId);
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Unable to read range of " + contentId, cause);
+        }
+    }
+
+    protected byte[] readRange(long start, long end) throws IOException {
+        String range = "bytes=" + start + "-" + end;
+        StorageProvider provider = start == 0 ? storageProvider : rangeStorageProvider;
+        try (InputStream content =
+                 provider.getContent(spaceId, contentId, range).getContentStream()) {
+            byte[] bytes = new byte[(int) (end - start + 1)];
+            IOUtils.readFully(content, bytes);
+            return bytes;
+        }
+    }
+
+}
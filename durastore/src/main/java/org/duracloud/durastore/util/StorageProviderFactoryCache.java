@@ -8,6 +8,7 @@
 package org.duracloud.durastore.util;
 
 import java.net.InetAddress;
+import java.util.concurrent.ExecutorService;
 
 import org.duracloud.account.db.repo.DuracloudMillRepo;
 import org.duracloud.common.cache.AbstractAccountComponentCache;
@@ -36,6 +37,7 @@ public class StorageProviderFactoryCache extends AbstractAccountComponentCache<S
     private DuracloudMillRepo millRepo;
     private DuraCloudRequestContextUtil contextUtil;
     private AccountChangeNotifier notifier;
+    private ExecutorService lookupExecutor;
 
     private Logger log = LoggerFactory.getLogger(StorageProviderFactoryCache.class);
 
@@ -44,7 +46,8 @@ public class StorageProviderFactoryCache extends AbstractAccountComponentCache<S
                                        UserUtil userUtil,
                                        DuracloudMillRepo millRepo,
                                        AccountChangeNotifier notifier,
-                                       DuraCloudRequestContextUtil contextUtil) {
+                                       DuraCloudRequestContextUtil contextUtil,
+                                       ExecutorService lookupExecutor) {
         super();
         this.storageAccountManagerFactory = storageAccountManagerFactory;
         this.statelessStorageProvider = statelessStorageProvider;
@@ -52,6 +55,7 @@ public class StorageProviderFactoryCache extends AbstractAccountComponentCache<S
         this.millRepo = millRepo;
         this.contextUtil = contextUtil;
         this.notifier = notifier;
+        this.lookupExecutor = lookupExecutor;
     }
 
     @Override
@@ -103,7 +107,8 @@ public class StorageProviderFactoryCache extends AbstractAccountComponentCache<S
                                            userUtil,
                                            this.contextUtil,
                                            this.notifier,
-                                           auditConfig);
+                                           auditConfig,
+                                           this.lookupExecutor);
 
         return factory;
     }
@@ -8,11 +8,15 @@
 package org.duracloud.durastore.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.amazonaws.AmazonServiceException;
 import org.duracloud.audit.provider.AuditStorageProvider;
 import org.duracloud.common.queue.TaskQueue;
 import org.duracloud.common.queue.aws.SQSTaskQueue;
@@ -20,6 +24,7 @@ import org.duracloud.common.queue.noop.NoopTaskQueue;
 import org.duracloud.common.rest.DuraCloudRequestContextUtil;
 import org.duracloud.common.sns.AccountChangeNotifier;
 import org.duracloud.common.util.UserUtil;
+import org.duracloud.common.util.metrics.OperationMetrics;
 import org.duracloud.durastore.test.MockRetryStorageProvider;
 import org.duracloud.durastore.test.MockVerifyCreateStorageProvider;
 import org.duracloud.durastore.test.MockVerifyDeleteStorageProvider;
@@ -35,12 +40,15 @@ import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.provider.BrokeredStorageProvider;
+import org.duracloud.storage.provider.MetricsStorageProvider;
 import org.duracloud.storage.provider.StatelessStorageProvider;
 import org.duracloud.storage.provider.StorageProvider;
 import org.duracloud.storage.provider.StorageProviderBase;
+import org.duracloud.storage.util.SpaceStatsIndex;
 import org.duracloud.storage.util.StorageProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 
 /**
  * Provides access to StorageProvider implementations
@@ -53,13 +61,31 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
     private Logger log =
         LoggerFactory.getLogger(StorageProviderFactoryImpl.class);
 
+    public static final long DEFAULT_MIN_EXPIRY_INTERVAL = 60000;
+
+    // Error codes which indicate that the credentials of a provider are invalid
+    private static final List<String> CREDENTIAL_ERROR_CODES =
+        Arrays.asList("InvalidAccessKeyId",
+                      "SignatureDoesNotMatch",
+                      "ExpiredToken",
+                      "InvalidToken",
+                      "InvalidClientTokenId",
+                      "TokenRefreshRequired");
+
     private StatelessStorageProvider statelessProvider;
     private Map<String, StorageProvider> storageProviders;
+    private Map<String, StorageProvider> unauditedStorageProviders;
+    private Map<String, SpaceStatsIndex> spaceStatsIndexes;
+    private Map<String, OperationMetrics> storageProviderMetrics;
     private UserUtil userUtil;
     private TaskQueue auditQueue;
+    private ExecutorService lookupExecutor;
     private boolean cacheStorageProvidersOnInit = false;
     private DuraCloudRequestContextUtil contextUtil;
     private AccountChangeNotifier notifier;
+    private Map<String, Long> storageProviderExpiryTimes;
+    private AtomicLong storageProviderExpiryCount;
+    private long minExpiryInterval = DEFAULT_MIN_EXPIRY_INTERVAL;
 
     public StorageProviderFactoryImpl(StorageAccountManager storageAccountManager,
                                       StatelessStorageProvider statelessStorageProvider,
@@ -83,11 +109,15 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
         super(storageAccountManager);
         this.statelessProvider = statelessStorageProvider;
         this.storageProviders = new ConcurrentHashMap<>();
+        this.unauditedStorageProviders = new ConcurrentHashMap<>();
+        this.spaceStatsIndexes = new ConcurrentHashMap<>();
+        this.storageProviderMetrics = new ConcurrentHashMap<>();
         this.userUtil = userUtil;
         this.cacheStorageProvidersOnInit = cacheStorageProvidersOnInit;
         this.contextUtil = contextUtil;
         this.notifier = notifier;
-
+        this.storageProviderExpiryTimes = new ConcurrentHashMap<>();
+        this.storageProviderExpiryCount = new AtomicLong();
     }
 
     public StorageProviderFactoryImpl(StorageAccountManager storageAccountManager,
@@ -100,6 +130,22 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
         configureAuditQueue(auditConfig);
     }
 
+    /**
+     * @param lookupExecutor shared by the storage providers of all accounts
+     *                       to look up content items being deleted in bulk
+     */
+    public StorageProviderFactoryImpl(StorageAccountManager storageAccountManager,
+                                      StatelessStorageProvider statelessStorageProvider,
+                                      UserUtil userUtil,
+                                      DuraCloudRequestContextUtil contextUtil,
+                                      AccountChangeNotifier notifier,
+                                      AuditConfig auditConfig,
+                                      ExecutorService lookupExecutor) {
+        this(storageAccountManager, statelessStorageProvider, userUtil,
+             contextUtil, notifier, auditConfig);
+        this.lookupExecutor = lookupExecutor;
+    }
+
     @Override
     public void initialize(DuraStoreInitConfig initConfig,
                            String instanceHost,
@@ -113,6 +159,8 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
 
     private void initializeStorageProviders() {
         this.storageProviders = new ConcurrentHashMap<>();
+        this.unauditedStorageProviders = new ConcurrentHashMap<>();
+        this.spaceStatsIndexes = new ConcurrentHashMap<>();
         if (this.cacheStorageProvidersOnInit) {
             log.info("Caching storage providers on init is enabled: building storage provider cache...");
             Iterator<String> ids = getAccountManager().getStorageAccountIds();
@@ -232,29 +280,109 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
                                        + storageAccountId + "): unable to create");
         }
 
-        StorageProvider auditProvider =
+        // Lookups run as the caller, so that they are audited as its reads
+        ExecutorService auditLookupExecutor = null;
+        if (null != lookupExecutor) {
+            auditLookupExecutor =
+                new DelegatingSecurityContextExecutorService(lookupExecutor);
+        }
+        AuditStorageProvider auditProvider =
             new AuditStorageProvider(storageProvider,
                                      storageAccountManager.getAccountName(),
                                      storageAccountId,
                                      type.getName(),
                                      userUtil,
-                                     auditQueue);
+                                     auditQueue,
+                                     auditLookupExecutor);
 
         if (storageProvider instanceof StorageProviderBase) {
             ((StorageProviderBase) storageProvider).setWrappedStorageProvider(auditProvider);
         }
 
         StorageProvider aclProvider = new ACLStorageProvider(auditProvider, notifier, contextUtil);
+        StorageProvider metricsProvider =
+            new MetricsStorageProvider(aclProvider,
+                                       getMetrics(storageAccountId));
         StorageProvider brokeredProvider =
             new BrokeredStorageProvider(statelessProvider,
-                                        aclProvider,
+                                        metricsProvider,
                                         type,
                                         storageAccountId);
 
+        unauditedStorageProviders.put(storageAccountId, storageProvider);
+        spaceStatsIndexes.put(storageAccountId, auditProvider.getSpaceStatsIndex());
         storageProviders.put(storageAccountId, brokeredProvider);
         return brokeredProvider;
     }
 
+    /**
+     * Retrieves a storage provider without the auditing, access control, and
+     * metrics layers. The provider is created and cached along with the
+     * provider returned by getStorageProvider().
+     *
+     * @param storageAccountId - the ID of the storage provider account
+     * @return
+     * @throws StorageException
+     */
+    @Override
+    public StorageProvider getUnauditedStorageProvider(String storageAccountId)
+        throws StorageException {
+        storageAccountId = checkStorageAccountId(storageAccountId);
+
+        StorageProvider storageProvider = unauditedStorageProviders.get(storageAccountId);
+        if (null == storageProvider) {
+            getStorageProvider(storageAccountId);
+            storageProvider = unauditedStorageProviders.get(storageAccountId);
+        }
+        return storageProvider;
+    }
+
+    /**
+     * Retrieves the index of space item counts and sizes kept by the audit
+     * layer of a storage provider. The index is created and cached along
+     * with the provider returned by getStorageProvider().
+     *
+     * @param storageAccountId - the ID of the storage provider account
+     * @return
+     * @throws StorageException
+     */
+    @Override
+    public SpaceStatsIndex getSpaceStatsIndex(String storageAccountId)
+        throws StorageException {
+        storageAccountId = checkStorageAccountId(storageAccountId);
+
+        SpaceStatsIndex spaceStatsIndex = spaceStatsIndexes.get(storageAccountId);
+        if (null == spaceStatsIndex) {
+            getStorageProvider(storageAccountId);
+            spaceStatsIndex = spaceStatsIndexes.get(storageAccountId);
+        }
+        return spaceStatsIndex;
+    }
+
+    /**
+     * Provides the call latency metrics for a storage provider. Metrics are
+     * kept separately from the storage provider cache so that they carry
+     * across storage provider expiration.
+     *
+     * @param storageAccountId - the ID of the storage provider account
+     * @return metrics for the storage provider
+     * @throws NotFoundException if no storage account exists with the given ID
+     */
+    @Override
+    public OperationMetrics getStorageProviderMetrics(String storageAccountId) {
+        storageAccountId = checkStorageAccountId(storageAccountId);
+        if (!storageProviderMetrics.containsKey(storageAccountId) &&
+            null == getAccountManager().getStorageAccount(storageAccountId)) {
+            throw new NotFoundException("No store exists with ID " + storageAccountId);
+        }
+        return getMetrics(storageAccountId);
+    }
+
+    private OperationMetrics getMetrics(String storageAccountId) {
+        return storageProviderMetrics.computeIfAbsent(storageAccountId,
+                                                      id -> new OperationMetrics());
+    }
+
     private String checkStorageAccountId(String storageAccountId) {
         if (null == storageAccountId) {
             return getAccountManager().getPrimaryStorageAccount().getId();
@@ -273,7 +401,77 @@ public class StorageProviderFactoryImpl extends ProviderFactoryBase
         storageAccountId = checkStorageAccountId(storageAccountId);
 
         log.info("Expiring storage provider connection!  Storage account id: {}", storageAccountId);
+        storageProviderExpiryTimes.put(storageAccountId, currentTimeMillis());
+        storageProviderExpiryCount.incrementAndGet();
         storageProviders.remove(storageAccountId);
+        unauditedStorageProviders.remove(storageAccountId);
+        SpaceStatsIndex spaceStatsIndex = spaceStatsIndexes.remove(storageAccountId);
+        if (null != spaceStatsIndex) {
+            spaceStatsIndex.shutdown();
+        }
+    }
+
+    /**
+     * Removes a particular storage provider from the cache when the failure
+     * of a call indicates that its credentials or configuration are no longer
+     * valid. Transient failures (timeouts, throttling, bad requests) do not
+     * expire the provider, and a provider is not expired more than once in
+     * the minimum expiry interval, so that a burst of failures does not
+     * cause the provider to be rebuilt on every call.
+     *
+     * @param storageAccountId - the ID of the storage provider account
+     * @param cause - the failure of the call to the storage provider
+     */
+    @Override
+    public void expireStorageProvider(String storageAccountId, Exception cause) {
+        if (!isExpiryRequired(cause)) {
+            log.debug("Retaining storage provider connection after failure: {}",
+                      String.valueOf(cause));
+            return;
+        }
+
+        storageAccountId = checkStorageAccountId(storageAccountId);
+        Long lastExpiry = storageProviderExpiryTimes.get(storageAccountId);
+        if (null != lastExpiry &&
+            currentTimeMillis() - lastExpiry < minExpiryInterval) {
+            log.info("Storage provider connection for storage account id {} " +
+                     "was expired within the last {} ms, not expiring again",
+                     storageAccountId, minExpiryInterval);
+            return;
+        }
+        expireStorageProvider(storageAccountId);
+    }
+
+    /*
+     * Determines if a failure is caused by invalid credentials or
+     * configuration, in which case the storage provider must be rebuilt
+     */
+    protected boolean isExpiryRequired(Throwable cause) {
+        while (null != cause) {
+            if (cause instanceof AmazonServiceException) {
+                AmazonServiceException ase = (AmazonServiceException) cause;
+                int status = ase.getStatusCode();
+                if (status == 401 || status == 403 ||
+                    CREDENTIAL_ERROR_CODES.contains(ase.getErrorCode())) {
+                    return true;
+                }
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public long getStorageProviderExpiryCount() {
+        return storageProviderExpiryCount.get();
+    }
+
+    public void setMinExpiryInterval(long minExpiryInterval) {
+        this.minExpiryInterval = minExpiryInterval;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
     }
 
 }
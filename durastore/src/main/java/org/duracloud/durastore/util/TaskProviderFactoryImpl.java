@@ -8,15 +8,21 @@
 package org.duracloud.durastore.util;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.amazonaws.services.cloudfront.AmazonCloudFrontClient;
+import com.amazonaws.services.cloudfront.model.DistributionSummary;
+import com.amazonaws.services.cloudfront.model.StreamingDistributionSummary;
 import com.amazonaws.services.s3.AmazonS3;
 import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.glaciertask.BulkRestoreAccountState;
+import org.duracloud.glaciertask.BulkRestoreContentTaskRunner;
 import org.duracloud.glaciertask.GlacierTaskProvider;
 import org.duracloud.mill.manifest.ManifestStore;
 import org.duracloud.s3storage.S3ProviderUtil;
 import org.duracloud.s3storage.S3StorageProvider;
 import org.duracloud.s3storage.StringDataStoreFactory;
+import org.duracloud.s3task.DistributionCache;
 import org.duracloud.s3task.S3TaskProvider;
 import org.duracloud.snapshotstorage.ChronopolisStorageProvider;
 import org.duracloud.snapshotstorage.SnapshotStorageProvider;
@@ -42,12 +48,23 @@ public class TaskProviderFactoryImpl extends ProviderFactoryBase
     private StorageProviderFactory storageProviderFactory;
     private ManifestStore manifestStore;
 
+    // Held here, as this factory lives as long as the account while task
+    // providers are created for each request
+    private Map<String, DistributionCache<StreamingDistributionSummary>> streamingDistCaches =
+        new ConcurrentHashMap<>();
+    private Map<String, DistributionCache<DistributionSummary>> hlsDistCaches =
+        new ConcurrentHashMap<>();
+    private Map<String, BulkRestoreAccountState> bulkRestoreStates =
+        new ConcurrentHashMap<>();
+    private StringDataStoreFactory dataStoreFactory;
+
     public TaskProviderFactoryImpl(StorageAccountManager storageAccountManager,
                                    StorageProviderFactory storageProviderFactory,
                                    ManifestStore manifestStore) {
         super(storageAccountManager);
         this.storageProviderFactory = storageProviderFactory;
         this.manifestStore = manifestStore;
+        this.dataStoreFactory = new StringDataStoreFactory(storageAccountManager);
     }
 
     @Override
@@ -84,8 +101,6 @@ public class TaskProviderFactoryImpl extends ProviderFactoryBase
                 S3ProviderUtil.getAmazonS3Client(username, password, account.getOptions());
             AmazonCloudFrontClient cfClient =
                 S3ProviderUtil.getAmazonCloudFrontClient(username, password);
-            StringDataStoreFactory dataStoreFactory =
-                new StringDataStoreFactory(storageAccountManager);
             Map<String, String> opts = account.getOptions();
             String cfAccountId =
                 opts.get(StorageAccount.OPTS.CF_ACCOUNT_ID.name());
@@ -102,7 +117,15 @@ public class TaskProviderFactoryImpl extends ProviderFactoryBase
                                               cfKeyId,
                                               cfKeyPath,
                                               storageAccountId,
-                                              dcHost);
+                                              dcHost,
+                                              streamingDistCaches.computeIfAbsent(
+                                                  storageAccountId,
+                                                  id -> new DistributionCache<>(
+                                                      StreamingDistributionSummary::getId)),
+                                              hlsDistCaches.computeIfAbsent(
+                                                  storageAccountId,
+                                                  id -> new DistributionCache<>(
+                                                      DistributionSummary::getId)));
         } else if (type.equals(StorageProviderType.AMAZON_GLACIER)) {
             GlacierStorageProvider unwrappedGlacierProvider =
                 new GlacierStorageProvider(username, password, account.getOptions());
@@ -111,7 +134,12 @@ public class TaskProviderFactoryImpl extends ProviderFactoryBase
             taskProvider = new GlacierTaskProvider(storageProvider,
                                                    unwrappedGlacierProvider,
                                                    s3Client,
-                                                   storageAccountId);
+                                                   storageAccountId,
+                                                   bulkRestoreStates.computeIfAbsent(
+                                                       storageAccountId,
+                                                       id -> new BulkRestoreAccountState(
+                                                           BulkRestoreContentTaskRunner
+                                                               .DEFAULT_REQUESTS_PER_SECOND)));
         } else if (type.equals(StorageProviderType.CHRONOPOLIS)) {
             SnapshotStorageProvider unwrappedSnapshotProvider =
                 new ChronopolisStorageProvider(username, password);
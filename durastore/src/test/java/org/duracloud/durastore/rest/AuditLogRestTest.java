@@ -0,0 +1,68 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.ws.rs.core.Response;
+
+import org.duracloud.audit.reader.AuditLogReader;
+import org.duracloud.storage.util.StorageProviderFactory;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class AuditLogRestTest {
+
+    private AuditLogRest auditLogRest;
+    private AuditLogReader auditLogReader;
+    private StorageProviderFactory storageProviderFactory;
+
+    private static final String spaceId = "space-id";
+    private static final String storeId = "0";
+
+    @Before
+    public void setUp() {
+        auditLogReader = EasyMock.createMock("AuditLogReader",
+                                             AuditLogReader.class);
+        storageProviderFactory =
+            EasyMock.createMock("StorageProviderFactory",
+                                StorageProviderFactory.class);
+        auditLogRest = new AuditLogRest(auditLogReader, storageProviderFactory);
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(auditLogReader, storageProviderFactory);
+    }
+
+    private void replayMocks() {
+        EasyMock.replay(auditLogReader, storageProviderFactory);
+    }
+
+    @Test
+    public void testGetAuditLogInvalidStart() {
+        replayMocks();
+        Response response =
+            auditLogRest.getAuditLog(spaceId, storeId, "yesterday", null);
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    public void testGetAuditLogInvalidEnd() {
+        replayMocks();
+        Response response =
+            auditLogRest.getAuditLog(spaceId, storeId, "1000", "1.5");
+        assertEquals(400, response.getStatus());
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+
+import org.duracloud.common.constant.Constants;
+import org.duracloud.durastore.error.ResourceNotFoundException;
+import org.duracloud.storage.error.NotFoundException;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BulkContentRestTest {
+
+    private BulkContentRest bulkContentRest;
+    private ContentResource contentResource;
+
+    private static final String spaceId = "space-id";
+    private static final String storeId = "0";
+
+    @Before
+    public void setUp() {
+        contentResource = EasyMock.createMock("ContentResource",
+                                              ContentResource.class);
+        bulkContentRest = new BulkContentRest(contentResource);
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(contentResource);
+    }
+
+    private void replayMocks() {
+        EasyMock.replay(contentResource);
+    }
+
+    @Test
+    public void testGetContentProperties() throws Exception {
+        List<String> contentIds = Arrays.asList("a", "b");
+        Map<String, Map<String, String>> properties = new HashMap<>();
+        properties.put("a", new HashMap<>());
+        EasyMock.expect(contentResource.getBulkContentProperties(spaceId,
+                                                                 contentIds,
+                                                                 storeId))
+                .andReturn(properties);
+        replayMocks();
+
+        Response response =
+            bulkContentRest.getContentProperties(spaceId, storeId, contentIds);
+        assertEquals(200, response.getStatus());
+        assertEquals(properties, response.getEntity());
+    }
+
+    @Test
+    public void testGetContentPropertiesSpaceNotFound() throws Exception {
+        List<String> contentIds = Arrays.asList("a");
+        EasyMock.expect(contentResource.getBulkContentProperties(spaceId,
+                                                                 contentIds,
+                                                                 storeId))
+                .andThrow(new ResourceNotFoundException(
+                    "get properties", spaceId, new NotFoundException(spaceId)));
+        replayMocks();
+
+        Response response =
+            bulkContentRest.getContentProperties(spaceId, storeId, contentIds);
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    public void testGetContentPropertiesInvalidList() throws Exception {
+        replayMocks();
+
+        List<String> contentIds = new ArrayList<>();
+        Response response =
+            bulkContentRest.getContentProperties(spaceId, storeId, contentIds);
+        assertEquals(400, response.getStatus());
+
+        for (int i = 0; i <= Constants.MAX_BULK_ITEMS; i++) {
+            contentIds.add("content-" + i);
+        }
+        response =
+            bulkContentRest.getContentProperties(spaceId, storeId, contentIds);
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    public void testDeleteContent() throws Exception {
+        List<String> contentIds = Arrays.asList("a", "b");
+        Map<String, String> failures = new HashMap<>();
+        failures.put("b", "AccessDenied: Access Denied");
+        EasyMock.expect(contentResource.deleteBulkContent(spaceId,
+                                                          contentIds,
+                                                          storeId))
+                .andReturn(failures);
+        replayMocks();
+
+        Response response =
+            bulkContentRest.deleteContent(spaceId, storeId, contentIds);
+        assertEquals(200, response.getStatus());
+        assertEquals(failures, response.getEntity());
+    }
+
+    @Test
+    public void testDeleteContentInvalidList() throws Exception {
+        replayMocks();
+
+        Response response =
+            bulkContentRest.deleteContent(spaceId, storeId, null);
+        assertEquals(400, response.getStatus());
+    }
+
+}
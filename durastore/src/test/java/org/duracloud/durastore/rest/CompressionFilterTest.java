@@ -0,0 +1,177 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.apache.commons.io.IOUtils;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CompressionFilterTest {
+
+    private CompressionFilter filter;
+    private ContainerRequestContext requestContext;
+    private ContainerResponseContext responseContext;
+    private WriterInterceptorContext writerContext;
+
+    private MultivaluedMap<String, String> requestHeaders;
+    private MultivaluedMap<String, Object> responseHeaders;
+
+    @Before
+    public void setUp() {
+        filter = new CompressionFilter();
+        requestContext = EasyMock.createMock("ContainerRequestContext",
+                                             ContainerRequestContext.class);
+        responseContext = EasyMock.createMock("ContainerResponseContext",
+                                              ContainerResponseContext.class);
+        writerContext = EasyMock.createMock("WriterInterceptorContext",
+                                            WriterInterceptorContext.class);
+        requestHeaders = new MultivaluedHashMap<>();
+        responseHeaders = new MultivaluedHashMap<>();
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(requestContext, responseContext, writerContext);
+    }
+
+    private void replayMocks() {
+        EasyMock.replay(requestContext, responseContext, writerContext);
+    }
+
+    private void setUpFilter(boolean hasEntity) {
+        EasyMock.expect(responseContext.hasEntity()).andReturn(hasEntity);
+        EasyMock.expect(requestContext.getHeaders())
+                .andReturn(requestHeaders).anyTimes();
+        EasyMock.expect(responseContext.getHeaders())
+                .andReturn(responseHeaders).anyTimes();
+        EasyMock.expect(responseContext.getHeaderString(CONTENT_ENCODING))
+                .andReturn(null).anyTimes();
+    }
+
+    @Test
+    public void testFilterGzipAccepted() throws Exception {
+        setUpFilter(true);
+        requestHeaders.add(ACCEPT_ENCODING, "gzip, deflate");
+        responseHeaders.add(CONTENT_LENGTH, 100);
+        replayMocks();
+
+        filter.filter(requestContext, responseContext);
+        assertEquals(CompressionFilter.GZIP,
+                     responseHeaders.getFirst(CONTENT_ENCODING));
+        assertEquals(ACCEPT_ENCODING,
+                     responseHeaders.getFirst(CompressionFilter.VARY));
+        assertNull(responseHeaders.getFirst(CONTENT_LENGTH));
+    }
+
+    @Test
+    public void testFilterGzipNotAccepted() throws Exception {
+        setUpFilter(true);
+        replayMocks();
+
+        filter.filter(requestContext, responseContext);
+        assertNull(responseHeaders.getFirst(CONTENT_ENCODING));
+        assertEquals(ACCEPT_ENCODING,
+                     responseHeaders.getFirst(CompressionFilter.VARY));
+    }
+
+    @Test
+    public void testFilterNoEntity() throws Exception {
+        setUpFilter(false);
+        requestHeaders.add(ACCEPT_ENCODING, "gzip");
+        replayMocks();
+
+        filter.filter(requestContext, responseContext);
+        assertTrue(responseHeaders.isEmpty());
+    }
+
+    @Test
+    public void testAcceptsGzip() {
+        replayMocks();
+
+        assertTrue(filter.acceptsGzip(Arrays.asList("gzip")));
+        assertTrue(filter.acceptsGzip(Arrays.asList("deflate", "x-gzip")));
+        assertTrue(filter.acceptsGzip(Arrays.asList("br;q=1.0, gzip;q=0.5")));
+        assertTrue(filter.acceptsGzip(Arrays.asList("*")));
+        assertFalse(filter.acceptsGzip(null));
+        assertFalse(filter.acceptsGzip(Collections.<String>emptyList()));
+        assertFalse(filter.acceptsGzip(Arrays.asList("identity")));
+        assertFalse(filter.acceptsGzip(Arrays.asList("gzip;q=0")));
+        assertFalse(filter.acceptsGzip(Arrays.asList("gzip;Q=0")));
+        assertFalse(filter.acceptsGzip(Arrays.asList("gzip; q = 0.0")));
+
+        // An explicit gzip entry takes precedence over the wildcard
+        assertFalse(filter.acceptsGzip(Arrays.asList("*, gzip;q=0")));
+        assertFalse(filter.acceptsGzip(Arrays.asList("*", "gzip;q=0")));
+        assertTrue(filter.acceptsGzip(Arrays.asList("*;q=0, gzip")));
+        assertFalse(filter.acceptsGzip(Arrays.asList("identity, *;q=0")));
+    }
+
+    @Test
+    public void testAroundWriteToCompressed() throws Exception {
+        String entity = "<space><item>content-id</item></space>";
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.add(CONTENT_ENCODING, CompressionFilter.GZIP);
+
+        EasyMock.expect(writerContext.getHeaders()).andReturn(headers);
+        EasyMock.expect(writerContext.getOutputStream()).andReturn(outStream);
+        Capture<OutputStream> capturedStream = new Capture<>();
+        writerContext.setOutputStream(EasyMock.capture(capturedStream));
+        EasyMock.expectLastCall();
+        writerContext.proceed();
+        EasyMock.expectLastCall().andAnswer(() -> {
+            capturedStream.getValue().write(entity.getBytes("UTF-8"));
+            return null;
+        });
+        replayMocks();
+
+        filter.aroundWriteTo(writerContext);
+
+        GZIPInputStream gzipStream =
+            new GZIPInputStream(new ByteArrayInputStream(outStream.toByteArray()));
+        assertEquals(entity, IOUtils.toString(gzipStream, "UTF-8"));
+    }
+
+    @Test
+    public void testAroundWriteToUncompressed() throws Exception {
+        EasyMock.expect(writerContext.getHeaders())
+                .andReturn(new MultivaluedHashMap<>());
+        writerContext.proceed();
+        EasyMock.expectLastCall();
+        replayMocks();
+
+        filter.aroundWriteTo(writerContext);
+    }
+
+}
@@ -10,24 +10,42 @@ package org.duracloud.durastore.rest;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.io.IOUtils;
+import org.duracloud.common.constant.ContentWriteMode;
+import org.duracloud.common.util.ChecksumUtil;
 import org.duracloud.durastore.error.ResourceException;
+import org.duracloud.durastore.error.ResourceExistsException;
+import org.duracloud.durastore.error.ResourceNotFoundException;
 import org.duracloud.durastore.error.ResourcePropertiesInvalidException;
 import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.error.InvalidIdException;
+import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.provider.BrokeredStorageProvider;
 import org.duracloud.storage.provider.StorageProvider;
 import org.duracloud.storage.util.StorageProviderFactory;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * @author Andrew Woods Date: 8/17/11
@@ -38,6 +56,7 @@ public class ContentResourceImplTest {
     private StorageProviderFactory storageProviderFactory;
     private BrokeredStorageProvider storageProvider;
     private BrokeredStorageProvider destStorageProvider;
+    private StorageProvider unauditedStorageProvider;
 
     @Before
     public void setUp() throws Exception {
@@ -49,6 +68,8 @@ public class ContentResourceImplTest {
 
         destStorageProvider = EasyMock.createMock("BrokeredDestStorageProvider",
                                                   BrokeredStorageProvider.class);
+        unauditedStorageProvider = EasyMock.createMock("UnauditedStorageProvider",
+                                                       StorageProvider.class);
 
     }
 
@@ -56,13 +77,15 @@ public class ContentResourceImplTest {
     public void tearDown() throws Exception {
         EasyMock.verify(storageProviderFactory,
                         storageProvider,
-                        destStorageProvider);
+                        destStorageProvider,
+                        unauditedStorageProvider);
     }
 
     private void replayMocks() {
         EasyMock.replay(storageProviderFactory,
                         storageProvider,
-                        destStorageProvider);
+                        destStorageProvider,
+                        unauditedStorageProvider);
     }
 
     @Test
@@ -154,6 +177,10 @@ public class ContentResourceImplTest {
 
         EasyMock.expect(storageProviderFactory.getStorageProvider(srcStoreId))
                 .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.getTargetType())
+                .andReturn(StorageProviderType.AMAZON_S3).anyTimes();
+        EasyMock.expect(storageProviderFactory.getUnauditedStorageProvider(srcStoreId))
+                .andReturn(unauditedStorageProvider);
 
         InputStream is = new InputStream() {
             @Override
@@ -172,6 +199,9 @@ public class ContentResourceImplTest {
         content.setContentStream(is);
         content.setContentProperties(map);
 
+        // Content below the ranged copy threshold is copied as a single stream
+        EasyMock.expect(storageProvider.getContentProperties(srcSpaceId, srcContentId))
+                .andReturn(map);
         EasyMock.expect(storageProvider.getContent(srcSpaceId, srcContentId))
                 .andReturn(content);
 
@@ -188,6 +218,113 @@ public class ContentResourceImplTest {
                 .andReturn(expectedMd5);
     }
 
+    @Test
+    public void testInterProviderCopyContentInRanges() throws Exception {
+        String srcSpaceId = "src-space-id";
+        String srcContentId = "src-content-id";
+        String destSpaceId = "dest-space-id";
+        String destContentId = "dest-content-id";
+
+        final byte[] bytes = new byte[10000];
+        new Random().nextBytes(bytes);
+        final String md5 = new ChecksumUtil(ChecksumUtil.Algorithm.MD5)
+            .generateChecksum(new ByteArrayInputStream(bytes));
+
+        Map<String, String> props = new HashMap<>();
+        props.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, md5);
+        props.put(StorageProvider.PROPERTIES_CONTENT_SIZE, String.valueOf(bytes.length));
+        props.put(StorageProvider.PROPERTIES_CONTENT_MIMETYPE, "text/plain");
+
+        EasyMock.expect(storageProviderFactory.getStorageProvider("0"))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProviderFactory.getStorageProvider("1"))
+                .andReturn(destStorageProvider);
+        EasyMock.expect(storageProvider.getTargetType())
+                .andReturn(StorageProviderType.AMAZON_S3).anyTimes();
+        EasyMock.expect(storageProviderFactory.getUnauditedStorageProvider("0"))
+                .andReturn(unauditedStorageProvider);
+        EasyMock.expect(storageProvider.getContentProperties(srcSpaceId, srcContentId))
+                .andReturn(props);
+
+        // Each range is read with a separate request, only the first of
+        // which is read through the audited provider
+        IAnswer<RetrievedContent> rangeAnswer = () -> {
+            String[] bounds = ((String) EasyMock.getCurrentArguments()[2])
+                .substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            int end = Integer.parseInt(bounds[1]);
+            RetrievedContent rangeContent = new RetrievedContent();
+            rangeContent.setContentStream(
+                new ByteArrayInputStream(bytes, start, end - start + 1));
+            return rangeContent;
+        };
+        EasyMock.expect(storageProvider.getContent(srcSpaceId, srcContentId, "bytes=0-999"))
+                .andAnswer(rangeAnswer);
+        EasyMock.expect(unauditedStorageProvider.getContent(EasyMock.eq(srcSpaceId),
+                                                            EasyMock.eq(srcContentId),
+                                                            EasyMock.isA(String.class)))
+                .andAnswer(rangeAnswer).times(9);
+
+        EasyMock.expect(destStorageProvider.addContent(EasyMock.eq(destSpaceId),
+                                                       EasyMock.eq(destContentId),
+                                                       EasyMock.eq("text/plain"),
+                                                       EasyMock.eq(props),
+                                                       EasyMock.eq(10000L),
+                                                       EasyMock.eq(md5),
+                                                       EasyMock.isA(InputStream.class)))
+                .andAnswer(() -> {
+                    InputStream content = (InputStream) EasyMock.getCurrentArguments()[6];
+                    Assert.assertArrayEquals(bytes, IOUtils.toByteArray(content));
+                    return md5;
+                });
+
+        replayMocks();
+
+        contentResource = new ContentResourceImpl(storageProviderFactory, 2, 1000, 5000);
+        String checksum = contentResource.copyContent("0",
+                                                      srcSpaceId,
+                                                      srcContentId,
+                                                      "1",
+                                                      destSpaceId,
+                                                      destContentId);
+        Assert.assertEquals(md5, checksum);
+    }
+
+    @Test
+    public void testCopyContentAsync() throws Exception {
+        createLocalCopyContentMocks("src-space-id",
+                                    "src-content-id",
+                                    "dest-space-id",
+                                    "dest-content-id",
+                                    "2",
+                                    "md5");
+        replayMocks();
+
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+        ContentCopyStatus status = contentResource.copyContentAsync("account",
+                                                                    "user",
+                                                                    "2",
+                                                                    "src-space-id",
+                                                                    "src-content-id",
+                                                                    "2",
+                                                                    "dest-space-id",
+                                                                    "dest-content-id");
+        Assert.assertNotNull(status.getCopyId());
+        Assert.assertSame(status,
+                          contentResource.getCopyStatus("account", "user", status.getCopyId()));
+
+        // The status is only available to the user who requested the copy
+        Assert.assertNull(contentResource.getCopyStatus("account", "other", status.getCopyId()));
+        Assert.assertNull(contentResource.getCopyStatus("other", "user", status.getCopyId()));
+
+        for (int i = 0; i < 100 && status.getState() == ContentCopyStatus.State.IN_PROGRESS; i++) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(ContentCopyStatus.State.COMPLETE, status.getState());
+        Assert.assertEquals("md5", status.getChecksum());
+        Assert.assertNull(contentResource.getCopyStatus("account", "user", "unknown"));
+    }
+
     @Test
     public void testDuracloud757() throws ResourceException, InvalidIdException, ResourcePropertiesInvalidException {
 
@@ -238,7 +375,8 @@ public class ContentResourceImplTest {
                                         props,
                                         size,
                                         checksum,
-                                        storeId);
+                                        storeId,
+                                        ContentWriteMode.MERGE_PROPERTIES);
 
         Map<String, String> p = userProps.getValue();
         assertTrue(p.containsKey(customPropName));
@@ -248,6 +386,225 @@ public class ContentResourceImplTest {
         Assert.assertFalse(p.containsKey(StorageProvider.PROPERTIES_CONTENT_SIZE));
     }
 
+    @Test
+    public void testAddContentReplaceProperties() throws Exception {
+        EasyMock.expect(storageProviderFactory.getStorageProvider("1"))
+                .andReturn(storageProvider);
+
+        // No lookup of existing properties is made
+        Map<String, String> props = new HashMap<>();
+        props.put("name", "value");
+        EasyMock.expect(storageProvider.addContent(EasyMock.eq("testSpace"),
+                                                   EasyMock.eq("testContent"),
+                                                   EasyMock.eq("text/plain"),
+                                                   EasyMock.eq(props),
+                                                   EasyMock.eq(10L),
+                                                   EasyMock.eq("1234"),
+                                                   EasyMock.isA(InputStream.class)))
+                .andReturn("1234");
+
+        replayMocks();
+        this.contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        String checksum = this.contentResource.addContent("testSpace",
+                                                          "testContent",
+                                                          createEmptyInputStream(),
+                                                          "text/plain",
+                                                          props,
+                                                          10,
+                                                          "1234",
+                                                          "1",
+                                                          ContentWriteMode.REPLACE_PROPERTIES);
+        Assert.assertEquals("1234", checksum);
+    }
+
+    @Test
+    public void testAddContentCreateOnly() throws Exception {
+        EasyMock.expect(storageProviderFactory.getStorageProvider("1"))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.getContentProperties("testSpace", "testContent"))
+                .andReturn(new HashMap<>());
+
+        replayMocks();
+        this.contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        try {
+            this.contentResource.addContent("testSpace",
+                                            "testContent",
+                                            createEmptyInputStream(),
+                                            "text/plain",
+                                            new HashMap<>(),
+                                            10,
+                                            "1234",
+                                            "1",
+                                            ContentWriteMode.CREATE_ONLY);
+            fail("Exception expected when the content exists");
+        } catch (ResourceExistsException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetBulkContentProperties() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+        for (String contentId : Arrays.asList("a", "c")) {
+            Map<String, String> props = new HashMap<>();
+            props.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, contentId);
+            EasyMock.expect(storageProvider.getContentProperties(spaceId, contentId))
+                    .andReturn(props);
+        }
+        EasyMock.expect(storageProvider.getContentProperties(spaceId, "b"))
+                .andThrow(new NotFoundException("b"));
+
+        replayMocks();
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        Map<String, Map<String, String>> props =
+            contentResource.getBulkContentProperties(spaceId,
+                                                     Arrays.asList("a", "b", "c"),
+                                                     storeId);
+        Assert.assertEquals(Arrays.asList("a", "c"),
+                            new ArrayList<>(props.keySet()));
+        Assert.assertEquals("c", props.get("c").get(
+            StorageProvider.PROPERTIES_CONTENT_CHECKSUM));
+    }
+
+    @Test
+    public void testGetBulkContentPropertiesBounded() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        int items = 20;
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.getContentProperties(
+            EasyMock.eq(spaceId), EasyMock.isA(String.class)))
+                .andAnswer(() -> {
+                    maxInProgress.accumulateAndGet(inProgress.incrementAndGet(),
+                                                   Math::max);
+                    Thread.sleep(10);
+                    inProgress.decrementAndGet();
+                    return new HashMap<>();
+                }).times(items);
+
+        replayMocks();
+        contentResource =
+            new ContentResourceImpl(storageProviderFactory,
+                                    Executors.newFixedThreadPool(items));
+
+        List<String> contentIds = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            contentIds.add("item-" + i);
+        }
+        Map<String, Map<String, String>> props =
+            contentResource.getBulkContentProperties(spaceId, contentIds, storeId);
+        Assert.assertEquals(contentIds, new ArrayList<>(props.keySet()));
+        Assert.assertTrue(maxInProgress.get() <=
+                          ContentResourceImpl.BULK_LOOKUPS_PER_REQUEST);
+    }
+
+    @Test
+    public void testGetBulkContentPropertiesSecurityContext() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        Authentication caller =
+            new UsernamePasswordAuthenticationToken("user", "password");
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+
+        // Lookups are made (and audited) as the caller
+        EasyMock.expect(storageProvider.getContentProperties(spaceId, "a"))
+                .andAnswer(() -> {
+                    Assert.assertSame(caller, SecurityContextHolder.getContext()
+                                                                   .getAuthentication());
+                    return new HashMap<>();
+                });
+
+        replayMocks();
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        SecurityContextHolder.getContext().setAuthentication(caller);
+        try {
+            Map<String, Map<String, String>> props =
+                contentResource.getBulkContentProperties(spaceId,
+                                                         Arrays.asList("a"),
+                                                         storeId);
+            Assert.assertTrue(props.containsKey("a"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    public void testGetBulkContentPropertiesSpaceNotFound() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.getContentProperties(
+            EasyMock.eq(spaceId), EasyMock.isA(String.class)))
+                .andThrow(new NotFoundException(spaceId)).times(2);
+        EasyMock.expect(storageProvider.getSpaceProperties(spaceId))
+                .andThrow(new NotFoundException(spaceId));
+
+        replayMocks();
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        try {
+            contentResource.getBulkContentProperties(spaceId,
+                                                     Arrays.asList("a", "b"),
+                                                     storeId);
+            fail("Exception expected when the space does not exist");
+        } catch (ResourceNotFoundException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteBulkContent() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        List<String> contentIds = Arrays.asList("a", "b");
+        Map<String, String> failures = new HashMap<>();
+        failures.put("b", "AccessDenied: Access Denied");
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.deleteContents(spaceId, contentIds))
+                .andReturn(failures);
+
+        replayMocks();
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        Assert.assertEquals(failures,
+                            contentResource.deleteBulkContent(spaceId, contentIds,
+                                                              storeId));
+    }
+
+    @Test
+    public void testDeleteBulkContentSpaceNotFound() throws Exception {
+        String spaceId = "space-id";
+        String storeId = "1";
+        List<String> contentIds = Arrays.asList("a", "b");
+        EasyMock.expect(storageProviderFactory.getStorageProvider(storeId))
+                .andReturn(storageProvider);
+        EasyMock.expect(storageProvider.deleteContents(spaceId, contentIds))
+                .andThrow(new NotFoundException(spaceId));
+
+        replayMocks();
+        contentResource = new ContentResourceImpl(storageProviderFactory);
+
+        try {
+            contentResource.deleteBulkContent(spaceId, contentIds, storeId);
+            fail("Exception expected when the space does not exist");
+        } catch (ResourceNotFoundException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
     @Test
     public void testNonAsciiPropertyNameOnAdd() throws ResourceException, InvalidIdException {
         testNonAsciiPropertiesOnAdd("无常", "value");
@@ -273,7 +630,8 @@ public class ContentResourceImplTest {
                                             props,
                                             1001,
                                             "1234",
-                                            "1");
+                                            "1",
+                                            ContentWriteMode.MERGE_PROPERTIES);
             fail("Invalid property expected");
         } catch (ResourcePropertiesInvalidException ex) {
             assertTrue(true);
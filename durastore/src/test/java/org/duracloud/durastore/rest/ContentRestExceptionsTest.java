@@ -55,13 +55,13 @@ public class ContentRestExceptionsTest {
 
     @Test
     public void testGetContent() throws Exception {
-        Response response = contentRest.getContent(null, null, null, false, null);
+        Response response = contentRest.getContent(null, null, null, false, null, null, null);
         support.verifyErrorResponse(response);
     }
 
     @Test
     public void testGetContentProperties() throws Exception {
-        Response response = contentRest.getContentProperties(null, null, null);
+        Response response = contentRest.getContentProperties(null, null, null, null, null);
         support.verifyErrorResponse(response);
     }
 
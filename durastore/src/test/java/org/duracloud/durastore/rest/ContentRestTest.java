@@ -17,9 +17,14 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 
+import org.duracloud.common.constant.Constants;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.rest.HttpHeaders;
 import org.duracloud.common.rest.RestUtil;
 import org.duracloud.storage.provider.StorageProvider;
@@ -240,6 +245,88 @@ public class ContentRestTest {
         assertNull(response.getMetadata().get(headerName));
     }
 
+    @Test
+    public void testGetContentNotModified() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, "checksum");
+        props.put(StorageProvider.PROPERTIES_CONTENT_MODIFIED, "2020-01-01T10:00:00");
+        EasyMock.expect(contentResource.getContentProperties(srcSpaceId, srcContentId, storeId))
+                .andReturn(props);
+        // The content stream is not requested
+
+        replayMocks();
+        contentRest = new ContentRest(contentResource, restUtil);
+
+        Response response = contentRest.getContent(srcSpaceId, srcContentId, storeId,
+                                                   false, null, "\"checksum\"", null);
+        assertEquals(304, response.getStatus());
+        assertEquals("checksum", getHeader(response, HttpHeaders.ETAG));
+        assertEquals("2020-01-01T10:00:00", getHeader(response, HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    public void testGetContentPropertiesConditional() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(StorageProvider.PROPERTIES_CONTENT_CHECKSUM, "checksum");
+        props.put(StorageProvider.PROPERTIES_CONTENT_MODIFIED, "2020-01-01T10:00:00");
+        // Responses remove properties from the map, so each call gets a copy
+        EasyMock.expect(contentResource.getContentProperties(srcSpaceId, srcContentId, storeId))
+                .andAnswer(() -> new HashMap<>(props)).times(4);
+
+        replayMocks();
+        contentRest = new ContentRest(contentResource, restUtil);
+
+        // Changed checksum
+        Response response =
+            contentRest.getContentProperties(srcSpaceId, srcContentId, storeId, "\"other\"", null);
+        assertEquals(200, response.getStatus());
+
+        // Matching checksum in a list of weak tags
+        response = contentRest.getContentProperties(srcSpaceId, srcContentId, storeId,
+                                                    "W/\"other\", W/\"checksum\"", null);
+        assertEquals(304, response.getStatus());
+
+        // Not modified since
+        response = contentRest.getContentProperties(srcSpaceId, srcContentId, storeId,
+                                                    null, "Wed, 1 Jan 2020 10:00:00 UTC");
+        assertEquals(304, response.getStatus());
+
+        // Modified since
+        response = contentRest.getContentProperties(srcSpaceId, srcContentId, storeId,
+                                                    null, "2020-01-01T09:59:59");
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    public void testGetWriteMode() {
+        replayMocks();
+        contentRest = new ContentRest(null, null);
+
+        MultivaluedMap<String, String> rHeaders = new MultivaluedHashMap<>();
+        assertEquals(ContentWriteMode.MERGE_PROPERTIES, contentRest.getWriteMode(rHeaders));
+
+        rHeaders.putSingle(Constants.REPLACE_PROPERTIES_HEADER, "true");
+        assertEquals(ContentWriteMode.REPLACE_PROPERTIES, contentRest.getWriteMode(rHeaders));
+
+        rHeaders.putSingle(HttpHeaders.IF_NONE_MATCH, "*");
+        assertEquals(ContentWriteMode.CREATE_ONLY, contentRest.getWriteMode(rHeaders));
+    }
+
+    @Test
+    public void testIsRespondAsync() {
+        replayMocks();
+        contentRest = new ContentRest(null, null);
+
+        MultivaluedMap<String, String> rHeaders = new MultivaluedHashMap<>();
+        assertFalse(contentRest.isRespondAsync(rHeaders));
+
+        rHeaders.putSingle(HttpHeaders.PREFER, "return=minimal");
+        assertFalse(contentRest.isRespondAsync(rHeaders));
+
+        rHeaders.putSingle(HttpHeaders.PREFER, "return=minimal, respond-async");
+        assertTrue(contentRest.isRespondAsync(rHeaders));
+    }
+
     @Test
     public void testValidMimetype() {
         replayMocks();
@@ -263,6 +350,55 @@ public class ContentRestTest {
         doTestCopyContent(false, 400);
     }
 
+    @Test
+    public void testCopyContentAsync() throws Exception {
+        EasyMock.expect(restUtil.getRequestContent(request, httpHeaders))
+                .andReturn(null);
+
+        MultivaluedMap<String, String> rHeaders = new MultivaluedHashMap<>();
+        rHeaders.putSingle(HttpHeaders.PREFER, "respond-async");
+        EasyMock.expect(httpHeaders.getRequestHeaders()).andReturn(rHeaders);
+
+        EasyMock.expect(uriInfo.getBaseUriBuilder())
+                .andReturn(UriBuilder.fromUri("http://localhost/durastore/"));
+
+        ContentCopyStatus copyStatus = new ContentCopyStatus("copy-id",
+                                                             storeId,
+                                                             srcSpaceId,
+                                                             srcContentId,
+                                                             storeId,
+                                                             destSpaceId,
+                                                             destContentId);
+        EasyMock.expect(request.getAttribute(Constants.ACCOUNT_ID_ATTRIBUTE))
+                .andReturn("account-id");
+        EasyMock.expect(request.getUserPrincipal()).andReturn(() -> "user");
+        EasyMock.expect(contentResource.copyContentAsync("account-id",
+                                                         "user",
+                                                         storeId,
+                                                         srcSpaceId,
+                                                         srcContentId,
+                                                         storeId,
+                                                         destSpaceId,
+                                                         destContentId))
+                .andReturn(copyStatus);
+
+        replayMocks();
+        contentRest = new ContentRest(contentResource, restUtil);
+        contentRest.headers = httpHeaders;
+        contentRest.uriInfo = uriInfo;
+        contentRest.request = request;
+
+        Response response = contentRest.putContent(destSpaceId,
+                                                   destContentId,
+                                                   storeId,
+                                                   copySource,
+                                                   storeId);
+        assertEquals(202, response.getStatus());
+        assertEquals("http://localhost/durastore/aux/copy/copy-id",
+                     response.getLocation().toString());
+        assertEquals(copyStatus, response.getEntity());
+    }
+
     private void doTestCopyContent(boolean valid, int status) throws Exception {
         if (valid) {
             createCopyContentMocks();
@@ -289,6 +425,8 @@ public class ContentRestTest {
         // request content
         EasyMock.expect(restUtil.getRequestContent(request, httpHeaders))
                 .andReturn(null);
+        EasyMock.expect(httpHeaders.getRequestHeaders())
+                .andReturn(new MultivaluedHashMap<>());
 
         // uriInfo
         EasyMock.expect(uriInfo.getRequestUri()).andReturn(new URI(
@@ -0,0 +1,76 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.durastore.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import javax.ws.rs.core.Response;
+
+import org.duracloud.common.util.metrics.LatencySnapshot;
+import org.duracloud.common.util.metrics.OperationMetrics;
+import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.util.StorageProviderFactory;
+import org.duracloud.storage.xml.StorageAccountsDocumentBinding;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class StoreRestTest {
+
+    private StoreRest storeRest;
+    private StorageProviderFactory storageProviderFactory;
+
+    private String storeId = "store-id";
+
+    @Before
+    public void setUp() {
+        storageProviderFactory =
+            EasyMock.createMock("StorageProviderFactory",
+                                StorageProviderFactory.class);
+        storeRest = new StoreRest(storageProviderFactory,
+                                  new StorageAccountsDocumentBinding());
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(storageProviderFactory);
+    }
+
+    @Test
+    public void testGetStoreMetrics() {
+        OperationMetrics metrics = new OperationMetrics();
+        metrics.record("getContent", System.nanoTime(), true);
+        EasyMock.expect(storageProviderFactory.getStorageProviderMetrics(storeId))
+                .andReturn(metrics);
+        EasyMock.replay(storageProviderFactory);
+
+        Response response = storeRest.getStoreMetrics(storeId);
+        assertEquals(200, response.getStatus());
+        Map<String, LatencySnapshot> entity =
+            (Map<String, LatencySnapshot>) response.getEntity();
+        assertEquals(1, entity.size());
+        assertTrue(entity.containsKey("getContent"));
+    }
+
+    @Test
+    public void testGetStoreMetricsNotFound() {
+        EasyMock.expect(storageProviderFactory.getStorageProviderMetrics(storeId))
+                .andThrow(new NotFoundException("No store exists with ID " + storeId));
+        EasyMock.replay(storageProviderFactory);
+
+        Response response = storeRest.getStoreMetrics(storeId);
+        assertEquals(404, response.getStatus());
+    }
+
+}
@@ -9,16 +9,21 @@ package org.duracloud.durastore.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import org.duracloud.common.rest.DuraCloudRequestContextUtil;
 import org.duracloud.common.sns.AccountChangeNotifier;
 import org.duracloud.common.util.UserUtil;
+import org.duracloud.s3storage.S3StorageProvider;
 import org.duracloud.storage.domain.DatabaseConfig;
 import org.duracloud.storage.domain.DuraStoreInitConfig;
 import org.duracloud.storage.domain.StorageAccount;
@@ -26,9 +31,11 @@ import org.duracloud.storage.domain.StorageAccountManager;
 import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.domain.impl.StorageAccountImpl;
 import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.provider.BrokeredStorageProvider;
 import org.duracloud.storage.provider.StatelessStorageProvider;
 import org.duracloud.storage.provider.StorageProvider;
+import org.duracloud.storage.util.SpaceStatsIndex;
 import org.duracloud.storage.util.StorageProviderFactory;
 import org.easymock.EasyMock;
 import org.junit.After;
@@ -185,6 +192,108 @@ public class StorageProviderFactoryTest {
         replayMocks();
     }
 
+    @Test
+    public void testGetStorageProviderMetricsInvalidId() {
+        setUpMocksGetStorageProviderInvalidId();
+
+        try {
+            factory.getStorageProviderMetrics(acctId2);
+            fail("Exception expected when requesting invalid store ID");
+        } catch (NotFoundException e) {
+            assertNotNull(e);
+        }
+    }
+
+    @Test
+    public void testExpireStorageProvider() {
+        EasyMock.expect(mockSAM.getStorageAccount(acctId1))
+                .andReturn(acct1)
+                .anyTimes();
+        EasyMock.expect(mockSAM.getAccountName()).andReturn(acct1Name).anyTimes();
+        replayMocks();
+
+        final long[] time = {1000};
+        StorageProviderFactoryImpl factoryImpl =
+            new StorageProviderFactoryImpl(mockSAM, mockSSP, mockUserUtil, contextUtil, notifier) {
+                @Override
+                protected long currentTimeMillis() {
+                    return time[0];
+                }
+            };
+        factoryImpl.setMinExpiryInterval(500);
+
+        StorageProvider provider = factoryImpl.getStorageProvider(acctId1);
+
+        // Transient failures leave the cached provider in place
+        AmazonS3Exception unavailable = new AmazonS3Exception("Slow Down");
+        unavailable.setStatusCode(503);
+        unavailable.setErrorCode("SlowDown");
+        factoryImpl.expireStorageProvider(
+            acctId1, new StorageException("timeout", new SocketTimeoutException()));
+        factoryImpl.expireStorageProvider(
+            acctId1, new StorageException("unavailable", unavailable));
+        factoryImpl.expireStorageProvider(acctId1, new IllegalArgumentException());
+        assertSame(provider, factoryImpl.getStorageProvider(acctId1));
+        assertEquals(0, factoryImpl.getStorageProviderExpiryCount());
+
+        // Credential failures expire the provider
+        AmazonS3Exception badCredentials = new AmazonS3Exception("Bad key");
+        badCredentials.setStatusCode(403);
+        badCredentials.setErrorCode("InvalidAccessKeyId");
+        StorageException credentialFailure =
+            new StorageException("credentials", badCredentials);
+        factoryImpl.expireStorageProvider(acctId1, credentialFailure);
+        StorageProvider rebuilt = factoryImpl.getStorageProvider(acctId1);
+        assertNotSame(provider, rebuilt);
+        assertEquals(1, factoryImpl.getStorageProviderExpiryCount());
+
+        // Not expired again within the minimum interval
+        time[0] += 100;
+        factoryImpl.expireStorageProvider(acctId1, credentialFailure);
+        assertSame(rebuilt, factoryImpl.getStorageProvider(acctId1));
+        assertEquals(1, factoryImpl.getStorageProviderExpiryCount());
+
+        // Expired again once the interval has passed
+        time[0] += 500;
+        factoryImpl.expireStorageProvider(acctId1, credentialFailure);
+        assertNotSame(rebuilt, factoryImpl.getStorageProvider(acctId1));
+        assertEquals(2, factoryImpl.getStorageProviderExpiryCount());
+    }
+
+    @Test
+    public void testGetUnauditedStorageProvider() {
+        EasyMock.expect(mockSAM.getStorageAccount(acctId1))
+                .andReturn(acct1)
+                .times(2);
+        EasyMock.expect(mockSAM.getAccountName()).andReturn(acct1Name).times(2);
+        replayMocks();
+
+        StorageProvider unaudited = factory.getUnauditedStorageProvider(acctId1);
+        assertTrue(unaudited instanceof S3StorageProvider);
+        assertSame(unaudited, factory.getUnauditedStorageProvider(acctId1));
+
+        // Expiring the storage provider also expires the unaudited provider
+        factory.expireStorageProvider(acctId1);
+        assertNotSame(unaudited, factory.getUnauditedStorageProvider(acctId1));
+    }
+
+    @Test
+    public void testGetSpaceStatsIndex() {
+        EasyMock.expect(mockSAM.getStorageAccount(acctId1))
+                .andReturn(acct1)
+                .times(2);
+        EasyMock.expect(mockSAM.getAccountName()).andReturn(acct1Name).times(2);
+        replayMocks();
+
+        SpaceStatsIndex index = factory.getSpaceStatsIndex(acctId1);
+        assertNotNull(index);
+        assertSame(index, factory.getSpaceStatsIndex(acctId1));
+
+        // Expiring the storage provider also expires the index
+        factory.expireStorageProvider(acctId1);
+        assertNotSame(index, factory.getSpaceStatsIndex(acctId1));
+    }
+
     @Test
     public void testInitilize() throws Exception {
         //Test retrieving from accountManager
@@ -0,0 +1,56 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk restore state which is held for the life of a storage account
+ * rather than for a single task provider: the rate limiter shared by all
+ * jobs of the account and the time at which its job records were last
+ * checked.
+ *
+ * @author agent
+ */
+public class BulkRestoreAccountState {
+
+    public static final long JOB_CHECK_INTERVAL_MS = BulkRestoreJob.STALE_JOB_MS;
+
+    private final RequestRateLimiter rateLimiter;
+    private final AtomicLong lastJobCheck = new AtomicLong(Long.MIN_VALUE);
+
+    public BulkRestoreAccountState(int requestsPerSecond) {
+        this(new RequestRateLimiter(requestsPerSecond));
+    }
+
+    public BulkRestoreAccountState(RequestRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public RequestRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Claims the next check of the account's job records. A check is due
+     * on first use and then once every JOB_CHECK_INTERVAL_MS, and is
+     * claimed by only one caller.
+     *
+     * @param now the current time in milliseconds
+     * @return true if the caller should check the job records
+     */
+    public boolean claimJobCheck(long now) {
+        long lastCheck = lastJobCheck.get();
+        if (lastCheck != Long.MIN_VALUE &&
+            now - lastCheck < JOB_CHECK_INTERVAL_MS) {
+            return false;
+        }
+        return lastJobCheck.compareAndSet(lastCheck, now);
+    }
+
+}
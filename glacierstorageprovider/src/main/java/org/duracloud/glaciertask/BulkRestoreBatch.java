@@ -0,0 +1,45 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.bind.annotation.XmlValue;
+
+/**
+ * The stored restore status of a batch of content items in a bulk
+ * restore job, keyed by content ID.
+ *
+ * @author agent
+ */
+public class BulkRestoreBatch {
+
+    public static final String PENDING = "PENDING";
+    public static final String RESTORED = "RESTORED";
+    public static final String FAILED = "FAILED";
+
+    @XmlValue
+    private Map<String, String> items = new LinkedHashMap<>();
+
+    // Required by JAXB
+    public BulkRestoreBatch() {
+    }
+
+    public BulkRestoreBatch(Map<String, String> items) {
+        this.items = items;
+    }
+
+    public Map<String, String> getItems() {
+        return items;
+    }
+
+    public void setItems(Map<String, String> items) {
+        this.items = items;
+    }
+
+}
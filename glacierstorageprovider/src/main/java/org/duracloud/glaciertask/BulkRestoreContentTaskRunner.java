@@ -0,0 +1,362 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import static org.duracloud.glaciertask.RestoreContentTaskRunner.RESTORE_EXPIRATION_DAYS;
+import static org.duracloud.glaciertask.RestoreContentTaskRunner.RESTORE_IN_PROGRESS;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import org.duracloud.StorageTaskConstants;
+import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.glacierstorageprovider.dto.BulkRestoreContentTaskParameters;
+import org.duracloud.glacierstorageprovider.dto.BulkRestoreContentTaskResult;
+import org.duracloud.storage.error.TaskException;
+import org.duracloud.storage.provider.StorageProvider;
+import org.duracloud.storage.provider.TaskRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Requests the restore of many content items from Glacier with a single
+ * task call. Items are selected either by a content ID prefix or by an
+ * explicit list of content IDs.
+ *
+ * The task returns a job ID immediately, and restore requests are made in
+ * the background, concurrently but limited to a maximum request rate. The
+ * status of each item is recorded in batches through the
+ * BulkRestoreStatusStore, which the get-bulk-restore-status task reads.
+ * When a job stops early, items which were not requested are recorded as
+ * failed and the job is marked as failed.
+ *
+ * Jobs and restore requests of all accounts share a bounded set of threads.
+ * Jobs are not queued: a new job is refused while MAX_CONCURRENT_JOBS are
+ * running. The request rate is limited per account, by a rate limiter which
+ * is shared by all runners of the account.
+ *
+ * @author agent
+ */
+public class BulkRestoreContentTaskRunner implements TaskRunner {
+
+    private final Logger log =
+        LoggerFactory.getLogger(BulkRestoreContentTaskRunner.class);
+
+    protected static final String ALREADY_RESTORED =
+        "ObjectAlreadyInActiveTierError";
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_CONCURRENT_JOBS = 10;
+    public static final int REQUEST_THREADS = 20;
+    public static final int DEFAULT_REQUESTS_PER_SECOND = 50;
+
+    private static final String TASK_NAME =
+        StorageTaskConstants.BULK_RESTORE_CONTENT_TASK_NAME;
+
+    private static final ExecutorService JOB_EXECUTOR =
+        new ThreadPoolExecutor(0, MAX_CONCURRENT_JOBS, 60L, TimeUnit.SECONDS,
+                               new SynchronousQueue<>(),
+                               daemonThreads("bulk-restore-job"));
+
+    private static final ExecutorService REQUEST_EXECUTOR =
+        Executors.newFixedThreadPool(REQUEST_THREADS,
+                                     daemonThreads("bulk-restore-request"));
+
+    private StorageProvider glacierProvider;
+    private GlacierStorageProvider unwrappedGlacierProvider;
+    private AmazonS3 s3Client;
+    private BulkRestoreStatusStore statusStore;
+    private ExecutorService jobExecutor;
+    private ExecutorService requestExecutor;
+    private RequestRateLimiter rateLimiter;
+
+    public BulkRestoreContentTaskRunner(StorageProvider glacierProvider,
+                                        GlacierStorageProvider unwrappedGlacierProvider,
+                                        AmazonS3 s3Client,
+                                        BulkRestoreStatusStore statusStore,
+                                        RequestRateLimiter rateLimiter) {
+        this(glacierProvider, unwrappedGlacierProvider, s3Client, statusStore,
+             JOB_EXECUTOR, REQUEST_EXECUTOR, rateLimiter);
+    }
+
+    public BulkRestoreContentTaskRunner(StorageProvider glacierProvider,
+                                        GlacierStorageProvider unwrappedGlacierProvider,
+                                        AmazonS3 s3Client,
+                                        BulkRestoreStatusStore statusStore,
+                                        ExecutorService jobExecutor,
+                                        ExecutorService requestExecutor,
+                                        RequestRateLimiter rateLimiter) {
+        this.glacierProvider = glacierProvider;
+        this.unwrappedGlacierProvider = unwrappedGlacierProvider;
+        this.s3Client = s3Client;
+        this.statusStore = statusStore;
+        this.jobExecutor = jobExecutor;
+        this.requestExecutor = requestExecutor;
+        this.rateLimiter = rateLimiter;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public String getName() {
+        return TASK_NAME;
+    }
+
+    @Override
+    public String performTask(String taskParameters) {
+        BulkRestoreContentTaskParameters taskParams =
+            BulkRestoreContentTaskParameters.deserialize(taskParameters);
+        String spaceId = taskParams.getSpaceId();
+
+        // Will throw if the space does not exist
+        String bucketName = unwrappedGlacierProvider.getBucketName(spaceId);
+
+        BulkRestoreJob job = new BulkRestoreJob(UUID.randomUUID().toString(),
+                                                spaceId,
+                                                taskParams.getPrefix());
+        statusStore.storeJob(job);
+
+        List<String> contentIds = taskParams.getContentIds();
+        try {
+            startJob(() -> {
+                Iterator<String> contentIdIterator = (null != contentIds) ?
+                    contentIds.iterator() :
+                    glacierProvider.getSpaceContents(spaceId, taskParams.getPrefix());
+                runJob(job, bucketName, contentIdIterator);
+            });
+        } catch (RejectedExecutionException e) {
+            job.setState(BulkRestoreJob.FAILED);
+            job.setRequestsComplete(true);
+            statusStore.storeJob(job);
+            throw new TaskException(
+                "Unable to start bulk restore of content in space " + spaceId +
+                ", the maximum of " + MAX_CONCURRENT_JOBS + " bulk restore " +
+                "jobs are already running. Please try again later.");
+        }
+
+        log.info("Started bulk restore job {} for space {}", job.getJobId(), spaceId);
+        return new BulkRestoreContentTaskResult(
+            job.getJobId(),
+            "Bulk restore of content in space " + spaceId + " has started")
+            .serialize();
+    }
+
+    /*
+     * @throws RejectedExecutionException if too many jobs are running
+     */
+    protected void startJob(Runnable job) {
+        jobExecutor.execute(job);
+    }
+
+    /*
+     * Requests restore of each content item, recording status as each
+     * batch completes
+     */
+    protected void runJob(BulkRestoreJob job,
+                          String bucketName,
+                          Iterator<String> contentIds) {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (contentIds.hasNext()) {
+                batch.add(contentIds.next());
+                if (batch.size() >= BATCH_SIZE) {
+                    List<String> fullBatch = batch;
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    restoreBatch(job, bucketName, fullBatch);
+                }
+            }
+            if (!batch.isEmpty()) {
+                List<String> lastBatch = batch;
+                batch = new ArrayList<>();
+                restoreBatch(job, bucketName, lastBatch);
+            }
+            job.setState(BulkRestoreJob.COMPLETE);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Bulk restore job " + job.getJobId() +
+                      " stopped due to: " + e.getMessage(), e);
+            job.setState(BulkRestoreJob.FAILED);
+            recordUnrequested(job, batch, contentIds);
+        }
+        job.setRequestsComplete(true);
+        statusStore.storeJob(job);
+    }
+
+    /*
+     * Requests restore of a batch of content items. Items which were not
+     * requested, or for which the request did not complete, are recorded
+     * as failed.
+     */
+    private void restoreBatch(BulkRestoreJob job,
+                              String bucketName,
+                              List<String> contentIds)
+        throws InterruptedException {
+        Map<String, Future<String>> requests = new LinkedHashMap<>();
+        Map<String, String> statuses = new LinkedHashMap<>();
+        try {
+            for (String contentId : contentIds) {
+                rateLimiter.awaitRequestSlot();
+                requests.put(contentId, requestExecutor.submit(
+                    () -> requestRestore(bucketName, contentId)));
+            }
+
+            for (Map.Entry<String, Future<String>> request : requests.entrySet()) {
+                try {
+                    statuses.put(request.getKey(), request.getValue().get());
+                } catch (ExecutionException e) {
+                    log.warn("Unable to request restore of {} in job {} due to: {}",
+                             request.getKey(), job.getJobId(), e.getMessage());
+                    statuses.put(request.getKey(), BulkRestoreBatch.FAILED);
+                }
+            }
+        } finally {
+            for (String contentId : contentIds) {
+                if (!statuses.containsKey(contentId)) {
+                    Future<String> request = requests.get(contentId);
+                    if (null != request) {
+                        request.cancel(true);
+                    }
+                    statuses.put(contentId, BulkRestoreBatch.FAILED);
+                }
+            }
+            storeBatch(job, statuses);
+        }
+    }
+
+    /*
+     * Records the items which were selected for a failed job but were not
+     * requested as failed. Items are read from the remaining content IDs
+     * until they run out or can no longer be read.
+     */
+    private void recordUnrequested(BulkRestoreJob job,
+                                   List<String> batch,
+                                   Iterator<String> contentIds) {
+        try {
+            Map<String, String> statuses = new LinkedHashMap<>();
+            for (String contentId : batch) {
+                statuses.put(contentId, BulkRestoreBatch.FAILED);
+            }
+            try {
+                while (!Thread.currentThread().isInterrupted() &&
+                       contentIds.hasNext()) {
+                    statuses.put(contentIds.next(), BulkRestoreBatch.FAILED);
+                    if (statuses.size() >= BATCH_SIZE) {
+                        storeBatch(job, statuses);
+                        statuses = new LinkedHashMap<>();
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Unable to read all unrequested items of bulk " +
+                         "restore job {} due to: {}", job.getJobId(), e.getMessage());
+            }
+            if (!statuses.isEmpty()) {
+                storeBatch(job, statuses);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to record unrequested items of bulk restore " +
+                     "job {} due to: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void storeBatch(BulkRestoreJob job, Map<String, String> statuses) {
+        int batchIndex = job.getBatchCount();
+        statusStore.storeBatch(job.getJobId(), batchIndex,
+                               new BulkRestoreBatch(statuses));
+        job.setBatchCount(batchIndex + 1);
+        statusStore.storeJob(job);
+    }
+
+    /**
+     * Checks the job records in the background: jobs which are no longer
+     * running, such as those which were running when the server was stopped,
+     * are marked as failed, and the records of jobs which finished more than
+     * JOB_RETENTION_MS ago are removed. As this reads every job record, it
+     * is meant to be started once per account check interval (see
+     * BulkRestoreAccountState) rather than per request.
+     */
+    public void startJobCheck() {
+        requestExecutor.execute(() -> {
+            try {
+                checkJobs();
+            } catch (Exception e) {
+                log.warn("Unable to check bulk restore jobs due to: {}",
+                         e.getMessage());
+            }
+        });
+    }
+
+    protected void checkJobs() {
+        long now = currentTimeMillis();
+        for (BulkRestoreJob job : statusStore.retrieveJobs()) {
+            if (job.isStale(now)) {
+                log.info("Marking stale bulk restore job {} as failed",
+                         job.getJobId());
+                job.setState(BulkRestoreJob.FAILED);
+                job.setRequestsComplete(true);
+                statusStore.storeJob(job);
+            } else if (job.isExpired(now)) {
+                log.info("Removing expired bulk restore job {}", job.getJobId());
+                statusStore.removeJob(job);
+            }
+        }
+    }
+
+    /*
+     * Requests restore of a single content item
+     *
+     * @return restore status of the item
+     */
+    protected String requestRestore(String bucketName, String contentId) {
+        try {
+            s3Client.restoreObject(bucketName, contentId, RESTORE_EXPIRATION_DAYS);
+            return BulkRestoreBatch.PENDING;
+        } catch (AmazonS3Exception e) {
+            if (RESTORE_IN_PROGRESS.equals(e.getErrorCode())) {
+                return BulkRestoreBatch.PENDING;
+            } else if (ALREADY_RESTORED.equals(e.getErrorCode())) {
+                return BulkRestoreBatch.RESTORED;
+            }
+            log.warn("Unable to request restore of {} in bucket {} due to: {}",
+                     contentId, bucketName, e.getMessage());
+            return BulkRestoreBatch.FAILED;
+        } catch (AmazonClientException e) {
+            log.warn("Unable to request restore of {} in bucket {} due to: {}",
+                     contentId, bucketName, e.getMessage());
+            return BulkRestoreBatch.FAILED;
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.annotation.XmlValue;
+
+/**
+ * The stored record of a bulk restore job. Per-item status is held
+ * separately, in batches which are numbered from zero to batchCount - 1.
+ *
+ * A running job is updated as each batch completes. A job which has not been
+ * updated within STALE_JOB_MS is no longer running, most likely because the
+ * server running it was stopped. The record of a finished job is kept for
+ * JOB_RETENTION_MS, the time for which restored copies of its content are
+ * available.
+ *
+ * @author agent
+ */
+public class BulkRestoreJob {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETE = "COMPLETE";
+    public static final String FAILED = "FAILED";
+
+    public static final long STALE_JOB_MS = TimeUnit.HOURS.toMillis(1);
+    public static final long JOB_RETENTION_MS =
+        TimeUnit.DAYS.toMillis(RestoreContentTaskRunner.RESTORE_EXPIRATION_DAYS);
+
+    @XmlValue
+    private String jobId;
+
+    @XmlValue
+    private String spaceId;
+
+    @XmlValue
+    private String prefix;
+
+    @XmlValue
+    private int batchCount;
+
+    @XmlValue
+    private boolean requestsComplete;
+
+    @XmlValue
+    private String state;
+
+    @XmlValue
+    private long lastUpdated;
+
+    // Required by JAXB
+    public BulkRestoreJob() {
+    }
+
+    public BulkRestoreJob(String jobId, String spaceId, String prefix) {
+        this.jobId = jobId;
+        this.spaceId = spaceId;
+        this.prefix = prefix;
+        this.state = RUNNING;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getSpaceId() {
+        return spaceId;
+    }
+
+    public void setSpaceId(String spaceId) {
+        this.spaceId = spaceId;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public void setBatchCount(int batchCount) {
+        this.batchCount = batchCount;
+    }
+
+    public boolean isRequestsComplete() {
+        return requestsComplete;
+    }
+
+    public void setRequestsComplete(boolean requestsComplete) {
+        this.requestsComplete = requestsComplete;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public long getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public void setLastUpdated(long lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return true if the job has not completed but is no longer running
+     */
+    public boolean isStale(long now) {
+        return !requestsComplete && now - lastUpdated > STALE_JOB_MS;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return true if the job finished more than JOB_RETENTION_MS ago
+     */
+    public boolean isExpired(long now) {
+        return requestsComplete && now - lastUpdated > JOB_RETENTION_MS;
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.duracloud.common.constant.Constants;
+import org.duracloud.common.error.DuraCloudRuntimeException;
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.common.util.IOUtil;
+import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.error.NotFoundException;
+
+/**
+ * Stores the records of bulk restore jobs in a hidden space. Records of
+ * finished jobs are removed by the bulk restore job check once the restored
+ * copies of the content would have expired; the space expiration policy
+ * removes any records which are left behind.
+ *
+ * @author agent
+ */
+public class BulkRestoreStatusStore {
+
+    public static final String HIDDEN_SPACE_ID = "bulk-restore-status";
+    public static final int EXPIRATION_DAYS = 30;
+
+    private static final String JOB_SUFFIX = "/job";
+
+    private GlacierStorageProvider unwrappedGlacierProvider;
+
+    private JaxbJsonSerializer<BulkRestoreJob> jobSerializer =
+        new JaxbJsonSerializer<>(BulkRestoreJob.class);
+    private JaxbJsonSerializer<BulkRestoreBatch> batchSerializer =
+        new JaxbJsonSerializer<>(BulkRestoreBatch.class);
+
+    public BulkRestoreStatusStore(GlacierStorageProvider unwrappedGlacierProvider) {
+        this.unwrappedGlacierProvider = unwrappedGlacierProvider;
+    }
+
+    /**
+     * Stores the job record, setting its last updated time to now
+     */
+    public void storeJob(BulkRestoreJob job) {
+        job.setLastUpdated(System.currentTimeMillis());
+        try {
+            store(getJobId(job.getJobId()), jobSerializer.serialize(job));
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(
+                "Unable to store bulk restore job " + job.getJobId(), e);
+        }
+    }
+
+    /**
+     * @return the job record, or null if no job exists with the given ID
+     */
+    public BulkRestoreJob retrieveJob(String jobId) {
+        String data = retrieve(getJobId(jobId));
+        try {
+            return null == data ? null : jobSerializer.deserialize(data);
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(
+                "Unable to read bulk restore job " + jobId, e);
+        }
+    }
+
+    /**
+     * @return the records of all jobs which have not yet expired
+     */
+    public List<BulkRestoreJob> retrieveJobs() {
+        List<BulkRestoreJob> jobs = new ArrayList<>();
+        Iterator<String> contentIds = list();
+        while (contentIds.hasNext()) {
+            String contentId = contentIds.next();
+            if (contentId.endsWith(JOB_SUFFIX)) {
+                BulkRestoreJob job = retrieveJob(
+                    contentId.substring(0, contentId.length() - JOB_SUFFIX.length()));
+                if (null != job) {
+                    jobs.add(job);
+                }
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Removes the job record along with the records of its batches. The job
+     * record is removed last, so that a removal which fails part way is
+     * retried by the next job check.
+     */
+    public void removeJob(BulkRestoreJob job) {
+        List<String> batchIds = new ArrayList<>();
+        for (int i = 0; i < job.getBatchCount(); i++) {
+            batchIds.add(getBatchId(job.getJobId(), i));
+        }
+        Map<String, String> failures = remove(batchIds);
+        if (failures.isEmpty()) {
+            failures = remove(Collections.singletonList(getJobId(job.getJobId())));
+        }
+        if (!failures.isEmpty()) {
+            throw new DuraCloudRuntimeException(
+                "Unable to remove bulk restore job " + job.getJobId() +
+                " due to: " + failures.values().iterator().next());
+        }
+    }
+
+    public void storeBatch(String jobId, int batchIndex, BulkRestoreBatch batch) {
+        try {
+            store(getBatchId(jobId, batchIndex), batchSerializer.serialize(batch));
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(
+                "Unable to store batch " + batchIndex + " of bulk restore job " +
+                jobId, e);
+        }
+    }
+
+    public BulkRestoreBatch retrieveBatch(String jobId, int batchIndex) {
+        String data = retrieve(getBatchId(jobId, batchIndex));
+        if (null == data) {
+            throw new NotFoundException("Batch " + batchIndex +
+                                        " of bulk restore job " + jobId +
+                                        " could not be found");
+        }
+        try {
+            return batchSerializer.deserialize(data);
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(
+                "Unable to read batch " + batchIndex + " of bulk restore job " +
+                jobId, e);
+        }
+    }
+
+    private String getJobId(String jobId) {
+        return jobId + JOB_SUFFIX;
+    }
+
+    private String getBatchId(String jobId, int batchIndex) {
+        return jobId + "/batch-" + batchIndex;
+    }
+
+    protected void store(String contentId, String data) {
+        try {
+            addContent(contentId, data);
+        } catch (NotFoundException e) {
+            // The hidden space is created on first use
+            unwrappedGlacierProvider.createHiddenSpace(HIDDEN_SPACE_ID,
+                                                       EXPIRATION_DAYS);
+            addContent(contentId, data);
+        }
+    }
+
+    private void addContent(String contentId, String data) {
+        try {
+            unwrappedGlacierProvider.addHiddenContent(
+                HIDDEN_SPACE_ID, contentId, Constants.MEDIA_TYPE_APPLICATION_JSON,
+                IOUtil.writeStringToStream(data));
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(e);
+        }
+    }
+
+    /**
+     * @return map of ID to the reason the data could not be removed, empty
+     * if all data was removed
+     */
+    protected Map<String, String> remove(List<String> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return unwrappedGlacierProvider.deleteContents(HIDDEN_SPACE_ID,
+                                                           contentIds);
+        } catch (NotFoundException e) {
+            // The hidden space no longer exists
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the IDs of all stored data
+     */
+    protected Iterator<String> list() {
+        try {
+            return unwrappedGlacierProvider.getSpaceContents(HIDDEN_SPACE_ID, null);
+        } catch (NotFoundException e) {
+            // The hidden space has not yet been created
+            return new ArrayList<String>().iterator();
+        }
+    }
+
+    /**
+     * @return the stored data, or null if no data exists for the given ID
+     */
+    protected String retrieve(String contentId) {
+        try {
+            RetrievedContent content =
+                unwrappedGlacierProvider.getContent(HIDDEN_SPACE_ID, contentId);
+            return IOUtil.readStringFromStream(content.getContentStream());
+        } catch (NotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            throw new DuraCloudRuntimeException(e);
+        }
+    }
+
+}
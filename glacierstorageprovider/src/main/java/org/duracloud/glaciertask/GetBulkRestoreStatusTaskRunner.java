@@ -0,0 +1,144 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import java.util.Map;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.duracloud.StorageTaskConstants;
+import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.glacierstorageprovider.dto.GetBulkRestoreStatusTaskParameters;
+import org.duracloud.glacierstorageprovider.dto.GetBulkRestoreStatusTaskResult;
+import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.provider.TaskRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides counts of the restored, pending, and failed items in a bulk
+ * restore job.
+ *
+ * Items which are pending are checked to determine if their restore has
+ * completed. To keep each call short, at most maxStatusChecks items are
+ * checked per call; the remaining pending items are checked on later calls.
+ *
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskRunner implements TaskRunner {
+
+    private final Logger log =
+        LoggerFactory.getLogger(GetBulkRestoreStatusTaskRunner.class);
+
+    public static final int DEFAULT_MAX_STATUS_CHECKS = 200;
+
+    private static final String TASK_NAME =
+        StorageTaskConstants.GET_BULK_RESTORE_STATUS_TASK_NAME;
+
+    private GlacierStorageProvider unwrappedGlacierProvider;
+    private AmazonS3 s3Client;
+    private BulkRestoreStatusStore statusStore;
+    private int maxStatusChecks;
+
+    public GetBulkRestoreStatusTaskRunner(GlacierStorageProvider unwrappedGlacierProvider,
+                                          AmazonS3 s3Client,
+                                          BulkRestoreStatusStore statusStore) {
+        this(unwrappedGlacierProvider, s3Client, statusStore,
+             DEFAULT_MAX_STATUS_CHECKS);
+    }
+
+    public GetBulkRestoreStatusTaskRunner(GlacierStorageProvider unwrappedGlacierProvider,
+                                          AmazonS3 s3Client,
+                                          BulkRestoreStatusStore statusStore,
+                                          int maxStatusChecks) {
+        this.unwrappedGlacierProvider = unwrappedGlacierProvider;
+        this.s3Client = s3Client;
+        this.statusStore = statusStore;
+        this.maxStatusChecks = maxStatusChecks;
+    }
+
+    @Override
+    public String getName() {
+        return TASK_NAME;
+    }
+
+    @Override
+    public String performTask(String taskParameters) {
+        GetBulkRestoreStatusTaskParameters taskParams =
+            GetBulkRestoreStatusTaskParameters.deserialize(taskParameters);
+        String jobId = taskParams.getJobId();
+
+        BulkRestoreJob job = statusStore.retrieveJob(jobId);
+        if (null == job) {
+            throw new NotFoundException("No bulk restore job exists with ID " + jobId);
+        }
+
+        GetBulkRestoreStatusTaskResult result = new GetBulkRestoreStatusTaskResult();
+        result.setJobId(jobId);
+        result.setSpaceId(job.getSpaceId());
+        // A stale job is no longer running, and will make no further requests
+        boolean stale = job.isStale(System.currentTimeMillis());
+        result.setRequestsComplete(job.isRequestsComplete() || stale);
+        result.setFailed(BulkRestoreJob.FAILED.equals(job.getState()) || stale);
+
+        String bucketName = null;
+        int checksRemaining = maxStatusChecks;
+        for (int i = 0; i < job.getBatchCount(); i++) {
+            BulkRestoreBatch batch = statusStore.retrieveBatch(jobId, i);
+            boolean updated = false;
+            for (Map.Entry<String, String> item : batch.getItems().entrySet()) {
+                if (BulkRestoreBatch.PENDING.equals(item.getValue()) &&
+                    checksRemaining > 0) {
+                    checksRemaining--;
+                    if (null == bucketName) {
+                        bucketName =
+                            unwrappedGlacierProvider.getBucketName(job.getSpaceId());
+                    }
+                    if (isRestored(bucketName, item.getKey())) {
+                        item.setValue(BulkRestoreBatch.RESTORED);
+                        updated = true;
+                    }
+                }
+                countItem(result, item.getValue());
+            }
+            if (updated) {
+                statusStore.storeBatch(jobId, i, batch);
+            }
+        }
+        return result.serialize();
+    }
+
+    private void countItem(GetBulkRestoreStatusTaskResult result, String status) {
+        result.setTotalCount(result.getTotalCount() + 1);
+        if (BulkRestoreBatch.RESTORED.equals(status)) {
+            result.setRestoredCount(result.getRestoredCount() + 1);
+        } else if (BulkRestoreBatch.FAILED.equals(status)) {
+            result.setFailedCount(result.getFailedCount() + 1);
+        } else {
+            result.setPendingCount(result.getPendingCount() + 1);
+        }
+    }
+
+    /*
+     * A restore is complete once the restore header of the object
+     * indicates that the restore is no longer ongoing
+     */
+    private boolean isRestored(String bucketName, String contentId) {
+        try {
+            ObjectMetadata metadata =
+                s3Client.getObjectMetadata(bucketName, contentId);
+            return Boolean.FALSE.equals(metadata.getOngoingRestore());
+        } catch (AmazonClientException e) {
+            log.warn("Unable to check restore status of {} in bucket {} due to: {}",
+                     contentId, bucketName, e.getMessage());
+            return false;
+        }
+    }
+
+}
@@ -22,13 +22,32 @@ public class GlacierTaskProvider extends TaskProviderBase {
     public GlacierTaskProvider(StorageProvider glacierProvider,
                                GlacierStorageProvider unwrappedGlacierProvider,
                                AmazonS3 s3Client,
-                               String storeId) {
+                               String storeId,
+                               BulkRestoreAccountState bulkRestoreState) {
         super(storeId);
         log = LoggerFactory.getLogger(GlacierTaskProvider.class);
 
         taskList.add(new RestoreContentTaskRunner(glacierProvider,
                                                   unwrappedGlacierProvider,
                                                   s3Client));
+
+        BulkRestoreStatusStore statusStore =
+            new BulkRestoreStatusStore(unwrappedGlacierProvider);
+        BulkRestoreContentTaskRunner bulkRestoreRunner =
+            new BulkRestoreContentTaskRunner(glacierProvider,
+                                             unwrappedGlacierProvider,
+                                             s3Client,
+                                             statusStore,
+                                             bulkRestoreState.getRateLimiter());
+        // Task providers are created per request, so job records are checked
+        // only when the account's check is due
+        if (bulkRestoreState.claimJobCheck(System.currentTimeMillis())) {
+            bulkRestoreRunner.startJobCheck();
+        }
+        taskList.add(bulkRestoreRunner);
+        taskList.add(new GetBulkRestoreStatusTaskRunner(unwrappedGlacierProvider,
+                                                        s3Client,
+                                                        statusStore));
     }
 
 }
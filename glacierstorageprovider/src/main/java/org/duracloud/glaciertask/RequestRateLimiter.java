@@ -0,0 +1,52 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+/**
+ * Limits the rate at which requests are made. A single limiter is meant to
+ * be shared by all bulk restore jobs of a storage account, so that the
+ * account's request rate holds however many jobs are running.
+ *
+ * @author agent
+ */
+public class RequestRateLimiter {
+
+    private final long requestIntervalMs;
+
+    private long nextRequestTime = 0;
+
+    public RequestRateLimiter(int requestsPerSecond) {
+        this.requestIntervalMs = 1000 / Math.max(1, requestsPerSecond);
+    }
+
+    /**
+     * Waits until the next request may be made. Waiting is done by the
+     * calling thread, so callers should not wait on shared request threads.
+     */
+    public void awaitRequestSlot() throws InterruptedException {
+        long waitMs;
+        synchronized (this) {
+            long now = currentTimeMillis();
+            long requestTime = Math.max(now, nextRequestTime);
+            nextRequestTime = requestTime + requestIntervalMs;
+            waitMs = requestTime - now;
+        }
+        if (waitMs > 0) {
+            sleep(waitMs);
+        }
+    }
+
+    protected void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
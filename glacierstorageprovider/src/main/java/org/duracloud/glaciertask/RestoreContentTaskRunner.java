@@ -24,7 +24,7 @@ public class RestoreContentTaskRunner implements TaskRunner {
         "RestoreAlreadyInProgress";
 
     private static final String TASK_NAME = "restore-content";
-    private static final int RESTORE_EXPIRATION_DAYS = 14;
+    protected static final int RESTORE_EXPIRATION_DAYS = 14;
 
     private StorageProvider glacierProvider;
     private GlacierStorageProvider unwrappedGlacierProvider;
@@ -25,6 +25,7 @@ import com.amazonaws.services.s3.model.BucketLifecycleConfiguration;
 import com.amazonaws.services.s3.model.BucketTaggingConfiguration;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.HeadBucketRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.StorageClass;
 import org.duracloud.storage.domain.StorageProviderType;
@@ -56,6 +57,11 @@ public class GlacierStorageProviderTest {
     @Before
     public void setup() {
         s3Client = EasyMock.createMock("AmazonS3", AmazonS3.class);
+        // Buckets are found by listing rather than directly
+        AmazonS3Exception notFoundEx = new AmazonS3Exception("not found");
+        notFoundEx.setStatusCode(404);
+        EasyMock.expect(s3Client.headBucket(EasyMock.isA(HeadBucketRequest.class)))
+                .andThrow(notFoundEx).anyTimes();
         glacierEx = new AmazonS3Exception("err msg");
         glacierEx.setErrorCode(GlacierStorageProvider.INVALID_OBJECT_STATE);
     }
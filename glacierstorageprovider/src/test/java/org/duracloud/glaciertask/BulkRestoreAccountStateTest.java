@@ -0,0 +1,36 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BulkRestoreAccountStateTest {
+
+    @Test
+    public void testClaimJobCheck() {
+        BulkRestoreAccountState state = new BulkRestoreAccountState(10);
+        long now = 1000;
+
+        // Due on first use, then only once the interval has passed
+        assertTrue(state.claimJobCheck(now));
+        assertFalse(state.claimJobCheck(now));
+        assertFalse(state.claimJobCheck(
+            now + BulkRestoreAccountState.JOB_CHECK_INTERVAL_MS - 1));
+        assertTrue(state.claimJobCheck(
+            now + BulkRestoreAccountState.JOB_CHECK_INTERVAL_MS));
+        assertFalse(state.claimJobCheck(
+            now + BulkRestoreAccountState.JOB_CHECK_INTERVAL_MS));
+    }
+
+}
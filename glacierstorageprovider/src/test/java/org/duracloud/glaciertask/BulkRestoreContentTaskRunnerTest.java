@@ -0,0 +1,332 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.glacierstorageprovider.dto.BulkRestoreContentTaskParameters;
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.glacierstorageprovider.dto.BulkRestoreContentTaskResult;
+import org.duracloud.storage.error.TaskException;
+import org.duracloud.storage.provider.StorageProvider;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BulkRestoreContentTaskRunnerTest {
+
+    private AmazonS3 s3Client;
+    private StorageProvider glacierProvider;
+    private GlacierStorageProvider unwrappedGlacierProvider;
+    private Map<String, String> storedData;
+    private BulkRestoreStatusStore statusStore;
+    private ExecutorService requestExecutor;
+    private BulkRestoreContentTaskRunner taskRunner;
+    private String spaceId = "space-id";
+    private String bucketName = "bucket-name";
+
+    @Before
+    public void setup() {
+        s3Client = EasyMock.createMock("AmazonS3", AmazonS3.class);
+        glacierProvider = EasyMock.createMock("StorageProvider",
+                                              StorageProvider.class);
+        unwrappedGlacierProvider =
+            EasyMock.createMock("GlacierStorageProvider",
+                                GlacierStorageProvider.class);
+        storedData = new HashMap<>();
+        statusStore = new BulkRestoreStatusStore(unwrappedGlacierProvider) {
+            @Override
+            protected void store(String contentId, String data) {
+                storedData.put(contentId, data);
+            }
+
+            @Override
+            protected String retrieve(String contentId) {
+                return storedData.get(contentId);
+            }
+
+            @Override
+            protected Iterator<String> list() {
+                return new ArrayList<>(storedData.keySet()).iterator();
+            }
+
+            @Override
+            protected Map<String, String> remove(List<String> contentIds) {
+                storedData.keySet().removeAll(contentIds);
+                return new HashMap<>();
+            }
+        };
+        requestExecutor = Executors.newFixedThreadPool(2);
+        taskRunner = new BulkRestoreContentTaskRunner(glacierProvider,
+                                                      unwrappedGlacierProvider,
+                                                      s3Client,
+                                                      statusStore,
+                                                      null,
+                                                      requestExecutor,
+                                                      new RequestRateLimiter(1000)) {
+            @Override
+            protected void startJob(Runnable job) {
+                // Run the job on the test thread
+                job.run();
+            }
+        };
+    }
+
+    private void replayMocks() {
+        EasyMock.replay(s3Client, unwrappedGlacierProvider, glacierProvider);
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(s3Client, unwrappedGlacierProvider, glacierProvider);
+        requestExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testGetName() {
+        replayMocks();
+        assertEquals("bulk-restore-content", taskRunner.getName());
+    }
+
+    @Test
+    public void testPerformTaskContentIds() {
+        EasyMock.expect(unwrappedGlacierProvider.getBucketName(spaceId))
+                .andReturn(bucketName);
+
+        s3Client.restoreObject(bucketName, "a", 14);
+        EasyMock.expectLastCall();
+        s3Client.restoreObject(bucketName, "b", 14);
+        EasyMock.expectLastCall().andThrow(
+            createS3Exception(RestoreContentTaskRunner.RESTORE_IN_PROGRESS));
+        s3Client.restoreObject(bucketName, "c", 14);
+        EasyMock.expectLastCall().andThrow(
+            createS3Exception(BulkRestoreContentTaskRunner.ALREADY_RESTORED));
+        s3Client.restoreObject(bucketName, "d", 14);
+        EasyMock.expectLastCall().andThrow(createS3Exception("AccessDenied"));
+
+        replayMocks();
+
+        BulkRestoreContentTaskParameters taskParams =
+            new BulkRestoreContentTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setContentIds(Arrays.asList("a", "b", "c", "d"));
+
+        BulkRestoreContentTaskResult result = BulkRestoreContentTaskResult
+            .deserialize(taskRunner.performTask(taskParams.serialize()));
+        String jobId = result.getJobId();
+        assertNotNull(jobId);
+
+        BulkRestoreJob job = statusStore.retrieveJob(jobId);
+        assertEquals(spaceId, job.getSpaceId());
+        assertEquals(1, job.getBatchCount());
+        assertTrue(job.isRequestsComplete());
+        assertEquals(BulkRestoreJob.COMPLETE, job.getState());
+
+        Map<String, String> items = statusStore.retrieveBatch(jobId, 0).getItems();
+        assertEquals(BulkRestoreBatch.PENDING, items.get("a"));
+        assertEquals(BulkRestoreBatch.PENDING, items.get("b"));
+        assertEquals(BulkRestoreBatch.RESTORED, items.get("c"));
+        assertEquals(BulkRestoreBatch.FAILED, items.get("d"));
+    }
+
+    @Test
+    public void testPerformTaskPrefix() {
+        String prefix = "prefix/";
+        int itemCount = BulkRestoreContentTaskRunner.BATCH_SIZE + 5;
+        List<String> contentIds = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            contentIds.add(prefix + i);
+        }
+
+        EasyMock.expect(unwrappedGlacierProvider.getBucketName(spaceId))
+                .andReturn(bucketName);
+        EasyMock.expect(glacierProvider.getSpaceContents(spaceId, prefix))
+                .andReturn(contentIds.iterator());
+        s3Client.restoreObject(EasyMock.eq(bucketName),
+                               EasyMock.startsWith(prefix),
+                               EasyMock.eq(14));
+        EasyMock.expectLastCall().times(itemCount);
+
+        replayMocks();
+
+        BulkRestoreContentTaskParameters taskParams =
+            new BulkRestoreContentTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setPrefix(prefix);
+
+        String jobId = BulkRestoreContentTaskResult
+            .deserialize(taskRunner.performTask(taskParams.serialize()))
+            .getJobId();
+
+        BulkRestoreJob job = statusStore.retrieveJob(jobId);
+        assertEquals(prefix, job.getPrefix());
+        assertEquals(2, job.getBatchCount());
+        assertEquals(BulkRestoreContentTaskRunner.BATCH_SIZE,
+                     statusStore.retrieveBatch(jobId, 0).getItems().size());
+        assertEquals(5, statusStore.retrieveBatch(jobId, 1).getItems().size());
+    }
+
+    @Test
+    public void testPerformTaskListingFailure() {
+        String prefix = "prefix/";
+        Iterator<String> contentIds = new Iterator<String>() {
+            private int count = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (count >= 2) {
+                    throw new RuntimeException("listing failure");
+                }
+                return true;
+            }
+
+            @Override
+            public String next() {
+                return prefix + count++;
+            }
+        };
+
+        EasyMock.expect(unwrappedGlacierProvider.getBucketName(spaceId))
+                .andReturn(bucketName);
+        EasyMock.expect(glacierProvider.getSpaceContents(spaceId, prefix))
+                .andReturn(contentIds);
+
+        replayMocks();
+
+        BulkRestoreContentTaskParameters taskParams =
+            new BulkRestoreContentTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setPrefix(prefix);
+
+        String jobId = BulkRestoreContentTaskResult
+            .deserialize(taskRunner.performTask(taskParams.serialize()))
+            .getJobId();
+
+        // The job fails, and items which were listed but not requested fail
+        BulkRestoreJob job = statusStore.retrieveJob(jobId);
+        assertTrue(job.isRequestsComplete());
+        assertEquals(BulkRestoreJob.FAILED, job.getState());
+        assertEquals(1, job.getBatchCount());
+        Map<String, String> items = statusStore.retrieveBatch(jobId, 0).getItems();
+        assertEquals(2, items.size());
+        assertEquals(BulkRestoreBatch.FAILED, items.get(prefix + 0));
+        assertEquals(BulkRestoreBatch.FAILED, items.get(prefix + 1));
+    }
+
+    @Test
+    public void testPerformTaskTooManyJobs() {
+        EasyMock.expect(unwrappedGlacierProvider.getBucketName(spaceId))
+                .andReturn(bucketName);
+
+        replayMocks();
+
+        // A shut down executor refuses all jobs
+        ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+        jobExecutor.shutdown();
+        taskRunner = new BulkRestoreContentTaskRunner(glacierProvider,
+                                                      unwrappedGlacierProvider,
+                                                      s3Client,
+                                                      statusStore,
+                                                      jobExecutor,
+                                                      requestExecutor,
+                                                      new RequestRateLimiter(1000));
+
+        BulkRestoreContentTaskParameters taskParams =
+            new BulkRestoreContentTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setContentIds(Arrays.asList("a"));
+        try {
+            taskRunner.performTask(taskParams.serialize());
+            fail("Exception expected");
+        } catch (TaskException e) {
+            // Expected exception
+        }
+
+        assertEquals(1, statusStore.retrieveJobs().size());
+        BulkRestoreJob job = statusStore.retrieveJobs().get(0);
+        assertEquals(BulkRestoreJob.FAILED, job.getState());
+        assertTrue(job.isRequestsComplete());
+    }
+
+    @Test
+    public void testCheckJobs() throws Exception {
+        replayMocks();
+
+        BulkRestoreJob runningJob = new BulkRestoreJob("running", spaceId, null);
+        statusStore.storeJob(runningJob);
+
+        BulkRestoreJob staleJob = new BulkRestoreJob("stale", spaceId, null);
+        staleJob.setLastUpdated(System.currentTimeMillis() -
+                                BulkRestoreJob.STALE_JOB_MS - 1000);
+        JaxbJsonSerializer<BulkRestoreJob> serializer =
+            new JaxbJsonSerializer<>(BulkRestoreJob.class);
+        storedData.put("stale/job", serializer.serialize(staleJob));
+
+        BulkRestoreJob recentJob = new BulkRestoreJob("recent", spaceId, null);
+        recentJob.setState(BulkRestoreJob.COMPLETE);
+        recentJob.setRequestsComplete(true);
+        recentJob.setBatchCount(1);
+        statusStore.storeJob(recentJob);
+        statusStore.storeBatch("recent", 0, new BulkRestoreBatch());
+
+        BulkRestoreJob expiredJob = new BulkRestoreJob("expired", spaceId, null);
+        expiredJob.setState(BulkRestoreJob.COMPLETE);
+        expiredJob.setRequestsComplete(true);
+        expiredJob.setBatchCount(2);
+        expiredJob.setLastUpdated(System.currentTimeMillis() -
+                                  BulkRestoreJob.JOB_RETENTION_MS - 1000);
+        storedData.put("expired/job", serializer.serialize(expiredJob));
+        statusStore.storeBatch("expired", 0, new BulkRestoreBatch());
+        statusStore.storeBatch("expired", 1, new BulkRestoreBatch());
+
+        taskRunner.checkJobs();
+
+        runningJob = statusStore.retrieveJob("running");
+        assertEquals(BulkRestoreJob.RUNNING, runningJob.getState());
+        assertFalse(runningJob.isRequestsComplete());
+
+        staleJob = statusStore.retrieveJob("stale");
+        assertEquals(BulkRestoreJob.FAILED, staleJob.getState());
+        assertTrue(staleJob.isRequestsComplete());
+
+        assertNotNull(statusStore.retrieveJob("recent"));
+        assertNotNull(statusStore.retrieveBatch("recent", 0));
+
+        assertNull(statusStore.retrieveJob("expired"));
+        assertFalse(storedData.containsKey("expired/batch-0"));
+        assertFalse(storedData.containsKey("expired/batch-1"));
+    }
+
+    private AmazonS3Exception createS3Exception(String errorCode) {
+        AmazonS3Exception e = new AmazonS3Exception("error");
+        e.setErrorCode(errorCode);
+        return e;
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glaciertask;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.glacierstorage.GlacierStorageProvider;
+import org.duracloud.glacierstorageprovider.dto.GetBulkRestoreStatusTaskParameters;
+import org.duracloud.glacierstorageprovider.dto.GetBulkRestoreStatusTaskResult;
+import org.duracloud.storage.error.NotFoundException;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskRunnerTest {
+
+    private AmazonS3 s3Client;
+    private GlacierStorageProvider unwrappedGlacierProvider;
+    private Map<String, String> storedData;
+    private BulkRestoreStatusStore statusStore;
+    private GetBulkRestoreStatusTaskRunner taskRunner;
+    private String jobId = "job-id";
+    private String spaceId = "space-id";
+    private String bucketName = "bucket-name";
+
+    @Before
+    public void setup() {
+        s3Client = EasyMock.createMock("AmazonS3", AmazonS3.class);
+        unwrappedGlacierProvider =
+            EasyMock.createMock("GlacierStorageProvider",
+                                GlacierStorageProvider.class);
+        storedData = new HashMap<>();
+        statusStore = new BulkRestoreStatusStore(unwrappedGlacierProvider) {
+            @Override
+            protected void store(String contentId, String data) {
+                storedData.put(contentId, data);
+            }
+
+            @Override
+            protected String retrieve(String contentId) {
+                return storedData.get(contentId);
+            }
+        };
+        // Check at most 2 pending items per call
+        taskRunner = new GetBulkRestoreStatusTaskRunner(unwrappedGlacierProvider,
+                                                        s3Client,
+                                                        statusStore,
+                                                        2);
+    }
+
+    private void replayMocks() {
+        EasyMock.replay(s3Client, unwrappedGlacierProvider);
+    }
+
+    @After
+    public void tearDown() {
+        EasyMock.verify(s3Client, unwrappedGlacierProvider);
+    }
+
+    @Test
+    public void testGetName() {
+        replayMocks();
+        assertEquals("get-bulk-restore-status", taskRunner.getName());
+    }
+
+    @Test
+    public void testPerformTask() {
+        BulkRestoreJob job = new BulkRestoreJob(jobId, spaceId, null);
+        job.setBatchCount(1);
+        statusStore.storeJob(job);
+
+        Map<String, String> items = new LinkedHashMap<>();
+        items.put("a", BulkRestoreBatch.PENDING);
+        items.put("b", BulkRestoreBatch.PENDING);
+        items.put("c", BulkRestoreBatch.PENDING);
+        items.put("d", BulkRestoreBatch.FAILED);
+        items.put("e", BulkRestoreBatch.RESTORED);
+        statusStore.storeBatch(jobId, 0, new BulkRestoreBatch(items));
+
+        EasyMock.expect(unwrappedGlacierProvider.getBucketName(spaceId))
+                .andReturn(bucketName);
+        EasyMock.expect(s3Client.getObjectMetadata(bucketName, "a"))
+                .andReturn(createMetadata(false));
+        EasyMock.expect(s3Client.getObjectMetadata(bucketName, "b"))
+                .andReturn(createMetadata(true));
+
+        replayMocks();
+
+        GetBulkRestoreStatusTaskParameters taskParams =
+            new GetBulkRestoreStatusTaskParameters();
+        taskParams.setJobId(jobId);
+
+        GetBulkRestoreStatusTaskResult result = GetBulkRestoreStatusTaskResult
+            .deserialize(taskRunner.performTask(taskParams.serialize()));
+        assertEquals(jobId, result.getJobId());
+        assertEquals(spaceId, result.getSpaceId());
+        assertFalse(result.isRequestsComplete());
+        assertFalse(result.isFailed());
+        assertEquals(5, result.getTotalCount());
+        assertEquals(2, result.getRestoredCount());
+        assertEquals(2, result.getPendingCount());
+        assertEquals(1, result.getFailedCount());
+
+        // Verify that the completed restore was recorded
+        assertEquals(BulkRestoreBatch.RESTORED,
+                     statusStore.retrieveBatch(jobId, 0).getItems().get("a"));
+    }
+
+    @Test
+    public void testPerformTaskStaleJob() throws Exception {
+        BulkRestoreJob job = new BulkRestoreJob(jobId, spaceId, null);
+        job.setLastUpdated(System.currentTimeMillis() -
+                           BulkRestoreJob.STALE_JOB_MS - 1000);
+        storedData.put(jobId + "/job",
+                       new JaxbJsonSerializer<>(BulkRestoreJob.class).serialize(job));
+
+        replayMocks();
+
+        GetBulkRestoreStatusTaskParameters taskParams =
+            new GetBulkRestoreStatusTaskParameters();
+        taskParams.setJobId(jobId);
+
+        GetBulkRestoreStatusTaskResult result = GetBulkRestoreStatusTaskResult
+            .deserialize(taskRunner.performTask(taskParams.serialize()));
+        assertTrue(result.isRequestsComplete());
+        assertTrue(result.isFailed());
+        assertEquals(0, result.getTotalCount());
+    }
+
+    @Test
+    public void testPerformTaskNoJob() {
+        replayMocks();
+
+        GetBulkRestoreStatusTaskParameters taskParams =
+            new GetBulkRestoreStatusTaskParameters();
+        taskParams.setJobId(jobId);
+        try {
+            taskRunner.performTask(taskParams.serialize());
+            fail("Exception expected");
+        } catch (NotFoundException e) {
+            // Expected exception
+        }
+    }
+
+    private ObjectMetadata createMetadata(boolean ongoingRestore) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setOngoingRestore(ongoingRestore);
+        return metadata;
+    }
+
+}
@@ -7,20 +7,28 @@
  */
 package org.duracloud.retrieval.source;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.duracloud.chunk.manifest.ChunksManifest;
 import org.duracloud.chunk.util.ChunkUtil;
+import org.duracloud.client.ContentIterator;
 import org.duracloud.client.ContentStore;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.common.model.ContentItem;
 import org.duracloud.domain.Content;
+import org.duracloud.error.ContentStoreException;
 import org.duracloud.retrieval.mgmt.RetrievalListener;
 import org.duracloud.stitch.FileStitcher;
 import org.duracloud.stitch.FileStitcherListener;
+import org.duracloud.stitch.RetrievedManifest;
 import org.duracloud.stitch.datasource.impl.DuraStoreDataSource;
 import org.duracloud.stitch.error.InvalidManifestException;
 import org.duracloud.stitch.impl.FileStitcherImpl;
+import org.duracloud.storage.provider.StorageProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,8 +44,25 @@ public class DuraStoreStitchingRetrievalSource extends DuraStoreRetrievalSource
     private final Logger log = LoggerFactory.getLogger(
         DuraStoreStitchingRetrievalSource.class);
 
+    /**
+     * Chunk IDs are made up of the source content ID, the chunk suffix, and
+     * a numeric index. A listing marker made up of the source content ID and
+     * chunk suffix followed by this value sorts after every chunk of that
+     * source content item.
+     */
+    private static final String MAX_CHUNK_INDEX = "9999999999999999999";
+
+    /**
+     * Maximum number of manifests held between the checksum lookup and the
+     * retrieval of a chunked content item
+     */
+    private static final int MANIFEST_CACHE_SIZE = 100;
+
     private FileStitcher stitcher;
     private ChunkUtil chunkUtil;
+    private long chunkRunSkipThreshold;
+    private String lastListedContentId;
+    private Map<ContentItem, RetrievedManifest> manifestCache;
 
     public DuraStoreStitchingRetrievalSource(ContentStore store,
                                              List<String> spaces,
@@ -45,30 +70,137 @@ public class DuraStoreStitchingRetrievalSource extends DuraStoreRetrievalSource
         super(store, spaces, allSpaces);
         this.stitcher = new FileStitcherImpl(new DuraStoreDataSource(store));
         this.chunkUtil = new ChunkUtil();
+        this.chunkRunSkipThreshold = StorageProvider.DEFAULT_MAX_RESULTS;
+        this.manifestCache = Collections.synchronizedMap(
+            new LinkedHashMap<ContentItem, RetrievedManifest>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<ContentItem, RetrievedManifest> eldest) {
+                    return size() > MANIFEST_CACHE_SIZE;
+                }
+            });
+    }
+
+    /**
+     * Sets the number of consecutive chunks of a single content item which
+     * are listed before the listing is restarted past the remaining chunks
+     * of that item. Shorter runs of chunks are skipped one at a time, as they
+     * are generally already in hand from the current listing page.
+     *
+     * @param chunkRunSkipThreshold number of consecutive chunks
+     */
+    protected void setChunkRunSkipThreshold(long chunkRunSkipThreshold) {
+        this.chunkRunSkipThreshold = chunkRunSkipThreshold;
     }
 
+    /**
+     * Provides the next content item, skipping over chunks. Only the calls
+     * which read from the underlying listing lock this source, so other
+     * callers are not held up while a long run of chunks is skipped.
+     */
     @Override
-    public synchronized ContentItem getNextContentItem() {
+    public ContentItem getNextContentItem() {
         log.debug("enter getNextContentItem()");
-        ContentItem item = super.getNextContentItem();
+        ContentItem item = getNextListedItem();
 
         // skip chunks.
-        if (null != item && chunkUtil.isChunk(item.getContentId())) {
+        String runPrefix = null;
+        long runLength = 0;
+        while (null != item && chunkUtil.isChunk(item.getContentId())) {
             log.debug("skipping chunk item: {}", item);
-            item = getNextContentItem();
+
+            String prefix = getChunkRunPrefix(item.getContentId());
+            if (prefix.equals(runPrefix)) {
+                runLength++;
+            } else {
+                runPrefix = prefix;
+                runLength = 1;
+            }
+
+            if (runLength >= chunkRunSkipThreshold) {
+                skipChunkRun(item.getSpaceId(), runPrefix);
+                runLength = 0;
+            }
+            item = getNextListedItem();
         }
 
         log.debug("returning item: {}", item);
         return item;
     }
 
+    private synchronized ContentItem getNextListedItem() {
+        ContentItem item = super.getNextContentItem();
+        if (null != item) {
+            lastListedContentId = item.getContentId();
+        }
+        return item;
+    }
+
+    private String getChunkRunPrefix(String chunkId) {
+        int end = chunkId.lastIndexOf(ChunksManifest.chunkSuffix);
+        return chunkId.substring(0, end + ChunksManifest.chunkSuffix.length());
+    }
+
+    /**
+     * Restarts the listing of the current space just past the last possible
+     * chunk of a run of chunks. The new listing is retrieved without holding
+     * the lock, and is only put in place if no other caller has moved the
+     * current listing beyond the run in the meantime.
+     *
+     * @param spaceId   space in which the chunks reside
+     * @param runPrefix content ID shared by all chunks in the run, up to and
+     *                  including the chunk suffix
+     */
+    private void skipChunkRun(String spaceId, String runPrefix) {
+        Iterator<String> contentList;
+        synchronized (this) {
+            if (!spaceId.equals(currentSpaceId)) {
+                return;
+            }
+            contentList = currentContentList;
+        }
+
+        String marker = runPrefix + MAX_CHUNK_INDEX;
+        log.debug("restarting listing of space {} after {}", spaceId, marker);
+
+        Iterator<String> restartedList;
+        try {
+            restartedList = getSpaceContentsAfter(spaceId, marker);
+        } catch (ContentStoreException e) {
+            log.warn("Unable to restart listing of space " + spaceId +
+                     ", continuing to skip chunks individually, due to: " +
+                     e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            if (contentList == currentContentList &&
+                lastListedContentId.compareTo(marker) <= 0) {
+                currentContentList = restartedList;
+            }
+        }
+    }
+
+    /**
+     * @param spaceId space to list
+     * @param marker  content ID after which the listing begins
+     * @return listing of the space contents which follow the marker
+     */
+    protected Iterator<String> getSpaceContentsAfter(String spaceId,
+                                                     String marker)
+        throws ContentStoreException {
+        return new ContentIterator(contentStore,
+                                   spaceId,
+                                   null,
+                                   StorageProvider.DEFAULT_MAX_RESULTS,
+                                   marker);
+    }
+
     @Override
     public String getSourceChecksum(ContentItem contentItem) {
         if (chunkUtil.isChunkManifest(contentItem.getContentId())) {
-            ChunksManifest manifest;
             try {
-                manifest = stitcher.getManifest(contentItem.getSpaceId(),
-                                                contentItem.getContentId());
+                ChunksManifest manifest = getManifest(contentItem).getManifest();
                 return manifest.getHeader().getSourceMD5();
             } catch (Exception e) {
                 throw new RuntimeException(
@@ -81,6 +213,21 @@ public class DuraStoreStitchingRetrievalSource extends DuraStoreRetrievalSource
         }
     }
 
+    /**
+     * Retrieves a chunks manifest, holding on to it so that it does not need
+     * to be retrieved again when the content item itself is retrieved.
+     */
+    private RetrievedManifest getManifest(ContentItem item)
+        throws InvalidManifestException {
+        RetrievedManifest manifest = manifestCache.get(item);
+        if (null == manifest) {
+            manifest = stitcher.retrieveManifest(item.getSpaceId(),
+                                                 item.getContentId());
+            manifestCache.put(item, manifest);
+        }
+        return manifest;
+    }
+
     @Override
     protected Content doGetContent(ContentItem item, RetrievalListener listener) {
         log.debug("enter doGetContent: {}", item);
@@ -115,8 +262,15 @@ public class DuraStoreStitchingRetrievalSource extends DuraStoreRetrievalSource
                 }
             };
 
+            // A manifest retrieved for the checksum lookup is used only once,
+            // retries of the content retrieval get a fresh copy
+            RetrievedManifest manifest = manifestCache.remove(item);
+            if (null == manifest) {
+                manifest = stitcher.retrieveManifest(item.getSpaceId(),
+                                                     item.getContentId());
+            }
             return stitcher.getContentFromManifest(item.getSpaceId(),
-                                                   item.getContentId(),
+                                                   manifest,
                                                    fileStitcherListener);
         } catch (InvalidManifestException e) {
             StringBuilder msg = new StringBuilder();
@@ -23,8 +23,10 @@ import org.duracloud.chunk.manifest.xml.ManifestDocumentBinding;
 import org.duracloud.client.ContentStore;
 import org.duracloud.common.model.ContentItem;
 import org.duracloud.domain.Content;
+import org.duracloud.domain.Space;
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.retrieval.mgmt.RetrievalListener;
+import org.duracloud.storage.provider.StorageProvider;
 import org.easymock.EasyMock;
 import org.junit.After;
 import org.junit.Assert;
@@ -116,6 +118,61 @@ public class DuraStoreStitchingRetrievalSourceTest {
         Assert.assertNull(item);
     }
 
+    @Test
+    public void testGetNextContentItemChunkRun() throws Exception {
+        String chunkedId = "content-id-1";
+        String manifestId = chunkedId + ChunksManifest.manifestSuffix;
+
+        contents0.add("content-id-0");
+        for (int i = 0; i < 10; i++) {
+            contents0.add(chunkedId + ChunksManifest.chunkSuffix + i);
+        }
+        contents0.add(manifestId);
+        contents0.add("content-id-2");
+        EasyMock.expect(store.getSpaceContents(spaceId0))
+                .andReturn(contents0.iterator());
+
+        // After 3 chunks of the run, the listing is restarted past the run
+        Space space = new Space();
+        space.addContentId(manifestId);
+        space.addContentId("content-id-2");
+        String marker = chunkedId + ChunksManifest.chunkSuffix + "9999999999999999999";
+        EasyMock.expect(store.getSpace(spaceId0,
+                                       null,
+                                       StorageProvider.DEFAULT_MAX_RESULTS,
+                                       marker))
+                .andReturn(space);
+        EasyMock.expect(store.getSpace(spaceId0,
+                                       null,
+                                       StorageProvider.DEFAULT_MAX_RESULTS,
+                                       "content-id-2"))
+                .andReturn(new Space());
+
+        contents1.add(chunkedId + ChunksManifest.chunkSuffix + 0);
+        contents1.add(manifestId);
+        EasyMock.expect(store.getSpaceContents(spaceId1))
+                .andReturn(contents1.iterator());
+        replayMocks();
+
+        retrievalSource = new DuraStoreStitchingRetrievalSource(store,
+                                                                spaces,
+                                                                allSpaces);
+        retrievalSource.setChunkRunSkipThreshold(3);
+
+        Assert.assertEquals("content-id-0",
+                            retrievalSource.getNextContentItem().getContentId());
+        Assert.assertEquals(manifestId,
+                            retrievalSource.getNextContentItem().getContentId());
+        Assert.assertEquals("content-id-2",
+                            retrievalSource.getNextContentItem().getContentId());
+
+        // Short runs of chunks are skipped without restarting the listing
+        ContentItem item = retrievalSource.getNextContentItem();
+        Assert.assertEquals(spaceId1, item.getSpaceId());
+        Assert.assertEquals(manifestId, item.getContentId());
+        Assert.assertNull(retrievalSource.getNextContentItem());
+    }
+
     private void verifyContents(List<ContentType> types0, String spaceId) {
         ContentItem item;
         int i = 0;
@@ -253,6 +310,31 @@ public class DuraStoreStitchingRetrievalSourceTest {
 
     }
 
+    @Test
+    public void testGetSourceChecksumThenContent() throws Exception {
+        List<ContentType> types = new ArrayList<ContentType>();
+        types.add(MANIFEST);
+        types.add(CHUNK);
+        types.add(CHUNK);
+
+        // The manifest is retrieved only once
+        createGetSourceContentMocks(types);
+        replayMocks();
+
+        retrievalSource = new DuraStoreStitchingRetrievalSource(store,
+                                                                spaces,
+                                                                allSpaces);
+        ContentItem item = new ContentItem(spaceId0, MANIFEST.getContentId(0));
+        Assert.assertEquals(createMd5(0), retrievalSource.getSourceChecksum(item));
+
+        ContentStream stream = retrievalSource.getSourceContent(item);
+        Assert.assertEquals(createMd5(0), stream.getChecksum());
+        InputStream inputStream = stream.getStream();
+        while (inputStream.read() != -1) {
+            // spin through the content.
+        }
+    }
+
     private void createGetSourceContentMocks(List<ContentType> types)
         throws ContentStoreException {
         // variable to hold manifest details.
@@ -23,6 +23,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.AmazonS3URI;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import org.duracloud.storage.error.StorageException;
 import org.springframework.core.io.InputStreamResource;
@@ -156,4 +157,14 @@ public class S3ProviderUtil {
         Resource resource = new InputStreamResource(s3Obj.getObjectContent());
         return resource;
     }
+
+    /**
+     * @param s3Url using the s3://bucket/object syntax.
+     * @return metadata of the object, retrieved without reading the object content
+     */
+    public static ObjectMetadata getS3ObjectMetadataByUrl(String s3Url) {
+        AmazonS3 client = AmazonS3ClientBuilder.standard().build();
+        AmazonS3URI s3Uri = new AmazonS3URI(s3Url);
+        return client.getObjectMetadata(s3Uri.getBucket(), s3Uri.getKey());
+    }
 }
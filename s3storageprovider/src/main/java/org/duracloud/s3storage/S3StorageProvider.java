@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
@@ -36,8 +37,13 @@ import com.amazonaws.services.s3.model.BucketTaggingConfiguration;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.HeadBucketRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
@@ -55,10 +61,12 @@ import org.duracloud.common.util.DateUtil;
 import org.duracloud.storage.domain.ContentByteRange;
 import org.duracloud.storage.domain.ContentIterator;
 import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.domain.SpaceStats;
 import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.error.ChecksumMismatchException;
 import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.error.StorageException;
+import org.duracloud.storage.provider.SpaceStatsCalculator;
 import org.duracloud.storage.provider.StorageProvider;
 import org.duracloud.storage.provider.StorageProviderBase;
 import org.duracloud.storage.util.StorageProviderUtil;
@@ -70,11 +78,13 @@ import org.slf4j.LoggerFactory;
  *
  * @author Bill Branan
  */
-public class S3StorageProvider extends StorageProviderBase {
+public class S3StorageProvider extends StorageProviderBase implements SpaceStatsCalculator {
 
     private final Logger log = LoggerFactory.getLogger(S3StorageProvider.class);
 
     protected static final int MAX_ITEM_COUNT = 1000;
+    // The maximum number of keys S3 accepts in a multi-object delete
+    protected static final int MAX_DELETE_COUNT = 1000;
     private static final StorageClass DEFAULT_STORAGE_CLASS =
         StorageClass.Standard;
 
@@ -87,6 +97,9 @@ public class S3StorageProvider extends StorageProviderBase {
     private String accessKeyId = null;
     protected AmazonS3 s3Client = null;
 
+    // Bucket names found by earlier lookups, keyed by space ID
+    private Map<String, String> bucketNames = new ConcurrentHashMap<>();
+
     public S3StorageProvider(String accessKey, String secretKey) {
         this(S3ProviderUtil.getAmazonS3Client(accessKey, secretKey, null),
              accessKey,
@@ -209,7 +222,37 @@ public class S3StorageProvider extends StorageProviderBase {
         }
     }
 
-    protected boolean spaceExists(String spaceId) {
+    /**
+     * {@inheritDoc}
+     */
+    public SpaceStats calculateSpaceStats(String spaceId) {
+        log.debug("calculateSpaceStats(" + spaceId + ")");
+
+        // Will throw if bucket does not exist
+        String bucketName = getBucketName(spaceId);
+
+        long count = 0;
+        long size = 0;
+        String marker = null;
+        List<S3ObjectSummary> objects;
+        do {
+            objects = listObjects(bucketName, null, MAX_ITEM_COUNT, marker);
+            for (S3ObjectSummary object : objects) {
+                count++;
+                size += object.getSize();
+            }
+            if (!objects.isEmpty()) {
+                marker = objects.get(objects.size() - 1).getKey();
+            }
+        } while (!objects.isEmpty());
+
+        return new SpaceStats(count, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean spaceExists(String spaceId) {
         try {
             getBucketName(spaceId);
             return true;
@@ -361,6 +404,7 @@ public class S3StorageProvider extends StorageProviderBase {
 
         try {
             s3Client.deleteBucket(bucketName);
+            bucketNames.remove(spaceId);
         } catch (AmazonClientException e) {
             String err = "Could not delete S3 bucket with name " + bucketName
                          + " due to error: " + e.getMessage();
@@ -883,6 +927,49 @@ public class S3StorageProvider extends StorageProviderBase {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Content items are removed using multi-object deletes. S3 reports
+     * content items which do not exist as deleted, so no existence check
+     * is made.
+     */
+    @Override
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds) {
+        log.debug("deleteContents(" + spaceId + ", " + contentIds.size() +
+                  " items)");
+
+        // Will throw if bucket does not exist
+        String bucketName = getBucketName(spaceId);
+
+        Map<String, String> failures = new HashMap<>();
+        for (int i = 0; i < contentIds.size(); i += MAX_DELETE_COUNT) {
+            List<KeyVersion> keys = new ArrayList<>();
+            int end = Math.min(i + MAX_DELETE_COUNT, contentIds.size());
+            for (String contentId : contentIds.subList(i, end)) {
+                keys.add(new KeyVersion(contentId));
+            }
+            DeleteObjectsRequest request =
+                new DeleteObjectsRequest(bucketName).withKeys(keys)
+                                                    .withQuiet(true);
+            try {
+                s3Client.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                for (DeleteError error : e.getErrors()) {
+                    failures.put(error.getKey(),
+                                 error.getCode() + ": " + error.getMessage());
+                }
+            } catch (AmazonClientException e) {
+                String err = "Could not delete " + keys.size() +
+                             " content items from S3 bucket " + bucketName +
+                             " due to error: " + e.getMessage();
+                throw new StorageException(err, e, RETRY);
+            }
+        }
+        return failures;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1105,20 +1192,76 @@ public class S3StorageProvider extends StorageProviderBase {
      * @throws NotFoundException if no bucket matches this spaceID
      */
     public String getBucketName(String spaceId) {
+        // A bucket name found by an earlier lookup is confirmed with a single
+        // HEAD request rather than repeating the search
+        String knownBucketName = bucketNames.get(spaceId);
+        if (null != knownBucketName) {
+            if (bucketExists(knownBucketName)) {
+                return knownBucketName;
+            }
+            bucketNames.remove(spaceId, knownBucketName);
+        }
+
+        String bucketName = findBucketName(spaceId);
+        bucketNames.put(spaceId, bucketName);
+        return bucketName;
+    }
+
+    /**
+     * Determines if a space exists in a bucket named using the access key ID
+     * of this provider, which is how this provider names the spaces it
+     * creates. Only a single HEAD request is made, so a space in a bucket
+     * named using another access key ID, or a hidden space, is not found.
+     *
+     * @param spaceId the space ID
+     * @return true if the space exists in a bucket named by this provider
+     */
+    public boolean ownSpaceExists(String spaceId) {
+        return bucketExists(getNewBucketName(spaceId));
+    }
+
+    private String findBucketName(String spaceId) {
+        // Buckets are normally named using the access key ID of this provider
+        // as the prefix, so look for those names directly first
+        String newBucketName = getNewBucketName(spaceId);
+        if (bucketExists(newBucketName)) {
+            return newBucketName;
+        }
+        String hiddenBucketName = getHiddenBucketName(spaceId);
+        if (bucketExists(hiddenBucketName)) {
+            return hiddenBucketName;
+        }
+
         // Determine if there is an existing bucket that matches this space ID.
         // The bucket name may use any access key ID as the prefix, so there is
-        // no way to know the exact bucket name up front.
+        // no way to be sure that no bucket exists without listing them all.
         List<Bucket> buckets = listAllBuckets();
+        String spaceIdPattern = spaceId.replace(".", "[.]");
         for (Bucket bucket : buckets) {
             String bucketName = bucket.getName();
-            spaceId = spaceId.replace(".", "[.]");
-            if (bucketName.matches("(" + HIDDEN_SPACE_PREFIX + ")?[\\w]{20}[.]" + spaceId)) {
+            if (bucketName.matches("(" + HIDDEN_SPACE_PREFIX + ")?[\\w]{20}[.]" + spaceIdPattern)) {
                 return bucketName;
             }
         }
         throw new NotFoundException("No S3 bucket found matching spaceID: " + spaceId);
     }
 
+    /*
+     * Determines if a bucket with the given name exists and can be accessed
+     * by this provider, using a HEAD request on the bucket.
+     */
+    private boolean bucketExists(String bucketName) {
+        try {
+            s3Client.headBucket(new HeadBucketRequest(bucketName));
+            return true;
+        } catch (AmazonClientException | IllegalArgumentException e) {
+            // Most likely a 404, meaning there is no such bucket, or a 403,
+            // meaning the bucket belongs to someone else. Other failures
+            // leave the decision to the full listing.
+            return false;
+        }
+    }
+
     /**
      * Converts a bucket name into what could be passed in as a space ID.
      *
@@ -7,11 +7,20 @@
  */
 package org.duracloud.s3storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.duracloud.common.constant.Constants;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.common.util.IOUtil;
-import org.duracloud.storage.domain.RetrievedContent;
 import org.duracloud.storage.error.NotFoundException;
 
 /**
@@ -20,16 +29,28 @@ import org.duracloud.storage.error.NotFoundException;
  *
  * Data is expected to be removed from the store based on an expiration schedule
  *
+ * The name of the bucket behind the hidden space is resolved once, and data
+ * is then read and written directly through the S3 client. The bucket name
+ * is resolved again only if S3 reports that the bucket no longer exists.
+ *
  * @author bbranan
  * Date: Aug 10, 2018
  */
 public class StringDataStore {
 
+    protected static final String NO_SUCH_BUCKET = "NoSuchBucket";
+    protected static final String NO_SUCH_KEY = "NoSuchKey";
+
     private S3StorageProvider s3StorageProvider;
+    private AmazonS3 s3Client;
     private String hiddenSpaceName;
+    private volatile String bucketName = null;
 
-    public StringDataStore(String hiddenSpaceName, S3StorageProvider s3StorageProvider) {
+    public StringDataStore(String hiddenSpaceName,
+                           S3StorageProvider s3StorageProvider,
+                           AmazonS3 s3Client) {
         this.s3StorageProvider = s3StorageProvider;
+        this.s3Client = s3Client;
         this.hiddenSpaceName = hiddenSpaceName;
     }
 
@@ -42,19 +63,58 @@ public class StringDataStore {
     public String storeData(String cookieData) {
         try {
             String token = generateToken();
-            ensureSpaceExists();
-            s3StorageProvider.addHiddenContent(this.hiddenSpaceName, token, Constants.MEDIA_TYPE_APPLICATION_JSON,
-                                               IOUtil.writeStringToStream(cookieData));
+            try {
+                addData(getBucketName(true), token, cookieData);
+            } catch (AmazonS3Exception e) {
+                if (!NO_SUCH_BUCKET.equals(e.getErrorCode())) {
+                    throw e;
+                }
+                // The bucket has been removed since its name was resolved
+                bucketName = null;
+                addData(getBucketName(true), token, cookieData);
+            }
             return token;
         } catch (Exception e) {
             throw new DuraCloudRuntimeException(e);
         }
     }
 
-    private void ensureSpaceExists() {
-        if (!s3StorageProvider.spaceExists(this.hiddenSpaceName)) {
-            s3StorageProvider.createHiddenSpace(this.hiddenSpaceName, 1);
+    private void addData(String bucket, String token, String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(Constants.MEDIA_TYPE_APPLICATION_JSON);
+        metadata.setContentLength(bytes.length);
+        PutObjectRequest putRequest =
+            new PutObjectRequest(bucket, token, new ByteArrayInputStream(bytes), metadata);
+        putRequest.setCannedAcl(CannedAccessControlList.Private);
+        s3Client.putObject(putRequest);
+    }
+
+    /*
+     * Resolves the name of the bucket behind the hidden space, creating the
+     * space if it does not exist and create is true.
+     *
+     * @throws NotFoundException if the space does not exist and create is false
+     */
+    private String getBucketName(boolean create) {
+        String name = bucketName;
+        if (null == name) {
+            synchronized (this) {
+                if (null == bucketName) {
+                    try {
+                        bucketName = s3StorageProvider.getBucketName(hiddenSpaceName);
+                    } catch (NotFoundException e) {
+                        if (!create) {
+                            throw e;
+                        }
+                        s3StorageProvider.createHiddenSpace(this.hiddenSpaceName, 1);
+                        bucketName = s3StorageProvider.getBucketName(hiddenSpaceName);
+                    }
+                }
+                name = bucketName;
+            }
         }
+        return name;
     }
 
     /**
@@ -67,10 +127,20 @@ public class StringDataStore {
      */
     public String retrieveData(String token) {
         try {
-            RetrievedContent data = this.s3StorageProvider.getContent(this.hiddenSpaceName, token);
-            return IOUtil.readStringFromStream(data.getContentStream());
+            S3Object data = s3Client.getObject(getBucketName(false), token);
+            try (InputStream content = data.getObjectContent()) {
+                return IOUtil.readStringFromStream(content);
+            }
         } catch (NotFoundException ex) {
             return null;
+        } catch (AmazonS3Exception ex) {
+            if (NO_SUCH_KEY.equals(ex.getErrorCode())) {
+                return null;
+            } else if (NO_SUCH_BUCKET.equals(ex.getErrorCode())) {
+                bucketName = null;
+                return null;
+            }
+            throw new DuraCloudRuntimeException(ex);
         } catch (Exception ex) {
             throw new DuraCloudRuntimeException(ex);
         }
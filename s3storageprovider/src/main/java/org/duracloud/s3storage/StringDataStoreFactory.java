@@ -7,12 +7,20 @@
  */
 package org.duracloud.s3storage;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.amazonaws.services.s3.AmazonS3;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.storage.domain.StorageAccount;
 import org.duracloud.storage.domain.StorageAccountManager;
 
 /**
- * A simple factory for StringDataStore object.
+ * A simple factory for StringDataStore object. Data stores are kept for each
+ * primary storage account, and are replaced when the details of that account
+ * change, so that each store only resolves its hidden space once. A single
+ * factory may serve many accounts when given a request scoped
+ * StorageAccountManager.
  *
  * @author Daniel Bernstein
  */
@@ -20,6 +28,9 @@ public class StringDataStoreFactory {
 
     private StorageAccountManager storageAccountManager;
 
+    // Data stores keyed by storage account ID
+    private Map<String, AccountDataStores> dataStores = new ConcurrentHashMap<>();
+
     /**
      * Default constructor
      * @param storageAccountManager A storage account manager
@@ -34,15 +45,35 @@ public class StringDataStoreFactory {
      * @return
      */
     public StringDataStore create(final String hiddenSpaceName) {
-        return new StringDataStore(hiddenSpaceName, getS3StorageProvider());
-    }
-
-    private S3StorageProvider getS3StorageProvider() {
         if (!storageAccountManager.isInitialized()) {
             throw new DuraCloudRuntimeException("storageAccountManager is not initialized!!!");
         }
 
         final StorageAccount account = storageAccountManager.getPrimaryStorageAccount();
-        return new S3StorageProvider(account.getUsername(), account.getPassword(), account.getOptions());
+        AccountDataStores accountStores = dataStores.compute(
+            account.getId(),
+            (id, existing) -> (null != existing && existing.account.equals(account)) ?
+                existing : new AccountDataStores(account));
+        return accountStores.stores.computeIfAbsent(
+            hiddenSpaceName, name -> createDataStore(name, account));
+    }
+
+    protected StringDataStore createDataStore(String hiddenSpaceName,
+                                              StorageAccount account) {
+        AmazonS3 s3Client = S3ProviderUtil.getAmazonS3Client(account.getUsername(),
+                                                             account.getPassword(),
+                                                             account.getOptions());
+        S3StorageProvider s3StorageProvider =
+            new S3StorageProvider(s3Client, account.getUsername(), account.getOptions());
+        return new StringDataStore(hiddenSpaceName, s3StorageProvider, s3Client);
+    }
+
+    private static class AccountDataStores {
+        private final StorageAccount account;
+        private final Map<String, StringDataStore> stores = new ConcurrentHashMap<>();
+
+        AccountDataStores(StorageAccount account) {
+            this.account = account;
+        }
     }
 }
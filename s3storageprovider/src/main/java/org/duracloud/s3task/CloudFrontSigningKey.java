@@ -0,0 +1,141 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.s3task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.amazonaws.services.cloudfront.util.SignerUtils;
+import org.apache.commons.io.IOUtils;
+import org.duracloud.s3storage.S3ProviderUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the private key used to sign CloudFront URLs and cookies, so that
+ * the key does not need to be read and parsed for each signature.
+ *
+ * The key path may be either a local file path or an s3:// URL of a key in
+ * DER format. The key is reloaded when the source changes: a local file is
+ * checked on every call, while a key in S3 is checked (by ETag) at most once
+ * per check interval.
+ *
+ * Task runners are created for each request, so they should obtain the key
+ * through forPath(), which shares one instance per key path for the life of
+ * the JVM.
+ *
+ * @author agent
+ */
+public class CloudFrontSigningKey {
+
+    private final Logger log = LoggerFactory.getLogger(CloudFrontSigningKey.class);
+
+    public static final long DEFAULT_S3_CHECK_INTERVAL_MS = 15 * 60 * 1000;
+
+    private static final String S3_PREFIX = "s3://";
+
+    private static final Map<String, CloudFrontSigningKey> KEYS =
+        new ConcurrentHashMap<>();
+
+    private String keyPath;
+    private long s3CheckIntervalMs;
+
+    private PrivateKey privateKey = null;
+    private String loadedVersion = null;
+    private long checkedTime = 0;
+
+    /**
+     * @param keyPath local file path or s3:// URL of the signing key
+     */
+    public CloudFrontSigningKey(String keyPath) {
+        this(keyPath, DEFAULT_S3_CHECK_INTERVAL_MS);
+    }
+
+    public CloudFrontSigningKey(String keyPath, long s3CheckIntervalMs) {
+        this.keyPath = keyPath.trim();
+        this.s3CheckIntervalMs = s3CheckIntervalMs;
+    }
+
+    /**
+     * Provides the shared signing key for a key path
+     *
+     * @param keyPath local file path or s3:// URL of the signing key
+     * @return signing key
+     */
+    public static CloudFrontSigningKey forPath(String keyPath) {
+        return KEYS.computeIfAbsent(keyPath.trim(), CloudFrontSigningKey::new);
+    }
+
+    /**
+     * Provides the signing key, loading it if it has not yet been loaded or
+     * if the source has changed since it was loaded.
+     *
+     * @return the signing key
+     * @throws InvalidKeySpecException if the key cannot be parsed
+     * @throws IOException             if the key cannot be read
+     */
+    public synchronized PrivateKey getPrivateKey()
+        throws InvalidKeySpecException, IOException {
+        boolean check = !isS3Key() ||
+                        currentTimeMillis() - checkedTime >= s3CheckIntervalMs;
+        if (null == privateKey || check) {
+            String version = getKeyVersion();
+            if (null == privateKey || !version.equals(loadedVersion)) {
+                log.info("Loading CloudFront signing key from {}", keyPath);
+                privateKey = loadKey();
+                loadedVersion = version;
+            }
+            checkedTime = currentTimeMillis();
+        }
+        return privateKey;
+    }
+
+    protected boolean isS3Key() {
+        return keyPath.startsWith(S3_PREFIX);
+    }
+
+    /*
+     * Provides a value which changes whenever the key source changes
+     */
+    protected String getKeyVersion() throws IOException {
+        if (isS3Key()) {
+            return S3ProviderUtil.getS3ObjectMetadataByUrl(keyPath).getETag();
+        } else {
+            File keyFile = new File(keyPath);
+            return keyFile.lastModified() + ":" + keyFile.length();
+        }
+    }
+
+    protected PrivateKey loadKey() throws InvalidKeySpecException, IOException {
+        if (isS3Key()) {
+            try (InputStream keyStream =
+                     S3ProviderUtil.getS3ObjectByUrl(keyPath).getInputStream()) {
+                byte[] keyBytes = IOUtils.toByteArray(keyStream);
+                return KeyFactory.getInstance("RSA")
+                                 .generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+            } catch (NoSuchAlgorithmException e) {
+                throw new InvalidKeySpecException(e);
+            }
+        } else {
+            return SignerUtils.loadPrivateKey(new File(keyPath));
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
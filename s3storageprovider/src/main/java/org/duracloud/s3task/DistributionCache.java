@@ -0,0 +1,150 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.s3task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Holds the most recent listing of the CloudFront distributions of a given
+ * type (web or streaming), so that lookups of the distribution for a bucket
+ * do not need to page through every distribution in the account.
+ *
+ * The listing is loaded on first use and reloaded once it is older than the
+ * time-to-live, or when a lookup finds no matching distribution (as the
+ * distribution may have been created since the listing was loaded). Tasks
+ * which create or delete distributions keep the listing current in between
+ * through put() and remove().
+ *
+ * A cache is expected to live as long as the account it serves, rather than
+ * for a single request, so that the listing is actually reused.
+ *
+ * @author agent
+ */
+public class DistributionCache<T> {
+
+    public static final long DEFAULT_TTL_MS = 15 * 60 * 1000;
+
+    private Function<T, String> idFunction;
+    private long ttlMs;
+
+    private Map<String, T> distributions = null;
+    private long loadedTime = 0;
+
+    /**
+     * @param idFunction provides the ID of a distribution summary
+     */
+    public DistributionCache(Function<T, String> idFunction) {
+        this(idFunction, DEFAULT_TTL_MS);
+    }
+
+    public DistributionCache(Function<T, String> idFunction, long ttlMs) {
+        this.idFunction = idFunction;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Provides all known distributions. If the cached listing is missing or
+     * expired, the loader is called to list the distributions again.
+     *
+     * @param loader lists all distributions in the account
+     * @return all distributions
+     */
+    public synchronized List<T> getDistributions(Supplier<List<T>> loader) {
+        if (null == distributions ||
+            currentTimeMillis() - loadedTime >= ttlMs) {
+            load(loader);
+        }
+        return new ArrayList<>(distributions.values());
+    }
+
+    /**
+     * Provides the distributions which match a filter. If no cached
+     * distribution matches, the listing is reloaded (unless it was just
+     * loaded) and the filter is applied again.
+     *
+     * @param filter selects the distributions of interest
+     * @param loader lists all distributions in the account
+     * @return matching distributions, empty if there are none
+     */
+    public synchronized List<T> findDistributions(Predicate<T> filter,
+                                                  Supplier<List<T>> loader) {
+        boolean loaded = false;
+        if (null == distributions ||
+            currentTimeMillis() - loadedTime >= ttlMs) {
+            load(loader);
+            loaded = true;
+        }
+
+        List<T> matches = filter(filter);
+        if (matches.isEmpty() && !loaded) {
+            load(loader);
+            matches = filter(filter);
+        }
+        return matches;
+    }
+
+    private void load(Supplier<List<T>> loader) {
+        Map<String, T> loaded = new LinkedHashMap<>();
+        for (T dist : loader.get()) {
+            loaded.put(idFunction.apply(dist), dist);
+        }
+        distributions = loaded;
+        loadedTime = currentTimeMillis();
+    }
+
+    private List<T> filter(Predicate<T> filter) {
+        List<T> matches = new ArrayList<>();
+        for (T dist : distributions.values()) {
+            if (filter.test(dist)) {
+                matches.add(dist);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds or replaces a distribution in the cached listing. Has no effect
+     * if the listing has not been loaded.
+     *
+     * @param dist summary of the distribution
+     */
+    public synchronized void put(T dist) {
+        if (null != distributions) {
+            distributions.put(idFunction.apply(dist), dist);
+        }
+    }
+
+    /**
+     * Removes a distribution from the cached listing
+     *
+     * @param distId ID of the distribution
+     */
+    public synchronized void remove(String distId) {
+        if (null != distributions) {
+            distributions.remove(distId);
+        }
+    }
+
+    /**
+     * Discards the cached listing, so that it is reloaded on next use
+     */
+    public synchronized void invalidate() {
+        distributions = null;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
@@ -8,15 +8,19 @@
 package org.duracloud.s3task;
 
 import com.amazonaws.services.cloudfront.AmazonCloudFrontClient;
+import com.amazonaws.services.cloudfront.model.DistributionSummary;
+import com.amazonaws.services.cloudfront.model.StreamingDistributionSummary;
 import com.amazonaws.services.s3.AmazonS3;
 import org.duracloud.s3storage.S3StorageProvider;
 import org.duracloud.s3storage.StringDataStoreFactory;
 import org.duracloud.s3task.storage.SetStoragePolicyTaskRunner;
+import org.duracloud.s3task.streaming.BaseStreamingTaskRunner;
 import org.duracloud.s3task.streaming.DeleteStreamingTaskRunner;
 import org.duracloud.s3task.streaming.DisableStreamingTaskRunner;
 import org.duracloud.s3task.streaming.EnableStreamingTaskRunner;
 import org.duracloud.s3task.streaming.GetSignedUrlTaskRunner;
 import org.duracloud.s3task.streaming.GetUrlTaskRunner;
+import org.duracloud.s3task.streaminghls.BaseHlsTaskRunner;
 import org.duracloud.s3task.streaminghls.DeleteHlsTaskRunner;
 import org.duracloud.s3task.streaminghls.DisableHlsTaskRunner;
 import org.duracloud.s3task.streaminghls.EnableHlsTaskRunner;
@@ -44,6 +48,29 @@ public class S3TaskProvider extends TaskProviderBase {
                           String cfKeyPath,
                           String storeId,
                           String dcHost) {
+        this(s3Provider, unwrappedS3Provider, s3Client, cfClient,
+             dataStoreFactory, cfAccountId, cfKeyId, cfKeyPath, storeId, dcHost,
+             new DistributionCache<>(StreamingDistributionSummary::getId),
+             new DistributionCache<>(DistributionSummary::getId));
+    }
+
+    /**
+     * Distribution listings are shared by the streaming tasks of each type,
+     * so that URL requests do not need to list distributions. The caches
+     * should outlive this provider, which may be created for each request.
+     */
+    public S3TaskProvider(StorageProvider s3Provider,
+                          S3StorageProvider unwrappedS3Provider,
+                          AmazonS3 s3Client,
+                          AmazonCloudFrontClient cfClient,
+                          StringDataStoreFactory dataStoreFactory,
+                          String cfAccountId,
+                          String cfKeyId,
+                          String cfKeyPath,
+                          String storeId,
+                          String dcHost,
+                          DistributionCache<StreamingDistributionSummary> streamingDistCache,
+                          DistributionCache<DistributionSummary> hlsDistCache) {
         super(storeId);
         log = LoggerFactory.getLogger(S3TaskProvider.class);
 
@@ -52,52 +79,74 @@ public class S3TaskProvider extends TaskProviderBase {
         taskList.add(new SetStoragePolicyTaskRunner(unwrappedS3Provider));
 
         // RTMP Streaming
-        taskList.add(new EnableStreamingTaskRunner(s3Provider,
-                                                   unwrappedS3Provider,
-                                                   s3Client,
-                                                   cfClient,
-                                                   cfAccountId));
-        taskList.add(new GetUrlTaskRunner(s3Provider,
-                                          unwrappedS3Provider,
-                                          cfClient));
-        taskList.add(new GetSignedUrlTaskRunner(s3Provider,
-                                                unwrappedS3Provider,
-                                                cfClient,
-                                                cfKeyId,
-                                                cfKeyPath));
-        taskList.add(new DisableStreamingTaskRunner(s3Provider,
+        addStreamingTask(new EnableStreamingTaskRunner(s3Provider,
+                                                       unwrappedS3Provider,
+                                                       s3Client,
+                                                       cfClient,
+                                                       cfAccountId),
+                         streamingDistCache);
+        addStreamingTask(new GetUrlTaskRunner(s3Provider,
+                                              unwrappedS3Provider,
+                                              cfClient),
+                         streamingDistCache);
+        addStreamingTask(new GetSignedUrlTaskRunner(s3Provider,
                                                     unwrappedS3Provider,
-                                                    s3Client,
-                                                    cfClient));
-        taskList.add(new DeleteStreamingTaskRunner(s3Provider,
-                                                   unwrappedS3Provider,
-                                                   s3Client,
-                                                   cfClient));
+                                                    cfClient,
+                                                    cfKeyId,
+                                                    cfKeyPath),
+                         streamingDistCache);
+        addStreamingTask(new DisableStreamingTaskRunner(s3Provider,
+                                                        unwrappedS3Provider,
+                                                        s3Client,
+                                                        cfClient),
+                         streamingDistCache);
+        addStreamingTask(new DeleteStreamingTaskRunner(s3Provider,
+                                                       unwrappedS3Provider,
+                                                       s3Client,
+                                                       cfClient),
+                         streamingDistCache);
 
         // HLS Streaming
-        taskList.add(new EnableHlsTaskRunner(s3Provider,
-                                             unwrappedS3Provider,
-                                             s3Client,
-                                             cfClient,
-                                             cfAccountId,
-                                             dcHost));
-        taskList.add(new GetUrlHlsTaskRunner(s3Provider,
-                                             unwrappedS3Provider,
-                                             cfClient));
-        taskList.add(new GetHlsSignedCookiesUrlTaskRunner(s3Provider,
-                                                          unwrappedS3Provider,
-                                                          cfClient,
-                                                          dataStoreFactory,
-                                                          cfKeyId,
-                                                          cfKeyPath));
-        taskList.add(new DisableHlsTaskRunner(s3Provider,
-                                              unwrappedS3Provider,
-                                              s3Client,
-                                              cfClient));
-        taskList.add(new DeleteHlsTaskRunner(s3Provider,
-                                             unwrappedS3Provider,
-                                             s3Client,
-                                             cfClient));
+        addHlsTask(new EnableHlsTaskRunner(s3Provider,
+                                           unwrappedS3Provider,
+                                           s3Client,
+                                           cfClient,
+                                           cfAccountId,
+                                           dcHost),
+                   hlsDistCache);
+        addHlsTask(new GetUrlHlsTaskRunner(s3Provider,
+                                           unwrappedS3Provider,
+                                           cfClient),
+                   hlsDistCache);
+        addHlsTask(new GetHlsSignedCookiesUrlTaskRunner(s3Provider,
+                                                        unwrappedS3Provider,
+                                                        cfClient,
+                                                        dataStoreFactory,
+                                                        cfKeyId,
+                                                        cfKeyPath),
+                   hlsDistCache);
+        addHlsTask(new DisableHlsTaskRunner(s3Provider,
+                                            unwrappedS3Provider,
+                                            s3Client,
+                                            cfClient),
+                   hlsDistCache);
+        addHlsTask(new DeleteHlsTaskRunner(s3Provider,
+                                           unwrappedS3Provider,
+                                           s3Client,
+                                           cfClient),
+                   hlsDistCache);
+    }
+
+    private void addStreamingTask(BaseStreamingTaskRunner runner,
+                                  DistributionCache<StreamingDistributionSummary> cache) {
+        runner.setDistributionCache(cache);
+        taskList.add(runner);
+    }
+
+    private void addHlsTask(BaseHlsTaskRunner runner,
+                            DistributionCache<DistributionSummary> cache) {
+        runner.setDistributionCache(cache);
+        taskList.add(runner);
     }
 
 }
@@ -24,6 +24,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import org.duracloud.StorageTaskConstants;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.s3storage.S3StorageProvider;
+import org.duracloud.s3task.DistributionCache;
 import org.duracloud.storage.error.UnsupportedTaskException;
 import org.duracloud.storage.provider.StorageProvider;
 import org.duracloud.storage.provider.TaskRunner;
@@ -58,11 +59,23 @@ public abstract class BaseStreamingTaskRunner implements TaskRunner {
     protected String cfAccountId;
     protected String cfKeyId;
     protected String cfKeyPath;
+    protected DistributionCache<StreamingDistributionSummary> distributionCache =
+        new DistributionCache<>(StreamingDistributionSummary::getId);
 
     public abstract String getName();
 
     public abstract String performTask(String taskParameters);
 
+    /**
+     * Sets the cache of distribution listings, allowing it to be shared
+     * with the other tasks which look up distributions of this type
+     *
+     * @param distributionCache cache of distribution listings
+     */
+    public void setDistributionCache(DistributionCache<StreamingDistributionSummary> distributionCache) {
+        this.distributionCache = distributionCache;
+    }
+
     /*
      * Returns the first streaming distribution associated with a given bucket
      */
@@ -88,27 +101,28 @@ public abstract class BaseStreamingTaskRunner implements TaskRunner {
      */
     protected List<StreamingDistributionSummary> getAllExistingDistributions(String bucketName) {
 
-        List<StreamingDistributionSummary> distListForBucket = new ArrayList<>();
+        return distributionCache.findDistributions(
+            distSummary -> isDistFromBucket(bucketName, distSummary),
+            this::listAllStreamingDistributions);
+    }
 
+    /*
+     * Retrieves the full listing of streaming distributions from CloudFront
+     */
+    private List<StreamingDistributionSummary> listAllStreamingDistributions() {
         StreamingDistributionList distList =
             cfClient.listStreamingDistributions(new ListStreamingDistributionsRequest())
                     .getStreamingDistributionList();
 
-        List<StreamingDistributionSummary> streamingDistList = distList.getItems();
+        List<StreamingDistributionSummary> streamingDistList =
+            new ArrayList<>(distList.getItems());
         while (distList.isTruncated()) {
             distList = cfClient.listStreamingDistributions(
                 new ListStreamingDistributionsRequest().withMarker(distList.getNextMarker()))
                                .getStreamingDistributionList();
             streamingDistList.addAll(distList.getItems());
         }
-
-        for (StreamingDistributionSummary distSummary : streamingDistList) {
-            if (isDistFromBucket(bucketName, distSummary)) {
-                distListForBucket.add(distSummary);
-            }
-        }
-
-        return distListForBucket;
+        return streamingDistList;
     }
 
     /**
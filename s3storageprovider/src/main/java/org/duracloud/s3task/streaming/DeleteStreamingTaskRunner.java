@@ -65,12 +65,15 @@ public class DeleteStreamingTaskRunner extends BaseStreamingTaskRunner {
         removeStreamingHostFromSpaceProps(spaceId);
         s3Client.deleteBucketPolicy(bucketName);
 
+        // Work from a current listing, so that all distributions are removed
+        distributionCache.invalidate();
         List<StreamingDistributionSummary> existingDists =
             getAllExistingDistributions(bucketName);
 
         if (existingDists != null && existingDists.size() > 0) {
             for (StreamingDistributionSummary existingDist : existingDists) {
                 String distId = existingDist.getId();
+                distributionCache.remove(distId);
                 if (existingDist.isEnabled()) {
                     // Disable the distribution
                     setDistributionState(distId, false);
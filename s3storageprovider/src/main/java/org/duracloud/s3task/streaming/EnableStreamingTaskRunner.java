@@ -81,6 +81,8 @@ public class EnableStreamingTaskRunner extends BaseStreamingTaskRunner {
         String oaIdentityId = getOriginAccessId();
         EnableStreamingTaskResult taskResult = new EnableStreamingTaskResult();
 
+        // Work from a current listing when determining whether to create a distribution
+        distributionCache.invalidate();
         StreamingDistributionSummary existingDist =
             getExistingDistribution(bucketName);
 
@@ -130,6 +132,17 @@ public class EnableStreamingTaskRunner extends BaseStreamingTaskRunner {
                             .withTrustedSigners(signers)))
                         .getStreamingDistribution();
             domainName = dist.getDomainName();
+
+            // Make the new distribution available to lookups from other tasks
+            distributionCache.put(
+                new StreamingDistributionSummary().withId(dist.getId())
+                                                  .withARN(dist.getARN())
+                                                  .withStatus(dist.getStatus())
+                                                  .withDomainName(domainName)
+                                                  .withEnabled(true)
+                                                  .withComment("Streaming space: " + spaceId)
+                                                  .withS3Origin(origin)
+                                                  .withTrustedSigners(signers));
         }
 
         // Set bucket policy to accept origin access identity
@@ -7,26 +7,27 @@
  */
 package org.duracloud.s3task.streaming;
 
-import java.io.File;
 import java.io.IOException;
+import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.amazonaws.services.cloudfront.AmazonCloudFrontClient;
 import com.amazonaws.services.cloudfront.CloudFrontUrlSigner;
 import com.amazonaws.services.cloudfront.model.StreamingDistributionSummary;
-import com.amazonaws.services.cloudfront.util.SignerUtils;
 import org.duracloud.StorageTaskConstants;
-import org.duracloud.common.util.IOUtil;
-import org.duracloud.s3storage.S3ProviderUtil;
 import org.duracloud.s3storage.S3StorageProvider;
+import org.duracloud.s3task.CloudFrontSigningKey;
 import org.duracloud.s3storageprovider.dto.GetSignedUrlTaskParameters;
 import org.duracloud.s3storageprovider.dto.GetSignedUrlTaskResult;
 import org.duracloud.storage.error.UnsupportedTaskException;
 import org.duracloud.storage.provider.StorageProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.Resource;
 
 /**
  * Retrieves a signed URL for a media file that is streamed through
@@ -45,6 +46,8 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
     private static final String TASK_NAME =
         StorageTaskConstants.GET_SIGNED_URL_TASK_NAME;
 
+    private CloudFrontSigningKey signingKey;
+
     public GetSignedUrlTaskRunner(StorageProvider s3Provider,
                                   S3StorageProvider unwrappedS3Provider,
                                   AmazonCloudFrontClient cfClient,
@@ -57,6 +60,7 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
         this.cfKeyId = cfKeyId;
         // Local file path to signing key in DER format
         this.cfKeyPath = cfKeyPath.trim();
+        this.signingKey = CloudFrontSigningKey.forPath(this.cfKeyPath);
     }
 
     public String getName() {
@@ -70,6 +74,7 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
 
         String spaceId = taskParams.getSpaceId();
         String contentId = taskParams.getContentId();
+        List<String> contentIds = taskParams.getContentIds();
         String resourcePrefix = taskParams.getResourcePrefix();
         String ipAddress = taskParams.getIpAddress();
         int minutesToExpire = taskParams.getMinutesToExpire();
@@ -78,7 +83,9 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
         }
 
         log.info("Performing " + TASK_NAME + " task with parameters: spaceId=" + spaceId +
-                 ", contentId=" + contentId + ", resourcePrefix=" + resourcePrefix +
+                 ", contentId=" + contentId +
+                 ", contentIds=" + (null == contentIds ? 0 : contentIds.size()) + " items" +
+                 ", resourcePrefix=" + resourcePrefix +
                  ", minutesToExpire=" + minutesToExpire + ", ipAddress=" + ipAddress);
 
         // Will throw if bucket does not exist
@@ -118,20 +125,21 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
         expireCalendar.add(Calendar.MINUTE, minutesToExpire);
 
         try {
+            PrivateKey privateKey = signingKey.getPrivateKey();
+            Date expireDate = expireCalendar.getTime();
+            String urlPrefix = "rtmp://" + domainName + "/cfx/st/" + resourcePrefix;
 
-            File cfKeyPathFile = getCfKeyPathFile(this.cfKeyPath);
-            String signedUrl =
-                CloudFrontUrlSigner.getSignedURLWithCustomPolicy(
-                    SignerUtils.Protocol.rtmp,
-                    domainName,
-                    cfKeyPathFile,
-                    contentId,
-                    cfKeyId,
-                    expireCalendar.getTime(),
-                    null,
-                    ipAddress);
-            taskResult.setSignedUrl("rtmp://" + domainName + "/cfx/st/" +
-                                    resourcePrefix + signedUrl);
+            if (null != contentId && !contentId.isEmpty()) {
+                taskResult.setSignedUrl(
+                    urlPrefix + signUrl(contentId, privateKey, expireDate, ipAddress));
+            }
+            if (null != contentIds && !contentIds.isEmpty()) {
+                Map<String, String> signedUrls = new LinkedHashMap<>();
+                for (String id : contentIds) {
+                    signedUrls.put(id, urlPrefix + signUrl(id, privateKey, expireDate, ipAddress));
+                }
+                taskResult.setSignedUrls(signedUrls);
+            }
         } catch (InvalidKeySpecException | IOException e) {
             throw new RuntimeException("Error encountered attempting to sign URL for" +
                                        " task " + TASK_NAME + ": " + e.getMessage(), e);
@@ -142,20 +150,17 @@ public class GetSignedUrlTaskRunner extends BaseStreamingTaskRunner {
         return toReturn;
     }
 
-    private File getCfKeyPathFile(String cfKeyPath) throws IOException {
-        if (this.cfKeyPath.startsWith("s3://")) {
-            File keyFile = new File(System.getProperty("java.io.tmpdir"),
-                                    "cloudfront-key.der");
-            if (!keyFile.exists()) {
-                Resource resource = S3ProviderUtil.getS3ObjectByUrl(this.cfKeyPath);
-                File tmpFile = IOUtil.writeStreamToFile(resource.getInputStream());
-                tmpFile.renameTo(keyFile);
-                keyFile.deleteOnExit();
-            }
-
-            return keyFile;
-        } else {
-            return new File(this.cfKeyPath);
-        }
+    /*
+     * Signs the path of a single RTMP resource. The key is provided directly
+     * so that it is not reloaded for each signature.
+     */
+    private String signUrl(String resourcePath,
+                           PrivateKey privateKey,
+                           Date expireDate,
+                           String ipAddress) {
+        String policy = CloudFrontUrlSigner.buildCustomPolicyForSignedUrl(
+            resourcePath, expireDate, ipAddress, null);
+        return CloudFrontUrlSigner.getSignedURLWithCustomPolicy(
+            resourcePath, cfKeyId, privateKey, policy);
     }
 }
@@ -25,6 +25,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import org.duracloud.StorageTaskConstants;
 import org.duracloud.common.error.DuraCloudRuntimeException;
 import org.duracloud.s3storage.S3StorageProvider;
+import org.duracloud.s3task.DistributionCache;
 import org.duracloud.storage.error.UnsupportedTaskException;
 import org.duracloud.storage.provider.StorageProvider;
 import org.duracloud.storage.provider.TaskRunner;
@@ -59,11 +60,23 @@ public abstract class BaseHlsTaskRunner implements TaskRunner {
     protected String cfKeyId;
     protected String cfKeyPath;
     protected String dcHost;
+    protected DistributionCache<DistributionSummary> distributionCache =
+        new DistributionCache<>(DistributionSummary::getId);
 
     public abstract String getName();
 
     public abstract String performTask(String taskParameters);
 
+    /**
+     * Sets the cache of distribution listings, allowing it to be shared
+     * with the other tasks which look up distributions of this type
+     *
+     * @param distributionCache cache of distribution listings
+     */
+    public void setDistributionCache(DistributionCache<DistributionSummary> distributionCache) {
+        this.distributionCache = distributionCache;
+    }
+
     /**
      * Returns the first streaming web distribution associated with a given bucket
      */
@@ -92,27 +105,27 @@ public abstract class BaseHlsTaskRunner implements TaskRunner {
      */
     protected List<DistributionSummary> getAllExistingWebDistributions(String bucketName) {
 
-        List<DistributionSummary> distListForBucket = new ArrayList<>();
+        return distributionCache.findDistributions(
+            distSummary -> isDistFromBucket(bucketName, distSummary),
+            this::listAllWebDistributions);
+    }
 
+    /*
+     * Retrieves the full listing of web distributions from CloudFront
+     */
+    private List<DistributionSummary> listAllWebDistributions() {
         DistributionList distList =
             cfClient.listDistributions(new ListDistributionsRequest())
                     .getDistributionList();
 
-        List<DistributionSummary> webDistList = distList.getItems();
+        List<DistributionSummary> webDistList = new ArrayList<>(distList.getItems());
         while (distList.isTruncated()) {
             distList = cfClient.listDistributions(
                 new ListDistributionsRequest().withMarker(distList.getNextMarker()))
                                .getDistributionList();
             webDistList.addAll(distList.getItems());
         }
-
-        for (DistributionSummary distSummary : webDistList) {
-            if (isDistFromBucket(bucketName, distSummary)) {
-                distListForBucket.add(distSummary);
-            }
-        }
-
-        return distListForBucket;
+        return webDistList;
     }
 
     /**
@@ -68,11 +68,14 @@ public class DeleteHlsTaskRunner extends BaseHlsTaskRunner {
         s3Client.deleteBucketPolicy(bucketName);
         s3Client.deleteBucketCrossOriginConfiguration(bucketName);
 
+        // Work from a current listing, so that all distributions are removed
+        distributionCache.invalidate();
         List<DistributionSummary> existingDists = getAllExistingWebDistributions(bucketName);
 
         if (existingDists != null && existingDists.size() > 0) {
             for (DistributionSummary existingDist : existingDists) {
                 String distId = existingDist.getId();
+                distributionCache.remove(distId);
                 if (existingDist.isEnabled()) {
                     // Disable the distribution
                     setDistributionState(distId, false);
@@ -102,6 +102,8 @@ public class EnableHlsTaskRunner extends BaseHlsTaskRunner {
         String oaIdentityId = getOriginAccessId();
         EnableStreamingTaskResult taskResult = new EnableStreamingTaskResult();
 
+        // Work from a current listing when determining whether to create a distribution
+        distributionCache.invalidate();
         DistributionSummary existingDist = getExistingDistribution(bucketName);
 
         if (existingDist != null) { // There is an existing distribution
@@ -214,6 +216,18 @@ public class EnableHlsTaskRunner extends BaseHlsTaskRunner {
             Distribution dist = cfClient.createDistribution(
                 new CreateDistributionRequest(distributionConfig)).getDistribution();
             domainName = dist.getDomainName();
+
+            // Make the new distribution available to lookups from other tasks
+            distributionCache.put(
+                new DistributionSummary().withId(dist.getId())
+                                         .withARN(dist.getARN())
+                                         .withStatus(dist.getStatus())
+                                         .withDomainName(domainName)
+                                         .withEnabled(true)
+                                         .withComment(distributionConfig.getComment())
+                                         .withOrigins(origins)
+                                         .withDefaultCacheBehavior(defaultCacheBehavior)
+                                         .withCacheBehaviors(distributionConfig.getCacheBehaviors()));
         }
 
         // Set bucket policy to accept origin access identity
@@ -7,8 +7,8 @@
  */
 package org.duracloud.s3task.streaminghls;
 
-import java.io.File;
 import java.io.IOException;
+import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Calendar;
 import java.util.HashMap;
@@ -20,11 +20,10 @@ import com.amazonaws.services.cloudfront.model.DistributionSummary;
 import com.amazonaws.services.cloudfront.util.SignerUtils;
 import org.duracloud.StorageTaskConstants;
 import org.duracloud.common.constant.Constants;
-import org.duracloud.common.util.IOUtil;
-import org.duracloud.s3storage.S3ProviderUtil;
 import org.duracloud.s3storage.S3StorageProvider;
 import org.duracloud.s3storage.StringDataStore;
 import org.duracloud.s3storage.StringDataStoreFactory;
+import org.duracloud.s3task.CloudFrontSigningKey;
 import org.duracloud.s3storageprovider.dto.GetSignedCookiesUrlTaskParameters;
 import org.duracloud.s3storageprovider.dto.GetSignedCookiesUrlTaskResult;
 import org.duracloud.s3storageprovider.dto.SignedCookieData;
@@ -32,7 +31,6 @@ import org.duracloud.storage.error.UnsupportedTaskException;
 import org.duracloud.storage.provider.StorageProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.Resource;
 
 /**
  * Retrieves a URL which can be used to set signed cookies on the user's browser.
@@ -51,6 +49,7 @@ public class GetHlsSignedCookiesUrlTaskRunner extends BaseHlsTaskRunner {
     private static final String TASK_NAME = StorageTaskConstants.GET_SIGNED_COOKIES_URL_TASK_NAME;
 
     private StringDataStoreFactory dataStoreFactory;
+    private CloudFrontSigningKey signingKey;
 
     public GetHlsSignedCookiesUrlTaskRunner(StorageProvider s3Provider,
                                             S3StorageProvider unwrappedS3Provider,
@@ -67,6 +66,7 @@ public class GetHlsSignedCookiesUrlTaskRunner extends BaseHlsTaskRunner {
         this.cfKeyId = cfKeyId;
         // Local file path to signing key in DER format
         this.cfKeyPath = cfKeyPath.trim();
+        this.signingKey = CloudFrontSigningKey.forPath(this.cfKeyPath);
     }
 
     public String getName() {
@@ -113,14 +113,14 @@ public class GetHlsSignedCookiesUrlTaskRunner extends BaseHlsTaskRunner {
 
         Map<String, String> signedCookies = new HashMap<>();
         try {
-            File cfKeyPathFile = getCfKeyPathFile(this.cfKeyPath);
+            PrivateKey privateKey = signingKey.getPrivateKey();
 
             // Generate signed cookies
             CloudFrontCookieSigner.CookiesForCustomPolicy cookies =
                 CloudFrontCookieSigner.getCookiesForCustomPolicy(
                     SignerUtils.Protocol.https,
                     domainName,
-                    cfKeyPathFile,
+                    privateKey,
                     "*",
                     cfKeyId,
                     expireCalendar.getTime(),
@@ -145,23 +145,6 @@ public class GetHlsSignedCookiesUrlTaskRunner extends BaseHlsTaskRunner {
         return toReturn;
     }
 
-    private File getCfKeyPathFile(String cfKeyPath) throws IOException {
-        if (cfKeyPath.startsWith("s3://")) {
-            File keyFile = new File(System.getProperty("java.io.tmpdir"),
-                                    "cloudfront-key.der");
-            if (!keyFile.exists()) {
-                Resource resource = S3ProviderUtil.getS3ObjectByUrl(cfKeyPath);
-                File tmpFile = IOUtil.writeStreamToFile(resource.getInputStream());
-                tmpFile.renameTo(keyFile);
-                keyFile.deleteOnExit();
-            }
-
-            return keyFile;
-        } else {
-            return new File(cfKeyPath);
-        }
-    }
-
     /*
      * Stores signed cookies data and returns a token which can be used
      * to retrieve the data from the /aux/cookies DuraStore path
@@ -15,6 +15,7 @@ import static org.easymock.EasyMock.newCapture;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -41,8 +42,14 @@ import com.amazonaws.services.s3.model.BucketTaggingConfiguration;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.HeadBucketRequest;
+import com.amazonaws.services.s3.model.HeadBucketResult;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
@@ -59,6 +66,7 @@ import org.duracloud.storage.error.ChecksumMismatchException;
 import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.provider.StorageProvider;
 import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.easymock.EasyMock;
 import org.easymock.IExpectationSetters;
 import org.junit.After;
@@ -97,6 +105,15 @@ public class S3StorageProviderTest {
 
     private void setupS3Client() {
         s3Client = createMock("AmazonS3", AmazonS3.class);
+        // Unless a test expects otherwise, buckets are found by listing
+        expect(s3Client.headBucket(EasyMock.isA(HeadBucketRequest.class)))
+            .andThrow(createS3Exception(404)).anyTimes();
+    }
+
+    private AmazonS3Exception createS3Exception(int statusCode) {
+        AmazonS3Exception e = new AmazonS3Exception("error");
+        e.setStatusCode(statusCode);
+        return e;
     }
 
     @Test
@@ -460,6 +477,64 @@ public class S3StorageProviderTest {
         return capturedRequest;
     }
 
+    @Test
+    public void testDeleteContents() {
+        setupS3Client();
+        addListBucketsMock();
+
+        List<String> contentIds = new ArrayList<>();
+        for (int i = 0; i <= S3StorageProvider.MAX_DELETE_COUNT; i++) {
+            contentIds.add("content-" + i);
+        }
+
+        Capture<DeleteObjectsRequest> requests = newCapture(CaptureType.ALL);
+        expect(s3Client.deleteObjects(capture(requests)))
+            .andReturn(new DeleteObjectsResult(new ArrayList<>()));
+
+        DeleteError error = new DeleteError();
+        error.setKey("content-1000");
+        error.setCode("AccessDenied");
+        error.setMessage("Access Denied");
+        expect(s3Client.deleteObjects(capture(requests)))
+            .andThrow(new MultiObjectDeleteException(Arrays.asList(error),
+                                                     new ArrayList<>()));
+        replay(s3Client);
+
+        S3StorageProvider provider =
+            new S3StorageProvider(s3Client, accessKey, null);
+        Map<String, String> failures =
+            provider.deleteContents(spaceId, contentIds);
+
+        assertEquals(1, failures.size());
+        assertEquals("AccessDenied: Access Denied", failures.get("content-1000"));
+
+        List<DeleteObjectsRequest> deleteRequests = requests.getValues();
+        assertEquals(2, deleteRequests.size());
+        assertEquals(accessKey + "." + spaceId,
+                     deleteRequests.get(0).getBucketName());
+        assertEquals(S3StorageProvider.MAX_DELETE_COUNT,
+                     deleteRequests.get(0).getKeys().size());
+        assertTrue(deleteRequests.get(0).getQuiet());
+        assertEquals("content-1000",
+                     deleteRequests.get(1).getKeys().get(0).getKey());
+    }
+
+    @Test
+    public void testDeleteContentsSpaceNotFound() {
+        setupS3Client();
+        addListBucketsMock();
+        replay(s3Client);
+
+        S3StorageProvider provider =
+            new S3StorageProvider(s3Client, accessKey, null);
+        try {
+            provider.deleteContents("missing-space-id", Arrays.asList(contentId));
+            fail("Exception expected when the space does not exist");
+        } catch (NotFoundException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
     @Test
     public void testGetSpaceCount1000() {
         MockS3StorageProvider provider = new MockS3StorageProvider();
@@ -706,6 +781,87 @@ public class S3StorageProviderTest {
         verify(s3Client, bucket);
     }
 
+    @Test
+    public void testGetBucketNameDirect() {
+        s3Client = createMock("AmazonS3", AmazonS3.class);
+        Capture<HeadBucketRequest> headCapture = newCapture();
+        expect(s3Client.headBucket(capture(headCapture)))
+            .andReturn(new HeadBucketResult());
+        replay(s3Client);
+
+        // Found without listing buckets
+        S3StorageProvider provider = new S3StorageProvider(s3Client, accessKey, null);
+        assertEquals(accessKey + "." + spaceId, provider.getBucketName(spaceId));
+        assertEquals(accessKey + "." + spaceId, headCapture.getValue().getBucketName());
+    }
+
+    @Test
+    public void testGetBucketNameDirectHidden() {
+        s3Client = createMock("AmazonS3", AmazonS3.class);
+        expect(s3Client.headBucket(EasyMock.isA(HeadBucketRequest.class)))
+            .andThrow(createS3Exception(404));
+        expect(s3Client.headBucket(EasyMock.isA(HeadBucketRequest.class)))
+            .andReturn(new HeadBucketResult());
+        replay(s3Client);
+
+        S3StorageProvider provider = new S3StorageProvider(s3Client, accessKey, null);
+        assertEquals("hidden-" + accessKey + "." + spaceId,
+                     provider.getBucketName(spaceId));
+    }
+
+    @Test
+    public void testGetBucketNameOtherPrefix() {
+        setupS3Client();
+        String bucketName = "zyxwvutsrqponmlkjihg." + spaceId;
+        expect(s3Client.listBuckets()).andReturn(Arrays.asList(new Bucket(bucketName)))
+                                      .times(2);
+        replay(s3Client);
+
+        // Buckets named with another access key ID are found by listing
+        S3StorageProvider provider = new S3StorageProvider(s3Client, accessKey, null);
+        assertEquals(bucketName, provider.getBucketName(spaceId));
+        assertTrue(provider.spaceExists(spaceId));
+    }
+
+    @Test
+    public void testGetBucketNameKnown() {
+        s3Client = createMock("AmazonS3", AmazonS3.class);
+        String bucketName = "zyxwvutsrqponmlkjihg." + spaceId;
+        Capture<HeadBucketRequest> headCapture = newCapture(CaptureType.ALL);
+        // First lookup: neither own bucket name exists, found by listing
+        expect(s3Client.headBucket(capture(headCapture)))
+            .andThrow(createS3Exception(404)).times(2);
+        expect(s3Client.listBuckets()).andReturn(Arrays.asList(new Bucket(bucketName)));
+        // Later lookup: the known bucket name is confirmed directly
+        expect(s3Client.headBucket(capture(headCapture)))
+            .andReturn(new HeadBucketResult());
+        replay(s3Client);
+
+        S3StorageProvider provider = new S3StorageProvider(s3Client, accessKey, null);
+        assertEquals(bucketName, provider.getBucketName(spaceId));
+        assertEquals(bucketName, provider.getBucketName(spaceId));
+        assertEquals(bucketName, headCapture.getValues().get(2).getBucketName());
+    }
+
+    @Test
+    public void testOwnSpaceExists() {
+        s3Client = createMock("AmazonS3", AmazonS3.class);
+        Capture<HeadBucketRequest> headCapture = newCapture(CaptureType.ALL);
+        expect(s3Client.headBucket(capture(headCapture)))
+            .andThrow(createS3Exception(404));
+        expect(s3Client.headBucket(capture(headCapture)))
+            .andReturn(new HeadBucketResult());
+        replay(s3Client);
+
+        // Decided by a single HEAD request, without listing buckets
+        S3StorageProvider provider = new S3StorageProvider(s3Client, accessKey, null);
+        assertFalse(provider.ownSpaceExists(spaceId));
+        assertTrue(provider.ownSpaceExists(spaceId));
+        for (HeadBucketRequest request : headCapture.getValues()) {
+            assertEquals(accessKey + "." + spaceId, request.getBucketName());
+        }
+    }
+
     @Test
     public void testEncodeDecodeHeaderKey() throws Exception {
         String key = "key";
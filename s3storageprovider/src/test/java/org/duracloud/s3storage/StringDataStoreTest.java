@@ -11,12 +11,17 @@ import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.isA;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
-import java.io.InputStream;
-
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
 import org.duracloud.common.util.IOUtil;
-import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.error.NotFoundException;
 import org.easymock.EasyMockRunner;
 import org.easymock.EasyMockSupport;
 import org.easymock.Mock;
@@ -39,6 +44,8 @@ public class StringDataStoreTest extends EasyMockSupport {
 
     private String hiddenSpaceName = "hidden-space";
 
+    private String bucketName = "hidden-bucket";
+
     private String cookieData = "cookie-data";
 
     private String token = "token-uuid";
@@ -47,11 +54,11 @@ public class StringDataStoreTest extends EasyMockSupport {
     private S3StorageProvider storageProvider;
 
     @Mock
-    private RetrievedContent retrievedContent;
+    private AmazonS3 s3Client;
 
     @Before
     public void setup() {
-        this.stringDataStore = new StringDataStore(hiddenSpaceName, storageProvider);
+        this.stringDataStore = new StringDataStore(hiddenSpaceName, storageProvider, s3Client);
     }
 
     @After
@@ -61,24 +68,77 @@ public class StringDataStoreTest extends EasyMockSupport {
 
     @Test
     public void testStoreData() throws Exception {
-        expect(storageProvider.spaceExists(hiddenSpaceName)).andReturn(false);
+        expect(storageProvider.getBucketName(hiddenSpaceName))
+            .andThrow(new NotFoundException("not found"));
         expect(storageProvider.createHiddenSpace(eq(hiddenSpaceName), eq(1))).andReturn(hiddenSpaceName);
-        expect(storageProvider
-                   .addHiddenContent(eq(hiddenSpaceName), isA(String.class), isA(String.class), isA(InputStream.class)))
-            .andReturn("etag");
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName);
+        expect(s3Client.putObject(isA(PutObjectRequest.class))).andReturn(new PutObjectResult());
         replayAll();
         String token = this.stringDataStore.storeData(cookieData);
         assertNotNull("token must not be null", token);
     }
 
+    @Test
+    public void testStoreDataBucketResolvedOnce() throws Exception {
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName).once();
+        expect(s3Client.putObject(isA(PutObjectRequest.class)))
+            .andReturn(new PutObjectResult()).times(2);
+        replayAll();
+        String token1 = this.stringDataStore.storeData(cookieData);
+        String token2 = this.stringDataStore.storeData(cookieData);
+        assertFalse(token1.equals(token2));
+    }
+
+    @Test
+    public void testStoreDataSpaceRemoved() throws Exception {
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName);
+        expect(s3Client.putObject(isA(PutObjectRequest.class))).andReturn(new PutObjectResult());
+        // The bucket is removed after its name has been resolved
+        expect(s3Client.putObject(isA(PutObjectRequest.class)))
+            .andThrow(createS3Exception(StringDataStore.NO_SUCH_BUCKET));
+        expect(storageProvider.getBucketName(hiddenSpaceName))
+            .andThrow(new NotFoundException("not found"));
+        expect(storageProvider.createHiddenSpace(eq(hiddenSpaceName), eq(1))).andReturn(hiddenSpaceName);
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName);
+        expect(s3Client.putObject(isA(PutObjectRequest.class))).andReturn(new PutObjectResult());
+        replayAll();
+        this.stringDataStore.storeData(cookieData);
+        assertNotNull(this.stringDataStore.storeData(cookieData));
+    }
+
     @Test
     public void testRetrieveData() throws Exception {
-        InputStream is = IOUtil.writeStringToStream("test");
-        expect(retrievedContent.getContentStream()).andReturn(is);
-        expect(storageProvider.getContent(eq(hiddenSpaceName), eq(token))).andReturn(retrievedContent);
+        S3Object object = new S3Object();
+        object.setObjectContent(IOUtil.writeStringToStream("test"));
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName);
+        expect(s3Client.getObject(bucketName, token)).andReturn(object);
         replayAll();
         String data = this.stringDataStore.retrieveData(token);
         assertEquals("The retrieved data did not equal the expected value", "test", data);
     }
 
+    @Test
+    public void testRetrieveDataNoSuchKey() throws Exception {
+        expect(storageProvider.getBucketName(hiddenSpaceName)).andReturn(bucketName);
+        expect(s3Client.getObject(bucketName, token))
+            .andThrow(createS3Exception(StringDataStore.NO_SUCH_KEY));
+        replayAll();
+        assertNull(this.stringDataStore.retrieveData(token));
+    }
+
+    @Test
+    public void testRetrieveDataNoSpace() throws Exception {
+        // The space is not created when reading
+        expect(storageProvider.getBucketName(hiddenSpaceName))
+            .andThrow(new NotFoundException("not found"));
+        replayAll();
+        assertNull(this.stringDataStore.retrieveData(token));
+    }
+
+    private AmazonS3Exception createS3Exception(String errorCode) {
+        AmazonS3Exception e = new AmazonS3Exception("error");
+        e.setErrorCode(errorCode);
+        return e;
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.s3task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.PrivateKey;
+import java.security.spec.InvalidKeySpecException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author agent
+ */
+public class CloudFrontSigningKeyTest {
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @Test
+    public void testForPath() {
+        CloudFrontSigningKey signingKey =
+            CloudFrontSigningKey.forPath("/path/to/key.der");
+        assertSame(signingKey, CloudFrontSigningKey.forPath(" /path/to/key.der"));
+        assertNotSame(signingKey, CloudFrontSigningKey.forPath("/path/to/other.der"));
+    }
+
+    @Test
+    public void testLocalKey() throws Exception {
+        File sourceKey = new File(this.getClass().getClassLoader()
+                                      .getResource("test-signing-key.der").getPath());
+        File keyFile = new File(tempDir.getRoot(), "signing-key.der");
+        FileUtils.copyFile(sourceKey, keyFile);
+        keyFile.setLastModified(100000);
+
+        CloudFrontSigningKey signingKey = new CloudFrontSigningKey(keyFile.getPath());
+        PrivateKey key = signingKey.getPrivateKey();
+        assertSame(key, signingKey.getPrivateKey());
+
+        // Key is reloaded when the file changes
+        keyFile.setLastModified(200000);
+        PrivateKey reloadedKey = signingKey.getPrivateKey();
+        assertNotSame(key, reloadedKey);
+        assertEquals(key, reloadedKey);
+        assertSame(reloadedKey, signingKey.getPrivateKey());
+    }
+
+    @Test
+    public void testS3KeyCheckInterval() throws Exception {
+        TestSigningKey signingKey = new TestSigningKey();
+
+        signingKey.getPrivateKey();
+        signingKey.getPrivateKey();
+        assertEquals(1, signingKey.versionChecks);
+        assertEquals(1, signingKey.loads);
+
+        // Source is checked again after the interval, but is unchanged
+        signingKey.time += 100;
+        signingKey.getPrivateKey();
+        assertEquals(2, signingKey.versionChecks);
+        assertEquals(1, signingKey.loads);
+
+        // Source has changed, but is not checked until the interval passes
+        signingKey.version = "v2";
+        signingKey.getPrivateKey();
+        assertEquals(1, signingKey.loads);
+        signingKey.time += 100;
+        signingKey.getPrivateKey();
+        assertEquals(3, signingKey.versionChecks);
+        assertEquals(2, signingKey.loads);
+    }
+
+    private static class TestSigningKey extends CloudFrontSigningKey {
+        private long time = 1000;
+        private String version = "v1";
+        private int versionChecks = 0;
+        private int loads = 0;
+
+        public TestSigningKey() {
+            super("s3://bucket/signing-key.der", 100);
+        }
+
+        @Override
+        protected String getKeyVersion() {
+            versionChecks++;
+            return version;
+        }
+
+        @Override
+        protected PrivateKey loadKey() throws InvalidKeySpecException, IOException {
+            loads++;
+            return new PrivateKey() {
+                public String getAlgorithm() {
+                    return "RSA";
+                }
+
+                public String getFormat() {
+                    return null;
+                }
+
+                public byte[] getEncoded() {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return time;
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.s3task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.amazonaws.services.cloudfront.model.DistributionSummary;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class DistributionCacheTest {
+
+    private long time = 1000;
+    private int loads = 0;
+    private DistributionCache<DistributionSummary> cache;
+
+    private Supplier<List<DistributionSummary>> loader = () -> {
+        loads++;
+        return Arrays.asList(new DistributionSummary().withId("a"),
+                             new DistributionSummary().withId("b"));
+    };
+
+    @Before
+    public void setup() {
+        cache = new DistributionCache<DistributionSummary>(DistributionSummary::getId, 100) {
+            @Override
+            protected long currentTimeMillis() {
+                return time;
+            }
+        };
+    }
+
+    @Test
+    public void testLoadOnce() {
+        assertEquals(2, cache.getDistributions(loader).size());
+        assertEquals(2, cache.getDistributions(loader).size());
+        time += 99;
+        assertEquals(2, cache.getDistributions(loader).size());
+        assertEquals(1, loads);
+    }
+
+    @Test
+    public void testExpired() {
+        cache.getDistributions(loader);
+        time += 100;
+        cache.getDistributions(loader);
+        assertEquals(2, loads);
+    }
+
+    @Test
+    public void testPutRemove() {
+        // Changes before the first load are picked up by the load
+        cache.put(new DistributionSummary().withId("c"));
+        cache.remove("a");
+        assertEquals(2, cache.getDistributions(loader).size());
+
+        cache.put(new DistributionSummary().withId("c"));
+        cache.put(new DistributionSummary().withId("c"));
+        assertEquals(3, cache.getDistributions(loader).size());
+
+        cache.remove("a");
+        List<DistributionSummary> dists = cache.getDistributions(loader);
+        assertEquals(2, dists.size());
+        assertEquals("b", dists.get(0).getId());
+        assertEquals("c", dists.get(1).getId());
+        assertEquals(1, loads);
+    }
+
+    @Test
+    public void testFindDistributions() {
+        List<DistributionSummary> found =
+            cache.findDistributions(dist -> "b".equals(dist.getId()), loader);
+        assertEquals(1, found.size());
+        assertEquals("b", found.get(0).getId());
+        assertEquals(1, loads);
+
+        // Found in the cached listing, no reload
+        found = cache.findDistributions(dist -> "a".equals(dist.getId()), loader);
+        assertEquals(1, found.size());
+        assertEquals(1, loads);
+    }
+
+    @Test
+    public void testFindDistributionsReloadOnMiss() {
+        cache.getDistributions(loader);
+        assertEquals(1, loads);
+
+        List<DistributionSummary> found =
+            cache.findDistributions(dist -> "c".equals(dist.getId()), loader);
+        assertEquals(0, found.size());
+        assertEquals(2, loads);
+
+        // A miss on a freshly loaded listing does not reload again
+        cache.invalidate();
+        found = cache.findDistributions(dist -> "c".equals(dist.getId()), loader);
+        assertEquals(0, found.size());
+        assertEquals(3, loads);
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.getDistributions(loader);
+        cache.invalidate();
+        cache.getDistributions(loader);
+        assertEquals(2, loads);
+    }
+
+}
@@ -12,7 +12,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 
 import com.amazonaws.services.cloudfront.AmazonCloudFrontClient;
 import com.amazonaws.services.s3.AmazonS3;
@@ -128,6 +130,32 @@ public class GetSignedUrlTaskRunnerTest extends StreamingTaskRunnerTestBase {
         assertTrue(signedUrl.contains("Key-Pair-Id="));
     }
 
+    /*
+     * Testing the case where urls are generated for a list of content items
+     */
+    @Test
+    public void testPerformTaskMultiple() throws Exception {
+        GetSignedUrlTaskRunner runner =
+            createRunner(createMockStorageProvider(),
+                         createMockUnwrappedS3StorageProvider(),
+                         createMockS3ClientV1(),
+                         createMockCFClientV4(true)); // Secure dist
+
+        GetSignedUrlTaskParameters taskParams = new GetSignedUrlTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setContentIds(Arrays.asList("item-1", "item-2", "item-3"));
+
+        String results = runner.performTask(taskParams.serialize());
+        GetSignedUrlTaskResult taskResult = GetSignedUrlTaskResult.deserialize(results);
+        Map<String, String> signedUrls = taskResult.getSignedUrls();
+        assertEquals(3, signedUrls.size());
+        for (String id : taskParams.getContentIds()) {
+            String signedUrl = signedUrls.get(id);
+            assertTrue(signedUrl.startsWith("rtmp://" + domainName + "/cfx/st/" + id));
+            assertTrue(signedUrl.contains("Signature="));
+        }
+    }
+
     /*
      * Testing the case where a distribution does not exist,
      * an exception is expected
@@ -193,4 +193,47 @@ public class GetHlsSignedCookiesUrlTaskRunnerTest extends HlsTaskRunnerTestBase
         assertNotNull(signedCookies.get("CloudFront-Key-Pair-Id"));
     }
 
+    /*
+     * Testing the case where signed cookies are requested repeatedly for a
+     * space, the distribution listing is expected to be retrieved only once.
+     */
+    @Test
+    public void testPerformTaskCachedDistribution() {
+        int requests = 3;
+
+        // Setup mocks
+        EasyMock.expect(unwrappedS3Provider.getBucketName(EasyMock.isA(String.class)))
+                .andReturn(bucketName).times(requests);
+
+        Map<String, String> props = new HashMap<>();
+        props.put(HLS_STREAMING_HOST_PROP, domainName);
+        EasyMock.expect(s3Provider.getSpaceProperties(spaceId))
+                .andReturn(props).times(requests);
+
+        cfClientExpectValidDistribution(cfClient);
+
+        EasyMock.expect(dataStoreFactory.create(Constants.HIDDEN_COOKIE_SPACE))
+                .andReturn(dataStore).times(requests);
+        EasyMock.expect(dataStore.storeData(EasyMock.isA(String.class)))
+                .andReturn("token").times(requests);
+
+        GetHlsSignedCookiesUrlTaskRunner runner =
+            new GetHlsSignedCookiesUrlTaskRunner(s3Provider, unwrappedS3Provider, cfClient,
+                                                 dataStoreFactory, cfKeyId, cfKeyPath);
+        // Replay mocks
+        replayMocks();
+
+        GetSignedCookiesUrlTaskParameters taskParams = new GetSignedCookiesUrlTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setRedirectUrl(redirectUrl);
+
+        for (int i = 0; i < requests; i++) {
+            String results = runner.performTask(taskParams.serialize());
+            GetSignedCookiesUrlTaskResult taskResult =
+                GetSignedCookiesUrlTaskResult.deserialize(results);
+            assertEquals("https://" + domainName + "/cookies?token=token",
+                         taskResult.getSignedCookiesUrl());
+        }
+    }
+
 }
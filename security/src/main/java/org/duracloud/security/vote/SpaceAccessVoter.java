@@ -40,7 +40,11 @@ public abstract class SpaceAccessVoter implements AccessDecisionVoter {
     private AuthorizationHelper authHelper;
     private StorageProviderFactory storageProviderFactory;
     private static String[] EXCEPTIONAL_PATH_PREFIXES =
-        {"/manifest/", "/bit-integrity/", "/report/space/"};
+        {"/manifest/", "/bit-integrity/", "/report/space/", "/bulk/properties/",
+         "/bulk/delete/"};
+
+    // POST requests to these paths only read from the space
+    private static String[] READ_POST_PATH_PREFIXES = {"/bulk/properties/"};
 
     public SpaceAccessVoter(StorageProviderFactory storageProviderFactory,
                             UserDetailsService userDetailsService) {
@@ -159,6 +163,34 @@ public abstract class SpaceAccessVoter implements AccessDecisionVoter {
         }
     }
 
+    /**
+     * Determines if a request only reads from a space. This is the case for
+     * the HTTP read verbs, as well as for POST requests which carry the list
+     * of items to be read in the request body.
+     *
+     * @param httpRequest the request
+     * @param verb        the HTTP verb of the request
+     * @return true if the request only reads from a space
+     */
+    protected boolean isReadRequest(HttpServletRequest httpRequest,
+                                    HttpVerb verb) {
+        if (verb.isRead()) {
+            return true;
+        }
+
+        if (HttpVerb.POST.equals(verb)) {
+            String path = httpRequest.getPathInfo();
+            if (null != path) {
+                for (String prefix : READ_POST_PATH_PREFIXES) {
+                    if (path.startsWith(prefix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     protected List<String> getUserGroups(Authentication auth) {
         DuracloudUserDetails userDetails =
             (DuracloudUserDetails) auth.getPrincipal();
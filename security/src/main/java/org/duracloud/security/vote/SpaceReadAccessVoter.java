@@ -93,8 +93,8 @@ public class SpaceReadAccessVoter extends SpaceAccessVoter {
             return ACCESS_DENIED;
         }
 
-        // This class only handles HTTP read verbs.
-        if (!verb.isRead()) {
+        // This class only handles read requests.
+        if (!isReadRequest(httpRequest, verb)) {
             log.debug(debugText(label, auth, config, resource, ACCESS_ABSTAIN));
             return ACCESS_ABSTAIN;
         }
@@ -78,8 +78,8 @@ public class SpaceWriteAccessVoter extends SpaceAccessVoter {
             return ACCESS_DENIED;
         }
 
-        // This class only handles HTTP write verbs.
-        if (verb.isRead()) {
+        // This class only handles write requests.
+        if (isReadRequest(httpRequest, verb)) {
             log.debug(debugText(label, auth, config, resource, ACCESS_ABSTAIN));
             return ACCESS_ABSTAIN;
         }
@@ -223,8 +223,11 @@ public class SpaceWriteAccessVoter extends SpaceAccessVoter {
     }
 
     private boolean isDeleteAction(HttpServletRequest httpRequest) {
-        if (HttpVerb.DELETE.equals(getHttpVerb(httpRequest))) {
+        HttpVerb verb = getHttpVerb(httpRequest);
+        if (HttpVerb.DELETE.equals(verb)) {
             return true;
+        } else if (HttpVerb.POST.equals(verb)) {
+            return httpRequest.getPathInfo().startsWith("/bulk/delete/");
         }
         return false;
     }
@@ -25,6 +25,8 @@ public class SpaceAccessVoterTest {
             "/manifest/" + spaceId,
             "/bit-integrity/" + spaceId,
             "/report/space/" + spaceId,
+            "/bulk/properties/" + spaceId,
+            "/bulk/delete/" + spaceId,
             "/" + spaceId + "/arbitrary-path/content-id"
         };
         SpaceAccessVoter voter = new SpaceAccessVoter(null, null) {
@@ -246,6 +246,33 @@ public class SpaceReadAccessVoterTest {
         testNonSpacesPaths("/report/space/space-id");
     }
 
+    @Test
+    public void testBulkProperties() {
+        doTestBulkProperties(userRead, ACCESS_GRANTED);
+    }
+
+    @Test
+    public void testBulkPropertiesNoAccess() {
+        doTestBulkProperties("joe", ACCESS_DENIED);
+    }
+
+    private void doTestBulkProperties(String username, int expected) {
+        boolean securedSpace = true;
+        Authentication caller = registeredUser(username, "none");
+        expect(request.getMethod()).andReturn(HttpVerb.POST.name());
+        expect(request.getQueryString()).andReturn("storeID=" + storeId)
+                                        .atLeastOnce();
+        expect(request.getPathInfo()).andReturn("/bulk/properties/space-id")
+                                     .atLeastOnce();
+        expect(resource.getHttpRequest()).andReturn(request);
+        Collection<ConfigAttribute> config = getConfigAttribute(securedSpace);
+        setupGetSpaceAcls("space-id", acls);
+        replayMocks();
+
+        int decision = voter.vote(caller, resource, config);
+        Assert.assertEquals(expected, decision);
+    }
+
     @Test
     public void testVoteUserSnapshotMetadataContentSuccess() {
         testVoteUserSnapshotMetadataContent(true);
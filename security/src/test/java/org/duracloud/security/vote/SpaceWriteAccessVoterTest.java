@@ -264,6 +264,21 @@ public class SpaceWriteAccessVoterTest {
         doTestAclPUT(login, decision);
     }
 
+    @Test
+    public void testBulkPropertiesPOST() {
+        Authentication caller = registeredUser(LOGIN.USER_WRITE, "none");
+        EasyMock.expect(request.getPathInfo()).andReturn("/bulk/properties/test")
+                .atLeastOnce();
+        EasyMock.expect(request.getMethod()).andReturn(HttpVerb.POST.name());
+        EasyMock.expect(resource.getHttpRequest()).andReturn(request);
+        Collection<ConfigAttribute> config = getConfigAttribute(true);
+
+        replayMocks();
+
+        int decision = voter.vote(caller, resource, config);
+        Assert.assertEquals(ACCESS_ABSTAIN, decision);
+    }
+
     @Test
     public void testSnapshotInProgress() {
         LOGIN login = LOGIN.ADMIN;
@@ -312,6 +327,25 @@ public class SpaceWriteAccessVoterTest {
         Assert.assertEquals(expectedDecision, decision);
     }
 
+    @Test
+    public void testSnapshotMetdataSpaceAdminNotBulkDeletable() {
+        LOGIN login = LOGIN.ADMIN;
+        int expectedDecision = ACCESS_DENIED;
+        boolean securedSpace = true;
+        Authentication caller = registeredUser(login, "none");
+        EasyMock.expect(request.getPathInfo())
+                .andReturn("/bulk/delete/" + Constants.SNAPSHOT_METADATA_SPACE)
+                .atLeastOnce();
+        EasyMock.expect(request.getMethod()).andReturn(HttpVerb.POST.name()).times(2);
+
+        EasyMock.expect(resource.getHttpRequest()).andReturn(request);
+        Collection<ConfigAttribute> config = getConfigAttribute(securedSpace);
+        replayMocks();
+
+        int decision = voter.vote(caller, resource, config);
+        Assert.assertEquals(expectedDecision, decision);
+    }
+
     private void doTestAclPUT(LOGIN login, int expectedDecision) {
         boolean securedSpace = true;
         Authentication caller = registeredUser(login, "none");
@@ -496,9 +530,10 @@ public class SpaceWriteAccessVoterTest {
 
             EasyMock.expect(request.getQueryString()).andReturn(
                 "storeID=" + storeId + "&attachment=true");
-            EasyMock.expect(request.getPathInfo()).andReturn(spaceId).atLeastOnce();
         }
 
+        // The path of a POST is always checked for bulk read requests
+        EasyMock.expect(request.getPathInfo()).andReturn(spaceId).atLeastOnce();
         EasyMock.expect(request.getMethod()).andReturn(method.name()).times(
             times);
 
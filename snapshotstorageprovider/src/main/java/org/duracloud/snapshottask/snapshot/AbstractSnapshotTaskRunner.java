@@ -15,6 +15,9 @@ import java.util.Map;
 import org.duracloud.common.json.JaxbJsonSerializer;
 import org.duracloud.common.model.Credential;
 import org.duracloud.common.web.RestHttpHelper;
+import org.duracloud.s3storage.S3StorageProvider;
+import org.duracloud.snapshot.id.SnapshotIdentifier;
+import org.duracloud.storage.error.TaskException;
 import org.duracloud.storage.provider.TaskRunner;
 
 public abstract class AbstractSnapshotTaskRunner implements TaskRunner {
@@ -60,6 +63,28 @@ public abstract class AbstractSnapshotTaskRunner implements TaskRunner {
                                     bridgeAppPort);
     }
 
+    /*
+     * Determines if a restore of a snapshot is either already under way
+     * or complete, based on the existence of a space which matches the
+     * restore spaceId of the snapshot. Restore spaces are created through
+     * the snapshot provider, so the space is looked up directly by the name
+     * that provider gives it, without listing all spaces.
+     *
+     * @throws TaskException if the restore space exists
+     */
+    protected void checkExistingRestore(S3StorageProvider snapshotProvider,
+                                        SnapshotIdentifier snapshotIdentifier) {
+        String restoreSpaceId = snapshotIdentifier.getRestoreSpaceId();
+        if (snapshotProvider.ownSpaceExists(restoreSpaceId)) {
+            // This snapshot has already been restored
+            String error = "A request to restore snapshot with ID " +
+                           snapshotIdentifier.getSnapshotId() +
+                           " has been made previously. The snapshot is " +
+                           "being restored to space: " + restoreSpaceId;
+            throw new TaskException(error);
+        }
+    }
+
     protected RestHttpHelper createRestHelper() {
         RestHttpHelper restHelper =
             new RestHttpHelper(new Credential(bridgeAppUser, bridgeAppPass));
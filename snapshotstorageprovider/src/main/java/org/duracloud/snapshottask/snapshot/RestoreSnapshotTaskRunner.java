@@ -10,7 +10,6 @@ package org.duracloud.snapshottask.snapshot;
 import java.text.MessageFormat;
 import java.text.ParseException;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import org.apache.http.HttpHeaders;
@@ -141,18 +140,7 @@ public class RestoreSnapshotTaskRunner extends AbstractSnapshotTaskRunner {
      * same space are restored at the same time.
      */
     protected void checkExistingRestore(SnapshotIdentifier snapshotIdentifier) {
-        Iterator<String> currentSpaces = snapshotProvider.getSpaces();
-        while (currentSpaces.hasNext()) {
-            String spaceId = currentSpaces.next();
-            if (spaceId.equals(snapshotIdentifier.getRestoreSpaceId())) {
-                // This snapshot has already been restored
-                String error = "A request to restore snapshot with ID " +
-                               snapshotIdentifier.getSnapshotId() +
-                               " has been made previously. The snapshot is " +
-                               "being restored to space: " + spaceId;
-                throw new TaskException(error);
-            }
-        }
+        checkExistingRestore(unwrappedSnapshotProvider, snapshotIdentifier);
     }
 
     /*
@@ -7,12 +7,11 @@
  */
 package org.duracloud.snapshotstorage;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.HeadBucketRequest;
+import com.amazonaws.services.s3.model.HeadBucketResult;
 import org.easymock.EasyMock;
 import org.junit.After;
 import org.junit.Assert;
@@ -49,9 +48,9 @@ public class SnapshotStorageProviderTest {
 
     @Test
     public void testCreateSnapshotProvider() throws Exception {
-        List<Bucket> buckets = new ArrayList<>();
-        buckets.add(new Bucket(accessKey + "." + spaceId));
-        EasyMock.expect(s3Client.listBuckets()).andReturn(buckets).anyTimes();
+        // The bucket is found directly, without listing buckets
+        EasyMock.expect(s3Client.headBucket(EasyMock.isA(HeadBucketRequest.class)))
+                .andReturn(new HeadBucketResult());
 
         replayMocks();
 
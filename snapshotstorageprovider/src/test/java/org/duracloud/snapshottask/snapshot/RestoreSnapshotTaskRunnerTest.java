@@ -24,6 +24,7 @@ import org.duracloud.common.web.RestHttpHelper;
 import org.duracloud.snapshot.dto.RestoreStatus;
 import org.duracloud.snapshot.dto.bridge.CreateRestoreBridgeResult;
 import org.duracloud.snapshot.dto.task.RestoreSnapshotTaskResult;
+import org.duracloud.snapshot.id.SnapshotIdentifier;
 import org.duracloud.snapshotstorage.SnapshotStorageProvider;
 import org.duracloud.storage.error.TaskException;
 import org.duracloud.storage.provider.StorageProvider;
@@ -182,6 +183,30 @@ public class RestoreSnapshotTaskRunnerTest {
         }
     }
 
+    @Test
+    public void testCheckExistingRestore() {
+        SnapshotIdentifier snapshotIdentifier =
+            new SnapshotIdentifier("account", dcStoreId, "space-id", 1000000L);
+        String restoreSpaceId = snapshotIdentifier.getRestoreSpaceId();
+        EasyMock.expect(unwrappedSnapshotProvider.ownSpaceExists(restoreSpaceId))
+                .andReturn(false);
+        EasyMock.expect(unwrappedSnapshotProvider.ownSpaceExists(restoreSpaceId))
+                .andReturn(true);
+
+        replayMocks();
+
+        // No restore space, check passes
+        taskRunner.checkExistingRestore(snapshotIdentifier);
+
+        // Restore space exists
+        try {
+            taskRunner.checkExistingRestore(snapshotIdentifier);
+            fail("Exception expected when restore space exists");
+        } catch (TaskException e) {
+            // Expected exception
+        }
+    }
+
     @Test
     public void testAddRestoreIdToSpaceProps() throws Exception {
         String restoreSpaceId = "restore-space-id";
@@ -204,12 +229,6 @@ public class RestoreSnapshotTaskRunnerTest {
                      updatedSpaceProps.get(Constants.RESTORE_ID_PROP));
     }
 
-    @Test
-    public void testCheckExistingRestore() {
-        replayMocks();
-        // TODO: Write test
-    }
-
     @Test
     public void testCreateSpace() {
         replayMocks();
@@ -38,6 +38,22 @@ public interface FileStitcher {
     public Content getContentFromManifest(String spaceId, String contentId, FileStitcherListener listener)
         throws InvalidManifestException;
 
+    /**
+     * This method reconstitutes the original content item as defined by a
+     * chunks manifest which has already been retrieved. The retrieved
+     * manifest is not altered, so it may be used more than once.
+     *
+     * @param spaceId  of chunks manifest
+     * @param manifest chunks manifest, as provided by retrieveManifest()
+     * @param listener notified as each chunk is stitched, may be null
+     * @return reconstituted content item defined in manifest
+     * @throws InvalidManifestException if the manifest lists no chunks
+     */
+    public Content getContentFromManifest(String spaceId,
+                                          RetrievedManifest manifest,
+                                          FileStitcherListener listener)
+        throws InvalidManifestException;
+
     /**
      * This method returns the deserialized ChunksManifest object found in the
      * arg spaceId with the arg manifestId.
@@ -49,4 +65,17 @@ public interface FileStitcher {
      */
     public ChunksManifest getManifest(String spaceId, String manifestId)
         throws InvalidManifestException;
+
+    /**
+     * This method returns the deserialized ChunksManifest object found in the
+     * arg spaceId with the arg manifestId, along with the properties of the
+     * manifest content item.
+     *
+     * @param spaceId    of manifest content item
+     * @param manifestId of manifest content item
+     * @return deserialized ChunksManifest and manifest properties
+     * @throws InvalidManifestException on error
+     */
+    public RetrievedManifest retrieveManifest(String spaceId, String manifestId)
+        throws InvalidManifestException;
 }
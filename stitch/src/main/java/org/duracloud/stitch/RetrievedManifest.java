@@ -0,0 +1,44 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.stitch;
+
+import java.util.Map;
+
+import org.duracloud.chunk.manifest.ChunksManifest;
+
+/**
+ * A deserialized chunks manifest along with the properties of the manifest
+ * content item, as retrieved from a DataSource. Holding on to an instance of
+ * this class allows the manifest to be used more than once without being
+ * retrieved again.
+ *
+ * @author agent
+ */
+public class RetrievedManifest {
+
+    private ChunksManifest manifest;
+    private Map<String, String> properties;
+
+    public RetrievedManifest(ChunksManifest manifest,
+                             Map<String, String> properties) {
+        this.manifest = manifest;
+        this.properties = properties;
+    }
+
+    public ChunksManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * @return properties of the manifest content item, may be null
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+}
@@ -26,6 +26,7 @@ import org.duracloud.common.model.ContentItem;
 import org.duracloud.domain.Content;
 import org.duracloud.stitch.FileStitcher;
 import org.duracloud.stitch.FileStitcherListener;
+import org.duracloud.stitch.RetrievedManifest;
 import org.duracloud.stitch.datasource.DataSource;
 import org.duracloud.stitch.error.InvalidManifestException;
 import org.duracloud.stitch.stream.MultiContentInputStream;
@@ -60,9 +61,17 @@ public class FileStitcherImpl implements FileStitcher {
             throw new InvalidManifestException(spaceId, contentId);
         }
 
-        Content manifestContent = this.dataSource.getContent(spaceId, contentId);
-        // get deserialized manifest.
-        ChunksManifest manifest = getManifest(manifestContent, spaceId, contentId);
+        return getContentFromManifest(spaceId,
+                                      retrieveManifest(spaceId, contentId),
+                                      listener);
+    }
+
+    @Override
+    public Content getContentFromManifest(String spaceId,
+                                          RetrievedManifest retrievedManifest,
+                                          FileStitcherListener listener)
+        throws InvalidManifestException {
+        ChunksManifest manifest = retrievedManifest.getManifest();
 
         // collect ordered sequence of chunk streams.
         InputStream multiStream = getChunkSequenceStream(spaceId, manifest, listener);
@@ -73,14 +82,12 @@ public class FileStitcherImpl implements FileStitcher {
         content.setId(manifest.getHeader().getSourceContentId());
 
         //merge properties by overlaying stitched props over manifest props
-        Map<String, String> stitchedProps = getContentProperties(manifest);
-        Map<String, String> manifestProps = manifestContent.getProperties();
-        if (manifestProps == null) {
-            manifestProps = stitchedProps;
-        } else {
-            manifestProps.putAll(stitchedProps);
+        Map<String, String> properties = new HashMap<>();
+        if (null != retrievedManifest.getProperties()) {
+            properties.putAll(retrievedManifest.getProperties());
         }
-        content.setProperties(manifestProps);
+        properties.putAll(getContentProperties(manifest));
+        content.setProperties(properties);
         return content;
     }
 
@@ -92,7 +99,15 @@ public class FileStitcherImpl implements FileStitcher {
     @Override
     public ChunksManifest getManifest(String spaceId, String manifestId)
         throws InvalidManifestException {
-        return getManifest(dataSource.getContent(spaceId, manifestId), spaceId, manifestId);
+        return retrieveManifest(spaceId, manifestId).getManifest();
+    }
+
+    @Override
+    public RetrievedManifest retrieveManifest(String spaceId, String manifestId)
+        throws InvalidManifestException {
+        Content content = dataSource.getContent(spaceId, manifestId);
+        ChunksManifest manifest = getManifest(content, spaceId, manifestId);
+        return new RetrievedManifest(manifest, content.getProperties());
     }
 
     private ChunksManifest getManifest(Content content, String spaceId, String manifestId)
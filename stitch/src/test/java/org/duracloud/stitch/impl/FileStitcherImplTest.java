@@ -31,6 +31,7 @@ import org.duracloud.chunk.manifest.xml.ManifestDocumentBinding;
 import org.duracloud.domain.Content;
 import org.duracloud.stitch.FileStitcher;
 import org.duracloud.stitch.FileStitcherListener;
+import org.duracloud.stitch.RetrievedManifest;
 import org.duracloud.stitch.datasource.DataSource;
 import org.duracloud.stitch.error.InvalidManifestException;
 import org.duracloud.storage.provider.StorageProvider;
@@ -158,6 +159,32 @@ public class FileStitcherImplTest {
         Assert.assertNotNull(props.get(PROPERTIES_CONTENT_CHECKSUM));
     }
 
+    @Test
+    public void testGetContentFromRetrievedManifest() throws Exception {
+        createMocks(VALID_CHUNKS);
+        replayMocks();
+
+        stitcher = new FileStitcherImpl(dataSource);
+        RetrievedManifest retrieved = stitcher.retrieveManifest(spaceId, contentId);
+        Assert.assertEquals("source-md5",
+                            retrieved.getManifest().getHeader().getSourceMD5());
+        Assert.assertEquals("green", retrieved.getProperties().get(COLOR_PROPERTY));
+
+        Content content = stitcher.getContentFromManifest(spaceId, retrieved, null);
+        Assert.assertEquals("content-id", content.getId());
+        InputStream stream = content.getStream();
+        while (stream.read() != -1) {
+            // spin through the content.
+        }
+
+        Map<String, String> props = content.getProperties();
+        Assert.assertEquals("green", props.get(COLOR_PROPERTY));
+        Assert.assertEquals("99", props.get(PROPERTIES_CONTENT_SIZE));
+
+        // The retrieved manifest properties are left as they were
+        Assert.assertEquals("xxx", retrieved.getProperties().get(PROPERTIES_CONTENT_SIZE));
+    }
+
     @Test
     public void testGetContentFromManifestUnordered() throws Exception {
         createMocks(VALID_CHUNKS);
@@ -0,0 +1,63 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.domain;
+
+/**
+ * The number of content items in a space and the total byte size of
+ * those items. Stats are approximate when the count may include items
+ * which replaced existing items.
+ *
+ * @author agent
+ */
+public class SpaceStats {
+
+    /**
+     * Size value used when the total size of a space is not known
+     */
+    public static final long UNKNOWN_SIZE = -1;
+
+    private long count;
+    private long size;
+    private boolean approximate;
+
+    public SpaceStats(long count, long size) {
+        this(count, size, false);
+    }
+
+    public SpaceStats(long count, long size, boolean approximate) {
+        this.count = count;
+        this.size = size;
+        this.approximate = approximate;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return total byte size of the space, or UNKNOWN_SIZE
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isSizeKnown() {
+        return size >= 0;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public String toString() {
+        return "SpaceStats[count=" + count + ", size=" + size +
+               ", approximate=" + approximate + "]";
+    }
+
+}
@@ -91,6 +91,15 @@ public class BrokeredStorageProvider
                                        contentId);
     }
 
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds)
+        throws StorageException {
+        return dispatchProvider.deleteContents(targetProvider,
+                                               storeId,
+                                               spaceId,
+                                               contentIds);
+    }
+
     public void deleteSpace(String spaceId) throws StorageException {
         dispatchProvider.deleteSpace(targetProvider, storeId, spaceId);
 
@@ -0,0 +1,188 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.provider;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.duracloud.common.model.AclType;
+import org.duracloud.common.util.metrics.OperationMetrics;
+import org.duracloud.storage.domain.RetrievedContent;
+import org.duracloud.storage.domain.StorageProviderType;
+
+/**
+ * A StorageProvider decorator which records the latency of each call
+ * passed through to the target StorageProvider. Unlike
+ * ProbedStorageProvider, which builds a per-call timing tree for use in
+ * tests, recording here does not lock and is suitable for use in the
+ * production provider chain.
+ *
+ * Note that the time recorded for getContent and getSpaceContents covers
+ * opening the content stream or iterator, not consuming it.
+ *
+ * @author agent
+ */
+public class MetricsStorageProvider implements StorageProvider {
+
+    private StorageProvider target;
+    private OperationMetrics metrics;
+
+    public MetricsStorageProvider(StorageProvider target,
+                                  OperationMetrics metrics) {
+        this.target = target;
+        this.metrics = metrics;
+    }
+
+    public OperationMetrics getMetrics() {
+        return metrics;
+    }
+
+    private <T> T time(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            metrics.record(operation, start, success);
+        }
+    }
+
+    private void time(String operation, Runnable call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            call.run();
+            success = true;
+        } finally {
+            metrics.record(operation, start, success);
+        }
+    }
+
+    @Override
+    public StorageProviderType getStorageProviderType() {
+        return target.getStorageProviderType();
+    }
+
+    @Override
+    public Iterator<String> getSpaces() {
+        return time("getSpaces", () -> target.getSpaces());
+    }
+
+    @Override
+    public Iterator<String> getSpaceContents(String spaceId, String prefix) {
+        return time("getSpaceContents",
+                    () -> target.getSpaceContents(spaceId, prefix));
+    }
+
+    @Override
+    public List<String> getSpaceContentsChunked(String spaceId,
+                                                String prefix,
+                                                long maxResults,
+                                                String marker) {
+        return time("getSpaceContentsChunked",
+                    () -> target.getSpaceContentsChunked(spaceId, prefix,
+                                                         maxResults, marker));
+    }
+
+    @Override
+    public void createSpace(String spaceId) {
+        time("createSpace", () -> target.createSpace(spaceId));
+    }
+
+    @Override
+    public void deleteSpace(String spaceId) {
+        time("deleteSpace", () -> target.deleteSpace(spaceId));
+    }
+
+    @Override
+    public Map<String, String> getSpaceProperties(String spaceId) {
+        return time("getSpaceProperties",
+                    () -> target.getSpaceProperties(spaceId));
+    }
+
+    @Override
+    public Map<String, AclType> getSpaceACLs(String spaceId) {
+        return time("getSpaceACLs", () -> target.getSpaceACLs(spaceId));
+    }
+
+    @Override
+    public void setSpaceACLs(String spaceId, Map<String, AclType> spaceACLs) {
+        time("setSpaceACLs", () -> target.setSpaceACLs(spaceId, spaceACLs));
+    }
+
+    @Override
+    public String addContent(String spaceId,
+                             String contentId,
+                             String contentMimeType,
+                             Map<String, String> userProperties,
+                             long contentSize,
+                             String contentChecksum,
+                             InputStream content) {
+        return time("addContent",
+                    () -> target.addContent(spaceId, contentId, contentMimeType,
+                                            userProperties, contentSize,
+                                            contentChecksum, content));
+    }
+
+    @Override
+    public String copyContent(String sourceSpaceId,
+                              String sourceContentId,
+                              String destSpaceId,
+                              String destContentId) {
+        return time("copyContent",
+                    () -> target.copyContent(sourceSpaceId, sourceContentId,
+                                             destSpaceId, destContentId));
+    }
+
+    @Override
+    public RetrievedContent getContent(String spaceId, String contentId) {
+        return time("getContent", () -> target.getContent(spaceId, contentId));
+    }
+
+    @Override
+    public RetrievedContent getContent(String spaceId,
+                                       String contentId,
+                                       String range) {
+        return time("getContentRange",
+                    () -> target.getContent(spaceId, contentId, range));
+    }
+
+    @Override
+    public void deleteContent(String spaceId, String contentId) {
+        time("deleteContent", () -> target.deleteContent(spaceId, contentId));
+    }
+
+    @Override
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds) {
+        return time("deleteContents",
+                    () -> target.deleteContents(spaceId, contentIds));
+    }
+
+    @Override
+    public void setContentProperties(String spaceId,
+                                     String contentId,
+                                     Map<String, String> contentProperties) {
+        time("setContentProperties",
+             () -> target.setContentProperties(spaceId, contentId,
+                                               contentProperties));
+    }
+
+    @Override
+    public Map<String, String> getContentProperties(String spaceId,
+                                                    String contentId) {
+        return time("getContentProperties",
+                    () -> target.getContentProperties(spaceId, contentId));
+    }
+
+}
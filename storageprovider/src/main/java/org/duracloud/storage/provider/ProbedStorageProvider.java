@@ -128,6 +128,16 @@ public abstract class ProbedStorageProvider
         stopMetric("deleteContent");
     }
 
+    public Map<String, String> deleteContents(String spaceId,
+                                              List<String> contentIds)
+        throws StorageException {
+        startMetric("deleteContents");
+        Map<String, String> failures =
+            storageProvider.deleteContents(spaceId, contentIds);
+        stopMetric("deleteContents");
+        return failures;
+    }
+
     public void deleteSpace(String spaceId) throws StorageException {
         startMetric("deleteSpace");
         storageProvider.deleteSpace(spaceId);
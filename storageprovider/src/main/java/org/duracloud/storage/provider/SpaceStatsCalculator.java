@@ -0,0 +1,31 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.provider;
+
+import org.duracloud.storage.domain.SpaceStats;
+
+/**
+ * Implemented by storage providers which are able to determine both the
+ * number of items and the total size of a space by listing its contents,
+ * without retrieving the properties of each item.
+ *
+ * @author agent
+ */
+public interface SpaceStatsCalculator {
+
+    /**
+     * Determines the item count and total byte size of a space by
+     * enumerating all of its contents.
+     *
+     * @param spaceId ID of the space
+     * @return counts for the space
+     * @throws org.duracloud.storage.error.NotFoundException if the space does not exist
+     */
+    public SpaceStats calculateSpaceStats(String spaceId);
+
+}
@@ -51,6 +51,12 @@ public interface StatelessStorageProvider {
                                        String contentId)
         throws StorageException;
 
+    public abstract Map<String, String> deleteContents(StorageProvider targetProvider,
+                                                       String storeId,
+                                                       String spaceId,
+                                                       List<String> contentIds)
+        throws StorageException;
+
     public abstract void deleteSpace(StorageProvider targetProvider,
                                      String storeId,
                                      String spaceId)
@@ -79,6 +79,17 @@ public class StatelessStorageProviderImpl
         targetProvider.deleteContent(spaceId, contentId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Map<String, String> deleteContents(StorageProvider targetProvider,
+                                              String storeId,
+                                              String spaceId,
+                                              List<String> contentIds)
+        throws StorageException {
+        return targetProvider.deleteContents(spaceId, contentIds);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -10,6 +10,7 @@ package org.duracloud.storage.provider;
 import java.io.InputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -260,6 +261,37 @@ public interface StorageProvider {
     public void deleteContent(String spaceId,
                               String contentId);
 
+    /**
+     * Removes a set of content items from a space. Content items which do
+     * not exist are considered to be deleted. Providers which are able to
+     * remove many items in a single call should override this method.
+     *
+     * @param spaceId    - ID of the space
+     * @param contentIds - IDs of the content items in the space
+     * @return map of content ID to the reason the content item could not be
+     * deleted, empty if all content items were deleted
+     * @throws NotFoundException if space with ID spaceId does not exist
+     * @throws StorageException  if errors occur
+     */
+    default public Map<String, String> deleteContents(String spaceId,
+                                                      List<String> contentIds) {
+        // Missing content items are skipped below, so a missing space must
+        // be detected up front
+        getSpaceProperties(spaceId);
+
+        Map<String, String> failures = new HashMap<>();
+        for (String contentId : contentIds) {
+            try {
+                deleteContent(spaceId, contentId);
+            } catch (NotFoundException e) {
+                // Content item does not exist, nothing to delete
+            } catch (StorageException e) {
+                failures.put(contentId, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
     /**
      * Sets the properties associated with content. This effectively
      * removes all of the current content properties and adds a new
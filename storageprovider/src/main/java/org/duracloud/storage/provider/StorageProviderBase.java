@@ -37,7 +37,15 @@ public abstract class StorageProviderBase implements StorageProvider {
     protected final Logger log = LoggerFactory.getLogger(StorageProviderBase.class);
     private StorageProvider wrappedStorageProvider;
 
-    protected abstract boolean spaceExists(String spaceId);
+    /**
+     * Determines if a space exists, looking up the space directly where the
+     * provider allows. Providers may still need to list all spaces to be
+     * sure that a space does not exist.
+     *
+     * @param spaceId ID of the space
+     * @return true if the space exists
+     */
+    public abstract boolean spaceExists(String spaceId);
 
     protected abstract void removeSpace(String spaceId);
 
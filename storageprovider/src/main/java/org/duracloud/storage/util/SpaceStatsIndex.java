@@ -0,0 +1,276 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.duracloud.storage.domain.SpaceStats;
+import org.duracloud.storage.error.NotFoundException;
+import org.duracloud.storage.provider.SpaceStatsCalculator;
+import org.duracloud.storage.provider.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a running item count and total byte size for each space of a
+ * storage provider, so that these values can be provided without listing
+ * the contents of the space.
+ *
+ * Counting lists the full contents of a space, so it is only done when the
+ * stats of a space are to be displayed (see refresh()), never when they are
+ * read. A space is added to the index the first time it is refreshed, at
+ * which point the space is counted in the background. From then on the
+ * values are updated as content is added and deleted, and are recounted
+ * (reconciled) when refreshed after the reconcile interval has passed.
+ * Reconciliation picks up changes which were not made through this index,
+ * such as those made through another DuraStore instance.
+ *
+ * Added content items are counted as new items, as determining whether an
+ * item existed would cost an additional call to storage on every write.
+ * Stats are therefore reported as approximate from the first addition until
+ * the next reconcile, which is made when they are refreshed after the
+ * (shorter) approximate reconcile interval.
+ *
+ * @author agent
+ */
+public class SpaceStatsIndex {
+
+    private final Logger log = LoggerFactory.getLogger(SpaceStatsIndex.class);
+
+    public static final long DEFAULT_RECONCILE_INTERVAL_MS = 15 * 60 * 1000;
+    public static final long DEFAULT_APPROXIMATE_RECONCILE_INTERVAL_MS = 60 * 1000;
+
+    // Spaces are counted concurrently, so that a large space does not hold
+    // up the count of all others
+    private static final int RECONCILE_THREADS = 4;
+    private static final int MAX_QUEUED_RECONCILES = 100;
+
+    private StorageProvider provider;
+    private long reconcileIntervalMs;
+    private long approximateReconcileIntervalMs;
+    private Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private ExecutorService reconcileExecutor;
+
+    /**
+     * @param provider the storage provider used to count space contents.
+     *                 If it implements SpaceStatsCalculator that is used to
+     *                 determine both count and size, otherwise only the count
+     *                 is determined.
+     */
+    public SpaceStatsIndex(StorageProvider provider) {
+        this(provider, DEFAULT_RECONCILE_INTERVAL_MS);
+    }
+
+    public SpaceStatsIndex(StorageProvider provider, long reconcileIntervalMs) {
+        this.provider = provider;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+        this.approximateReconcileIntervalMs =
+            Math.min(reconcileIntervalMs, DEFAULT_APPROXIMATE_RECONCILE_INTERVAL_MS);
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(RECONCILE_THREADS, RECONCILE_THREADS,
+                                   60L, TimeUnit.SECONDS,
+                                   new LinkedBlockingQueue<>(MAX_QUEUED_RECONCILES),
+                                   r -> {
+                                       Thread thread = new Thread(r, "space-stats-reconciler");
+                                       thread.setDaemon(true);
+                                       return thread;
+                                   });
+        // Allow the thread to end when idle, so that discarded indexes are not retained
+        executor.allowCoreThreadTimeOut(true);
+        this.reconcileExecutor = executor;
+    }
+
+    /**
+     * Provides the current stats for a space. No counting is done, so this
+     * is suitable for calls which only check a space.
+     *
+     * @param spaceId ID of the space
+     * @return current stats, or null if the space has not yet been counted
+     */
+    public SpaceStats getSpaceStats(String spaceId) {
+        Entry entry = entries.get(spaceId);
+        if (null == entry || !entry.isCounted()) {
+            return null;
+        }
+        return new SpaceStats(entry.count.get(), entry.size.get(),
+                              entry.approximate);
+    }
+
+    /**
+     * Brings the stats of a space up to date in the background, for use
+     * when the stats are to be displayed. The space is counted if it has not
+     * yet been counted, and recounted if its stats are older than the
+     * reconcile interval (or the approximate reconcile interval, for stats
+     * which are approximate).
+     *
+     * @param spaceId ID of the space
+     */
+    public void refresh(String spaceId) {
+        Entry entry = entries.computeIfAbsent(spaceId, id -> new Entry());
+        long age = currentTimeMillis() - entry.reconciledTime;
+        if (age >= reconcileIntervalMs ||
+            (entry.approximate && age >= approximateReconcileIntervalMs)) {
+            scheduleReconcile(spaceId, entry);
+        }
+    }
+
+    /**
+     * @param spaceId ID of the space
+     * @return true if changes to the given space are being tracked
+     */
+    public boolean isTracked(String spaceId) {
+        return entries.containsKey(spaceId);
+    }
+
+    /**
+     * Records the addition of a content item to a space. The item is counted
+     * as a new item, so the stats are approximate until the next reconcile.
+     *
+     * @param spaceId ID of the space
+     * @param size    byte size of the new content item, or a negative value
+     *                if not known, in which case the size of the space is
+     *                unknown until the next reconcile
+     */
+    public void contentAdded(String spaceId, long size) {
+        Entry entry = entries.get(spaceId);
+        if (null != entry) {
+            entry.approximate = true;
+            entry.count.incrementAndGet();
+            if (size < 0) {
+                entry.size.set(SpaceStats.UNKNOWN_SIZE);
+            } else {
+                entry.addSize(size);
+            }
+        }
+    }
+
+    /**
+     * Records the removal of a content item from a space.
+     *
+     * @param spaceId ID of the space
+     * @param size    byte size of the deleted content item
+     */
+    public void contentDeleted(String spaceId, long size) {
+        Entry entry = entries.get(spaceId);
+        if (null != entry) {
+            entry.count.decrementAndGet();
+            entry.addSize(-size);
+        }
+    }
+
+    /**
+     * Records the creation of a new (empty) space
+     *
+     * @param spaceId ID of the space
+     */
+    public void spaceCreated(String spaceId) {
+        Entry entry = new Entry();
+        entry.set(0, 0, currentTimeMillis());
+        entries.put(spaceId, entry);
+    }
+
+    /**
+     * Removes a space from the index
+     *
+     * @param spaceId ID of the space
+     */
+    public void spaceDeleted(String spaceId) {
+        entries.remove(spaceId);
+    }
+
+    /**
+     * Recounts the contents of a space now, replacing the current stats
+     *
+     * @param spaceId ID of the space
+     */
+    public void reconcile(String spaceId) {
+        Entry entry = entries.computeIfAbsent(spaceId, id -> new Entry());
+        doReconcile(spaceId, entry);
+    }
+
+    /**
+     * Stops any background counting
+     */
+    public void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    private void scheduleReconcile(String spaceId, Entry entry) {
+        if (entry.reconciling.compareAndSet(false, true)) {
+            try {
+                reconcileExecutor.execute(() -> {
+                    try {
+                        doReconcile(spaceId, entry);
+                    } finally {
+                        entry.reconciling.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Too many spaces waiting to be counted, try again on a later call
+                entry.reconciling.set(false);
+            }
+        }
+    }
+
+    private void doReconcile(String spaceId, Entry entry) {
+        log.debug("Reconciling space stats for space {}", spaceId);
+        try {
+            SpaceStats stats;
+            if (provider instanceof SpaceStatsCalculator) {
+                stats = ((SpaceStatsCalculator) provider).calculateSpaceStats(spaceId);
+            } else {
+                long count =
+                    StorageProviderUtil.count(provider.getSpaceContents(spaceId, null));
+                stats = new SpaceStats(count, SpaceStats.UNKNOWN_SIZE);
+            }
+            entry.set(stats.getCount(), stats.getSize(), currentTimeMillis());
+            log.debug("Reconciled space stats for space {}: {}", spaceId, stats);
+        } catch (NotFoundException e) {
+            entries.remove(spaceId);
+        } catch (Exception e) {
+            log.warn("Unable to reconcile space stats for space " + spaceId +
+                     " due to: " + e.getMessage(), e);
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static class Entry {
+        private final AtomicLong count = new AtomicLong(0);
+        private final AtomicLong size = new AtomicLong(SpaceStats.UNKNOWN_SIZE);
+        private final AtomicBoolean reconciling = new AtomicBoolean(false);
+        private volatile long reconciledTime = 0;
+        private volatile boolean approximate = false;
+
+        private boolean isCounted() {
+            return reconciledTime > 0;
+        }
+
+        private void addSize(long delta) {
+            size.updateAndGet(current -> current < 0 ? current : Math.max(0, current + delta));
+        }
+
+        private void set(long newCount, long newSize, long time) {
+            approximate = false;
+            count.set(newCount);
+            size.set(newSize);
+            reconciledTime = time;
+        }
+    }
+
+}
@@ -10,8 +10,10 @@ package org.duracloud.storage.util;
 import java.util.List;
 
 import org.duracloud.common.queue.TaskQueue;
+import org.duracloud.common.util.metrics.OperationMetrics;
 import org.duracloud.storage.domain.DuraStoreInitConfig;
 import org.duracloud.storage.domain.StorageAccount;
+import org.duracloud.storage.error.NotFoundException;
 import org.duracloud.storage.error.StorageException;
 import org.duracloud.storage.provider.StorageProvider;
 
@@ -33,8 +35,59 @@ public interface StorageProviderFactory {
     public StorageProvider getStorageProvider(String storageAccountId)
         throws StorageException;
 
+    /**
+     * Retrieves the storage provider for a storage account without the
+     * auditing, access control, and metrics layers which wrap the provider
+     * returned by getStorageProvider(). Calls made on this provider are not
+     * audited, so it should only be used to complete an operation which has
+     * already been authorized and recorded through getStorageProvider().
+     *
+     * @param storageAccountId ID of the storage provider account, null for
+     *                         the primary storage provider
+     */
+    public StorageProvider getUnauditedStorageProvider(String storageAccountId)
+        throws StorageException;
+
+    /**
+     * Retrieves the index of space item counts and sizes which is kept by
+     * the storage provider for a storage account.
+     *
+     * @param storageAccountId ID of the storage provider account, null for
+     *                         the primary storage provider
+     */
+    public SpaceStatsIndex getSpaceStatsIndex(String storageAccountId)
+        throws StorageException;
+
     public void expireStorageProvider(String storageAccountId);
 
+    /**
+     * Expires a storage provider following a failed call, but only when the
+     * failure indicates that the cached provider can no longer be used (such
+     * as a credential or configuration failure). Transient failures leave
+     * the cached provider in place.
+     *
+     * @param storageAccountId ID of the storage provider account, null for
+     *                         the primary storage provider
+     * @param cause            the failure of the call to the storage provider
+     */
+    public void expireStorageProvider(String storageAccountId, Exception cause);
+
+    /**
+     * @return the number of times a storage provider has been expired
+     */
+    public long getStorageProviderExpiryCount();
+
     public TaskQueue getAuditQueue();
 
+    /**
+     * Provides the call latency metrics collected for a storage provider.
+     * Metrics are retained when the storage provider is expired.
+     *
+     * @param storageAccountId ID of the storage provider account, null for
+     *                         the primary storage provider
+     * @return metrics for the storage provider
+     * @throws NotFoundException if no storage account exists with the given ID
+     */
+    public OperationMetrics getStorageProviderMetrics(String storageAccountId);
+
 }
@@ -0,0 +1,89 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.duracloud.common.util.metrics.LatencySnapshot;
+import org.duracloud.common.util.metrics.OperationMetrics;
+import org.duracloud.storage.error.NotFoundException;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class MetricsStorageProviderTest {
+
+    private StorageProvider target;
+    private OperationMetrics metrics;
+    private MetricsStorageProvider provider;
+
+    private String spaceId = "space-id";
+    private String contentId = "content-id";
+
+    @Before
+    public void setup() {
+        target = EasyMock.createMock("StorageProvider", StorageProvider.class);
+        metrics = new OperationMetrics();
+        provider = new MetricsStorageProvider(target, metrics);
+    }
+
+    @After
+    public void teardown() {
+        EasyMock.verify(target);
+    }
+
+    @Test
+    public void testRecordSuccess() {
+        Map<String, String> props = Collections.singletonMap("a", "b");
+        EasyMock.expect(target.getContentProperties(spaceId, contentId))
+                .andReturn(props).times(2);
+        target.deleteContent(spaceId, contentId);
+        EasyMock.expectLastCall();
+        EasyMock.replay(target);
+
+        assertEquals(props, provider.getContentProperties(spaceId, contentId));
+        assertEquals(props, provider.getContentProperties(spaceId, contentId));
+        provider.deleteContent(spaceId, contentId);
+
+        Map<String, LatencySnapshot> snapshot = metrics.getSnapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(2, snapshot.get("getContentProperties").getCount());
+        assertEquals(0, snapshot.get("getContentProperties").getErrors());
+        assertEquals(1, snapshot.get("deleteContent").getCount());
+    }
+
+    @Test
+    public void testRecordFailure() {
+        EasyMock.expect(target.getSpaceProperties(spaceId))
+                .andThrow(new NotFoundException("not found"));
+        EasyMock.replay(target);
+
+        try {
+            provider.getSpaceProperties(spaceId);
+            fail("Exception expected");
+        } catch (NotFoundException e) {
+            // Expected
+        }
+
+        LatencySnapshot snapshot =
+            metrics.getSnapshot().get("getSpaceProperties");
+        assertEquals(1, snapshot.getCount());
+        assertEquals(1, snapshot.getErrors());
+        assertFalse(metrics.getSnapshot().containsKey("getContent"));
+    }
+
+}
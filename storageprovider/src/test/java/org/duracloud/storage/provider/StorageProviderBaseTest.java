@@ -478,7 +478,7 @@ public class StorageProviderBaseTest {
             return mock.getStorageProviderType();
         }
 
-        protected boolean spaceExists(String spaceId) {
+        public boolean spaceExists(String spaceId) {
             return mock.spaceExists(spaceId);
         }
 
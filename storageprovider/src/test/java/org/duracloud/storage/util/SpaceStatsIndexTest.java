@@ -0,0 +1,190 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.storage.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.duracloud.storage.domain.SpaceStats;
+import org.duracloud.storage.provider.StorageProvider;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SpaceStatsIndexTest {
+
+    private StorageProvider provider;
+    private SpaceStatsIndex index;
+    private long time = 1000;
+
+    private String spaceId = "space-id";
+
+    @Before
+    public void setup() {
+        provider = EasyMock.createMock("StorageProvider", StorageProvider.class);
+        index = new SpaceStatsIndex(provider, 100) {
+            @Override
+            protected long currentTimeMillis() {
+                return time;
+            }
+        };
+    }
+
+    @After
+    public void teardown() {
+        EasyMock.verify(provider);
+        index.shutdown();
+    }
+
+    @Test
+    public void testUntracked() {
+        EasyMock.replay(provider);
+
+        assertFalse(index.isTracked(spaceId));
+        index.contentAdded(spaceId, 10);
+        index.contentDeleted(spaceId, 10);
+        assertFalse(index.isTracked(spaceId));
+    }
+
+    @Test
+    public void testReconcile() {
+        EasyMock.expect(provider.getSpaceContents(spaceId, null))
+                .andReturn(Arrays.asList("a", "b", "c").iterator());
+        EasyMock.replay(provider);
+
+        index.reconcile(spaceId);
+        assertTrue(index.isTracked(spaceId));
+
+        SpaceStats stats = index.getSpaceStats(spaceId);
+        assertEquals(3, stats.getCount());
+        assertFalse(stats.isSizeKnown());
+        assertFalse(stats.isApproximate());
+
+        index.contentAdded(spaceId, 10);
+        index.contentDeleted(spaceId, 5);
+        index.contentAdded(spaceId, 10);
+
+        stats = index.getSpaceStats(spaceId);
+        assertEquals(4, stats.getCount());
+        assertEquals(SpaceStats.UNKNOWN_SIZE, stats.getSize());
+        assertTrue(stats.isApproximate());
+    }
+
+    @Test
+    public void testUpdates() {
+        EasyMock.replay(provider);
+
+        index.spaceCreated(spaceId);
+        assertTrue(index.isTracked(spaceId));
+
+        SpaceStats stats = index.getSpaceStats(spaceId);
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getSize());
+        assertFalse(stats.isApproximate());
+
+        index.contentAdded(spaceId, 100);
+        index.contentAdded(spaceId, 50);
+        stats = index.getSpaceStats(spaceId);
+        assertEquals(2, stats.getCount());
+        assertEquals(150, stats.getSize());
+        assertTrue(stats.isApproximate());
+
+        index.contentDeleted(spaceId, 100);
+        stats = index.getSpaceStats(spaceId);
+        assertEquals(1, stats.getCount());
+        assertEquals(50, stats.getSize());
+
+        index.spaceDeleted(spaceId);
+        assertFalse(index.isTracked(spaceId));
+    }
+
+    @Test
+    public void testGetSpaceStatsDoesNotCount() {
+        EasyMock.replay(provider);
+
+        assertNull(index.getSpaceStats(spaceId));
+        assertFalse(index.isTracked(spaceId));
+
+        // Stats which are due for reconcile are not recounted when read
+        index.spaceCreated(spaceId);
+        time += 1000;
+        assertEquals(0, index.getSpaceStats(spaceId).getCount());
+    }
+
+    @Test
+    public void testRefreshApproximate() throws Exception {
+        index.shutdown();
+        index = new SpaceStatsIndex(provider, 120000) {
+            @Override
+            protected long currentTimeMillis() {
+                return time;
+            }
+        };
+        EasyMock.expect(provider.getSpaceContents(spaceId, null))
+                .andReturn(Arrays.asList("a", "b").iterator());
+        EasyMock.replay(provider);
+
+        index.spaceCreated(spaceId);
+        index.contentAdded(spaceId, 100);
+        index.contentAdded(spaceId, -1);
+        SpaceStats stats = index.getSpaceStats(spaceId);
+        assertEquals(2, stats.getCount());
+        assertFalse(stats.isSizeKnown());
+        assertTrue(stats.isApproximate());
+
+        // Not yet due for reconcile
+        index.refresh(spaceId);
+        assertTrue(index.getSpaceStats(spaceId).isApproximate());
+
+        // Approximate stats are reconciled before the full interval
+        time += SpaceStatsIndex.DEFAULT_APPROXIMATE_RECONCILE_INTERVAL_MS;
+        index.refresh(spaceId);
+        for (int i = 0; i < 50 && stats.isApproximate(); i++) {
+            Thread.sleep(100);
+            stats = index.getSpaceStats(spaceId);
+        }
+        assertEquals(2, stats.getCount());
+        assertFalse(stats.isApproximate());
+    }
+
+    @Test
+    public void testNotYetCounted() throws Exception {
+        // Holds the background count until the first request has returned
+        CountDownLatch countLatch = new CountDownLatch(1);
+        EasyMock.expect(provider.getSpaceContents(spaceId, null))
+                .andAnswer(() -> {
+                    countLatch.await(5, TimeUnit.SECONDS);
+                    return Arrays.asList("a", "b").iterator();
+                });
+        EasyMock.replay(provider);
+
+        // First refresh starts a background count
+        index.refresh(spaceId);
+        assertNull(index.getSpaceStats(spaceId));
+        assertTrue(index.isTracked(spaceId));
+        countLatch.countDown();
+
+        SpaceStats stats = null;
+        for (int i = 0; i < 50 && null == stats; i++) {
+            Thread.sleep(100);
+            stats = index.getSpaceStats(spaceId);
+        }
+        assertEquals(2, stats.getCount());
+    }
+
+}
@@ -37,4 +37,8 @@ public class StorageTaskConstants {
     // Storage policy
     public static final String SET_STORAGE_POLICY_TASK_NAME = "set-storage-policy";
 
+    // Glacier restore
+    public static final String BULK_RESTORE_CONTENT_TASK_NAME = "bulk-restore-content";
+    public static final String GET_BULK_RESTORE_STATUS_TASK_NAME = "get-bulk-restore-status";
+
 }
@@ -0,0 +1,118 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import java.io.IOException;
+import java.util.List;
+import javax.xml.bind.annotation.XmlValue;
+
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.error.TaskDataException;
+
+/**
+ * @author agent
+ */
+public class BulkRestoreContentTaskParameters {
+
+    /**
+     * The ID of the space in which the content to restore resides
+     */
+    @XmlValue
+    private String spaceId;
+
+    /**
+     * Content items with IDs beginning with this prefix are restored.
+     * An empty prefix restores all content in the space.
+     */
+    @XmlValue
+    private String prefix;
+
+    /**
+     * The IDs of the content items to restore, used in place of prefix
+     */
+    @XmlValue
+    private List<String> contentIds;
+
+    // Required by JAXB
+    public BulkRestoreContentTaskParameters() {
+    }
+
+    public String getSpaceId() {
+        return spaceId;
+    }
+
+    public void setSpaceId(String spaceId) {
+        this.spaceId = spaceId;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<String> getContentIds() {
+        return contentIds;
+    }
+
+    public void setContentIds(List<String> contentIds) {
+        this.contentIds = contentIds;
+    }
+
+    /**
+     * Creates a serialized version of task parameters
+     *
+     * @return JSON formatted task result info
+     */
+    public String serialize() {
+        JaxbJsonSerializer<BulkRestoreContentTaskParameters> serializer =
+            new JaxbJsonSerializer<>(BulkRestoreContentTaskParameters.class);
+        try {
+            return serializer.serialize(this);
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to create task parameters due to: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses properties from task parameter string
+     *
+     * @param taskParameters - JSON formatted set of parameters
+     */
+    public static BulkRestoreContentTaskParameters deserialize(String taskParameters) {
+        JaxbJsonSerializer<BulkRestoreContentTaskParameters> serializer =
+            new JaxbJsonSerializer<>(BulkRestoreContentTaskParameters.class);
+        try {
+            BulkRestoreContentTaskParameters params =
+                serializer.deserialize(taskParameters);
+            // Verify expected parameters
+            if (null == params.getSpaceId() || params.getSpaceId().isEmpty()) {
+                throw new TaskDataException(
+                    "Task parameter 'spaceId' may not be empty");
+            }
+            boolean hasContentIds = null != params.getContentIds() &&
+                                    !params.getContentIds().isEmpty();
+            if (null != params.getPrefix() && hasContentIds) {
+                throw new TaskDataException(
+                    "Task parameters 'prefix' and 'contentIds' may not both be set");
+            }
+            if (null == params.getPrefix() && !hasContentIds) {
+                throw new TaskDataException(
+                    "Either task parameter 'prefix' or 'contentIds' must be set");
+            }
+            return params;
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to parse task parameters due to: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import java.io.IOException;
+import javax.xml.bind.annotation.XmlValue;
+
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.error.TaskDataException;
+
+/**
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskParameters {
+
+    /**
+     * The ID of the bulk restore job
+     */
+    @XmlValue
+    private String jobId;
+
+    // Required by JAXB
+    public GetBulkRestoreStatusTaskParameters() {
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    /**
+     * Creates a serialized version of task parameters
+     *
+     * @return JSON formatted task result info
+     */
+    public String serialize() {
+        JaxbJsonSerializer<GetBulkRestoreStatusTaskParameters> serializer =
+            new JaxbJsonSerializer<>(GetBulkRestoreStatusTaskParameters.class);
+        try {
+            return serializer.serialize(this);
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to create task parameters due to: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses properties from task parameter string
+     *
+     * @param taskParameters - JSON formatted set of parameters
+     */
+    public static GetBulkRestoreStatusTaskParameters deserialize(String taskParameters) {
+        JaxbJsonSerializer<GetBulkRestoreStatusTaskParameters> serializer =
+            new JaxbJsonSerializer<>(GetBulkRestoreStatusTaskParameters.class);
+        try {
+            GetBulkRestoreStatusTaskParameters params =
+                serializer.deserialize(taskParameters);
+            // Verify expected parameters
+            if (null == params.getJobId() || params.getJobId().isEmpty()) {
+                throw new TaskDataException(
+                    "Task parameter 'jobId' may not be empty");
+            }
+            return params;
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to parse task parameters due to: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import java.io.IOException;
+import javax.xml.bind.annotation.XmlValue;
+
+import org.duracloud.common.json.JaxbJsonSerializer;
+import org.duracloud.error.TaskDataException;
+
+/**
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskResult {
+
+    /**
+     * The ID of the bulk restore job
+     */
+    @XmlValue
+    private String jobId;
+
+    /**
+     * The ID of the space in which content is being restored
+     */
+    @XmlValue
+    private String spaceId;
+
+    /**
+     * Indicates whether restore requests have been made for all items
+     * selected by the job. Counts will continue to grow until this is true.
+     */
+    @XmlValue
+    private boolean requestsComplete;
+
+    /**
+     * Indicates whether the job stopped before restores were requested for
+     * all selected items. Items known to have not been requested are
+     * included in the failed count.
+     */
+    @XmlValue
+    private boolean failed;
+
+    /**
+     * The number of items for which a restore has been requested
+     */
+    @XmlValue
+    private long totalCount;
+
+    /**
+     * The number of items which have been restored and can be retrieved
+     */
+    @XmlValue
+    private long restoredCount;
+
+    /**
+     * The number of items for which a restore is in progress
+     */
+    @XmlValue
+    private long pendingCount;
+
+    /**
+     * The number of items for which a restore could not be requested
+     */
+    @XmlValue
+    private long failedCount;
+
+    // Required by JAXB
+    public GetBulkRestoreStatusTaskResult() {
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getSpaceId() {
+        return spaceId;
+    }
+
+    public void setSpaceId(String spaceId) {
+        this.spaceId = spaceId;
+    }
+
+    public boolean isRequestsComplete() {
+        return requestsComplete;
+    }
+
+    public void setRequestsComplete(boolean requestsComplete) {
+        this.requestsComplete = requestsComplete;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public long getRestoredCount() {
+        return restoredCount;
+    }
+
+    public void setRestoredCount(long restoredCount) {
+        this.restoredCount = restoredCount;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(long pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * Creates a serialized version of task results
+     *
+     * @return JSON formatted task result info
+     */
+    public String serialize() {
+        JaxbJsonSerializer<GetBulkRestoreStatusTaskResult> serializer =
+            new JaxbJsonSerializer<>(GetBulkRestoreStatusTaskResult.class);
+        try {
+            return serializer.serialize(this);
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to create task result due to: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses properties from task result
+     *
+     * @param taskResult - JSON formatted set of properties
+     */
+    public static GetBulkRestoreStatusTaskResult deserialize(String taskResult) {
+        JaxbJsonSerializer<GetBulkRestoreStatusTaskResult> serializer =
+            new JaxbJsonSerializer<>(GetBulkRestoreStatusTaskResult.class);
+        try {
+            return serializer.deserialize(taskResult);
+        } catch (IOException e) {
+            throw new TaskDataException(
+                "Unable to create task result due to: " + e.getMessage());
+        }
+    }
+
+}
@@ -8,6 +8,7 @@
 package org.duracloud.s3storageprovider.dto;
 
 import java.io.IOException;
+import java.util.List;
 import javax.xml.bind.annotation.XmlValue;
 
 import org.duracloud.common.json.JaxbJsonSerializer;
@@ -37,6 +38,13 @@ public class GetSignedUrlTaskParameters extends GetUrlTaskParameters {
     @XmlValue
     private String contentId;
 
+    /**
+     * The IDs of content items which are to be streamed, used in place of
+     * contentId when URLs for many items are needed at once
+     */
+    @XmlValue
+    private List<String> contentIds;
+
     /**
      * A prefix value for the streamed resource (such as "mp4:" for an mp4 file) which
      * may be required by the player used to stream the content
@@ -77,6 +85,14 @@ public class GetSignedUrlTaskParameters extends GetUrlTaskParameters {
         this.contentId = contentId;
     }
 
+    public List<String> getContentIds() {
+        return contentIds;
+    }
+
+    public void setContentIds(List<String> contentIds) {
+        this.contentIds = contentIds;
+    }
+
     public String getResourcePrefix() {
         return resourcePrefix;
     }
@@ -132,9 +148,10 @@ public class GetSignedUrlTaskParameters extends GetUrlTaskParameters {
             if (null == params.getSpaceId() || params.getSpaceId().isEmpty()) {
                 throw new TaskDataException(
                     "Task parameter 'spaceId' may not be empty");
-            } else if (null == params.getContentId() || params.getContentId().isEmpty()) {
+            } else if ((null == params.getContentId() || params.getContentId().isEmpty()) &&
+                       (null == params.getContentIds() || params.getContentIds().isEmpty())) {
                 throw new TaskDataException(
-                    "Task parameter 'contentId' may not be empty");
+                    "Task parameter 'contentId' or 'contentIds' may not be empty");
             }
 
             return params;
@@ -8,6 +8,7 @@
 package org.duracloud.s3storageprovider.dto;
 
 import java.io.IOException;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlValue;
 
 import org.duracloud.common.json.JaxbJsonSerializer;
@@ -25,6 +26,13 @@ public class GetSignedUrlTaskResult {
     @XmlValue
     private String signedUrl;
 
+    /**
+     * The securely signed streaming URLs, keyed by content ID, when the
+     * task was called with a list of content IDs
+     */
+    @XmlValue
+    private Map<String, String> signedUrls;
+
     // Required by JAXB
     public GetSignedUrlTaskResult() {
     }
@@ -41,6 +49,14 @@ public class GetSignedUrlTaskResult {
         this.signedUrl = signedUrl;
     }
 
+    public Map<String, String> getSignedUrls() {
+        return signedUrls;
+    }
+
+    public void setSignedUrls(Map<String, String> signedUrls) {
+        this.signedUrls = signedUrls;
+    }
+
     /**
      * Creates a serialized version of task results
      *
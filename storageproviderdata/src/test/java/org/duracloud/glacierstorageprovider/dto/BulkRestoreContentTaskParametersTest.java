@@ -0,0 +1,85 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.matchers.JUnitMatchers.containsString;
+
+import java.util.Arrays;
+
+import org.duracloud.error.TaskDataException;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BulkRestoreContentTaskParametersTest {
+
+    private final String spaceId = "space-id";
+    private final String prefix = "prefix/";
+
+    @Test
+    public void testSerialize() {
+        BulkRestoreContentTaskParameters taskParams =
+            new BulkRestoreContentTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setPrefix(prefix);
+
+        String result = taskParams.serialize();
+        String cleanResult = result.replaceAll("\\s+", "");
+        assertThat(cleanResult, containsString("\"spaceId\":\"" + spaceId + "\""));
+        assertThat(cleanResult, containsString("\"prefix\":\"" + prefix + "\""));
+    }
+
+    @Test
+    public void testDeserialize() {
+        // Verify valid params with a prefix
+        String taskParamsSerialized = "{\"spaceId\" : \"" + spaceId + "\"," +
+                                      "\"prefix\" : \"" + prefix + "\"}";
+        BulkRestoreContentTaskParameters taskParams =
+            BulkRestoreContentTaskParameters.deserialize(taskParamsSerialized);
+        assertEquals(spaceId, taskParams.getSpaceId());
+        assertEquals(prefix, taskParams.getPrefix());
+        assertNull(taskParams.getContentIds());
+
+        // Verify valid params with a list of content IDs
+        taskParamsSerialized = "{\"spaceId\" : \"" + spaceId + "\"," +
+                               "\"contentIds\" : [\"a\", \"b\"]}";
+        taskParams =
+            BulkRestoreContentTaskParameters.deserialize(taskParamsSerialized);
+        assertNull(taskParams.getPrefix());
+        assertEquals(Arrays.asList("a", "b"), taskParams.getContentIds());
+
+        // Verify that missing space ID throws
+        verifyInvalid("{\"prefix\" : \"" + prefix + "\"}");
+
+        // Verify that missing prefix and content IDs throws
+        verifyInvalid("{\"spaceId\" : \"" + spaceId + "\"}");
+
+        // Verify that setting both prefix and content IDs throws
+        verifyInvalid("{\"spaceId\" : \"" + spaceId + "\"," +
+                      "\"prefix\" : \"" + prefix + "\"," +
+                      "\"contentIds\" : [\"a\"]}");
+
+        // Verify that empty params throw
+        verifyInvalid("");
+    }
+
+    private void verifyInvalid(String taskParamsSerialized) {
+        try {
+            BulkRestoreContentTaskParameters.deserialize(taskParamsSerialized);
+            fail("Exception expected: Invalid params");
+        } catch (TaskDataException e) {
+            // Expected exception
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.matchers.JUnitMatchers.containsString;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BulkRestoreContentTaskResultTest {
+
+    private final String jobId = "job-id";
+    private final String resultValue = "result";
+
+    @Test
+    public void testSerialize() {
+        BulkRestoreContentTaskResult taskResult =
+            new BulkRestoreContentTaskResult(jobId, resultValue);
+
+        String result = taskResult.serialize();
+        String cleanResult = result.replaceAll("\\s+", "");
+        assertThat(cleanResult, containsString("\"jobId\":\"" + jobId + "\""));
+        assertThat(cleanResult, containsString("\"result\":\"" + resultValue + "\""));
+    }
+
+    @Test
+    public void testDeserialize() {
+        String resultSerialized = "{\"jobId\" : \"" + jobId + "\"," +
+                                  "\"result\" : \"" + resultValue + "\"}";
+
+        BulkRestoreContentTaskResult taskResult =
+            BulkRestoreContentTaskResult.deserialize(resultSerialized);
+        assertEquals(jobId, taskResult.getJobId());
+        assertEquals(resultValue, taskResult.getResult());
+    }
+
+}
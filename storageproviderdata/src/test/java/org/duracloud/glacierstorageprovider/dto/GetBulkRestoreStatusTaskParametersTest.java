@@ -0,0 +1,53 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.matchers.JUnitMatchers.containsString;
+
+import org.duracloud.error.TaskDataException;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskParametersTest {
+
+    private final String jobId = "job-id";
+
+    @Test
+    public void testSerialize() {
+        GetBulkRestoreStatusTaskParameters taskParams =
+            new GetBulkRestoreStatusTaskParameters();
+        taskParams.setJobId(jobId);
+
+        String result = taskParams.serialize();
+        String cleanResult = result.replaceAll("\\s+", "");
+        assertThat(cleanResult, containsString("\"jobId\":\"" + jobId + "\""));
+    }
+
+    @Test
+    public void testDeserialize() {
+        // Verify valid params
+        String taskParamsSerialized = "{\"jobId\" : \"" + jobId + "\"}";
+        GetBulkRestoreStatusTaskParameters taskParams =
+            GetBulkRestoreStatusTaskParameters.deserialize(taskParamsSerialized);
+        assertEquals(jobId, taskParams.getJobId());
+
+        // Verify that empty params throw
+        try {
+            GetBulkRestoreStatusTaskParameters.deserialize("{\"jobId\" : \"\"}");
+            fail("Exception expected: Invalid params");
+        } catch (TaskDataException e) {
+            // Expected exception
+        }
+    }
+
+}
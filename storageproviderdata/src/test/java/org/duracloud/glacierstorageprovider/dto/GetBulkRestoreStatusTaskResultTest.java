@@ -0,0 +1,45 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.glacierstorageprovider.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class GetBulkRestoreStatusTaskResultTest {
+
+    @Test
+    public void testSerializeDeserialize() {
+        GetBulkRestoreStatusTaskResult taskResult =
+            new GetBulkRestoreStatusTaskResult();
+        taskResult.setJobId("job-id");
+        taskResult.setSpaceId("space-id");
+        taskResult.setRequestsComplete(true);
+        taskResult.setFailed(true);
+        taskResult.setTotalCount(10);
+        taskResult.setRestoredCount(5);
+        taskResult.setPendingCount(3);
+        taskResult.setFailedCount(2);
+
+        GetBulkRestoreStatusTaskResult deserialized =
+            GetBulkRestoreStatusTaskResult.deserialize(taskResult.serialize());
+        assertEquals("job-id", deserialized.getJobId());
+        assertEquals("space-id", deserialized.getSpaceId());
+        assertTrue(deserialized.isRequestsComplete());
+        assertTrue(deserialized.isFailed());
+        assertEquals(10, deserialized.getTotalCount());
+        assertEquals(5, deserialized.getRestoredCount());
+        assertEquals(3, deserialized.getPendingCount());
+        assertEquals(2, deserialized.getFailedCount());
+    }
+
+}
@@ -12,6 +12,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.junit.matchers.JUnitMatchers.containsString;
 
+import java.util.Arrays;
+
 import org.duracloud.error.TaskDataException;
 import org.junit.Test;
 
@@ -88,4 +90,27 @@ public class GetSignedUrlTaskParametersTest {
         }
     }
 
+    @Test
+    public void testDeserializeContentIds() {
+        String taskParamsSerialized =
+            "{\"spaceId\" : \"" + spaceId + "\"," +
+            " \"contentIds\" : [\"a\", \"b\"]}";
+
+        GetSignedUrlTaskParameters taskParams =
+            GetSignedUrlTaskParameters.deserialize(taskParamsSerialized);
+        assertEquals(spaceId, taskParams.getSpaceId());
+        assertEquals(Arrays.asList("a", "b"), taskParams.getContentIds());
+
+        // Verify that an empty list of content IDs throws
+        taskParamsSerialized =
+            "{\"spaceId\" : \"" + spaceId + "\"," +
+            " \"contentIds\" : []}";
+        try {
+            GetSignedUrlTaskParameters.deserialize(taskParamsSerialized);
+            fail("Exception expected: Invalid params");
+        } catch (TaskDataException e) {
+            // Expected exception
+        }
+    }
+
 }
@@ -11,6 +11,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.matchers.JUnitMatchers.containsString;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 
 /**
@@ -41,4 +44,18 @@ public class GetSignedUrlTaskResultTest {
         assertEquals(signedUrl, taskResult.getSignedUrl());
     }
 
+    @Test
+    public void testSignedUrls() {
+        Map<String, String> signedUrls = new HashMap<>();
+        signedUrls.put("a", "signed-url-a");
+        signedUrls.put("b", "signed-url-b");
+
+        GetSignedUrlTaskResult taskResult = new GetSignedUrlTaskResult();
+        taskResult.setSignedUrls(signedUrls);
+
+        GetSignedUrlTaskResult deserialized =
+            GetSignedUrlTaskResult.deserialize(taskResult.serialize());
+        assertEquals(signedUrls, deserialized.getSignedUrls());
+    }
+
 }
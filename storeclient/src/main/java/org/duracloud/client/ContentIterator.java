@@ -50,13 +50,25 @@ public class ContentIterator implements Iterator<String> {
                            String spaceId,
                            String prefix,
                            long maxResults) throws ContentStoreException {
+        this(store, spaceId, prefix, maxResults, null);
+    }
+
+    /**
+     * @param marker the content ID after which the listing begins, or null
+     *               to begin at the start of the space
+     */
+    public ContentIterator(ContentStore store,
+                           String spaceId,
+                           String prefix,
+                           long maxResults,
+                           String marker) throws ContentStoreException {
         index = 0;
         this.store = store;
         this.spaceId = spaceId;
         this.prefix = prefix;
         this.maxResults = maxResults;
         this.maxRetries = 7;
-        contentList = retryBuildContentList(null);
+        contentList = retryBuildContentList(marker);
     }
 
     public void setMaxRetries(int maxRetries) {
@@ -0,0 +1,36 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A source of content which can be read more than once. Because a new
+ * stream can be opened for each attempt, a write of content from a
+ * ContentSource can be retried (see ContentStore.addContent()).
+ *
+ * @author agent
+ */
+public interface ContentSource {
+
+    /**
+     * Opens a new stream over the content, starting from the beginning.
+     * The caller is responsible for closing the stream.
+     *
+     * @return stream of the content
+     * @throws IOException if the content cannot be read
+     */
+    InputStream openStream() throws IOException;
+
+    /**
+     * @return the size of the content in bytes
+     */
+    long getSize();
+
+}
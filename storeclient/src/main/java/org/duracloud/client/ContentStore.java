@@ -13,14 +13,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.constant.ManifestFormat;
 import org.duracloud.common.model.AclType;
 import org.duracloud.common.retry.ExceptionHandler;
 import org.duracloud.domain.Content;
 import org.duracloud.domain.Space;
+import org.duracloud.error.ContentStateException;
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.error.InvalidIdException;
 import org.duracloud.error.NotFoundException;
+import org.duracloud.error.NotImplementedException;
 import org.duracloud.reportdata.bitintegrity.BitIntegrityReport;
 import org.duracloud.reportdata.bitintegrity.BitIntegrityReportProperties;
 import org.duracloud.storage.provider.StorageProvider;
@@ -269,6 +272,67 @@ public interface ContentStore {
                              Map<String, String> contentProperties)
         throws ContentStoreException;
 
+    /**
+     * Adds content to a space, with control over how an existing version of
+     * the content item is treated. The addContent() method without a write
+     * mode uses MERGE_PROPERTIES, which requires a lookup of the existing
+     * properties on every write. REPLACE_PROPERTIES skips that lookup, and
+     * CREATE_ONLY fails if the content item already exists.
+     *
+     * @param spaceId           the identifier of the DuraCloud Space
+     * @param contentId         the identifier of the new content item
+     * @param content           the new content as a stream
+     * @param contentSize       the size of the content
+     * @param contentMimeType   the MIME type of the content
+     * @param contentChecksum   the MD5 checksum of the content, or null if the checksum is not known
+     * @param contentProperties a map of properties values to be linked to this content
+     * @param writeMode         how an existing version of the content item is treated
+     * @return content checksum
+     * @throws InvalidIdException     if the content ID is not valid
+     * @throws NotFoundException      if the space does not exist
+     * @throws ContentStateException  if the write mode is CREATE_ONLY and the content exists
+     * @throws ContentStoreException  if an error occurs
+     */
+    public String addContent(String spaceId,
+                             String contentId,
+                             InputStream content,
+                             long contentSize,
+                             String contentMimeType,
+                             String contentChecksum,
+                             Map<String, String> contentProperties,
+                             ContentWriteMode writeMode)
+        throws ContentStoreException;
+
+    /**
+     * Adds content to a space from a source which can be read more than once.
+     * Unlike the addContent() methods which take a stream, a failed write is
+     * retried (with a wait between attempts which increases on each attempt),
+     * reopening the source for each attempt. Failures which a retry cannot
+     * fix, such as an invalid ID, a missing space, or an existing content
+     * item when the write mode is CREATE_ONLY, are not retried.
+     *
+     * @param spaceId           the identifier of the DuraCloud Space
+     * @param contentId         the identifier of the new content item
+     * @param content           the source of the new content
+     * @param contentMimeType   the MIME type of the content
+     * @param contentChecksum   the MD5 checksum of the content, or null if the checksum is not known
+     * @param contentProperties a map of properties values to be linked to this content
+     * @param writeMode         how an existing version of the content item is treated
+     * @return content checksum
+     * @throws InvalidIdException     if the content ID is not valid
+     * @throws NotFoundException      if the space does not exist
+     * @throws ContentStateException  if the write mode is CREATE_ONLY and the content exists
+     * @throws ContentStoreException  if an error occurs on every attempt
+     */
+    public String addContent(String spaceId,
+                             String contentId,
+                             ContentSource content,
+                             String contentMimeType,
+                             String contentChecksum,
+                             Map<String, String> contentProperties,
+                             ContentWriteMode writeMode)
+        throws ContentStoreException;
+
     /**
      * This method copies the content item found in source-space with the id of
      * source-content-id into the dest-space, naming it to dest-content-id.
@@ -348,6 +412,21 @@ public interface ContentStore {
     public Content getContent(String spaceId, String contentId)
         throws ContentStoreException;
 
+    /**
+     * Gets content from a space if it differs from the version already held
+     * by the caller. When the checksum of the current version matches the
+     * given checksum, no content is transferred.
+     *
+     * @param spaceId   the identifier of the DuraCloud Space
+     * @param contentId the identifier of the content item
+     * @param checksum  the checksum (ETag) of the version held by the caller
+     * @return the content stream, or null if the content is unchanged
+     * @throws NotFoundException     if the space or content does not exist
+     * @throws ContentStoreException if an error occurs
+     */
+    public Content getContentIfModified(String spaceId, String contentId, String checksum)
+        throws ContentStoreException;
+
     /**
      * Gets a byte range of a content item from a space.
      * The startByte must be greater than or equal to 0 and less than the content length.
@@ -376,6 +455,22 @@ public interface ContentStore {
     public void deleteContent(String spaceId, String contentId)
         throws ContentStoreException;
 
+    /**
+     * Removes a set of content items from a space. Many content items are
+     * removed in each call to DuraStore. Content items which do not exist
+     * are considered to be deleted.
+     *
+     * @param spaceId    the identifier of the DuraCloud Space
+     * @param contentIds the identifiers of the content items
+     * @return map of content ID to the reason the content item could not be
+     * deleted, empty if all content items were deleted
+     * @throws NotFoundException     if the space does not exist
+     * @throws ContentStoreException if an error occurs
+     */
+    public Map<String, String> deleteBulkContent(String spaceId,
+                                                 List<String> contentIds)
+        throws ContentStoreException;
+
     /**
      * Sets the properties associated with content. This effectively removes all
      * of the current content properties and adds a new set of properties. Some
@@ -409,6 +504,25 @@ public interface ContentStore {
                                                     String contentId)
         throws ContentStoreException;
 
+    /**
+     * Retrieves the properties associated with a set of content items in a
+     * space. This is equivalent to calling getContentProperties() for each
+     * content item, but the properties of many content items are retrieved
+     * in each call to DuraStore.
+     *
+     * @param spaceId    the identifier of the DuraCloud Space
+     * @param contentIds the identifiers of the content items
+     * @return map of content ID to the properties of that content item,
+     * content items which do not exist are not included
+     * @throws NotFoundException       if the space does not exist
+     * @throws NotImplementedException if DuraStore does not support bulk
+     *                                 retrieval of content properties
+     * @throws ContentStoreException   if an error occurs
+     */
+    public Map<String, Map<String, String>> getBulkContentProperties(String spaceId,
+                                                                     List<String> contentIds)
+        throws ContentStoreException;
+
     /**
      * Determines if a content item exists in a given space
      *
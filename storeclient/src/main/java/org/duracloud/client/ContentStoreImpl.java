@@ -27,7 +27,10 @@ import java.util.ResourceBundle;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
 import org.duracloud.common.constant.Constants;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.constant.ManifestFormat;
 import org.duracloud.common.json.JaxbJsonSerializer;
 import org.duracloud.common.model.AclType;
@@ -89,6 +92,8 @@ public class ContentStoreImpl implements ContentStore {
 
     private String clientVersion;
 
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
     /**
      * Creates a ContentStore. This ContentStore uses the default number of
      * retries when a failure occurs (3).
@@ -206,6 +211,11 @@ public class ContentStoreImpl implements ContentStore {
         return addStoreIdQueryParameter(url, storeId);
     }
 
+    private String buildBulkURL(String action, String spaceId) {
+        String url = buildURL("/bulk/" + action + "/" + spaceId);
+        return addStoreIdQueryParameter(url);
+    }
+
     private String buildAclURL(String spaceId) {
         String url = buildURL("/acl/" + spaceId);
         return addStoreIdQueryParameter(url);
@@ -581,9 +591,36 @@ public class ContentStoreImpl implements ContentStore {
      * {@inheritDoc}
      */
     @Override
-    public boolean spaceExists(String spaceId) throws ContentStoreException {
-        List<String> spaces = getSpaces();
-        return spaces.contains(spaceId);
+    public boolean spaceExists(final String spaceId) throws ContentStoreException {
+        return execute(new Retriable() {
+            @Override
+            public Boolean retry() throws ContentStoreException {
+                // The actual method being executed
+                return doSpaceExists(spaceId);
+            }
+        });
+    }
+
+    /*
+     * Checks for the space with a single HEAD request on the space, rather
+     * than retrieving the list of all spaces
+     */
+    private boolean doSpaceExists(String spaceId) throws ContentStoreException {
+        String task = "check space exists";
+        String url = buildSpaceURL(spaceId);
+        try {
+            HttpResponse response = restHelper.head(url);
+            if (null != response &&
+                response.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                return false;
+            }
+            checkResponse(response, HttpStatus.SC_OK);
+            return true;
+        } catch (UnauthorizedException e) {
+            throw new UnauthorizedException(task, spaceId, e);
+        } catch (Exception e) {
+            throw new ContentStoreException(task, spaceId, e);
+        }
     }
 
     /**
@@ -598,6 +635,29 @@ public class ContentStoreImpl implements ContentStore {
                              final String contentChecksum,
                              final Map<String, String> contentProperties)
         throws ContentStoreException {
+        return addContent(spaceId,
+                          contentId,
+                          content,
+                          contentSize,
+                          contentMimeType,
+                          contentChecksum,
+                          contentProperties,
+                          ContentWriteMode.MERGE_PROPERTIES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String addContent(final String spaceId,
+                             final String contentId,
+                             final InputStream content,
+                             final long contentSize,
+                             final String contentMimeType,
+                             final String contentChecksum,
+                             final Map<String, String> contentProperties,
+                             final ContentWriteMode writeMode)
+        throws ContentStoreException {
         //unlike other ContentStore methods, addContent() should not be retried since the stream
         //must be reset by the caller in order to produce valid results.
         return doAddContent(spaceId,
@@ -606,7 +666,54 @@ public class ContentStoreImpl implements ContentStore {
                             contentSize,
                             contentMimeType,
                             contentChecksum,
-                            contentProperties);
+                            contentProperties,
+                            writeMode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String addContent(final String spaceId,
+                             final String contentId,
+                             final ContentSource content,
+                             final String contentMimeType,
+                             final String contentChecksum,
+                             final Map<String, String> contentProperties,
+                             final ContentWriteMode writeMode)
+        throws ContentStoreException {
+        // The source is reopened on each attempt, so the write can be retried
+        return execute(new Retriable() {
+            @Override
+            public String retry() throws ContentStoreException {
+                // The actual method being executed
+                try (InputStream stream = content.openStream()) {
+                    return doAddContent(spaceId,
+                                        contentId,
+                                        stream,
+                                        content.getSize(),
+                                        contentMimeType,
+                                        contentChecksum,
+                                        contentProperties,
+                                        writeMode);
+                } catch (IOException e) {
+                    throw new ContentStoreException("add content", spaceId, contentId, e);
+                }
+            }
+
+            @Override
+            public boolean isRetriable(Exception e) {
+                // These will fail again on the next attempt. A checksum
+                // mismatch is worth retrying, existing content is not.
+                if (e instanceof InvalidIdException ||
+                    e instanceof NotFoundException ||
+                    e instanceof UnauthorizedException) {
+                    return false;
+                }
+                return !(e instanceof ContentStateException &&
+                         ContentWriteMode.CREATE_ONLY == writeMode);
+            }
+        });
     }
 
     private String doAddContent(String spaceId,
@@ -615,7 +722,8 @@ public class ContentStoreImpl implements ContentStore {
                                 long contentSize,
                                 String contentMimeType,
                                 String contentChecksum,
-                                Map<String, String> contentProperties)
+                                Map<String, String> contentProperties,
+                                ContentWriteMode writeMode)
         throws ContentStoreException {
         validateContentId(contentId);
         String task = "add content";
@@ -637,6 +745,12 @@ public class ContentStoreImpl implements ContentStore {
             headers.put(HttpHeaders.CONTENT_MD5, contentChecksum);
         }
 
+        if (ContentWriteMode.CREATE_ONLY == writeMode) {
+            headers.put(HttpHeaders.IF_NONE_MATCH, "*");
+        } else if (ContentWriteMode.REPLACE_PROPERTIES == writeMode) {
+            headers.put(Constants.REPLACE_PROPERTIES_HEADER, "true");
+        }
+
         try {
 
             HttpResponse response = restHelper.put(url,
@@ -674,6 +788,8 @@ public class ContentStoreImpl implements ContentStore {
             throw new NotFoundException(task, spaceId, contentId, e);
         } catch (UnauthorizedException e) {
             throw new UnauthorizedException(task, spaceId, contentId, e);
+        } catch (ContentStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new ContentStoreException(task, spaceId, contentId, e);
         }
@@ -855,6 +971,43 @@ public class ContentStoreImpl implements ContentStore {
         return getContent(spaceId, contentId, 0l, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Content getContentIfModified(final String spaceId,
+                                        final String contentId,
+                                        final String checksum)
+        throws ContentStoreException {
+        return execute(() -> {
+            String task = "get content if modified";
+            String url = buildContentURL(spaceId, contentId);
+            HttpResponse response;
+            try {
+                Map<String, String> headers = new HashMap<>();
+                headers.put(HttpHeaders.IF_NONE_MATCH, "\"" + checksum + "\"");
+                response = restHelper.get(url, headers);
+                if (null != response &&
+                    response.getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+                    return null;
+                }
+                checkResponse(response, HttpStatus.SC_OK);
+            } catch (NotFoundException e) {
+                throw new NotFoundException(task, spaceId, contentId, e);
+            } catch (UnauthorizedException e) {
+                throw new UnauthorizedException(task, spaceId, contentId, e);
+            } catch (Exception e) {
+                throw new ContentStoreException(task, spaceId, contentId, e);
+            }
+
+            try {
+                return toContent(response, spaceId, contentId, 0L, null);
+            } catch (IOException e) {
+                throw new ContentStoreException(e.getMessage(), e);
+            }
+        });
+    }
+
     private Content toContent(HttpResponse response, String spaceId, String contentId, Long startByte, Long endByte)
         throws IOException {
         Content content = new Content();
@@ -925,6 +1078,51 @@ public class ContentStoreImpl implements ContentStore {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> deleteBulkContent(final String spaceId,
+                                                 final List<String> contentIds)
+        throws ContentStoreException {
+        Map<String, String> failures = new HashMap<>();
+        for (int i = 0; i < contentIds.size(); i += Constants.MAX_BULK_ITEMS) {
+            final List<String> batch =
+                contentIds.subList(i, Math.min(i + Constants.MAX_BULK_ITEMS,
+                                               contentIds.size()));
+            failures.putAll(execute(new Retriable() {
+                @Override
+                public Map<String, String> retry() throws ContentStoreException {
+                    // The actual method being executed
+                    return doDeleteBulkContent(spaceId, batch);
+                }
+            }));
+        }
+        return failures;
+    }
+
+    private Map<String, String> doDeleteBulkContent(String spaceId,
+                                                    List<String> contentIds)
+        throws ContentStoreException {
+        String task = "delete content in space";
+        String url = buildBulkURL("delete", spaceId);
+        try {
+            String body = jsonMapper.writeValueAsString(contentIds);
+            HttpResponse response =
+                restHelper.post(url, body, Constants.MEDIA_TYPE_APPLICATION_JSON, null);
+            checkResponse(response, HttpStatus.SC_OK);
+            return jsonMapper.readValue(response.getResponseBody(),
+                                        new TypeReference<Map<String, String>>() {
+                                        });
+        } catch (NotFoundException e) {
+            throw new NotFoundException(task, spaceId, e);
+        } catch (UnauthorizedException e) {
+            throw new UnauthorizedException(task, spaceId, e);
+        } catch (Exception e) {
+            throw new ContentStoreException(task, spaceId, e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1000,6 +1198,54 @@ public class ContentStoreImpl implements ContentStore {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Map<String, String>> getBulkContentProperties(final String spaceId,
+                                                                     final List<String> contentIds)
+        throws ContentStoreException {
+        Map<String, Map<String, String>> properties = new HashMap<>();
+        for (int i = 0; i < contentIds.size(); i += Constants.MAX_BULK_ITEMS) {
+            final List<String> batch =
+                contentIds.subList(i, Math.min(i + Constants.MAX_BULK_ITEMS,
+                                               contentIds.size()));
+            properties.putAll(execute(new Retriable() {
+                @Override
+                public Map<String, Map<String, String>> retry()
+                    throws ContentStoreException {
+                    // The actual method being executed
+                    return doGetBulkContentProperties(spaceId, batch);
+                }
+            }));
+        }
+        return properties;
+    }
+
+    private Map<String, Map<String, String>> doGetBulkContentProperties(String spaceId,
+                                                                        List<String> contentIds)
+        throws ContentStoreException {
+        String task = "get properties for content in space";
+        String url = buildBulkURL("properties", spaceId);
+        try {
+            String body = jsonMapper.writeValueAsString(contentIds);
+            HttpResponse response =
+                restHelper.post(url, body, Constants.MEDIA_TYPE_APPLICATION_JSON, null);
+            checkResponse(response, HttpStatus.SC_OK);
+            return jsonMapper.readValue(response.getResponseBody(),
+                                        new TypeReference<Map<String, Map<String, String>>>() {
+                                        });
+        } catch (NotFoundException e) {
+            throw new NotFoundException(task, spaceId, e);
+        } catch (NotImplementedException e) {
+            throw e;
+        } catch (UnauthorizedException e) {
+            throw new UnauthorizedException(task, spaceId, e);
+        } catch (Exception e) {
+            throw new ContentStoreException(task, spaceId, e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1037,12 +1283,14 @@ public class ContentStoreImpl implements ContentStore {
                 throw new InvalidIdException(errMsg);
             } else if (responseCode == HttpStatus.SC_UNAUTHORIZED) {
                 throw new UnauthorizedException(errMsg);
-            } else if (responseCode == HttpStatus.SC_NOT_IMPLEMENTED) {
+            } else if (responseCode == HttpStatus.SC_NOT_IMPLEMENTED ||
+                       responseCode == HttpStatus.SC_METHOD_NOT_ALLOWED) {
                 throw new NotImplementedException(errMsg);
             } else if (responseCode == HttpStatus.SC_FORBIDDEN) {
                 throw new UnauthorizedException(
                     "User is not authorized to perform the requested function");
-            } else if (responseCode == HttpStatus.SC_CONFLICT) {
+            } else if (responseCode == HttpStatus.SC_CONFLICT ||
+                       responseCode == HttpStatus.SC_PRECONDITION_FAILED) {
                 throw new ContentStateException(errMsg);
             } else {
                 throw new ContentStoreException(errMsg);
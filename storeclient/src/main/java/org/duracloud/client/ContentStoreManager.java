@@ -106,6 +106,15 @@ public interface ContentStoreManager extends Securable {
     public ContentStore getPrimaryContentStoreAsAnonymous(int maxRetries)
         throws ContentStoreException;
 
+    /**
+     * Discards any cached list of content stores and retrieves the list
+     * again from DuraStore. Subsequent calls to get content stores will
+     * make use of the refreshed list.
+     *
+     * @throws ContentStoreException if the content store list cannot be retrieved
+     */
+    public void refreshStores() throws ContentStoreException;
+
     /**
      * <p>reconfigure</p>
      *
@@ -38,12 +38,24 @@ public class ContentStoreManagerImpl implements ContentStoreManager, Securable {
 
     private static final String DEFAULT_CONTEXT = "durastore";
 
+    /**
+     * Default length of time (in milliseconds) for which the list of
+     * content stores is cached before being retrieved again from DuraStore.
+     */
+    public static final long DEFAULT_STORE_CACHE_TTL_MS = 5 * 60 * 1000;
+
     private String baseURL = null;
 
     private RestHttpHelper restHelper;
 
     private int socketTimeoutMs;
 
+    private long storeCacheTtlMs = DEFAULT_STORE_CACHE_TTL_MS;
+
+    private StorageAccountManager cachedStorageAccounts;
+
+    private long cachedStorageAccountsTime;
+
     /**
      * <p>Constructor for ContentStoreManagerImpl.</p>
      *
@@ -92,6 +104,32 @@ public class ContentStoreManagerImpl implements ContentStoreManager, Securable {
     public void reinitialize(String host, String port, String context)
         throws ContentStoreException {
         init(host, port, context);
+        clearStoreCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized void refreshStores() throws ContentStoreException {
+        log.debug("refreshStores()");
+        clearStoreCache();
+        getStorageAccounts();
+    }
+
+    /**
+     * Sets the length of time for which the list of content stores retrieved
+     * from DuraStore is cached. A value less than or equal to zero disables
+     * caching, so that every call retrieves the list from DuraStore.
+     *
+     * @param storeCacheTtlMs time to live of the store list in milliseconds
+     */
+    public void setStoreCacheTtlMs(long storeCacheTtlMs) {
+        this.storeCacheTtlMs = storeCacheTtlMs;
+        clearStoreCache();
+    }
+
+    public long getStoreCacheTtlMs() {
+        return storeCacheTtlMs;
     }
 
     /**
@@ -178,14 +216,44 @@ public class ContentStoreManagerImpl implements ContentStoreManager, Securable {
     public void login(Credential appCred) {
         log.debug("login: " + appCred.getUsername());
         setRestHelper(new RestHttpHelper(appCred, socketTimeoutMs));
+        clearStoreCache();
     }
 
     public void logout() {
         log.debug("logout");
         setRestHelper(new RestHttpHelper());
+        clearStoreCache();
+    }
+
+    /**
+     * Provides the set of storage accounts, retrieving it from DuraStore only
+     * when no cached copy exists or the cached copy has outlived its TTL.
+     */
+    private synchronized StorageAccountManager getStorageAccounts()
+        throws ContentStoreException {
+        if (null != cachedStorageAccounts &&
+            currentTimeMillis() - cachedStorageAccountsTime < storeCacheTtlMs) {
+            return cachedStorageAccounts;
+        }
+
+        StorageAccountManager acctManager = retrieveStorageAccounts();
+        if (storeCacheTtlMs > 0) {
+            cachedStorageAccounts = acctManager;
+            cachedStorageAccountsTime = currentTimeMillis();
+        }
+        return acctManager;
+    }
+
+    private synchronized void clearStoreCache() {
+        cachedStorageAccounts = null;
+        cachedStorageAccountsTime = 0;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
     }
 
-    private StorageAccountManager getStorageAccounts()
+    private StorageAccountManager retrieveStorageAccounts()
         throws ContentStoreException {
         String url = baseURL + "/stores";
         HttpResponse response;
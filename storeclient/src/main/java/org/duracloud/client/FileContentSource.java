@@ -0,0 +1,71 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+/**
+ * A ContentSource which reads all of a file, or a range of bytes within
+ * a file.
+ *
+ * @author agent
+ */
+public class FileContentSource implements ContentSource {
+
+    private File file;
+    private long offset;
+    private long length;
+
+    /**
+     * @param file the file to be read
+     */
+    public FileContentSource(File file) {
+        this(file, 0, file.length());
+    }
+
+    /**
+     * @param file   the file to be read
+     * @param offset the position in the file of the first byte to be read
+     * @param length the number of bytes to be read
+     */
+    public FileContentSource(File file, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException(
+                "Offset and length must not be negative: offset=" + offset +
+                ", length=" + length);
+        }
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public long getSize() {
+        return length;
+    }
+
+}
@@ -19,6 +19,7 @@ public interface HttpHeaders {
     public static final String CONTENT_ENCODING = "Content-Encoding";
     public static final String ETAG = "ETag";
     public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String IF_NONE_MATCH = "If-None-Match";
     public static final String RANGE = org.apache.http.HttpHeaders.RANGE;
     public static final String CONTENT_RANGE = org.apache.http.HttpHeaders.CONTENT_RANGE;
     public static final String ACCEPT_RANGES = org.apache.http.HttpHeaders.ACCEPT_RANGES;
@@ -62,6 +62,14 @@ public class CachingContentStoreManagerImpl extends ContentStoreManagerImpl {
         return this.primaryContentStore;
     }
 
+    @Override
+    public void refreshStores() throws ContentStoreException {
+        log.debug("clearing cache.");
+        this.contentStores = null;
+        this.primaryContentStore = null;
+        super.refreshStores();
+    }
+
     protected ContentStore newContentStoreImpl(StorageAccount acct) {
         return new CachingContentStoreImpl(getBaseURL(),
                                            acct.getType(),
@@ -7,6 +7,8 @@
  */
 package org.duracloud.client.task;
 
+import java.util.List;
+
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.s3storageprovider.dto.DeleteStreamingTaskResult;
 import org.duracloud.s3storageprovider.dto.DisableStreamingTaskResult;
@@ -109,6 +111,28 @@ public interface S3TaskClient {
                                                String ipAddress)
         throws ContentStoreException;
 
+    /**
+     * Retrieves signed URLs for a set of media files which are streamed through
+     * a secure distribution. All URLs are signed in a single call.
+     *
+     * @param spaceId         name of the space where the content to be streamed is stored
+     * @param contentIds      names of the content items to be streamed
+     * @param resourcePrefix  a prefix on the content items which may be required by
+     *                        the streaming viewer/player
+     * @param minutesToExpire number of minutes that the streams should be available
+     *                        for viewing through the retrieved URLs
+     * @param ipAddress       ip address range where requests to stream must originate, in
+     *                        CIDR notation (e.g. 1.2.3.4/32)
+     * @return RTMP streaming URLs, keyed by content ID
+     * @throws ContentStoreException on error
+     */
+    public GetSignedUrlTaskResult getSignedUrls(String spaceId,
+                                                List<String> contentIds,
+                                                String resourcePrefix,
+                                                int minutesToExpire,
+                                                String ipAddress)
+        throws ContentStoreException;
+
     /**
      * Enables HLS streaming on a space. Streaming can be either open or secure.
      *
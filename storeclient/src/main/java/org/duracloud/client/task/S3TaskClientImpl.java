@@ -7,6 +7,8 @@
  */
 package org.duracloud.client.task;
 
+import java.util.List;
+
 import org.duracloud.StorageTaskConstants;
 import org.duracloud.client.ContentStore;
 import org.duracloud.error.ContentStoreException;
@@ -133,6 +135,28 @@ public class S3TaskClientImpl implements S3TaskClient {
                                      taskParams.serialize()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GetSignedUrlTaskResult getSignedUrls(String spaceId,
+                                                List<String> contentIds,
+                                                String resourcePrefix,
+                                                int minutesToExpire,
+                                                String ipAddress)
+        throws ContentStoreException {
+        GetSignedUrlTaskParameters taskParams = new GetSignedUrlTaskParameters();
+        taskParams.setSpaceId(spaceId);
+        taskParams.setContentIds(contentIds);
+        taskParams.setResourcePrefix(resourcePrefix);
+        taskParams.setMinutesToExpire(minutesToExpire);
+        taskParams.setIpAddress(ipAddress);
+
+        return GetSignedUrlTaskResult.deserialize(
+            contentStore.performTask(StorageTaskConstants.GET_SIGNED_URL_TASK_NAME,
+                                     taskParams.serialize()));
+    }
+
     /**
      * {@inheritDoc}
      */
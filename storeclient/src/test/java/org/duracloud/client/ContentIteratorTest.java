@@ -41,6 +41,21 @@ public class ContentIteratorTest {
         }
     }
 
+    @Test
+    public void testIteratorWithMarker() throws Exception {
+        ContentStore testStore = new MockStore(25);
+        ContentIterator iterator =
+            new ContentIterator(testStore, "spaceId", null, 10, "test4");
+
+        Assert.assertEquals("test5", iterator.next());
+        int count = 1;
+        while (iterator.hasNext()) {
+            assertNotNull(iterator.next());
+            count++;
+        }
+        Assert.assertEquals(20, count);
+    }
+
     private class MockStore extends ContentStoreImpl {
 
         private List<String> contentItems;
@@ -16,6 +16,7 @@ import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -29,11 +30,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
 import org.apache.http.message.BasicHeader;
 import org.duracloud.common.constant.Constants;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.constant.ManifestFormat;
 import org.duracloud.common.json.JaxbJsonSerializer;
 import org.duracloud.common.model.AclType;
@@ -42,12 +45,16 @@ import org.duracloud.common.util.SerializationUtil;
 import org.duracloud.common.web.RestHttpHelper;
 import org.duracloud.domain.Content;
 import org.duracloud.domain.Space;
+import org.duracloud.error.ContentStateException;
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.error.InvalidIdException;
+import org.duracloud.error.NotFoundException;
+import org.duracloud.error.NotImplementedException;
 import org.duracloud.reportdata.storage.SpaceStatsDTO;
 import org.duracloud.storage.domain.StorageProviderType;
 import org.duracloud.storage.provider.StorageProvider;
 import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.easymock.EasyMock;
 import org.junit.After;
 import org.junit.Assert;
@@ -267,17 +274,23 @@ public class ContentStoreImplTest {
 
     @Test
     public void testSpaceExists() throws Exception {
-        String xml = "<spaces><space id=\"space1\" />" +
-                     "<space id=\"space2\" /></spaces>";
-        String fullURL = baseURL + "/spaces" + "?storeID=" + storeId;
+        // A single HEAD request is made on the space for each check
         EasyMock.expect(response.getStatusCode()).andReturn(200).times(2);
-        EasyMock.expect(response.getResponseBody()).andReturn(xml).times(2);
-        EasyMock.expect(restHelper.get(fullURL)).andReturn(response).times(2);
+        EasyMock.expect(restHelper.head(baseURL + "/space1?storeID=" + storeId))
+                .andReturn(response).once();
+
+        RestHttpHelper.HttpResponse notFoundResponse =
+            EasyMock.createMock(RestHttpHelper.HttpResponse.class);
+        EasyMock.expect(notFoundResponse.getStatusCode()).andReturn(404);
+        EasyMock.expect(restHelper.head(baseURL + "/spaceX?storeID=" + storeId))
+                .andReturn(notFoundResponse).once();
+        EasyMock.replay(notFoundResponse);
 
         replayMocks();
 
         Assert.assertTrue(contentStore.spaceExists("space1"));
         Assert.assertFalse(contentStore.spaceExists("spaceX"));
+        EasyMock.verify(notFoundResponse);
     }
 
     @Test
@@ -295,6 +308,116 @@ public class ContentStoreImplTest {
         validAddContentHeadersCapture(checksum, mime, encoding, headersCapture);
     }
 
+    @Test
+    public void testAddContentWriteMode() throws Exception {
+        InputStream content = IOUtils.toInputStream("content");
+        String checksum = "checksum";
+        String mime = "text/plain";
+        Capture<Map<String, String>> headersCapture = new Capture<>();
+        mockSuccessfulAddContent(headersCapture, checksum, mime, content);
+
+        contentStore.addContent(spaceId, contentId, content, 7, mime, checksum,
+                                new HashMap<>(), ContentWriteMode.REPLACE_PROPERTIES);
+        Map<String, String> headers = headersCapture.getValue();
+        Assert.assertEquals("true", headers.get(Constants.REPLACE_PROPERTIES_HEADER));
+        Assert.assertNull(headers.get(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    public void testAddContentCreateOnlyExists() throws Exception {
+        InputStream content = IOUtils.toInputStream("content");
+        String fullURL = baseURL + "/" + spaceId + "/" + contentId + "?storeID=" + storeId;
+        Capture<Map<String, String>> headersCapture = new Capture<>();
+        EasyMock.expect(response.getStatusCode()).andReturn(412);
+        EasyMock.expect(response.getResponseBody()).andReturn("exists");
+        EasyMock.expect(restHelper.put(eq(fullURL),
+                                       eq(content),
+                                       eq("text/plain"),
+                                       EasyMock.anyLong(),
+                                       capture(headersCapture)))
+                .andReturn(response);
+        replayMocks();
+
+        try {
+            contentStore.addContent(spaceId, contentId, content, 7, "text/plain", null,
+                                    null, ContentWriteMode.CREATE_ONLY);
+            fail("addContent call should have failed.");
+        } catch (ContentStateException e) {
+            Assert.assertEquals("*", headersCapture.getValue().get(HttpHeaders.IF_NONE_MATCH));
+        }
+    }
+
+    @Test
+    public void testAddContentFromSource() throws Exception {
+        final int[] opened = {0};
+        ContentSource source = new ContentSource() {
+            @Override
+            public InputStream openStream() {
+                opened[0]++;
+                return IOUtils.toInputStream("content");
+            }
+
+            @Override
+            public long getSize() {
+                return 7;
+            }
+        };
+
+        // The first attempt fails, the second succeeds
+        String fullURL = baseURL + "/" + spaceId + "/" + contentId + "?storeID=" + storeId;
+        EasyMock.expect(response.getStatusCode()).andReturn(503);
+        EasyMock.expect(response.getResponseBody()).andReturn("unavailable");
+        EasyMock.expect(response.getStatusCode()).andReturn(201);
+        EasyMock.expect(response.getResponseHeader(HttpHeaders.CONTENT_MD5))
+                .andReturn(new BasicHeader(HttpHeaders.CONTENT_MD5, "checksum"));
+        EasyMock.expect(restHelper.put(eq(fullURL),
+                                       EasyMock.isA(InputStream.class),
+                                       eq("text/plain"),
+                                       eq(7L),
+                                       EasyMock.isA(Map.class)))
+                .andReturn(response).times(2);
+        replayMocks();
+
+        String checksum = contentStore.addContent(spaceId, contentId, source, "text/plain",
+                                                  "checksum", new HashMap<>(),
+                                                  ContentWriteMode.MERGE_PROPERTIES);
+        assertEquals("checksum", checksum);
+        assertEquals(2, opened[0]);
+    }
+
+    @Test
+    public void testAddContentFromSourceNotRetried() throws Exception {
+        File file = File.createTempFile("content-source", ".txt");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, "content-file");
+
+        String fullURL = baseURL + "/" + spaceId + "/" + contentId + "?storeID=" + storeId;
+        EasyMock.expect(response.getStatusCode()).andReturn(404);
+        EasyMock.expect(response.getResponseBody()).andReturn("not found");
+        EasyMock.expect(restHelper.put(eq(fullURL),
+                                       EasyMock.isA(InputStream.class),
+                                       eq("text/plain"),
+                                       eq(4L),
+                                       EasyMock.isA(Map.class)))
+                .andAnswer(() -> {
+                    InputStream stream = (InputStream) EasyMock.getCurrentArguments()[1];
+                    assertEquals("tent", IOUtils.toString(stream));
+                    return response;
+                });
+        replayMocks();
+
+        try {
+            contentStore.addContent(spaceId, contentId, new FileContentSource(file, 3, 4),
+                                    "text/plain", null, null,
+                                    ContentWriteMode.MERGE_PROPERTIES);
+            fail("addContent call should have failed.");
+        } catch (NotFoundException e) {
+            Assert.assertNotNull(e.getMessage());
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
     @Test
     public void testAddContentNullChecksumSupplied() throws Exception {
         InputStream content = IOUtils.toInputStream("content");
@@ -392,6 +515,41 @@ public class ContentStoreImplTest {
         Assert.assertEquals(streamContent, IOUtils.toString(content.getStream()));
     }
 
+    @Test
+    public void testGetContentIfModified() throws Exception {
+        String streamContent = "content";
+        InputStream stream = IOUtils.toInputStream(streamContent);
+        String checksum = "checksum";
+
+        String fullURL = baseURL + "/" + spaceId + "/" + contentId + "?storeID=" + storeId;
+        Capture<Map<String, String>> captureHeaders = Capture.newInstance(CaptureType.ALL);
+
+        // Not modified
+        EasyMock.expect(response.getStatusCode()).andReturn(304);
+        EasyMock.expect(restHelper.get(eq(fullURL), capture(captureHeaders)))
+                .andReturn(response);
+
+        // Modified
+        EasyMock.expect(response.getStatusCode()).andReturn(200).times(2);
+        EasyMock.expect(response.getResponseHeaders())
+                .andReturn(new Header[0]).times(2);
+        EasyMock.expect(response.getResponseStream()).andReturn(stream);
+        EasyMock.expect(restHelper.get(eq(fullURL), capture(captureHeaders)))
+                .andReturn(response);
+
+        replayMocks();
+
+        Assert.assertNull(contentStore.getContentIfModified(spaceId, contentId, checksum));
+
+        Content content = contentStore.getContentIfModified(spaceId, contentId, checksum);
+        Assert.assertNotNull(content);
+        Assert.assertEquals(streamContent, IOUtils.toString(content.getStream()));
+
+        for (Map<String, String> headers : captureHeaders.getValues()) {
+            Assert.assertEquals("\"" + checksum + "\"", headers.get(HttpHeaders.IF_NONE_MATCH));
+        }
+    }
+
     @Test
     public void testGetContentWithMidstreamNetworkFailureAndRecovery() throws Exception {
         String streamContent = "content";
@@ -542,6 +700,94 @@ public class ContentStoreImplTest {
         Assert.assertEquals("custom", props.get("custom-property"));
     }
 
+    @Test
+    public void testGetBulkContentProperties() throws Exception {
+        String fullURL = baseURL + "/bulk/properties/" + spaceId +
+                         "?storeID=" + storeId;
+        List<String> contentIds = new ArrayList<>();
+        for (int i = 0; i <= Constants.MAX_BULK_ITEMS; i++) {
+            contentIds.add("content-" + i);
+        }
+
+        Capture<String> requests = Capture.newInstance(CaptureType.ALL);
+        EasyMock.expect(restHelper.post(eq(fullURL),
+                                        capture(requests),
+                                        eq(Constants.MEDIA_TYPE_APPLICATION_JSON),
+                                        EasyMock.isNull()))
+                .andReturn(response).times(2);
+        EasyMock.expect(response.getStatusCode()).andReturn(HttpStatus.SC_OK)
+                .times(2);
+        EasyMock.expect(response.getResponseBody())
+                .andReturn("{\"content-0\":{\"content-size\":\"10\"}}");
+        EasyMock.expect(response.getResponseBody())
+                .andReturn("{\"content-1000\":{\"content-checksum\":\"abc\"}}");
+
+        replayMocks();
+
+        Map<String, Map<String, String>> props =
+            contentStore.getBulkContentProperties(spaceId, contentIds);
+        assertEquals(2, props.size());
+        assertEquals("10", props.get("content-0")
+                                .get(ContentStore.CONTENT_SIZE));
+        assertEquals("abc", props.get("content-1000")
+                                 .get(ContentStore.CONTENT_CHECKSUM));
+
+        assertEquals(2, requests.getValues().size());
+        assertTrue(requests.getValues().get(0).startsWith("[\"content-0\","));
+        assertTrue(requests.getValues().get(0).endsWith(",\"content-999\"]"));
+        assertEquals("[\"content-1000\"]", requests.getValues().get(1));
+    }
+
+    @Test
+    public void testGetBulkContentPropertiesNotSupported() throws Exception {
+        contentStore =
+            new ContentStoreImpl(baseURL, type, storeId, false, restHelper, 0);
+        String fullURL = baseURL + "/bulk/properties/" + spaceId +
+                         "?storeID=" + storeId;
+
+        EasyMock.expect(restHelper.post(fullURL,
+                                        "[\"content-0\"]",
+                                        Constants.MEDIA_TYPE_APPLICATION_JSON,
+                                        null))
+                .andReturn(response);
+        EasyMock.expect(response.getStatusCode())
+                .andReturn(HttpStatus.SC_METHOD_NOT_ALLOWED);
+        EasyMock.expect(response.getResponseBody()).andReturn("");
+
+        replayMocks();
+
+        try {
+            contentStore.getBulkContentProperties(spaceId,
+                                                  Arrays.asList("content-0"));
+            Assert.fail("Exception expected when bulk calls are not supported");
+        } catch (NotImplementedException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteBulkContent() throws Exception {
+        String fullURL = baseURL + "/bulk/delete/" + spaceId +
+                         "?storeID=" + storeId;
+        List<String> contentIds = Arrays.asList("content-0", "content-1");
+
+        EasyMock.expect(restHelper.post(fullURL,
+                                        "[\"content-0\",\"content-1\"]",
+                                        Constants.MEDIA_TYPE_APPLICATION_JSON,
+                                        null))
+                .andReturn(response);
+        EasyMock.expect(response.getStatusCode()).andReturn(HttpStatus.SC_OK);
+        EasyMock.expect(response.getResponseBody())
+                .andReturn("{\"content-1\":\"AccessDenied: Access Denied\"}");
+
+        replayMocks();
+
+        Map<String, String> failures =
+            contentStore.deleteBulkContent(spaceId, contentIds);
+        assertEquals(1, failures.size());
+        assertEquals("AccessDenied: Access Denied", failures.get("content-1"));
+    }
+
     @Test
     public void testContentExists() throws Exception {
         String fullURL = baseURL + "/" + spaceId + "/" + contentId +
@@ -0,0 +1,150 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ *     http://duracloud.org/license/
+ */
+package org.duracloud.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.duracloud.common.util.EncryptionUtil;
+import org.duracloud.common.web.RestHttpHelper;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies the caching of the store list in ContentStoreManagerImpl
+ *
+ * @author agent
+ */
+public class ContentStoreManagerImplTest {
+
+    private TestContentStoreManagerImpl contentStoreMgr;
+    private RestHttpHelper restHelper;
+
+    private String storesUrl = "http://test.org:9876/durastore/stores";
+
+    @Before
+    public void setUp() throws Exception {
+        restHelper = EasyMock.createMock("RestHttpHelper",
+                                         RestHttpHelper.class);
+        contentStoreMgr = new TestContentStoreManagerImpl();
+        contentStoreMgr.setRestHelper(restHelper);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        EasyMock.verify(restHelper);
+    }
+
+    private void setUpStoresCall(int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            EasyMock.expect(restHelper.get(storesUrl))
+                    .andReturn(createHttpResponse());
+        }
+        EasyMock.replay(restHelper);
+    }
+
+    @Test
+    public void testStoreListCached() throws Exception {
+        setUpStoresCall(1);
+
+        Map<String, ContentStore> stores = contentStoreMgr.getContentStores();
+        assertEquals(2, stores.size());
+        assertEquals("0", contentStoreMgr.getPrimaryContentStore().getStoreId());
+        assertEquals("1", contentStoreMgr.getContentStore("1").getStoreId());
+        assertNotNull(contentStoreMgr.getContentStore("0", 1));
+    }
+
+    @Test
+    public void testStoreListExpired() throws Exception {
+        setUpStoresCall(2);
+
+        contentStoreMgr.getPrimaryContentStore();
+        contentStoreMgr.time += ContentStoreManagerImpl.DEFAULT_STORE_CACHE_TTL_MS - 1;
+        contentStoreMgr.getPrimaryContentStore();
+        contentStoreMgr.time += 1;
+        contentStoreMgr.getPrimaryContentStore();
+    }
+
+    @Test
+    public void testStoreListRefresh() throws Exception {
+        setUpStoresCall(2);
+
+        contentStoreMgr.getContentStores();
+        contentStoreMgr.refreshStores();
+        contentStoreMgr.getContentStores();
+        contentStoreMgr.getContentStore("1");
+    }
+
+    @Test
+    public void testStoreListCacheDisabled() throws Exception {
+        setUpStoresCall(3);
+
+        contentStoreMgr.setStoreCacheTtlMs(0);
+        contentStoreMgr.getContentStores();
+        contentStoreMgr.getContentStores();
+        contentStoreMgr.getPrimaryContentStore();
+    }
+
+    @Test
+    public void testStoreListReinitialize() throws Exception {
+        setUpStoresCall(2);
+
+        contentStoreMgr.getContentStores();
+        contentStoreMgr.reinitialize("test.org", "9876", "durastore");
+        contentStoreMgr.getContentStores();
+    }
+
+    private RestHttpHelper.HttpResponse createHttpResponse() throws Exception {
+        String xml = getAccountXml();
+        InputStream stream = new ByteArrayInputStream(xml.getBytes());
+        return RestHttpHelper.HttpResponse.buildMock(HttpStatus.SC_OK, null, stream);
+    }
+
+    private String getAccountXml() throws Exception {
+        EncryptionUtil encryptUtil = new EncryptionUtil();
+        String username = encryptUtil.encrypt("username");
+        String password = encryptUtil.encrypt("password");
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<storageProviderAccounts>");
+        for (int i = 0; i < 2; i++) {
+            xml.append("  <storageAcct ownerId='0' isPrimary='" + (i == 0 ? 1 : 0) + "'>");
+            xml.append("    <id>" + i + "</id>");
+            xml.append("    <storageProviderType>AMAZON_S3</storageProviderType>");
+            xml.append("    <storageProviderCredential>");
+            xml.append("      <username>" + username + "</username>");
+            xml.append("      <password>" + password + "</password>");
+            xml.append("    </storageProviderCredential>");
+            xml.append("  </storageAcct>");
+        }
+        xml.append("</storageProviderAccounts>");
+        return xml.toString();
+    }
+
+    private static class TestContentStoreManagerImpl
+        extends ContentStoreManagerImpl {
+        private long time = 1000;
+
+        public TestContentStoreManagerImpl() {
+            super("test.org", "9876", "durastore");
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return time;
+        }
+    }
+
+}
@@ -10,6 +10,10 @@ package org.duracloud.client.task;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.duracloud.StorageTaskConstants;
 import org.duracloud.client.ContentStore;
 import org.duracloud.s3storageprovider.dto.DeleteStreamingTaskResult;
@@ -153,6 +157,24 @@ public class S3TaskClientImplTest {
         assertThat(signedUrl, equalTo(result.getSignedUrl()));
     }
 
+    @Test
+    public void testGetSignedUrls() throws Exception {
+        String taskName = StorageTaskConstants.GET_SIGNED_URL_TASK_NAME;
+        Map<String, String> signedUrls = new HashMap<>();
+        signedUrls.put(contentId, "signed-url");
+
+        GetSignedUrlTaskResult preparedResult = new GetSignedUrlTaskResult();
+        preparedResult.setSignedUrls(signedUrls);
+
+        setupMock(taskName, preparedResult.serialize());
+        replayMocks();
+
+        GetSignedUrlTaskResult result =
+            taskClient.getSignedUrls(spaceId, Collections.singletonList(contentId),
+                                     resourcePrefix, 42, "ip-address");
+        assertThat(signedUrls, equalTo(result.getSignedUrls()));
+    }
+
     @Test
     public void testEnableHlsStreaming() throws Exception {
         String taskName = StorageTaskConstants.ENABLE_HLS_TASK_NAME;
@@ -17,6 +17,7 @@ import org.duracloud.chunk.manifest.ChunksManifestBean;
 import org.duracloud.chunk.util.ChunksManifestVerifier;
 import org.duracloud.chunk.writer.DuracloudContentWriter;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.domain.Content;
 import org.duracloud.error.ContentStoreException;
 import org.duracloud.stitch.FileStitcher;
@@ -191,10 +192,12 @@ public class DuraStoreChunkSyncEndpoint extends DuraStoreSyncEndpoint {
 
     @Override
     protected void addUpdateContent(String contentId,
-                                    MonitoredFile syncFile) {
+                                    MonitoredFile syncFile,
+                                    ContentWriteMode writeMode) {
         Map<String, String> properties = createProps(syncFile.getAbsolutePath(), getUsername());
         DuracloudContentWriter contentWriter =
             new DuracloudContentWriter(getContentStore(), getUsername(), true, this.jumpStart);
+        contentWriter.setWriteMode(writeMode);
         FileChunker chunker = new FileChunker(contentWriter, chunkerOptions);
 
         chunker.addContent(getSpaceId(),
@@ -17,7 +17,9 @@ import java.util.Iterator;
 import java.util.Map;
 
 import org.apache.commons.lang3.event.EventListenerSupport;
+import org.duracloud.client.ContentSource;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.util.ContentIdUtil;
 import org.duracloud.common.util.DateUtil;
 import org.duracloud.error.ContentStoreException;
@@ -166,7 +168,8 @@ public class DuraStoreSyncEndpoint implements SyncEndpoint {
         try {
             if (jumpStart) { // Skip all of the usual checks, just push the file
                 if (syncFile.exists()) {
-                    doAddContent(syncFile, contentId, absPath);
+                    doAddContent(syncFile, contentId, absPath,
+                                 ContentWriteMode.MERGE_PROPERTIES);
                     return SyncResultType.ADDED;
                 }
             }
@@ -211,7 +214,8 @@ public class DuraStoreSyncEndpoint implements SyncEndpoint {
                                                                   absPath);
                             }
 
-                            addUpdateContent(contentId, syncFile, absPath);
+                            addUpdateContent(contentId, syncFile, absPath,
+                                             ContentWriteMode.MERGE_PROPERTIES);
 
                             this.listenerList
                                 .fire().contentUpdated(this.storeId, this.spaceId,
@@ -227,7 +231,10 @@ public class DuraStoreSyncEndpoint implements SyncEndpoint {
                         }
                     }
                 } else { // File was added
-                    doAddContent(syncFile, contentId, absPath);
+                    // The file is known not to exist in DuraCloud, so there
+                    // are no existing properties to merge
+                    doAddContent(syncFile, contentId, absPath,
+                                 ContentWriteMode.REPLACE_PROPERTIES);
                     result = SyncResultType.ADDED;
                 }
             } else { // File was deleted (does not exist locally)
@@ -255,9 +262,10 @@ public class DuraStoreSyncEndpoint implements SyncEndpoint {
 
     protected void doAddContent(MonitoredFile syncFile,
                                 String contentId,
-                                String absPath) throws ContentStoreException {
+                                String absPath,
+                                ContentWriteMode writeMode) throws ContentStoreException {
         logger.debug("Local file {} added, moving to DuraCloud.", absPath);
-        addUpdateContent(contentId, syncFile, syncFile.getAbsolutePath());
+        addUpdateContent(contentId, syncFile, syncFile.getAbsolutePath(), writeMode);
         this.listenerList.fire().contentAdded(this.storeId, this.spaceId,
                                               contentId, absPath);
     }
@@ -294,34 +302,45 @@ public class DuraStoreSyncEndpoint implements SyncEndpoint {
 
     private void addUpdateContent(String contentId,
                                   MonitoredFile syncFile,
-                                  String absPath)
+                                  String absPath,
+                                  ContentWriteMode writeMode)
         throws ContentStoreException {
         logger.info("Adding local file {} to DuraCloud space {}" +
                     " with content ID {}", absPath, spaceId, contentId);
-        addUpdateContent(contentId, syncFile);
+        addUpdateContent(contentId, syncFile, writeMode);
     }
 
     protected void addUpdateContent(String contentId, MonitoredFile syncFile)
         throws ContentStoreException {
-        InputStream syncStream = syncFile.getStream();
+        addUpdateContent(contentId, syncFile, ContentWriteMode.MERGE_PROPERTIES);
+    }
+
+    protected void addUpdateContent(String contentId,
+                                    final MonitoredFile syncFile,
+                                    ContentWriteMode writeMode)
+        throws ContentStoreException {
         Map<String, String> props = createProps(syncFile.getAbsolutePath(), this.username);
 
-        try {
-            contentStore.addContent(spaceId,
-                                    contentId,
-                                    syncStream,
-                                    syncFile.length(),
-                                    syncFile.getMimetype(),
-                                    syncFile.getChecksum(),
-                                    props);
-        } finally {
-            try {
-                syncStream.close();
-            } catch (IOException e) {
-                logger.error("Error attempting to close stream for file " +
-                             contentId + ": " + e.getMessage(), e);
+        // The file is reopened on each attempt, which allows the content
+        // store to retry a failed transfer
+        ContentSource source = new ContentSource() {
+            @Override
+            public InputStream openStream() throws IOException {
+                return syncFile.openStream();
             }
-        }
+
+            @Override
+            public long getSize() {
+                return syncFile.length();
+            }
+        };
+        contentStore.addContent(spaceId,
+                                contentId,
+                                source,
+                                syncFile.getMimetype(),
+                                syncFile.getChecksum(),
+                                props,
+                                writeMode);
     }
 
     protected Map<String, String> createProps(String absolutePath, String username) {
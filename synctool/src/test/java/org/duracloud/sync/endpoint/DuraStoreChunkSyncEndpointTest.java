@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.duracloud.client.ContentStore;
+import org.duracloud.common.constant.ContentWriteMode;
 import org.duracloud.common.model.AclType;
 import org.duracloud.common.util.ChecksumUtil;
 import org.duracloud.common.util.ChecksumUtil.Algorithm;
@@ -151,7 +152,8 @@ public class DuraStoreChunkSyncEndpointTest {
                                                 EasyMock.eq(contentFile.length()),
                                                 EasyMock.eq("application/octet-stream"),
                                                 EasyMock.eq(checksum),
-                                                EasyMock.capture(propsCapture)))
+                                                EasyMock.capture(propsCapture),
+                                                EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                 .andReturn("");
 
         replayMocks();
@@ -213,7 +215,8 @@ public class DuraStoreChunkSyncEndpointTest {
                                                 EasyMock.anyLong(),
                                                 EasyMock.isA(String.class),
                                                 EasyMock.capture(checksumCapture),
-                                                EasyMock.isA(Map.class)))
+                                                EasyMock.isA(Map.class),
+                                                EasyMock.eq(ContentWriteMode.MERGE_PROPERTIES)))
                 .andAnswer(new IAnswer<String>() {
                     @Override
                     public String answer() throws Throwable {